@@ -110,6 +110,24 @@ public class ProjectConstants {
     /** Error message when turn count is outside the 10–50 valid range. */
     public static final String INVALID_TURN_COUNT = "Invalid number of turns found. Please provide 10 to 50 turns for the tournament.";
 
+    /** System property giving the number of tournament games played at once, or "virtual" for a virtual thread per game. */
+    public static final String TOURNAMENT_WORKERS_PROPERTY = "warzone.tournament.workers";
+
+    /** System property giving the seed of a tournament, from which the seed of every game is derived. */
+    public static final String TOURNAMENT_SEED_PROPERTY = "warzone.tournament.seed";
+
+    /** System property turning the Deflate compression of saved games off when set to "false". */
+    public static final String SAVE_COMPRESSION_PROPERTY = "warzone.save.compress";
+
+    /** System property giving the folder games are saved to and loaded from, instead of src/main/SavedGames. */
+    public static final String SAVE_DIRECTORY_PROPERTY = "warzone.save.directory";
+
+    /** System property turning autosave on; its value is the number of autosaved turns kept. */
+    public static final String AUTOSAVE_PROPERTY = "warzone.autosave";
+
+    /** System property making games keep the armies in their countries instead of one array when set to "false". */
+    public static final String ARRAY_STATE_PROPERTY = "warzone.state.arrays";
+
     /** Standard width used for console output formatting. */
     public static final int WIDTH = 80;
 
@@ -1,7 +1,11 @@
 package Controller;
 
+import Constants.ProjectConstants;
 import Model.*;
+import Services.Autosaver;
+import Services.GameService;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.Scanner;
 
@@ -22,6 +26,11 @@ public class MainGameEngine implements Serializable {
     /** Flag to indicate if the game is in tournament mode. */
     boolean d_isTournamentMode = false;
 
+    /** Saves the game in the background at every turn, or null when autosave is off. */
+    transient Autosaver d_autosaver;
+
+    /** Where the game prints what it tells the players, or null for {@link GameConsole#STANDARD}. */
+    transient GameConsole d_console;
 
     /**
      * Default constructor for the MainGameEngine.
@@ -47,6 +56,27 @@ public class MainGameEngine implements Serializable {
      */
     public void setD_currentGameState(CurrentState d_currentGameState) {
         this.d_currentGameState = d_currentGameState;
+        d_currentGameState.setD_console(d_console);
+    }
+
+    /**
+     * Retrieves where the game prints what it tells the players.
+     *
+     * @return the {@link GameConsole} of the game
+     */
+    public GameConsole getD_console() {
+        return d_console != null ? d_console : GameConsole.STANDARD;
+    }
+
+    /**
+     * Sets where the game prints what it tells the players. Phases, players and orders print through it, so a
+     * game played without a console is given {@link GameConsole#NONE}.
+     *
+     * @param p_console the new {@link GameConsole}
+     */
+    public void setD_console(GameConsole p_console) {
+        this.d_console = p_console;
+        d_currentGameState.setD_console(p_console);
     }
 
     /**
@@ -86,34 +116,77 @@ public class MainGameEngine implements Serializable {
     }
 
     /**
-     * Set startup phase.
+     * Gets the autosaver of the game.
+     *
+     * @return the autosaver, or null when autosave is off
+     */
+    public Autosaver getD_autosaver() {
+        return d_autosaver;
+    }
+
+    /**
+     * Sets the autosaver of the game, which saves the game at every turn. An autosaver set before is closed.
+     *
+     * @param p_autosaver the autosaver, or null to turn autosave off
+     */
+    public void setD_autosaver(Autosaver p_autosaver) {
+        if (d_autosaver != null && d_autosaver != p_autosaver) {
+            d_autosaver.close();
+        }
+        d_autosaver = p_autosaver;
+    }
+
+    /**
+     * Hands a snapshot of the game in its current phase to the autosaver, if autosave is on. The snapshot is
+     * written in the background, so the game goes on at once.
+     */
+    public void autosave() {
+        if (d_autosaver != null) {
+            d_autosaver.snapshot(d_currentPhase);
+        }
+    }
+
+    /**
+     * Set startup phase. The phase runs once the current phase returns to {@link #runPhases()}.
      */
     public void setStartupPhase() {
         this.setD_mainEngineLog("Startup Phase of the Game", "phase");
         setD_currentPhase(new StartupPhase(this,d_currentGameState));
-        getD_currentPhase().initPhase(d_isTournamentMode);
     }
 
     /**
      * Transitions the game to the Issue Order Phase.
-     * Logs the phase change and initializes the {@link IssueOrderPhase}.
+     * Logs the phase change and makes a new {@link IssueOrderPhase} the current phase,
+     * which runs once the current phase returns to {@link #runPhases()}.
      *
      * @param p_isTournamentMode A flag indicating whether the game is in tournament mode.
      */
     public void setIssueOrderPhase(boolean p_isTournamentMode){
         this.setD_mainEngineLog("Issue Order Phase","phase");
+        d_isTournamentMode = p_isTournamentMode;
         setD_currentPhase(new IssueOrderPhase(d_currentGameState,this));
-        getD_currentPhase().initPhase(p_isTournamentMode);
     }
 
     /**
      * Transitions the game to the Order Execution Phase.
-     * Logs the phase change and initializes the {@link OrderExecutionPhase}.
+     * Logs the phase change and makes a new {@link OrderExecutionPhase} the current phase,
+     * which runs once the current phase returns to {@link #runPhases()}.
      */
     public void setOrderExecutionPhase(){
         this.setD_mainEngineLog("Order Execution Phase","phase");
         setD_currentPhase(new OrderExecutionPhase(d_currentGameState, this));
-        getD_currentPhase().initPhase(d_isTournamentMode);
+    }
+
+    /**
+     * Runs phases, starting with the current one, until a phase ends the game.
+     * Each phase returns the phase to run after it, so the game is played in this one loop and the
+     * stack depth and the number of live phase objects stay the same however many turns are played.
+     */
+    public void runPhases(){
+        Phase l_phase = d_currentPhase;
+        while (l_phase != null) {
+            l_phase = l_phase.initPhase(d_isTournamentMode);
+        }
     }
 
 
@@ -127,9 +200,31 @@ public class MainGameEngine implements Serializable {
         MainGameEngine l_mainGameEngine = new MainGameEngine();
         l_mainGameEngine.getD_currentPhase().getD_currentState().updateLog("Game Session Started","start");
         l_mainGameEngine.setD_mainEngineLog("Startup Phase of the Game","phase");
+        l_mainGameEngine.startAutosave(System.getProperty(ProjectConstants.AUTOSAVE_PROPERTY));
         l_mainGameEngine.startGame(l_mainGameEngine);
     }
 
+    /**
+     * Turns autosave on when the {@value ProjectConstants#AUTOSAVE_PROPERTY} system property gives the number of
+     * autosaved turns to keep.
+     *
+     * @param p_keep the value of the property, or null
+     */
+    private void startAutosave(String p_keep) {
+        if (p_keep == null) {
+            return;
+        }
+        try {
+            int l_keep = Integer.parseInt(p_keep.trim());
+            setD_autosaver(GameService.startAutosave(l_keep));
+            System.out.println("Autosaving the last " + l_keep + " turns to autosave-<number>, load one with 'loadgame'.");
+        } catch (NumberFormatException l_e) {
+            System.err.println("Autosave is off: " + ProjectConstants.AUTOSAVE_PROPERTY + " must be a number of turns.");
+        } catch (IllegalArgumentException | IOException l_e) {
+            System.err.println("Autosave is off: " + l_e.getMessage());
+        }
+    }
+
     /**
      * Starts the game by initializing the current phase of the provided game engine.
      *
@@ -137,7 +232,7 @@ public class MainGameEngine implements Serializable {
      */
     private void startGame(MainGameEngine p_mainGameEngine){
         commandDescription();
-        p_mainGameEngine.getD_currentPhase().initPhase(d_isTournamentMode);
+        p_mainGameEngine.runPhases();
     }
 
     /**
@@ -280,30 +375,35 @@ public class MainGameEngine implements Serializable {
 
     /**
      * Sets a log message for the main game engine and prints it to the console.
-     * If the log type is "phase", the message is formatted with visual separators.
+     * If the log type is "phase", the message is formatted with visual separators. Nothing is printed for log
+     * types that are not logged.
      *
      * @param p_logForMainEngine the log message to be recorded
      * @param p_logType          the type of the log (e.g., "phase", "effect", etc.)
      */
     public void setD_mainEngineLog(String p_logForMainEngine,String p_logType){
         d_currentPhase.getD_currentState().updateLog(p_logForMainEngine,p_logType);
+        if (!d_currentPhase.getD_currentState().isLogEnabled(p_logType) || !getD_console().isOn()) {
+            return;
+        }
         String l_consoleMessage;
         if (p_logType.equalsIgnoreCase("phase")){
             l_consoleMessage = "\n=============================== "+p_logForMainEngine+" ===============================\n";
         }else {
             l_consoleMessage = p_logForMainEngine;
         }
-        System.out.println(l_consoleMessage);
+        getD_console().println(l_consoleMessage);
     }
 
     /**
-     * Load phase.
+     * Load phase. The loaded phase is run by this engine once the current phase returns to {@link #runPhases()}.
      *
      * @param p_phase the p phase
      */
     public void loadPhase(Phase p_phase) {
+        p_phase.setD_mainGameEngine(this);
         d_currentPhase = p_phase;
         d_currentGameState = p_phase.getD_currentState();
-        getD_currentPhase().initPhase(d_isTournamentMode);
+        d_currentGameState.setD_console(d_console);
     }
 }
@@ -9,6 +9,7 @@ import Services.*;
 
 import java.io.*;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -47,11 +48,19 @@ public class MapController implements Serializable {
     public Map loadMap(CurrentState p_currentState, String p_fileName){
 
         Map l_map=new Map();
+        if(readCachedMap(p_currentState, l_map, p_fileName)){
+            return l_map;
+        }
+        if(streamMapFile(p_currentState, l_map, p_fileName)){
+            cacheMap(l_map, p_fileName);
+            return l_map;
+        }
         List<String> l_fileLines=loadFile(p_fileName);
         if(!l_fileLines.isEmpty()) {
             if(l_fileLines.contains("[Territories]")){
                 MapReaderAdapter l_mapReaderAdapter = new MapReaderAdapter(new ConquestMapFileReader());
                 l_mapReaderAdapter.parseMapFile(p_currentState, l_map, l_fileLines, p_fileName);
+                cacheMap(l_map, p_fileName);
             }
             else if(l_fileLines.contains("[Continents]")){
                 new MapFileReader().parseMapFile(p_currentState, l_map, l_fileLines, p_fileName);
@@ -60,6 +69,76 @@ public class MapController implements Serializable {
         return l_map;
     }
 
+    /**
+     * Reads a map from its binary cache file if the cache is at least as new as the text map file.
+     *
+     * @param p_currentState the current state object to update with the loaded map
+     * @param p_map          the map to populate
+     * @param p_fileName     the name of the map file
+     * @return true if the map was read from the cache
+     */
+    private boolean readCachedMap(CurrentState p_currentState, Map p_map, String p_fileName){
+        Path l_sourceFile = Paths.get(getFilePath(p_fileName));
+        Path l_cacheFile = getCachePath(p_fileName);
+        try{
+            if(!Files.isRegularFile(l_sourceFile) || !Files.isRegularFile(l_cacheFile)
+                    || Files.getLastModifiedTime(l_cacheFile).compareTo(Files.getLastModifiedTime(l_sourceFile)) < 0){
+                return false;
+            }
+            return new MapReaderAdapter(new BinaryMapFileReader()).readBinaryMapFile(p_currentState, p_map, l_sourceFile, l_cacheFile, p_fileName);
+        }
+        catch (IOException l_e){
+            return false;
+        }
+    }
+
+    /**
+     * Writes the binary cache file of a map just read from its text map file. Failing to write the cache
+     * does not affect loading the map.
+     *
+     * @param p_map      the loaded map
+     * @param p_fileName the name of the map file
+     */
+    private void cacheMap(Map p_map, String p_fileName){
+        if(p_map.getD_mapCountries() == null || p_map.getD_mapCountries().isEmpty()){
+            return;
+        }
+        try{
+            new MapWriterAdapter(new BinaryMapFileWriter()).writeBinaryMapFile(p_map, Paths.get(getFilePath(p_fileName)), getCachePath(p_fileName));
+        }
+        catch (IOException l_e){
+            // the map is loaded from text again next time
+        }
+    }
+
+    /**
+     * Constructs the path of the binary cache file for the given map file.
+     *
+     * @param p_fileName the name of the map file
+     * @return the cache file path
+     */
+    private Path getCachePath(String p_fileName){
+        return Paths.get("src","main","Maps",".cache",p_fileName+".bin");
+    }
+
+    /**
+     * Reads a Domination map file in a single streaming pass.
+     *
+     * @param p_currentState the current state object to update with the loaded map
+     * @param p_map          the map to populate
+     * @param p_fileName     the name of the map file
+     * @return true if the map was loaded; false if the file is missing, unreadable or not a Domination map,
+     * in which case it is loaded line by line instead
+     */
+    private boolean streamMapFile(CurrentState p_currentState, Map p_map, String p_fileName){
+        try(BufferedReader l_reader = new BufferedReader(new FileReader(getFilePath(p_fileName)))){
+            return new MapFileReader().readMapFile(p_currentState, p_map, l_reader, p_fileName);
+        }
+        catch (IOException l_e){
+            return false;
+        }
+    }
+
     /**
      * Loads the file content from the given filename.
      *
@@ -92,6 +171,15 @@ public class MapController implements Serializable {
     private String getFilePath(String p_fileName){
         return Paths.get("src","main","Maps",p_fileName).toString();
     }
+    /**
+     * Checks whether a map file exists, so it can be loaded without reporting a missing file.
+     *
+     * @param p_fileName the name of the map file
+     * @return true if the map file exists
+     */
+    public boolean mapFileExists(String p_fileName){
+        return p_fileName != null && !p_fileName.isEmpty() && Files.isRegularFile(Paths.get(getFilePath(p_fileName)));
+    }
     /**
      * Saves the current map state to a file.
      *
@@ -109,7 +197,10 @@ public class MapController implements Serializable {
             else{
                 if(p_currentState.getD_map() != null){
                     Map l_currentMap = p_currentState.getD_map();
-                    if(l_currentMap.validateMap()){
+                    if(!l_currentMap.validateMap()){
+                        System.out.print(l_currentMap.validate());
+                    }
+                    else{
                         l_mapFormat = this.getFormatToSave();
                         Files.deleteIfExists(Paths.get(getFilePath(p_fileName)));
                         FileWriter l_writer = new FileWriter(getFilePath(p_fileName));
@@ -7,7 +7,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 /**
  * The PlayerController class manages player actions such as assigning countries,
  * distributing armies, and creating orders.
@@ -29,18 +29,20 @@ public class PlayerController implements Serializable {
     /**
      * Assigns countries to players based on the number of available players and countries.
      * This method ensures that each player gets a country from the map.
+     * Countries are drawn from the random number stream of the game, after which every player
+     * gets its own stream split from it.
      *
      * @param p_currentState The current game state containing players and the map.
      * @return true if countries are successfully assigned to players, false otherwise.
      */
     public boolean assignCountry(CurrentState p_currentState) {
         if(p_currentState.getD_players() == null || p_currentState.getD_players().isEmpty()) {
-            System.out.println(ProjectConstants.NO_PLAYERS);
+            p_currentState.getD_console().println(ProjectConstants.NO_PLAYERS);
             d_currentState.getD_modelLogger().setD_message(ProjectConstants.NO_PLAYERS, "effect");
             return false;
         }
         if(p_currentState.getD_map() == null || p_currentState.getD_map().getD_mapCountries() == null) {
-            System.out.println(ProjectConstants.MAP_NOT_AVAILABLE);
+            p_currentState.getD_console().println(ProjectConstants.MAP_NOT_AVAILABLE);
             return false;
         }
 
@@ -62,17 +64,20 @@ public class PlayerController implements Serializable {
         }
 
         if (l_playerCount > l_countryCount) {
-            System.out.println(ProjectConstants.MORE_PLAYERS_THAN_COUNTRIES);
+            p_currentState.getD_console().println(ProjectConstants.MORE_PLAYERS_THAN_COUNTRIES);
             return false;
         }
 
         int l_countriesPerPlayer = Math.floorDiv(l_countryCount, l_playerCount);
 
-        randomCountryDistribution(l_players, l_countries, l_countriesPerPlayer);
+        randomCountryDistribution(l_players, l_countries, l_countriesPerPlayer, p_currentState.getD_random());
+        // Indexes the owners and sets the continents each player controls
+        p_currentState.indexCountryOwners();
+        for (Player l_player : l_players) {
+            l_player.setD_random(p_currentState.getD_random().split());
+        }
 
         displayAssignedCountries(l_players);
-
-        updatePlayerContinentOwnership(l_players, p_currentState.getD_map().getD_mapContinents());
         return true;
     }
     /**
@@ -95,12 +100,15 @@ public class PlayerController implements Serializable {
         }
     }
     /**
-     * Displays the assigned countries for each player.
+     * Displays the assigned countries for each player on the player's console.
      *
      * @param p_Players The list of players.
      */
     public void displayAssignedCountries(List<Player> p_Players) {
         for(Player l_currentPlayer : p_Players) {
+            if (!l_currentPlayer.getD_console().isOn()) {
+                continue;
+            }
             StringBuilder l_output = new StringBuilder("Player " + l_currentPlayer.getD_playerName() + " has assigned countries: ");
 
             List<Country> l_countries = l_currentPlayer.getD_currentCountries();
@@ -111,7 +119,7 @@ public class PlayerController implements Serializable {
                     l_output.append(l_country.getD_countryName()).append(" ");
                 }
             }
-            System.out.println(l_output.toString().trim());
+            l_currentPlayer.getD_console().println(l_output.toString().trim());
         }
     }
     /**
@@ -122,6 +130,18 @@ public class PlayerController implements Serializable {
      * @param p_CountriesPerPlayer The number of countries per player.
      */
     public void randomCountryDistribution(List<Player> p_Players, List<Country> p_Countries, int p_CountriesPerPlayer) {
+        randomCountryDistribution(p_Players, p_Countries, p_CountriesPerPlayer, d_currentState.getD_random());
+    }
+
+    /**
+     * Distributes countries randomly among players, drawing from the given random number stream.
+     *
+     * @param p_Players The list of players.
+     * @param p_Countries The list of countries.
+     * @param p_CountriesPerPlayer The number of countries per player.
+     * @param p_random The random number stream of the game.
+     */
+    public void randomCountryDistribution(List<Player> p_Players, List<Country> p_Countries, int p_CountriesPerPlayer, SplittableRandom p_random) {
         List<Country> l_unassignedCountries = new ArrayList<>(p_Countries);
 
         if(l_unassignedCountries.isEmpty()) {
@@ -129,43 +149,62 @@ public class PlayerController implements Serializable {
             d_currentState.getD_modelLogger().setD_message(ProjectConstants.NO_COUNTRIES,"effect");
             return;
         }
-        Random rand = new Random();
 
         for (Player l_Player : p_Players) {
             if(l_Player.getD_currentCountries() == null) {
                 l_Player.setD_currentCountries(new ArrayList<>());
             }
             for (int i = 0; i < p_CountriesPerPlayer && !l_unassignedCountries.isEmpty(); i++) {
-                int l_randomIndex = rand.nextInt(l_unassignedCountries.size());
+                int l_randomIndex = p_random.nextInt(l_unassignedCountries.size());
                 l_Player.getD_currentCountries().add(l_unassignedCountries.get(l_randomIndex));
                 l_unassignedCountries.remove(l_randomIndex);
             }
         }
 
         if(!l_unassignedCountries.isEmpty()) {
-            randomCountryDistribution(p_Players, l_unassignedCountries, 1);
+            randomCountryDistribution(p_Players, l_unassignedCountries, 1, p_random);
         }
     }
     /**
-     * Gets the number of armies assigned to a player.
+     * Gets the number of armies assigned to a player, adding the value of every continent in the player's continents.
      *
      * @param p_Player The player.
      * @return The number of armies.
      */
     public int getNumberOfArmies(Player p_Player) {
-        int l_currentArmySize = 0;
-        if (p_Player.getD_currentCountries() != null && !p_Player.getD_currentCountries().isEmpty()){
-            l_currentArmySize = Math.max(3, Math.round((float)(p_Player.getD_currentCountries().size() / 3)));
-        }
-        if (p_Player.getD_currentContinents() != null && !p_Player.getD_currentContinents().isEmpty()){
-            int l_ContinentValue = 0;
+        int l_currentArmySize = getNumberOfCountryArmies(p_Player);
+        if (p_Player.getD_currentContinents() != null){
             for (Continent l_continent : p_Player.getD_currentContinents()) {
-                l_ContinentValue = l_continent.getD_continentValue();
+                l_currentArmySize += l_continent.getD_continentValue();
             }
-            l_currentArmySize += l_ContinentValue;
         }
         return l_currentArmySize;
     }
+
+    /**
+     * Gets the number of armies assigned to a player in a game, reading the continent bonus from the
+     * continent counts the game keeps for every player.
+     *
+     * @param p_CurrentState The current game state.
+     * @param p_Player The player.
+     * @return The number of armies.
+     */
+    public int getNumberOfArmies(CurrentState p_CurrentState, Player p_Player) {
+        return getNumberOfCountryArmies(p_Player) + p_CurrentState.getContinentBonus(p_Player);
+    }
+
+    /**
+     * Gets the number of armies a player earns for its countries: a third of them, and at least 3.
+     *
+     * @param p_Player The player.
+     * @return The number of armies, 0 if the player owns no country.
+     */
+    private int getNumberOfCountryArmies(Player p_Player) {
+        if (p_Player.getD_currentCountries() == null || p_Player.getD_currentCountries().isEmpty()){
+            return 0;
+        }
+        return Math.max(3, Math.round((float)(p_Player.getD_currentCountries().size() / 3)));
+    }
     /**
      * Assigns armies to players based on the number of countries they own and continent bonuses.
      *
@@ -174,14 +213,14 @@ public class PlayerController implements Serializable {
     public void assignArmies(CurrentState p_CurrentState) {
         List<Player> l_players = p_CurrentState.getD_players();
         if(l_players == null || l_players.isEmpty()) {
-            System.out.println(ProjectConstants.NO_PLAYERS);
+            p_CurrentState.getD_console().println(ProjectConstants.NO_PLAYERS);
             d_currentState.getD_modelLogger().setD_message(ProjectConstants.NO_PLAYERS,"effect");
             return;
         }
         for (Player l_player : l_players) {
-            int l_NumberOfArmiesPerPlayer = getNumberOfArmies(l_player);
+            int l_NumberOfArmiesPerPlayer = getNumberOfArmies(p_CurrentState, l_player);
             l_player.setD_unallocatedArmies(l_NumberOfArmiesPerPlayer);
-            System.out.println("Player" + l_player.getD_playerName() + " got assigned: " + l_NumberOfArmiesPerPlayer + " armies.");
+            l_player.getD_console().println("Player" + l_player.getD_playerName() + " got assigned: " + l_NumberOfArmiesPerPlayer + " armies.");
         }
     }
 
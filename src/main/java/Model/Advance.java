@@ -1,12 +1,8 @@
 package Model;
 
-import Controller.PlayerController;
 import Model.Player;
 
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 
 /**
  * Represents an Advance order in the game, which moves armies from a source country
@@ -29,7 +25,7 @@ public class Advance implements  Orders, Serializable {
     /**
      * The D no of armies to place.
      */
-    Integer d_noOfArmiesToPlace;
+    int d_noOfArmiesToPlace;
 
     /**
      * The D intitiating player.
@@ -41,6 +37,16 @@ public class Advance implements  Orders, Serializable {
      */
     String d_logOfOrderExecution;
 
+    /**
+     * The source country, resolved on the map when the order was issued; null if the order only has names.
+     */
+    Country d_source;
+
+    /**
+     * The target country, resolved on the map when the order was issued; null if the order only has names.
+     */
+    Country d_target;
+
     /**
      * Instantiates a new Advance.
      *
@@ -49,13 +55,28 @@ public class Advance implements  Orders, Serializable {
      * @param p_noOfArmiesToPlace the p no of armies to place
      * @param p_intitiatingPlayer the p intitiating player
      */
-    public Advance(String p_sourceCountry, String p_targetCountry, Integer p_noOfArmiesToPlace, Player p_intitiatingPlayer) {
+    public Advance(String p_sourceCountry, String p_targetCountry, int p_noOfArmiesToPlace, Player p_intitiatingPlayer) {
         this.d_sourceCountry = p_sourceCountry;
         this.d_targetCountry = p_targetCountry;
         this.d_noOfArmiesToPlace = p_noOfArmiesToPlace;
         this.d_intitiatingPlayer = p_intitiatingPlayer;
     }
 
+    /**
+     * Instantiates a new Advance between countries already found on the map and checked to be adjacent.
+     * Execution uses the countries as they are instead of looking them up by name again.
+     *
+     * @param p_sourceCountry     the source country
+     * @param p_targetCountry     the target country, adjacent to the source country
+     * @param p_noOfArmiesToPlace the number of armies to move, greater than 0
+     * @param p_intitiatingPlayer the initiating player
+     */
+    public Advance(Country p_sourceCountry, Country p_targetCountry, int p_noOfArmiesToPlace, Player p_intitiatingPlayer) {
+        this(p_sourceCountry.getD_countryName(), p_targetCountry.getD_countryName(), p_noOfArmiesToPlace, p_intitiatingPlayer);
+        this.d_source = p_sourceCountry;
+        this.d_target = p_targetCountry;
+    }
+
     /**
      * To string string.
      *
@@ -87,7 +108,33 @@ public class Advance implements  Orders, Serializable {
     @Override
     public void printOrder() {
         this.d_logOfOrderExecution = "Advance Order : "+d_intitiatingPlayer.getD_playerName()+" is advancing "+d_noOfArmiesToPlace+" armies from "+d_sourceCountry+" to "+d_targetCountry;
-        System.out.println(d_logOfOrderExecution);
+        d_intitiatingPlayer.getD_console().println(d_logOfOrderExecution);
+    }
+
+    /**
+     * Gets the command that issues this order, as a player would type it.
+     *
+     * @return the command
+     */
+    @Override
+    public String toCommand() {
+        return "advance " + d_sourceCountry + " " + d_targetCountry + " " + d_noOfArmiesToPlace;
+    }
+
+    /**
+     * Creates a copy of this order for a copy of its game.
+     *
+     * @param p_player the copy of the player who issued the order
+     * @param p_currentState the copy of the game
+     * @return the copy of the order
+     */
+    @Override
+    public Advance copy(Player p_player, CurrentState p_currentState) {
+        Map l_map = p_currentState.getD_map();
+        Country l_source = d_source == null || l_map == null ? null : l_map.getCountryMatching(d_source);
+        Country l_target = d_target == null || l_map == null ? null : l_map.getCountryMatching(d_target);
+        return l_source != null && l_target != null ? new Advance(l_source, l_target, d_noOfArmiesToPlace, p_player)
+                : new Advance(d_sourceCountry, d_targetCountry, d_noOfArmiesToPlace, p_player);
     }
 
     /**
@@ -98,127 +145,83 @@ public class Advance implements  Orders, Serializable {
      */
     public void setD_orderExecutionLog(String p_orderExecutionLog, String p_messageType) {
         this.d_logOfOrderExecution = p_orderExecutionLog;
-        if (p_messageType.equals("error")) {
-            System.err.println(p_orderExecutionLog);
-        } else {
-            System.out.println(p_orderExecutionLog);
-        }
+        d_intitiatingPlayer.getD_console().println(p_orderExecutionLog, p_messageType);
     }
 
 
     /**
      * Executes the Advance Order by handling army movement between countries.
      * It checks for ownership, executes deployment, triggers battles, or conquers territory.
+     * Armies are read and written on the board of the game.
      *
      * @param p_currentState the current game state
      */
     public void execute(CurrentState p_currentState) {
         if (valid(p_currentState)) {
             Player l_playerOfTargetCountry = getPlayerOfTargetCountry(p_currentState);
-            Country l_sourceCountry = p_currentState.getD_map().getCountryByName(d_sourceCountry);
-            Country l_targetCountry = p_currentState.getD_map().getCountryByName(d_targetCountry);
+            GameBoard l_board = p_currentState.getBoard();
+            int l_source = l_board.indexOf(d_source != null ? d_source : p_currentState.getD_map().getCountryByName(d_sourceCountry));
+            int l_target = l_board.indexOf(d_target != null ? d_target : p_currentState.getD_map().getCountryByName(d_targetCountry));
 
-            if (l_sourceCountry == null || l_targetCountry == null) {
-                this.setD_orderExecutionLog("Execution failed: Invalid source or target country.", "error");
-                p_currentState.updateLog(orderExecutionLog(), "effect");
+            if (l_source < 0 || l_target < 0 || l_playerOfTargetCountry == null) {
+                p_currentState.logOrderEffect(this, "Execution failed: Invalid source or target country.", "error");
                 return;
             }
 
             // Update source country's army count
-            int l_armiesToUpdate = l_sourceCountry.getD_armies() - this.d_noOfArmiesToPlace;
-            l_sourceCountry.setD_armies(l_armiesToUpdate);
+            l_board.setArmies(l_source, l_board.getArmies(l_source) - this.d_noOfArmiesToPlace);
 
             // Check if attacking own territory
             if (l_playerOfTargetCountry.getD_playerName().equalsIgnoreCase(this.d_intitiatingPlayer.getD_playerName())) {
-                deployArmiesToTarget(l_targetCountry);
+                l_board.setArmies(l_target, l_board.getArmies(l_target) + this.d_noOfArmiesToPlace);
             }
             // Conquer empty target country
-            else if (l_targetCountry.getD_armies() == 0) {
-                conquerTargetCountry(p_currentState, l_playerOfTargetCountry, l_targetCountry);
+            else if (l_board.getArmies(l_target) == 0) {
+                conquerTargetCountry(p_currentState, l_board, l_target);
                 this.d_intitiatingPlayer.assignCard();
             }
             // Battle scenario
             else {
-                battleOrderResult(p_currentState, l_playerOfTargetCountry, l_sourceCountry, l_targetCountry);
+                battleOrderResult(p_currentState, l_board, l_source, l_target);
             }
         } else {
-            p_currentState.updateLog(orderExecutionLog(), "effect");
+            p_currentState.updateLog(this::orderExecutionLog, "effect");
         }
     }
 
     /**
      * Transfers ownership of the target country from the defending player to the attacking player,
-     * updates army count, logs the conquest, and refreshes continent ownership.
+     * which also updates continent ownership, then updates army count and logs the conquest.
      *
-     * @param p_currentState         the current game state.
-     * @param p_playerOfTargetCountry the player currently owning the target country.
-     * @param p_targetCountry         the country being conquered.
+     * @param p_currentState the current game state.
+     * @param p_board        the board of the game.
+     * @param p_target       the position of the country being conquered.
      */
-    private void conquerTargetCountry(CurrentState p_currentState, Player p_playerOfTargetCountry, Country p_targetCountry) {
-        // Remove target country from the previous owner
-        p_playerOfTargetCountry.getD_currentCountries().remove(p_targetCountry);
-
-        // Assign the country to the initiating player
-        this.d_intitiatingPlayer.d_currentCountries.add(p_targetCountry);
+    private void conquerTargetCountry(CurrentState p_currentState, GameBoard p_board, int p_target) {
+        // Move the target country from the previous owner to the initiating player
+        p_board.setOwner(p_target, this.d_intitiatingPlayer);
 
         // Update army count in the newly conquered country
-        p_targetCountry.setD_armies(d_noOfArmiesToPlace);
+        p_board.setArmies(p_target, d_noOfArmiesToPlace);
 
         // Log the conquest event
-        this.setD_orderExecutionLog(
+        p_currentState.logOrderEffect(this, () ->
                 "Player: " + d_intitiatingPlayer.getD_playerName() +
-                        " conquered Country: " + p_targetCountry.getD_countryName() +
-                        " with " + p_targetCountry.getD_armies() + " armies.",
+                        " conquered Country: " + p_board.countryAt(p_target).getD_countryName() +
+                        " with " + p_board.getArmies(p_target) + " armies.",
                 "default"
         );
-        p_currentState.updateLog(orderExecutionLog(), "effect");
-
-        // Update continent control status
-        this.updateContinents(this.d_intitiatingPlayer, p_playerOfTargetCountry, p_currentState);
     }
 
     /**
-     * Updates the continent ownership for the two players involved in the battle,
-     * based on the current ownership of countries.
-     *
-     * @param p_intitiatingPlayer      the player who initiated the attack.
-     * @param p_playerOfTargetCountry  the player who owned the target country.
-     * @param p_currentState           the current state of the game.
-     */
-    private void updateContinents(Player p_intitiatingPlayer, Player p_playerOfTargetCountry, CurrentState p_currentState) {
-        System.out.println("Updating continents of players involved in battle...");
-
-        // Reset the continent ownership for both players
-        p_intitiatingPlayer.getD_currentContinents().clear();
-        p_playerOfTargetCountry.getD_currentContinents().clear();
-
-        // Create a list of affected players
-        List<Player> l_playerList = Arrays.asList(p_intitiatingPlayer, p_playerOfTargetCountry);
-
-        // Assign continents based on updated state
-        new PlayerController().assignContinentToPlayers(l_playerList, p_currentState.getD_map().getD_mapContinents());
-    }
-
-
-    /**
-     * Retrieves the player who currently owns the target country (excluding Neutral player).
+     * Retrieves the player who currently owns the target country. The Neutral player is only
+     * returned when no other player owns it, as for a blockaded country.
      *
      * @param p_currentState the current game state.
      * @return the player who owns the target country, or null if not found.
      */
     private Player getPlayerOfTargetCountry(CurrentState p_currentState) {
-        for (Player l_eachPlayer : p_currentState.getD_players()) {
-            if (!l_eachPlayer.getD_playerName().equalsIgnoreCase("Neutral")) {
-                boolean l_ownsCountry = l_eachPlayer.getCountryNames()
-                        .stream()
-                        .anyMatch(l_country -> l_country.equalsIgnoreCase(this.d_targetCountry));
-
-                if (l_ownsCountry) {
-                    return l_eachPlayer;  // Return immediately when a match is found
-                }
-            }
-        }
-        return null;  // If no player owns the target country, return null
+        return d_target != null ? p_currentState.getCountryOwner(d_target) : p_currentState.getCountryOwner(this.d_targetCountry);
     }
 
     /**
@@ -230,41 +233,41 @@ public class Advance implements  Orders, Serializable {
      */
     public boolean valid(CurrentState p_currentState) {
         if (d_intitiatingPlayer == null || d_sourceCountry == null) {
-            this.setD_orderExecutionLog("Invalid order: Player or source country is null.", "error");
-            p_currentState.updateLog(orderExecutionLog(), "effect");
+            p_currentState.logOrderEffect(this, "Invalid order: Player or source country is null.", "error");
             return false;
         }
 
-        // Find source country
+        // Find source country; a country resolved when the order was issued only needs its owner checked
         Country l_country = null;
-        for (Country l_eachCountry : d_intitiatingPlayer.getD_currentCountries()) {
-            if (l_eachCountry.getD_countryName().equalsIgnoreCase(d_sourceCountry)) {
-                l_country = l_eachCountry;
-                break; // Stop loop early
+        if (d_source != null) {
+            l_country = p_currentState.getCountryOwner(d_source) == d_intitiatingPlayer ? d_source : null;
+        } else {
+            for (Country l_eachCountry : d_intitiatingPlayer.getD_currentCountries()) {
+                if (l_eachCountry.getD_countryName().equalsIgnoreCase(d_sourceCountry)) {
+                    l_country = l_eachCountry;
+                    break; // Stop loop early
+                }
             }
         }
 
         if (l_country == null) {
-            this.setD_orderExecutionLog("Cannot execute order: Source country does not belong to the player.", "error");
-            p_currentState.updateLog(orderExecutionLog(), "effect");
+            p_currentState.logOrderEffect(this, "Cannot execute order: Source country does not belong to the player.", "error");
             return false;
         }
 
-        if (this.d_noOfArmiesToPlace > l_country.getD_armies()) {
-            this.setD_orderExecutionLog("Cannot execute order: Insufficient armies in the source country.", "error");
-            p_currentState.updateLog(orderExecutionLog(), "effect");
+        int l_armies = p_currentState.getBoard().getArmies(l_country);
+        if (this.d_noOfArmiesToPlace > l_armies) {
+            p_currentState.logOrderEffect(this, "Cannot execute order: Insufficient armies in the source country.", "error");
             return false;
         }
 
-        if (this.d_noOfArmiesToPlace == l_country.getD_armies()) {
-            this.setD_orderExecutionLog("Cannot execute order: At least one army unit must remain in the source country.", "error");
-            p_currentState.updateLog(orderExecutionLog(), "effect");
+        if (this.d_noOfArmiesToPlace == l_armies) {
+            p_currentState.logOrderEffect(this, "Cannot execute order: At least one army unit must remain in the source country.", "error");
             return false;
         }
 
-        if (!this.d_intitiatingPlayer.negotiationValidation(this.d_targetCountry)) {
-            this.setD_orderExecutionLog("Cannot execute order: Negotiation pact prevents attacking the target country.", "error");
-            p_currentState.updateLog(orderExecutionLog(), "effect");
+        if (!this.d_intitiatingPlayer.negotiationValidation(p_currentState, this.d_targetCountry)) {
+            p_currentState.logOrderEffect(this, "Cannot execute order: Negotiation pact prevents attacking the target country.", "error");
             return false;
         }
 
@@ -272,126 +275,69 @@ public class Advance implements  Orders, Serializable {
     }
 
     /**
-     * Adds the specified number of armies to the target country.
-     *
-     * @param p_targetCountry the country to which armies are to be deployed.
-     */
-    private void deployArmiesToTarget(Country p_targetCountry) {
-        if (p_targetCountry != null) {
-            int l_updatedArmyCount = p_targetCountry.getD_armies() + this.d_noOfArmiesToPlace;
-            p_targetCountry.setD_armies(l_updatedArmyCount);
-        }
-    }
-
-    /**
-     * Executes the result of a battle between attacking and defending armies,
-     * and updates continent control accordingly.
+     * Executes the result of a battle between attacking and defending armies.
+     * Continent control follows any change of owner.
      *
-     * @param p_currentState           the current game state.
-     * @param p_playerOfTargetCountry  the player who owns the target country.
-     * @param p_sourceCountry          the source country from which the attack was initiated.
-     * @param p_targetCountry          the target country under attack.
+     * @param p_currentState the current game state.
+     * @param p_board        the board of the game.
+     * @param p_source       the position of the country the attack was initiated from.
+     * @param p_target       the position of the country under attack.
      */
-    private void battleOrderResult(CurrentState p_currentState, Player p_playerOfTargetCountry, Country p_sourceCountry, Country p_targetCountry) {
-        int l_armiesInAttack = Math.min(d_noOfArmiesToPlace, p_targetCountry.getD_armies());
+    private void battleOrderResult(CurrentState p_currentState, GameBoard p_board, int p_source, int p_target) {
+        int l_armiesInAttack = Math.min(d_noOfArmiesToPlace, p_board.getArmies(p_target));
+        int l_attackerWins = BattleKernel.attackerWins(l_armiesInAttack, p_currentState.getD_random());
 
-        List<Integer> l_defenderArmies = generateRandomArmyUnits(l_armiesInAttack, "defender");
-        List<Integer> l_attackerArmies = generateRandomArmyUnits(l_armiesInAttack, "attacker");
-
-        this.produceBattleResult(p_sourceCountry, p_targetCountry, l_attackerArmies, l_defenderArmies, p_playerOfTargetCountry);
-        p_currentState.updateLog(orderExecutionLog(), "effect");
-
-        updateContinents(d_intitiatingPlayer, p_playerOfTargetCountry, p_currentState);
+        this.produceBattleResult(p_currentState, p_board, p_source, p_target, l_attackerWins, l_armiesInAttack - l_attackerWins);
     }
 
     /**
-     * Produces the battle outcome based on attacker and defender army units.
+     * Produces the battle outcome from the number of army pairs each side has won.
      * Delegates to {@code handleSurvivingArmies} for post-battle updates.
      *
-     * @param p_sourceCountry         the source country.
-     * @param p_targetCountry         the target country.
-     * @param p_attackerArmies        the list of attacker's army strengths.
-     * @param p_defenderArmies        the list of defender's army strengths.
-     * @param p_playerOfTargetCountry the player defending the target country.
+     * @param p_currentState the current game state.
+     * @param p_board        the board of the game.
+     * @param p_source       the position of the source country.
+     * @param p_target       the position of the target country.
+     * @param p_attackerWins the number of army pairs won by the attacker.
+     * @param p_defenderWins the number of army pairs won by the defender.
      */
-    private void produceBattleResult(Country p_sourceCountry, Country p_targetCountry,
-                                     List<Integer> p_attackerArmies, List<Integer> p_defenderArmies,
-                                     Player p_playerOfTargetCountry) {
-        int l_attackerArmiesLeft = Math.max(0, d_noOfArmiesToPlace - p_targetCountry.getD_armies());
-        int l_defenderArmiesLeft = Math.max(0, p_targetCountry.getD_armies() - d_noOfArmiesToPlace);
-
-        // Process battle results
-        for (int i = 0; i < p_attackerArmies.size(); i++) {
-            if (p_attackerArmies.get(i) > p_defenderArmies.get(i)) {
-                l_attackerArmiesLeft++;
-            } else {
-                l_defenderArmiesLeft++;
-            }
-        }
+    private void produceBattleResult(CurrentState p_currentState, GameBoard p_board, int p_source, int p_target,
+                                     int p_attackerWins, int p_defenderWins) {
+        int l_defenderArmies = p_board.getArmies(p_target);
+        int l_attackerArmiesLeft = Math.max(0, d_noOfArmiesToPlace - l_defenderArmies) + p_attackerWins;
+        int l_defenderArmiesLeft = Math.max(0, l_defenderArmies - d_noOfArmiesToPlace) + p_defenderWins;
 
         // Handle the surviving armies after battle
-        handleSurvivingArmies(l_attackerArmiesLeft, l_defenderArmiesLeft, p_sourceCountry, p_targetCountry, p_playerOfTargetCountry);
+        handleSurvivingArmies(p_currentState, p_board, l_attackerArmiesLeft, l_defenderArmiesLeft, p_source, p_target);
     }
 
     /**
      * Handles the outcome of the battle by updating army counts and ownership
-     * of the involved countries depending on the remaining armies.
+     * of the involved countries depending on the remaining armies, and logs the outcome.
      *
-     * @param p_attackerArmiesLeft     remaining attacker armies.
-     * @param p_defenderArmiesLeft     remaining defender armies.
-     * @param p_sourceCountry          the source country.
-     * @param p_targetCountry          the target country.
-     * @param p_playerOfTargetCountry  the player who owned the target country.
+     * @param p_currentState       the current game state.
+     * @param p_board              the board of the game.
+     * @param p_attackerArmiesLeft remaining attacker armies.
+     * @param p_defenderArmiesLeft remaining defender armies.
+     * @param p_source             the position of the source country.
+     * @param p_target             the position of the target country.
      */
-    private void handleSurvivingArmies(Integer p_attackerArmiesLeft, Integer p_defenderArmiesLeft,
-                                       Country p_sourceCountry, Country p_targetCountry,
-                                       Player p_playerOfTargetCountry) {
+    private void handleSurvivingArmies(CurrentState p_currentState, GameBoard p_board, int p_attackerArmiesLeft,
+                                       int p_defenderArmiesLeft, int p_source, int p_target) {
         if (p_defenderArmiesLeft == 0) { // Attacker wins
-            p_playerOfTargetCountry.getD_currentCountries().remove(p_targetCountry); // Defender loses the country
-            p_targetCountry.setD_armies(p_attackerArmiesLeft); // Assign remaining attacker armies to new country
-            d_intitiatingPlayer.getD_currentCountries().add(p_targetCountry); // Attacker gains the country
-            this.setD_orderExecutionLog("Player: " + d_intitiatingPlayer.getD_playerName() +
-                    " has conquered country: " + p_targetCountry.getD_countryName(), "default");
+            p_board.setOwner(p_target, d_intitiatingPlayer); // Defender loses the country to the attacker
+            p_board.setArmies(p_target, p_attackerArmiesLeft); // Assign remaining attacker armies to new country
+            p_currentState.logOrderEffect(this, () -> "Player: " + d_intitiatingPlayer.getD_playerName() +
+                    " has conquered country: " + p_board.countryAt(p_target).getD_countryName(), "default");
             d_intitiatingPlayer.assignCard(); // Attacker gets a card reward
         } else { // Defender survives
-            p_targetCountry.setD_armies(p_defenderArmiesLeft); // Update remaining defender armies
-            p_sourceCountry.setD_armies(p_sourceCountry.getD_armies() + p_attackerArmiesLeft); // Update attacker's source country
-
-            String l_country1 = "Country: " + p_targetCountry.getD_countryName() +
-                    " now has " + p_targetCountry.getD_armies() + " remaining armies.";
-            String l_country2 = "Country: " + p_sourceCountry.getD_countryName() +
-                    " now has " + p_sourceCountry.getD_armies() + " remaining armies.";
-            this.setD_orderExecutionLog(l_country1 + System.lineSeparator() + l_country2, "default");
-        }
-    }
+            p_board.setArmies(p_target, p_defenderArmiesLeft); // Update remaining defender armies
+            p_board.setArmies(p_source, p_board.getArmies(p_source) + p_attackerArmiesLeft); // Update attacker's source country
 
-    /**
-     * Generates a list of random integers representing army unit strengths
-     * for either the attacker or the defender using a role-based probability.
-     *
-     * @param p_armiesInAttack number of armies participating in the battle.
-     * @param p_role           "attacker" or "defender".
-     * @return a list of random army strengths.
-     */
-    private List<Integer> generateRandomArmyUnits(int p_armiesInAttack, String p_role) {
-        List<Integer> l_armyList = new ArrayList<>();
-        double l_probability = p_role.equals("attacker") ? 0.6 : 0.7; // Attacker: 60%, Defender: 70%
-
-        for (int i = 0; i < p_armiesInAttack; i++) {
-            int l_randomNumber = getRandomInteger();
-            int l_armyUnit = (int) Math.round(l_randomNumber * l_probability);
-            l_armyList.add(l_armyUnit);
+            p_currentState.logOrderEffect(this, () -> "Country: " + p_board.countryAt(p_target).getD_countryName() +
+                    " now has " + p_board.getArmies(p_target) + " remaining armies." + System.lineSeparator() +
+                    "Country: " + p_board.countryAt(p_source).getD_countryName() +
+                    " now has " + p_board.getArmies(p_source) + " remaining armies.", "default");
         }
-        return l_armyList;
-    }
-
-    /**
-     * Generates a random integer between 1 and 9 inclusive.
-     *
-     * @return a random integer.
-     */
-    private int getRandomInteger() {
-        return ((int) (Math.random() * 9)) + 1;
     }
-
 }
\ No newline at end of file
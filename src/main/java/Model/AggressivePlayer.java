@@ -2,7 +2,6 @@ package Model;
 
 import java.io.IOException;
 import java.util.*;
-import java.util.Map;
 
 /**
  * Represents the "Aggressive" strategy for a player.
@@ -30,67 +29,93 @@ public class AggressivePlayer extends PlayerBehaviourStrategy{
         return "Aggressive";
     }
 
+    /**
+     * Creates a new Aggressive strategy.
+     *
+     * @return the new strategy
+     */
+    @Override
+    public PlayerBehaviourStrategy copy() {
+        return new AggressivePlayer();
+    }
+
+    @Override
+    public List<Country> getD_deployCountries() {
+        return d_deployCountries;
+    }
+
+    @Override
+    public void setD_deployCountries(List<Country> p_deployCountries) {
+        d_deployCountries = new ArrayList<>(p_deployCountries);
+    }
+
     /**
      * Creates an order based on the aggressive player's strategy.
      * Focuses on deploying and attacking from the strongest country.
      *
      * @param p_player        The player using this strategy.
      * @param p_currentState  The current game state.
-     * @return A string representing the command issued.
+     * @return The order issued.
      * @throws IOException if an I/O error occurs.
      */
-    public String createOrder(Player p_player, CurrentState p_currentState) throws IOException {
-        System.out.println("Order creation for " + p_player.getD_playerName());
-        String l_command = "";
+    public Orders createOrder(Player p_player, CurrentState p_currentState) throws IOException {
+        printChoice(p_currentState, () -> "Order creation for " + p_player.getD_playerName());
+        Orders l_order;
 
-        if (!checkIfArmiesDeployed(p_player)) {
-            l_command = (p_player.getD_unallocatedArmies() > 0)
+        if (!checkIfArmiesDeployed(p_player, p_currentState.getBoard())) {
+            l_order = (p_player.getD_unallocatedArmies() > 0)
                     ? createDeployOrder(p_player, p_currentState)
                     : createAdvanceOrder(p_player, p_currentState);
         } else {
             List<String> l_cards = p_player.getD_cardOwnedByPlayer();
-            Random l_random = new Random();
+            SplittableRandom l_random = p_player.getD_random();
 
             if (!l_cards.isEmpty()) {
                 int l_choice = l_random.nextInt(3); // 0 = Deploy, 1 = Advance, 2 = Card
 
                 switch (l_choice) {
                     case 0:
-                        System.out.println("Deploy order");
-                        l_command = createDeployOrder(p_player, p_currentState);
+                        printChoice(p_currentState, () -> "Deploy order");
+                        l_order = createDeployOrder(p_player, p_currentState);
                         break;
                     case 1:
-                        System.out.println("Advance order");
-                        l_command = createAdvanceOrder(p_player, p_currentState);
+                        printChoice(p_currentState, () -> "Advance order");
+                        l_order = createAdvanceOrder(p_player, p_currentState);
                         break;
                     case 2:
-                        System.out.println("Card order");
+                        printChoice(p_currentState, () -> "Card order");
                         String l_card = l_cards.get(l_random.nextInt(l_cards.size()));
-                        l_command = createCardOrder(p_player, p_currentState, l_card);
+                        l_order = createCardOrder(p_player, p_currentState, l_card);
                         break;
                     default:
-                        l_command = createAdvanceOrder(p_player, p_currentState);
+                        l_order = createAdvanceOrder(p_player, p_currentState);
                 }
             } else {
                 boolean l_randomBool = l_random.nextBoolean();
-                l_command = l_randomBool
+                l_order = l_randomBool
                         ? createDeployOrder(p_player, p_currentState)
                         : createAdvanceOrder(p_player, p_currentState);
-                System.out.println("Without card " + (l_randomBool ? "deploy" : "advance"));
+                printChoice(p_currentState, () -> "Without card " + (l_randomBool ? "deploy" : "advance"));
             }
         }
 
-        return l_command;
+        return l_order;
     }
 
     /**
      * Checks if the player has deployed any armies this turn.
      *
      * @param p_player The player.
+     * @param p_board The board of the game.
      * @return True if any of the player’s countries has armies deployed, otherwise false.
      */
-    private boolean checkIfArmiesDeployed(Player p_player) {
-        return p_player.getD_currentCountries().stream().anyMatch(l_country -> l_country.getD_armies() > 0);
+    private boolean checkIfArmiesDeployed(Player p_player, GameBoard p_board) {
+        for (Country l_country : p_player.getD_currentCountries()) {
+            if (p_board.getArmies(l_country) > 0) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -99,22 +124,23 @@ public class AggressivePlayer extends PlayerBehaviourStrategy{
      * @param p_player       The player issuing the order.
      * @param p_currentState The current game state.
      * @param p_cardName     The name of the card to play.
-     * @return A string representing the card order.
+     * @return The card order, or null if the card is unknown.
      */
-    public String createCardOrder(Player p_player, CurrentState p_currentState, String p_cardName) {
-        Random l_random = new Random();
+    public Card createCardOrder(Player p_player, CurrentState p_currentState, String p_cardName) {
+        SplittableRandom l_random = p_player.getD_random();
         Country l_strongestSourceCountry = getStrongestCountry(p_player, p_currentState);
-        Country l_randomTargetCountry = p_currentState.getD_map().getCountryById(l_strongestSourceCountry.getD_neighbouringCountriesId().get(l_random.nextInt(l_strongestSourceCountry.getD_neighbouringCountriesId().size())));
-        int l_noOfArmiesToMove = l_strongestSourceCountry.getD_armies() > 1 ? l_strongestSourceCountry.getD_armies() : 1;
+        Model.Map l_map = p_currentState.getD_map();
+        Country l_randomTargetCountry = l_map.getNeighbourAt(l_strongestSourceCountry, l_random.nextInt(l_map.getNeighbourCount(l_strongestSourceCountry)));
+        int l_noOfArmiesToMove = Math.max(p_currentState.getBoard().getArmies(l_strongestSourceCountry), 1);
         switch (p_cardName) {
             case "bomb":
-                return "bomb " + l_randomTargetCountry.getD_countryName();
+                return new CardBomb(p_player, l_randomTargetCountry.getD_countryName());
             case "blockade":
-                return "blockade " + l_randomTargetCountry.getD_countryName();
+                return new CardBlockade(p_player, l_randomTargetCountry.getD_countryName());
             case "airlift":
-                return "airlift " + l_strongestSourceCountry.getD_countryName() + " " + l_randomTargetCountry.getD_countryName() + " " + l_noOfArmiesToMove;
+                return new CardAirlift(l_noOfArmiesToMove, l_strongestSourceCountry.getD_countryName(), p_player, l_randomTargetCountry.getD_countryName());
             case "negotiate":
-                return "negotiate " + getRandomEnemyPlayer(p_player, p_currentState).getD_playerName();
+                return new CardNegotiate(p_player, getRandomEnemyPlayer(p_player, p_currentState).getD_playerName());
         }
         return null;
     }
@@ -128,7 +154,7 @@ public class AggressivePlayer extends PlayerBehaviourStrategy{
      */
     private Player getRandomEnemyPlayer(Player p_player, CurrentState p_gameState) {
         ArrayList<Player> l_playerList = new ArrayList<>();
-        Random l_random = new Random();
+        SplittableRandom l_random = p_player.getD_random();
         for (Player l_eachPlayer : p_gameState.getD_players()) {
             if (!l_eachPlayer.equals(p_player)) {
                 l_playerList.add(l_eachPlayer);
@@ -146,28 +172,27 @@ public class AggressivePlayer extends PlayerBehaviourStrategy{
      */
     private Country getStrongestCountry(Player p_player, CurrentState p_currentState) {
         List<Country> l_countriesOwnedByPlayer = p_player.getD_currentCountries();
-        Country l_strongestCountry = calculateStrongestCountry(l_countriesOwnedByPlayer);
+        Country l_strongestCountry = calculateStrongestCountry(l_countriesOwnedByPlayer, p_currentState.getBoard());
         return l_strongestCountry;
 
     }
 
     /**
-     * Calculates the strongest country from a list based on number of armies.
+     * Calculates the strongest country from a list based on number of armies: the first of the countries with
+     * the most armies.
      *
      * @param p_countriesOwnedByPlayer List of countries.
+     * @param p_board The board of the game.
      * @return The country with the highest number of armies.
      */
-    private Country calculateStrongestCountry(List<Country> p_countriesOwnedByPlayer) {
-        LinkedHashMap<Country,Integer> l_countryWithArmies = new LinkedHashMap<>();
-        int l_largestNoOfArmies = 0;
+    private Country calculateStrongestCountry(List<Country> p_countriesOwnedByPlayer, GameBoard p_board) {
+        int l_largestNoOfArmies = Integer.MIN_VALUE;
         Country l_strongestCountry = null;
         for(Country l_eachCountry : p_countriesOwnedByPlayer){
-            l_countryWithArmies.put(l_eachCountry,l_eachCountry.getD_armies());
-        }
-        l_largestNoOfArmies = Collections.max(l_countryWithArmies.values());
-        for(Map.Entry<Country,Integer> l_entry : l_countryWithArmies.entrySet()){
-            if(l_entry.getValue().equals(l_largestNoOfArmies)){
-                return l_entry.getKey();
+            int l_armies = p_board.getArmies(l_eachCountry);
+            if(l_armies > l_largestNoOfArmies){
+                l_largestNoOfArmies = l_armies;
+                l_strongestCountry = l_eachCountry;
             }
         }
         return l_strongestCountry;
@@ -178,17 +203,18 @@ public class AggressivePlayer extends PlayerBehaviourStrategy{
      *
      * @param p_player       The player.
      * @param p_currentState The current game state.
-     * @return A string representing the advance command.
+     * @return The advance order.
      */
     @Override
-    public String createAdvanceOrder(Player p_player, CurrentState p_currentState) {
-        Country l_randomSourceCountry = getRandomCountry(d_deployCountries);
+    public Advance createAdvanceOrder(Player p_player, CurrentState p_currentState) {
+        Country l_randomSourceCountry = getRandomCountry(d_deployCountries, p_player.getD_random());
         moveArmiesFromItsNeighbours(p_player, l_randomSourceCountry, p_currentState);
-        Random l_random = new Random();
-        Country l_randomTargetCountry = p_currentState.getD_map().getCountryById(l_randomSourceCountry.getD_neighbouringCountriesId().get(l_random.nextInt(l_randomSourceCountry.getD_neighbouringCountriesId().size())));
-        int l_noOfArmiesToMove = l_randomSourceCountry.getD_armies() > 1 ? l_randomSourceCountry.getD_armies() : 1;
+        SplittableRandom l_random = p_player.getD_random();
+        Model.Map l_map = p_currentState.getD_map();
+        Country l_randomTargetCountry = l_map.getNeighbourAt(l_randomSourceCountry, l_random.nextInt(l_map.getNeighbourCount(l_randomSourceCountry)));
+        int l_noOfArmiesToMove = Math.max(p_currentState.getBoard().getArmies(l_randomSourceCountry), 1);
 
-        return "advance " + l_randomSourceCountry.getD_countryName() + " " + l_randomTargetCountry.getD_countryName() + " " + l_noOfArmiesToMove;
+        return new Advance(l_randomSourceCountry, l_randomTargetCountry, l_noOfArmiesToMove, p_player);
     }
 
     /**
@@ -199,36 +225,29 @@ public class AggressivePlayer extends PlayerBehaviourStrategy{
      * @param p_currentState       The current game state.
      */
     private void moveArmiesFromItsNeighbours(Player p_player, Country p_randomSourceCountry, CurrentState p_currentState) {
-        List<Integer> l_adjacentCountryIds = p_randomSourceCountry.getD_neighbouringCountriesId();
-        List<Country> l_listOfNeighbours = new ArrayList<>();
-        for(int l_index = 0; l_index < l_adjacentCountryIds.size(); l_index++){
-            Country l_country = p_currentState.getD_map().getCountryById(p_randomSourceCountry.getD_neighbouringCountriesId().get(l_index));
-            if(p_player.getD_currentCountries().contains(l_country)){
-                l_listOfNeighbours.add(l_country);
-            }
-        }
-
+        GameBoard l_board = p_currentState.getBoard();
+        MapGraph l_graph = l_board.getGraph();
+        int l_source = l_board.indexOf(p_randomSourceCountry);
+        int l_sourceArmies = l_board.getArmies(p_randomSourceCountry);
         int l_armiesToMove = 0;
-        for(Country l_eachCountry : l_listOfNeighbours){
-            if(p_randomSourceCountry.getD_armies() > 0){
-                l_armiesToMove = p_randomSourceCountry.getD_armies() + l_eachCountry.getD_armies();
-            }
-            else{
-                l_armiesToMove = l_eachCountry.getD_armies();
+        for(int l_k = 0; l_source >= 0 && l_k < l_graph.degree(l_source); l_k++){
+            int l_neighbour = l_graph.neighbourAt(l_source, l_k);
+            if(l_board.getOwner(l_neighbour) == p_player){
+                l_armiesToMove = l_sourceArmies > 0 ? l_sourceArmies + l_board.getArmies(l_neighbour) : l_board.getArmies(l_neighbour);
             }
         }
-        p_randomSourceCountry.setD_armies(l_armiesToMove);
+        l_board.setArmies(p_randomSourceCountry, l_armiesToMove);
     }
 
     /**
      * Selects a random country from the list of countries where armies were deployed.
      *
      * @param p_deployCountries The list of deployed countries.
+     * @param p_random The random number stream of the player.
      * @return A random country from the list.
      */
-    private Country getRandomCountry(ArrayList<Country> p_deployCountries) {
-        Random l_random = new Random();
-        return p_deployCountries.get(l_random.nextInt(p_deployCountries.size()));
+    private Country getRandomCountry(ArrayList<Country> p_deployCountries, SplittableRandom p_random) {
+        return p_deployCountries.get(p_random.nextInt(p_deployCountries.size()));
     }
 
     /**
@@ -236,18 +255,18 @@ public class AggressivePlayer extends PlayerBehaviourStrategy{
      *
      * @param p_player       The player.
      * @param p_currentState The current game state.
-     * @return A string representing the deploy command.
+     * @return The deploy order.
      */
     @Override
-    public String createDeployOrder(Player p_player, CurrentState p_currentState) {
-        Random l_random = new Random();
+    public Deploy createDeployOrder(Player p_player, CurrentState p_currentState) {
+        SplittableRandom l_random = p_player.getD_random();
         Country l_strongestCountry = getStrongestCountry(p_player, p_currentState);
         d_deployCountries.add(l_strongestCountry);
         int l_noOfArmiesToDeploy = 1;
         if(p_player.getD_unallocatedArmies()>1){
             l_noOfArmiesToDeploy = l_random.nextInt(p_player.getD_unallocatedArmies()-1)+1;
         }
-        return String.format("deploy %s %d", l_strongestCountry.getD_countryName(), l_noOfArmiesToDeploy);
+        return new Deploy(p_player, l_strongestCountry, l_noOfArmiesToDeploy);
     }
 }
 
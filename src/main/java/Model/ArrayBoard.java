@@ -0,0 +1,106 @@
+package Model;
+
+/**
+ * Board that keeps the armies of all countries in one {@code int} array, for maps large enough that reading the
+ * armies from every {@link Country} object, each somewhere else on the heap, costs more than the game itself. While the board is in use,
+ * each country of the map reads and writes its armies in the array, so the command line, saved games and copies
+ * of the game see the armies of the board. When the board is replaced, the countries get their armies back.
+ * <p>
+ * Only one board at a time keeps the armies of a map; a newer board of the same map takes them over.
+ */
+final class ArrayBoard extends CountryBoard {
+
+    /**
+     * Armies of every country, by position.
+     */
+    private final int[] d_armies;
+
+    /**
+     * Creates the board of a game and moves the armies of the countries of its map into the array.
+     *
+     * @param p_state the game
+     * @param p_map   the map of the game, or null
+     */
+    ArrayBoard(CurrentState p_state, Map p_map) {
+        super(p_state, p_map);
+        d_armies = new int[d_countries.size()];
+        for (int l_index = 0; l_index < d_armies.length; l_index++) {
+            Country l_country = d_countries.get(l_index);
+            d_armies[l_index] = l_country.d_armies;
+            l_country.d_armyBoard = this;
+            l_country.d_armyIndex = l_index;
+        }
+    }
+
+    /**
+     * Tells whether the board still describes a map and still keeps the armies of its countries.
+     *
+     * @param p_map the map of the game
+     * @return true if the board can still be used for the map
+     */
+    @Override
+    boolean describes(Map p_map) {
+        return super.describes(p_map) && (d_armies.length == 0 || d_countries.get(0).d_armyBoard == this);
+    }
+
+    /**
+     * Gives the countries still reading from the board their armies back.
+     */
+    @Override
+    void release() {
+        for (int l_index = 0; l_index < d_armies.length; l_index++) {
+            Country l_country = d_countries.get(l_index);
+            if (l_country.d_armyBoard == this) {
+                l_country.d_armyBoard = null;
+                l_country.d_armies = d_armies[l_index];
+            }
+        }
+    }
+
+    /**
+     * Gets the position of a country of the map, which a country reading its armies from this board knows.
+     *
+     * @param p_country the country
+     * @return the position, or -1 if the country is not one of the map
+     */
+    @Override
+    public int indexOf(Country p_country) {
+        return p_country != null && p_country.d_armyBoard == this ? p_country.d_armyIndex : super.indexOf(p_country);
+    }
+
+    /**
+     * Gets the armies of a country, from the array if the country is on this board.
+     *
+     * @param p_country the country
+     * @return the number of armies
+     */
+    @Override
+    public int getArmies(Country p_country) {
+        return p_country.d_armyBoard == this ? d_armies[p_country.d_armyIndex] : super.getArmies(p_country);
+    }
+
+    /**
+     * Sets the armies of a country, in the array if the country is on this board.
+     *
+     * @param p_country the country
+     * @param p_armies  the number of armies
+     */
+    @Override
+    public void setArmies(Country p_country, int p_armies) {
+        if (p_country.d_armyBoard == this) {
+            d_armies[p_country.d_armyIndex] = p_armies;
+        } else {
+            super.setArmies(p_country, p_armies);
+        }
+    }
+
+    @Override
+    public int getArmies(int p_index) {
+        return d_armies[p_index];
+    }
+
+    @Override
+    public void setArmies(int p_index, int p_armies) {
+        d_armies[p_index] = p_armies;
+    }
+}
@@ -0,0 +1,158 @@
+package Model;
+
+import java.util.SplittableRandom;
+
+/**
+ * Resolves the dice of a battle. Each army that meets an enemy army rolls a number from 1 to 9, scaled by 0.6 for
+ * the attacker and 0.7 for the defender and rounded; the attacker wins the pair if its value is higher. As every
+ * pair is independent and equally likely to go either way, only the chance that the attacker wins one pair matters,
+ * and the number of pairs the attacker wins follows a binomial distribution.
+ * <p>
+ * Small battles draw one number per pair. Large battles draw the binomial count directly with Hörmann's
+ * transformed rejection method with squeeze (BTRS), which takes a few draws whatever the size of the armies.
+ * Neither allocates.
+ */
+public final class BattleKernel {
+
+    /**
+     * Number of sides of the die.
+     */
+    private static final int SIDES = 9;
+
+    /**
+     * Number of the {@code SIDES * SIDES} roll pairs in which the attacker's value is higher.
+     */
+    static final int ATTACKER_WINNING_ROLLS = countAttackerWinningRolls();
+
+    /**
+     * Chance that the attacker wins one pair.
+     */
+    public static final double ATTACKER_WIN_PROBABILITY = ATTACKER_WINNING_ROLLS / (double) (SIDES * SIDES);
+
+    /**
+     * Expected number of wins from which the binomial count is drawn directly. BTRS needs at least 10.
+     */
+    private static final double DIRECT_SAMPLING_MEAN = 10;
+
+    /**
+     * Stirling series tails {@code log(k!) - log(sqrt(2 pi)) - (k + 0.5) log(k + 1) + (k + 1)} for k up to 9.
+     */
+    private static final double[] STIRLING_TAILS = {
+            0.0810614667953272, 0.0413406959554092, 0.0276779256849983, 0.02079067210376509, 0.0166446911898211,
+            0.0138761288230707, 0.0118967099458917, 0.0104112652619720, 0.00925546218271273, 0.00833056343336287
+    };
+
+    /**
+     * Not instantiable.
+     */
+    private BattleKernel() {
+    }
+
+    /**
+     * Gets the number of pairs the attacker wins in a battle.
+     *
+     * @param p_pairs  number of attacking armies that meet a defending army
+     * @param p_random the random number stream of the game
+     * @return the number of pairs won by the attacker, from 0 to {@code p_pairs}
+     */
+    public static int attackerWins(int p_pairs, SplittableRandom p_random) {
+        if (p_pairs <= 0) {
+            return 0;
+        }
+        double l_p = Math.min(ATTACKER_WIN_PROBABILITY, 1 - ATTACKER_WIN_PROBABILITY);
+        if (p_pairs * l_p < DIRECT_SAMPLING_MEAN) {
+            return rollPairs(p_pairs, p_random);
+        }
+        int l_wins = sampleBinomial(p_pairs, l_p, p_random);
+        return l_p == ATTACKER_WIN_PROBABILITY ? l_wins : p_pairs - l_wins;
+    }
+
+    /**
+     * Gets the number of pairs the attacker wins by drawing one of the equally likely roll pairs for each pair.
+     *
+     * @param p_pairs  number of pairs
+     * @param p_random the random number stream of the game
+     * @return the number of pairs won by the attacker
+     */
+    static int rollPairs(int p_pairs, SplittableRandom p_random) {
+        int l_wins = 0;
+        for (int l_pair = 0; l_pair < p_pairs; l_pair++) {
+            if (p_random.nextInt(SIDES * SIDES) < ATTACKER_WINNING_ROLLS) {
+                l_wins++;
+            }
+        }
+        return l_wins;
+    }
+
+    /**
+     * Draws from the binomial distribution with the BTRS algorithm of Hörmann, "The generation of binomial
+     * random variates", Journal of Statistical Computation and Simulation 46, 1993.
+     *
+     * @param p_n      number of trials
+     * @param p_p      chance of success, at most 0.5, with {@code p_n * p_p} at least 10
+     * @param p_random the random number stream
+     * @return the number of successes
+     */
+    static int sampleBinomial(int p_n, double p_p, SplittableRandom p_random) {
+        double l_spread = Math.sqrt(p_n * p_p * (1 - p_p));
+        double l_b = 1.15 + 2.53 * l_spread;
+        double l_a = -0.0873 + 0.0248 * l_b + 0.01 * p_p;
+        double l_c = p_n * p_p + 0.5;
+        double l_vr = 0.92 - 4.2 / l_b;
+        double l_r = p_p / (1 - p_p);
+        double l_alpha = (2.83 + 5.1 / l_b) * l_spread;
+        double l_m = Math.floor((p_n + 1) * p_p);
+        while (true) {
+            double l_u = p_random.nextDouble() - 0.5;
+            double l_v = p_random.nextDouble();
+            double l_us = 0.5 - Math.abs(l_u);
+            double l_k = Math.floor((2 * l_a / l_us + l_b) * l_u + l_c);
+            if (l_us >= 0.07 && l_v <= l_vr) {
+                return (int) l_k;
+            }
+            if (l_k < 0 || l_k > p_n) {
+                continue;
+            }
+            double l_logV = Math.log(l_v * l_alpha / (l_a / (l_us * l_us) + l_b));
+            double l_bound = (l_m + 0.5) * Math.log((l_m + 1) / (l_r * (p_n - l_m + 1)))
+                    + (p_n + 1) * Math.log((p_n - l_m + 1) / (p_n - l_k + 1))
+                    + (l_k + 0.5) * Math.log(l_r * (p_n - l_k + 1) / (l_k + 1))
+                    + stirlingTail(l_m) + stirlingTail(p_n - l_m) - stirlingTail(l_k) - stirlingTail(p_n - l_k);
+            if (l_logV <= l_bound) {
+                return (int) l_k;
+            }
+        }
+    }
+
+    /**
+     * Gets the tail of the Stirling series for {@code log(k!)}.
+     *
+     * @param p_k a whole number, at least 0
+     * @return the tail
+     */
+    private static double stirlingTail(double p_k) {
+        if (p_k < STIRLING_TAILS.length) {
+            return STIRLING_TAILS[(int) p_k];
+        }
+        double l_square = (p_k + 1) * (p_k + 1);
+        return (1.0 / 12 - (1.0 / 360 - 1.0 / 1260 / l_square) / l_square) / (p_k + 1);
+    }
+
+    /**
+     * Counts the roll pairs in which the attacker's scaled roll beats the defender's, rounding as the battles
+     * always have.
+     *
+     * @return the number of winning roll pairs
+     */
+    private static int countAttackerWinningRolls() {
+        int l_wins = 0;
+        for (int l_attacker = 1; l_attacker <= SIDES; l_attacker++) {
+            for (int l_defender = 1; l_defender <= SIDES; l_defender++) {
+                if (Math.round(l_attacker * 0.6) > Math.round(l_defender * 0.7)) {
+                    l_wins++;
+                }
+            }
+        }
+        return l_wins;
+    }
+}
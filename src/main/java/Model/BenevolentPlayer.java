@@ -2,7 +2,6 @@ package Model;
 
 import java.io.IOException;
 import java.util.*;
-import java.util.Map;
 
 /**
  * Represents a Benevolent strategy for a player in the game.
@@ -31,76 +30,109 @@ public class BenevolentPlayer extends PlayerBehaviourStrategy{
         return "Benevolent";
     }
 
+    /**
+     * Creates a new Benevolent strategy.
+     *
+     * @return the new strategy
+     */
+    @Override
+    public PlayerBehaviourStrategy copy() {
+        return new BenevolentPlayer();
+    }
+
+    @Override
+    public List<Country> getD_deployCountries() {
+        return d_deployCountries;
+    }
+
+    @Override
+    public void setD_deployCountries(List<Country> p_deployCountries) {
+        d_deployCountries = new ArrayList<>(p_deployCountries);
+    }
+
     /**
      * Creates an order for the player based on current game state and owned cards.
      *
      * @param p_player        The player.
      * @param p_currentState  The current state of the game.
-     * @return The created order as a String.
+     * @return The created order.
      * @throws IOException If an I/O error occurs.
      */
     @Override
-    public String createOrder(Player p_player, CurrentState p_currentState) throws IOException {
-        System.out.println("Creating order for : " + p_player.getD_playerName());
-        String l_command = "";
+    public Orders createOrder(Player p_player, CurrentState p_currentState) throws IOException {
+        printChoice(p_currentState, () -> "Creating order for : " + p_player.getD_playerName());
+        Orders l_order;
 
         // Check if armies are deployed
-        if (!checkIfArmiesDeployed(p_player)) {
-            l_command = (p_player.getD_unallocatedArmies() > 0)
-                    ? createDeployOrder(p_player, p_currentState)
+        if (!checkIfArmiesDeployed(p_player, p_currentState.getBoard())) {
+            l_order = (p_player.getD_unallocatedArmies() > 0)
+                    ? createDeployOrAdvanceOrder(p_player, p_currentState)
                     : createAdvanceOrder(p_player, p_currentState);
         } else {
             List<String> l_cards = p_player.getD_cardOwnedByPlayer();
-            Random l_random = new Random();
+            SplittableRandom l_random = p_player.getD_random();
 
             if (!l_cards.isEmpty()) {
-                System.out.println("Enters Card Logic");
+                printChoice(p_currentState, () -> "Enters Card Logic");
                 int l_index = l_random.nextInt(3); // Random index 0, 1, or 2
 
                 switch (l_index) {
                     case 0:
-                        System.out.println("Deploy!");
-                        l_command = createDeployOrder(p_player, p_currentState);
+                        printChoice(p_currentState, () -> "Deploy!");
+                        l_order = createDeployOrAdvanceOrder(p_player, p_currentState);
                         break;
                     case 1:
-                        System.out.println("Advance!");
-                        l_command = createAdvanceOrder(p_player, p_currentState);
+                        printChoice(p_currentState, () -> "Advance!");
+                        l_order = createAdvanceOrder(p_player, p_currentState);
                         break;
                     case 2:
-                        System.out.println("Cards!");
+                        printChoice(p_currentState, () -> "Cards!");
                         // Choose a random card from player's owned cards
                         int l_cardIndex = l_random.nextInt(p_player.getD_cardOwnedByPlayer().size());
-                        l_command = createCardOrder(p_player, p_currentState, p_player.getD_cardOwnedByPlayer().get(l_cardIndex));
+                        l_order = createCardOrder(p_player, p_currentState, p_player.getD_cardOwnedByPlayer().get(l_cardIndex));
                         break;
                     default:
-                        l_command = createAdvanceOrder(p_player, p_currentState);
+                        l_order = createAdvanceOrder(p_player, p_currentState);
                         break;
                 }
             } else {
                 // Case where player has no cards
                 boolean l_randomBoolean = l_random.nextBoolean();
                 if (l_randomBoolean) {
-                    System.out.println("Without Card Deploy Logic");
-                    l_command = createDeployOrder(p_player, p_currentState);
+                    printChoice(p_currentState, () -> "Without Card Deploy Logic");
+                    l_order = createDeployOrAdvanceOrder(p_player, p_currentState);
                 } else {
-                    System.out.println("Without Card Advance Logic");
-                    l_command = createAdvanceOrder(p_player, p_currentState);
+                    printChoice(p_currentState, () -> "Without Card Advance Logic");
+                    l_order = createAdvanceOrder(p_player, p_currentState);
                 }
             }
         }
 
-        return l_command;
+        return l_order;
+    }
+
+    /**
+     * Creates a deploy order, or an advance order once the player has no armies left to deploy.
+     *
+     * @param p_player       The player.
+     * @param p_currentState The game state.
+     * @return The order, or null if there is nothing to advance either.
+     */
+    private Orders createDeployOrAdvanceOrder(Player p_player, CurrentState p_currentState) {
+        Deploy l_deploy = createDeployOrder(p_player, p_currentState);
+        return l_deploy != null ? l_deploy : createAdvanceOrder(p_player, p_currentState);
     }
 
     /**
      * Checks if any country owned by the player has armies deployed.
      *
      * @param p_player The player.
+     * @param p_board The board of the game.
      * @return true if any country has armies, otherwise false.
      */
-    private boolean checkIfArmiesDeployed(Player p_player) {
+    private boolean checkIfArmiesDeployed(Player p_player, GameBoard p_board) {
         for(Country l_country : p_player.getD_currentCountries()){
-            if(l_country.getD_armies() > 0){
+            if(p_board.getArmies(l_country) > 0){
                 return true;
             }
         }
@@ -114,29 +146,30 @@ public class BenevolentPlayer extends PlayerBehaviourStrategy{
      * @param p_player       The player.
      * @param p_currentState The game state.
      * @param p_cardName     The card to be used.
-     * @return Order string.
+     * @return The card order, or null if the card is not played.
      */
     @Override
-    public String createCardOrder(Player p_player, CurrentState p_currentState, String p_cardName) {
+    public Card createCardOrder(Player p_player, CurrentState p_currentState, String p_cardName) {
         int l_armiesToDeploy = 0;
-        Random l_random = new Random();
-        Country l_randomOwnedCountry = getRandomCountry(p_player.getD_currentCountries());
-        if(l_randomOwnedCountry.getD_armies() > 1){
-            l_armiesToDeploy = l_random.nextInt(l_randomOwnedCountry.getD_armies() - 1) + 1;
+        SplittableRandom l_random = p_player.getD_random();
+        Country l_randomOwnedCountry = getRandomCountry(p_player.getD_currentCountries(), l_random);
+        int l_armies = p_currentState.getBoard().getArmies(l_randomOwnedCountry);
+        if(l_armies > 1){
+            l_armiesToDeploy = l_random.nextInt(l_armies - 1) + 1;
         }
         else{
             l_armiesToDeploy = 1;
         }
         switch (p_cardName){
             case "bomb":
-                System.err.println("I donot hurt anyone as I am a benevolent player.");
-                return ("bomb  false");
+                p_currentState.getD_console().printError("I donot hurt anyone as I am a benevolent player.");
+                return null;
             case "blockade":
-                return String.format("blockade %s", l_randomOwnedCountry.getD_countryName());
+                return new CardBlockade(p_player, l_randomOwnedCountry.getD_countryName());
             case "airlift":
-                return String.format("airlift %s %s %d", l_randomOwnedCountry.getD_countryName(), getRandomCountry(p_player.getD_currentCountries()), l_armiesToDeploy);
+                return new CardAirlift(l_armiesToDeploy, l_randomOwnedCountry.getD_countryName(), p_player, getRandomCountry(p_player.getD_currentCountries(), l_random).getD_countryName());
             case "negotiate":
-                return String.format("negotiate %s", getRandomEnemyPlayer(p_currentState, p_player).getD_playerName());
+                return new CardNegotiate(p_player, getRandomEnemyPlayer(p_currentState, p_player).getD_playerName());
         }
         return null;
     }
@@ -150,7 +183,7 @@ public class BenevolentPlayer extends PlayerBehaviourStrategy{
      */
     private Player getRandomEnemyPlayer(CurrentState p_currentState, Player p_player) {
         ArrayList<Player> l_players = new ArrayList<>();
-        Random l_random = new Random();
+        SplittableRandom l_random = p_player.getD_random();
         for(Player l_eachPlayer : p_currentState.getD_players()){
             if(!l_eachPlayer.equals(p_player)){
                 l_players.add(l_eachPlayer);
@@ -163,11 +196,11 @@ public class BenevolentPlayer extends PlayerBehaviourStrategy{
      * Selects a random country from a given list.
      *
      * @param p_deployCountries List of countries.
+     * @param p_random The random number stream of the player.
      * @return A randomly selected country.
      */
-    private Country getRandomCountry(List<Country> p_deployCountries) {
-        Random l_random = new Random();
-        int l_index = l_random.nextInt(p_deployCountries.size());
+    private Country getRandomCountry(List<Country> p_deployCountries, SplittableRandom p_random) {
+        int l_index = p_random.nextInt(p_deployCountries.size());
         return p_deployCountries.get(l_index);
     }
 
@@ -177,27 +210,27 @@ public class BenevolentPlayer extends PlayerBehaviourStrategy{
      *
      * @param p_player       The player.
      * @param p_currentState The game state.
-     * @return The advance order string.
+     * @return The advance order, or null if the source country has no neighbour of the player.
      */
     @Override
-    public String createAdvanceOrder(Player p_player, CurrentState p_currentState) {
+    public Advance createAdvanceOrder(Player p_player, CurrentState p_currentState) {
         int l_armiesToAdvance;
-        Random l_random = new Random();
-        Country l_randomSourceCountry = getRandomCountry(d_deployCountries);
-        System.out.println("Source Country: " + l_randomSourceCountry.getD_countryName());
+        SplittableRandom l_random = p_player.getD_random();
+        Country l_randomSourceCountry = getRandomCountry(d_deployCountries, l_random);
+        printChoice(p_currentState, () -> "Source Country: " + l_randomSourceCountry.getD_countryName());
         Country l_weakestTargetCountry = getWeakestNeighbour(l_randomSourceCountry, p_currentState, p_player);
         if(l_weakestTargetCountry == null){
             return null;
         }
-        System.out.println("Target Country: " + l_weakestTargetCountry.getD_countryName());
-        if(l_randomSourceCountry.getD_armies() > 1){
-            l_armiesToAdvance = l_random.nextInt(l_randomSourceCountry.getD_armies() - 1) + 1;
+        printChoice(p_currentState, () -> "Target Country: " + l_weakestTargetCountry.getD_countryName());
+        int l_armies = p_currentState.getBoard().getArmies(l_randomSourceCountry);
+        if(l_armies > 1){
+            l_armiesToAdvance = l_random.nextInt(l_armies - 1) + 1;
         }
         else{
             l_armiesToAdvance = 1;
         }
-        System.out.println("advance " + l_randomSourceCountry.getD_countryName() + " " + l_weakestTargetCountry.getD_countryName() + " " + l_armiesToAdvance);
-        return String.format("advance %s %s %d", l_randomSourceCountry.getD_countryName(), l_weakestTargetCountry.getD_countryName(), l_armiesToAdvance);
+        return new Advance(l_randomSourceCountry, l_weakestTargetCountry, l_armiesToAdvance, p_player);
     }
 
     /**
@@ -209,37 +242,36 @@ public class BenevolentPlayer extends PlayerBehaviourStrategy{
      * @return The weakest neighboring country.
      */
     private Country getWeakestNeighbour(Country p_randomSourceCountry, CurrentState p_currentState, Player p_player) {
-        List<Integer> l_neighbourCountryIds = p_randomSourceCountry.getD_neighbouringCountriesId();
-        List<Country> l_listOfNeighbours = new ArrayList<>();
-        for(Integer l_index =0; l_index < l_neighbourCountryIds.size(); l_index++){
-            Country l_country = p_currentState.getD_map().getCountryById(p_randomSourceCountry.getD_neighbouringCountriesId().get(l_index));
-            if(p_player.getD_currentCountries().contains(l_country)){
-                l_listOfNeighbours.add(l_country);
+        GameBoard l_board = p_currentState.getBoard();
+        MapGraph l_graph = l_board.getGraph();
+        int l_source = l_board.indexOf(p_randomSourceCountry);
+        int l_weakest = -1;
+        for(int l_k = 0; l_source >= 0 && l_k < l_graph.degree(l_source); l_k++){
+            int l_neighbour = l_graph.neighbourAt(l_source, l_k);
+            if(l_board.getOwner(l_neighbour) == p_player
+                    && (l_weakest < 0 || l_board.getArmies(l_neighbour) < l_board.getArmies(l_weakest))){
+                l_weakest = l_neighbour;
             }
         }
-        if(!l_listOfNeighbours.isEmpty()){
-            return evaluateWeakestCountry(l_listOfNeighbours);
-        }
-        return null;
+        return l_weakest < 0 ? null : l_board.countryAt(l_weakest);
     }
 
     /**
-     * Evaluates the weakest country (least armies) from a list.
+     * Evaluates the weakest country (least armies) from a list: the first of the countries with the fewest
+     * armies.
      *
      * @param p_countries List of countries.
+     * @param p_board The board of the game.
      * @return The weakest country.
      */
-    private Country evaluateWeakestCountry(List<Country> p_countries) {
-        LinkedHashMap<Country, Integer> l_countryArmyMap = new LinkedHashMap<>();
-        int l_smallestArmy;
+    private Country evaluateWeakestCountry(List<Country> p_countries, GameBoard p_board) {
+        int l_smallestArmy = Integer.MAX_VALUE;
         Country l_country = null;
         for(Country l_eachCountry : p_countries){
-            l_countryArmyMap.put(l_eachCountry, l_eachCountry.getD_armies());
-        }
-        l_smallestArmy = Collections.min(l_countryArmyMap.values());
-        for(Map.Entry<Country, Integer> l_entry : l_countryArmyMap.entrySet()){
-            if(l_entry.getValue() == l_smallestArmy){
-                return l_entry.getKey();
+            int l_armies = p_board.getArmies(l_eachCountry);
+            if(l_armies < l_smallestArmy){
+                l_smallestArmy = l_armies;
+                l_country = l_eachCountry;
             }
         }
         return l_country;
@@ -250,36 +282,34 @@ public class BenevolentPlayer extends PlayerBehaviourStrategy{
      *
      * @param p_player       The player.
      * @param p_currentState The game state.
-     * @return The deploy order string.
+     * @return The deploy order, or null if the player has no armies left to deploy.
      */
     @Override
-    public String createDeployOrder(Player p_player, CurrentState p_currentState) {
+    public Deploy createDeployOrder(Player p_player, CurrentState p_currentState) {
         if(p_player.getD_unallocatedArmies() > 0){
-            Country l_weakestCountry = getWeakestCountry(p_player);
+            Country l_weakestCountry = getWeakestCountry(p_player, p_currentState.getBoard());
             d_deployCountries.add(l_weakestCountry);
 
-            Random l_random = new Random();
+            SplittableRandom l_random = p_player.getD_random();
             int l_armiesToDeploy = 1;
             if(p_player.getD_unallocatedArmies() > 1) {
                 l_armiesToDeploy = l_random.nextInt(p_player.getD_unallocatedArmies() - 1) + 1;
             }
-            System.out.println("deploy " + l_weakestCountry.getD_countryName() + " " + l_armiesToDeploy);
-            return String.format("deploy %s %d", l_weakestCountry.getD_countryName(), l_armiesToDeploy);
-        }
-        else{
-            return createAdvanceOrder(p_player, p_currentState);
+            return new Deploy(p_player, l_weakestCountry, l_armiesToDeploy);
         }
+        return null;
     }
 
     /**
      * Gets the weakest country owned by the player.
      *
      * @param p_player The player.
+     * @param p_board The board of the game.
      * @return The weakest country.
      */
-    private Country getWeakestCountry(Player p_player) {
+    private Country getWeakestCountry(Player p_player, GameBoard p_board) {
         List<Country> l_countries = p_player.getD_currentCountries();
-        Country l_Country = evaluateWeakestCountry(l_countries);
+        Country l_Country = evaluateWeakestCountry(l_countries, p_board);
         return l_Country;
     }
 
@@ -15,7 +15,7 @@ public class CardAirlift implements Card{
     /**
      * Number of armies to be airlifted.
      */
-    Integer d_armyCount;
+    int d_armyCount;
     /**
      * Name of the source country from which armies are being airlifted.
      */
@@ -42,7 +42,7 @@ public class CardAirlift implements Card{
      * @param p_cardOwner         the player who owns the card
      * @param p_targetCountryName the name of the target country
      */
-    public CardAirlift(Integer p_armyCount, String p_sourceCountryName, Player p_cardOwner, String p_targetCountryName) {
+    public CardAirlift(int p_armyCount, String p_sourceCountryName, Player p_cardOwner, String p_targetCountryName) {
         this.d_armyCount = p_armyCount;
         this.d_sourceCountryName = p_sourceCountryName;
         this.d_cardOwner = p_cardOwner;
@@ -71,7 +71,29 @@ public class CardAirlift implements Card{
     @Override
     public void printOrder() {
         this.d_logOfOrderExecution = "Airlift Order : " + d_cardOwner.getD_playerName() + " is airlifting " + d_armyCount + " armies from " + d_sourceCountryName + " to " + d_targetCountryName;
-        System.out.println(d_logOfOrderExecution);
+        d_cardOwner.getD_console().println(d_logOfOrderExecution);
+    }
+
+    /**
+     * Gets the command that issues this order, as a player would type it.
+     *
+     * @return the command
+     */
+    @Override
+    public String toCommand() {
+        return "airlift " + d_sourceCountryName + " " + d_targetCountryName + " " + d_armyCount;
+    }
+
+    /**
+     * Creates a copy of this order for a copy of its game.
+     *
+     * @param p_player the copy of the player who issued the order
+     * @param p_currentState the copy of the game
+     * @return the copy of the order
+     */
+    @Override
+    public CardAirlift copy(Player p_player, CurrentState p_currentState) {
+        return new CardAirlift(d_armyCount, d_sourceCountryName, p_player, d_targetCountryName);
     }
 
     /**
@@ -92,11 +114,7 @@ public class CardAirlift implements Card{
      */
     public void setD_orderExecutionLog(String p_orderExecutionLog, String p_messageType) {
         this.d_logOfOrderExecution = p_orderExecutionLog;
-        if (p_messageType.equals("error")) {
-            System.err.println(p_orderExecutionLog);
-        } else {
-            System.out.println(p_orderExecutionLog);
-        }
+        d_cardOwner.getD_console().println(p_orderExecutionLog, p_messageType);
     }
 
     /**
@@ -129,8 +147,7 @@ public class CardAirlift implements Card{
      * @param p_message      the error message to be logged
      */
     private void logError(CurrentState p_currentState, String p_message) {
-        this.setD_orderExecutionLog("Invalid! " + p_message, "error");
-        p_currentState.updateLog(orderExecutionLog(), "effect");
+        p_currentState.logOrderEffect(this, () -> "Invalid! " + p_message, "error");
     }
 
     /**
@@ -144,8 +161,7 @@ public class CardAirlift implements Card{
      */
     public void execute(CurrentState p_currentState) {
         if (!valid(p_currentState)) {
-            this.setD_orderExecutionLog("Invalid! Airlift card cannot be used", "error");
-            p_currentState.updateLog("Invalid! Airlift card cannot be used", "effect");
+            p_currentState.logOrderEffect(this, "Invalid! Airlift card cannot be used", "error");
             return;
         }
 
@@ -154,19 +170,18 @@ public class CardAirlift implements Card{
 
 
         // Execute airlift action
-        l_sourceCountry.setD_armies(l_sourceCountry.getD_armies() - d_armyCount);
-        l_targetCountry.setD_armies(l_targetCountry.getD_armies() + d_armyCount);
+        GameBoard l_board = p_currentState.getBoard();
+        l_board.setArmies(l_sourceCountry, l_board.getArmies(l_sourceCountry) - d_armyCount);
+        l_board.setArmies(l_targetCountry, l_board.getArmies(l_targetCountry) + d_armyCount);
 
         // Remove airlift card from player
         d_cardOwner.removeCard("airlift");
         d_cardOwner.setD_oneCardPerTurn(false);
 
         // Log the successful airlift action
-        String l_successMessage = "Airlift card used to move " + d_armyCount +
+        p_currentState.logOrderEffect(this, () -> "Airlift card used to move " + d_armyCount +
                 " armies from " + d_sourceCountryName +
-                " to " + d_targetCountryName;
-        this.setD_orderExecutionLog(l_successMessage, "default");
-        p_currentState.updateLog(l_successMessage, "effect");
+                " to " + d_targetCountryName, "default");
     }
 
     /**
@@ -184,43 +199,24 @@ public class CardAirlift implements Card{
      * @return {@code true} if the order is valid; {@code false} otherwise
      */
     public boolean valid(CurrentState p_currentState) {
-        Country l_targetCountry = null;
-        Country l_sourceCountry = null;
-
-        // Single loop to find both source and target countries
-        for (Country l_eachCountry : d_cardOwner.getD_currentCountries()) {
-            if (l_eachCountry.getD_countryName().equals(d_targetCountryName)) {
-                l_targetCountry = l_eachCountry;
-            }
-            if (l_eachCountry.getD_countryName().equals(d_sourceCountryName)) {
-                l_sourceCountry = l_eachCountry;
-            }
-            if (l_targetCountry != null && l_sourceCountry != null) {
-                break; // Stop searching early if both are found
-            }
-        }
+        Country l_targetCountry = d_cardOwner.getOwnedCountry(p_currentState, d_targetCountryName);
+        Country l_sourceCountry = d_cardOwner.getOwnedCountry(p_currentState, d_sourceCountryName);
 
         // Validate target country ownership
         if (l_targetCountry == null) {
-            String l_errorMessage = "Invalid! Target country does not belong to player";
-            this.setD_orderExecutionLog(l_errorMessage, "error");
-            p_currentState.updateLog(l_errorMessage, "effect");
+            p_currentState.logOrderEffect(this, "Invalid! Target country does not belong to player", "error");
             return false;
         }
 
         // Validate source country ownership
         if (l_sourceCountry == null) {
-            String l_errorMessage = "Invalid! Source country does not belong to player";
-            this.setD_orderExecutionLog(l_errorMessage, "error");
-            p_currentState.updateLog(l_errorMessage, "effect");
+            p_currentState.logOrderEffect(this, "Invalid! Source country does not belong to player", "error");
             return false;
         }
 
         // Validate sufficient armies in source country
-        if (l_sourceCountry.getD_armies() < d_armyCount) {
-            String l_errorMessage = "Invalid! Source country does not have enough armies";
-            this.setD_orderExecutionLog(l_errorMessage, "error");
-            p_currentState.updateLog(l_errorMessage, "effect");
+        if (p_currentState.getBoard().getArmies(l_sourceCountry) < d_armyCount) {
+            p_currentState.logOrderEffect(this, "Invalid! Source country does not have enough armies", "error");
             return false;
         }
 
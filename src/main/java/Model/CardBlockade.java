@@ -39,11 +39,7 @@ public class CardBlockade implements Card {
      */
     public void setD_orderExecutionLog(String p_orderExecutionLog, String p_messageType) {
         this.d_logOfOrderExecution = p_orderExecutionLog;
-        if (p_messageType.equals("error")) {
-            System.err.println(p_orderExecutionLog);
-        } else {
-            System.out.println(p_orderExecutionLog);
-        }
+        d_cardOwner.getD_console().println(p_orderExecutionLog, p_messageType);
     }
 
     /**
@@ -75,7 +71,29 @@ public class CardBlockade implements Card {
     @Override
     public void printOrder() {
         this.d_logOfOrderExecution = "Blockade Order : " + d_cardOwner.getD_playerName() + " is using blockade card to triple the armies of " + d_targetCountryName;
-        System.out.println(d_logOfOrderExecution);
+        d_cardOwner.getD_console().println(d_logOfOrderExecution);
+    }
+
+    /**
+     * Gets the command that issues this order, as a player would type it.
+     *
+     * @return the command
+     */
+    @Override
+    public String toCommand() {
+        return "blockade " + d_targetCountryName;
+    }
+
+    /**
+     * Creates a copy of this order for a copy of its game.
+     *
+     * @param p_player the copy of the player who issued the order
+     * @param p_currentState the copy of the game
+     * @return the copy of the order
+     */
+    @Override
+    public CardBlockade copy(Player p_player, CurrentState p_currentState) {
+        return new CardBlockade(p_player, d_targetCountryName);
     }
 
     /**
@@ -114,13 +132,11 @@ public class CardBlockade implements Card {
         Country l_targetCountry = p_currentState.getD_map().getCountryByName(d_targetCountryName);
 
         // Triple the armies in the target country (handle 0 army case)
-        int l_newArmies = (l_targetCountry.getD_armies() == 0) ? 1 : l_targetCountry.getD_armies();
-        l_targetCountry.setD_armies(l_newArmies * 3);
-
-        // Remove country from the original card owner
-        d_cardOwner.getD_currentCountries().remove(l_targetCountry);
+        GameBoard l_board = p_currentState.getBoard();
+        int l_newArmies = (l_board.getArmies(l_targetCountry) == 0) ? 1 : l_board.getArmies(l_targetCountry);
+        l_board.setArmies(l_targetCountry, l_newArmies * 3);
 
-        // Find the Neutral player and transfer the country
+        // Find the Neutral player and transfer the country from the original card owner
         Player l_neutralPlayer = null;
         for (Player l_eachPlayer : p_currentState.getD_players()) {
             if ("Neutral".equals(l_eachPlayer.getD_playerName())) {
@@ -128,14 +144,15 @@ public class CardBlockade implements Card {
                 break;
             }
         }
+        p_currentState.setCountryOwner(l_targetCountry, l_neutralPlayer);
 
         if (l_neutralPlayer != null) {
-            l_neutralPlayer.getD_currentCountries().add(l_targetCountry);
-            System.out.println("Neutral Country: " + l_targetCountry.getD_countryName() + " has been assigned to Neutral Player");
+            if (p_currentState.isLogEnabled("effect")) {
+                p_currentState.getD_console().println("Neutral Country: " + l_targetCountry.getD_countryName() + " has been assigned to Neutral Player");
+            }
         } else {
             // Log error if the Neutral player is not found
-            this.setD_orderExecutionLog("Error! Neutral player not found", "error");
-            p_currentState.updateLog(orderExecutionLog(), "effect");
+            p_currentState.logOrderEffect(this, "Error! Neutral player not found", "error");
             return;
         }
 
@@ -144,9 +161,8 @@ public class CardBlockade implements Card {
         d_cardOwner.setD_oneCardPerTurn(false);
 
         // Log the successful blockade card use
-        String logMessage = "Player " + d_cardOwner.getD_playerName() + " used blockade card to triple the armies of " + this.d_targetCountryName;
-        this.setD_orderExecutionLog(logMessage, "default");
-        p_currentState.updateLog(orderExecutionLog(), "effect");
+        p_currentState.logOrderEffect(this, () -> "Player " + d_cardOwner.getD_playerName()
+                + " used blockade card to triple the armies of " + this.d_targetCountryName, "default");
     }
 
     /**
@@ -159,18 +175,13 @@ public class CardBlockade implements Card {
      * @return {@code true} if the player owns the target country; {@code false} otherwise
      */
     public boolean valid(CurrentState p_currentState) {
-        // Loop through the countries to check if the target country exists in the player's countries
-        for (Country l_eachCountry : d_cardOwner.getD_currentCountries()) {
-            if (l_eachCountry.getD_countryName().equals(d_targetCountryName)) {
-                return true; // Target country belongs to the player
-            }
+        if (d_cardOwner.getOwnedCountry(p_currentState, d_targetCountryName) != null) {
+            return true; // Target country belongs to the player
         }
 
         // If we reach here, the target country was not found in the player's countries
-        String errorMessage = "Invalid! Blockade card cannot be used because target country '"
-                + d_targetCountryName + "' does not belong to player";
-        this.setD_orderExecutionLog(errorMessage, "error");
-        p_currentState.updateLog(orderExecutionLog(), "effect");
+        p_currentState.logOrderEffect(this, () -> "Invalid! Blockade card cannot be used because target country '"
+                + d_targetCountryName + "' does not belong to player", "error");
         return false;
     }
 }
\ No newline at end of file
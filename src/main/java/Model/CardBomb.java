@@ -39,11 +39,7 @@ public class CardBomb implements Card {
      */
     public void setD_orderExecutionLog(String p_orderExecutionLog, String p_messageType) {
         this.d_logOfOrderExecution = p_orderExecutionLog;
-        if (p_messageType.equals("error")) {
-            System.err.println(p_orderExecutionLog);
-        } else {
-            System.out.println(p_orderExecutionLog);
-        }
+        d_cardOwner.getD_console().println(p_orderExecutionLog, p_messageType);
     }
 
     /**
@@ -74,7 +70,29 @@ public class CardBomb implements Card {
     @Override
     public void printOrder() {
         this.d_logOfOrderExecution = "Bomb Card : "+d_cardOwner.getD_playerName()+" is using bomb card on "+d_targetCountryName;
-        System.out.println(d_logOfOrderExecution);
+        d_cardOwner.getD_console().println(d_logOfOrderExecution);
+    }
+
+    /**
+     * Gets the command that issues this order, as a player would type it.
+     *
+     * @return the command
+     */
+    @Override
+    public String toCommand() {
+        return "bomb " + d_targetCountryName;
+    }
+
+    /**
+     * Creates a copy of this order for a copy of its game.
+     *
+     * @param p_player the copy of the player who issued the order
+     * @param p_currentState the copy of the game
+     * @return the copy of the order
+     */
+    @Override
+    public CardBomb copy(Player p_player, CurrentState p_currentState) {
+        return new CardBomb(p_player, d_targetCountryName);
     }
 
     /**
@@ -89,8 +107,10 @@ public class CardBomb implements Card {
     public Boolean validOrderCheck(CurrentState p_currentState) {
         Country l_targetCountry = p_currentState.getD_map().getCountryByName(d_targetCountryName);
         if (l_targetCountry == null) {
-            this.setD_orderExecutionLog("Invalid! Target country '" + d_targetCountryName + "' does not exist.", "error");
-            p_currentState.updateLog("Invalid! Target country does not exist", "effect");
+            if (p_currentState.isLogEnabled("effect")) {
+                this.setD_orderExecutionLog("Invalid! Target country '" + d_targetCountryName + "' does not exist.", "error");
+                p_currentState.updateLog("Invalid! Target country does not exist", "effect");
+            }
             return false;
         }
         return true;
@@ -108,28 +128,27 @@ public class CardBomb implements Card {
     public void execute(CurrentState p_currentState) {
         if (valid(p_currentState)) {
             Country l_targetCountry = p_currentState.getD_map().getCountryByName(d_targetCountryName);
+            GameBoard l_board = p_currentState.getBoard();
 
             // Simplified army count handling
-            Integer l_armyCountOnTargetCountry = Math.max(l_targetCountry.getD_armies(), 1);
+            int l_armyCountOnTargetCountry = Math.max(l_board.getArmies(l_targetCountry), 1);
 
             // Calculate the new army count after bomb effect
-            Integer l_newArmies = (int) Math.floor((double) l_armyCountOnTargetCountry / 2);
+            int l_newArmies = (int) Math.floor((double) l_armyCountOnTargetCountry / 2);
 
             // Apply the new army count
-            l_targetCountry.setD_armies(l_newArmies);
+            l_board.setArmies(l_targetCountry, l_newArmies);
 
             // Remove the Bomb card and disable one card per turn for the player
             d_cardOwner.removeCard("bomb");
             d_cardOwner.setD_oneCardPerTurn(false);
 
             // Log the effect of using the Bomb card
-            this.setD_orderExecutionLog("Bomb card used to reduce the armies of " + this.d_targetCountryName + " to " + l_newArmies, "default");
-            p_currentState.updateLog(orderExecutionLog(), "effect");
+            p_currentState.logOrderEffect(this, () -> "Bomb card used to reduce the armies of " + this.d_targetCountryName + " to " + l_newArmies, "default");
         }
         else {
             // Handle invalid card usage
-            this.setD_orderExecutionLog("Invalid! Bomb card cannot be used", "error");
-            p_currentState.updateLog(orderExecutionLog(), "effect");
+            p_currentState.logOrderEffect(this, "Invalid! Bomb card cannot be used", "error");
         }
     }
 
@@ -148,32 +167,44 @@ public class CardBomb implements Card {
      * @return {@code true} if the Bomb card usage is valid; {@code false} otherwise
      */
     public boolean valid(CurrentState p_currentState) {
-        Country l_country = null;
-        for(Country l_eachCountry : d_cardOwner.getD_currentCountries()){
-            if(l_eachCountry.getD_countryName().equals(d_targetCountryName)){
-                l_country = l_eachCountry;
-            }
-        }
-        boolean l_isTargetCountryNeighbour = false;
+        Country l_country = d_cardOwner.getOwnedCountry(p_currentState, d_targetCountryName);
         Country l_targetCountry = p_currentState.getD_map().getCountryByName(d_targetCountryName);
-        for (Country l_eachCountry : d_cardOwner.getD_currentCountries()) {
-            for (Integer l_eachNeighbour : l_eachCountry.getD_neighbouringCountriesId()) {
-                if (l_eachNeighbour.equals(l_targetCountry.getD_countryID())) {
-                    l_isTargetCountryNeighbour = true;
-                    break;
-                }
-            }
-        }
-        if(!d_cardOwner.negotiationValidation(this.d_targetCountryName)){
-            this.setD_orderExecutionLog("Invalid! Negotiation is in place with the target country", "error");
-            p_currentState.updateLog(orderExecutionLog(), "effect");
+        boolean l_isTargetCountryNeighbour = isTargetCountryNeighbour(p_currentState, l_targetCountry);
+        if(!d_cardOwner.negotiationValidation(p_currentState, this.d_targetCountryName)){
+            p_currentState.logOrderEffect(this, "Invalid! Negotiation is in place with the target country", "error");
             return false;
         }
         if(l_country != null || !l_isTargetCountryNeighbour){
-            this.setD_orderExecutionLog("Invalid! Bomb card cannot be used on own country or non-neighbouring Country", "error");
-            p_currentState.updateLog(orderExecutionLog(), "effect");
+            p_currentState.logOrderEffect(this, "Invalid! Bomb card cannot be used on own country or non-neighbouring Country", "error");
             return false;
         }
         return true;
     }
+
+    /**
+     * Checks whether a country of the card owner borders the target country. Borders are mostly declared both
+     * ways, so the neighbours of the target are checked first; the countries of the card owner are only searched
+     * when none of them is a country of the card owner bordering the target.
+     *
+     * @param p_currentState the current state of the game
+     * @param p_targetCountry the target country
+     * @return {@code true} if one of the card owner's countries borders the target country
+     */
+    private boolean isTargetCountryNeighbour(CurrentState p_currentState, Country p_targetCountry) {
+        GameBoard l_board = p_currentState.getBoard();
+        MapGraph l_graph = l_board.getGraph();
+        int l_target = l_board.indexOf(p_targetCountry);
+        for (int l_k = 0; l_target >= 0 && l_k < l_graph.degree(l_target); l_k++) {
+            int l_neighbour = l_graph.neighbourAt(l_target, l_k);
+            if (l_board.getOwner(l_neighbour) == d_cardOwner && l_graph.isAdjacentIndex(l_neighbour, l_target)) {
+                return true;
+            }
+        }
+        for (Country l_eachCountry : d_cardOwner.getD_currentCountries()) {
+            if (l_graph.areAdjacent(l_eachCountry.getD_countryID(), p_targetCountry.getD_countryID())) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
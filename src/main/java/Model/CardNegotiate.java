@@ -39,7 +39,29 @@ public class CardNegotiate implements Card {
     @Override
     public void printOrder() {
         this.d_logOfOrderExecution = "Negotiate Card : "+d_cardOwner.getD_playerName()+" is using negotiate card with "+d_targetPlayer;
-        System.out.println(d_logOfOrderExecution);
+        d_cardOwner.getD_console().println(d_logOfOrderExecution);
+    }
+
+    /**
+     * Gets the command that issues this order, as a player would type it.
+     *
+     * @return the command
+     */
+    @Override
+    public String toCommand() {
+        return "negotiate " + d_targetPlayer;
+    }
+
+    /**
+     * Creates a copy of this order for a copy of its game.
+     *
+     * @param p_player the copy of the player who issued the order
+     * @param p_currentState the copy of the game
+     * @return the copy of the order
+     */
+    @Override
+    public CardNegotiate copy(Player p_player, CurrentState p_currentState) {
+        return new CardNegotiate(p_player, d_targetPlayer);
     }
 
     /**
@@ -50,11 +72,7 @@ public class CardNegotiate implements Card {
      */
     public void setD_orderExecutionLog(String p_orderExecutionLog, String p_messageType) {
         this.d_logOfOrderExecution = p_orderExecutionLog;
-        if (p_messageType.equals("error")) {
-            System.err.println(p_orderExecutionLog);
-        } else {
-            System.out.println(p_orderExecutionLog);
-        }
+        d_cardOwner.getD_console().println(p_orderExecutionLog, p_messageType);
     }
 
     /**
@@ -75,8 +93,7 @@ public class CardNegotiate implements Card {
     public Boolean validOrderCheck(CurrentState p_currentState) {
         Player l_targetPlayer = p_currentState.getPlayerFromName(d_targetPlayer);
         if (l_targetPlayer == null) {
-            this.setD_orderExecutionLog("Invalid! No player to negotiate", "error");
-            p_currentState.updateLog(orderExecutionLog(), "effect");
+            p_currentState.logOrderEffect(this, "Invalid! No player to negotiate", "error");
             return false;
         }
         return true;
@@ -92,8 +109,7 @@ public class CardNegotiate implements Card {
 
         // Validate if the target player exists and negotiation is possible
         if (l_targetPlayer == null) {
-            this.setD_orderExecutionLog("Invalid! Target player does not exist", "error");
-            p_currentState.updateLog(d_logOfOrderExecution, "effect");
+            p_currentState.logOrderEffect(this, "Invalid! Target player does not exist", "error");
             return;
         }
 
@@ -102,11 +118,9 @@ public class CardNegotiate implements Card {
             d_cardOwner.addNegotiatePlayer(l_targetPlayer);
             d_cardOwner.removeCard("negotiate");
             d_cardOwner.setD_oneCardPerTurn(false);
-            this.setD_orderExecutionLog("Negotiation Successful", "default");
-            p_currentState.updateLog(d_logOfOrderExecution, "effect");
+            p_currentState.logOrderEffect(this, "Negotiation Successful", "default");
         } else {
-            this.setD_orderExecutionLog("Invalid! Negotiation Unsuccessful", "error");
-            p_currentState.updateLog(d_logOfOrderExecution, "effect");
+            p_currentState.logOrderEffect(this, "Invalid! Negotiation Unsuccessful", "error");
         }
     }
 
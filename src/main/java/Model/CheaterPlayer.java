@@ -1,7 +1,5 @@
 package Model;
 
-import Controller.PlayerController;
-
 import java.io.IOException;
 import java.util.*;
 
@@ -30,30 +28,38 @@ public class CheaterPlayer extends PlayerBehaviourStrategy{
         return "Cheater";
     }
 
+    /**
+     * Creates a new Cheater strategy.
+     *
+     * @return the new strategy
+     */
+    @Override
+    public PlayerBehaviourStrategy copy() {
+        return new CheaterPlayer();
+    }
+
     /**
      * Executes the cheater strategy: auto-deploys remaining armies, conquers all neighboring enemy countries,
      * and doubles armies on countries with enemy neighbors.
      *
      * @param p_player        The player executing the behavior.
      * @param p_currentState  The current state of the game.
-     * @return null (as no standard order string is returned).
+     * @return null, as the cheater changes the map directly instead of issuing orders.
      * @throws IOException if an I/O error occurs.
      */
     @Override
-    public String createOrder(Player p_player, CurrentState p_currentState) throws IOException {
+    public Orders createOrder(Player p_player, CurrentState p_currentState) throws IOException {
         if(p_player.getD_unallocatedArmies() !=0) {
             while (p_player.getD_unallocatedArmies() > 0) {
-                Random l_random = new Random();
-                Country l_randomCountry = getRandomCountry(p_player.getD_currentCountries());
+                SplittableRandom l_random = p_player.getD_random();
+                Country l_randomCountry = getRandomCountry(p_player.getD_currentCountries(), l_random);
                 int l_armiesToDeploy = l_random.nextInt(p_player.getD_unallocatedArmies()) + 1;
-                l_randomCountry.setD_armies(l_armiesToDeploy);
+                p_currentState.getBoard().setArmies(l_randomCountry, l_armiesToDeploy);
                 p_player.setD_unallocatedArmies(p_player.getD_unallocatedArmies() - l_armiesToDeploy);
 
-                String l_logMessage = "Cheater Player: " + p_player.getD_playerName() +
+                p_currentState.updateLog(() -> "Cheater Player: " + p_player.getD_playerName() +
                         " assigned " + l_armiesToDeploy +
-                        " armies to  " + l_randomCountry.getD_countryName();
-
-                d_currentState.updateLog(l_logMessage, "effect");
+                        " armies to  " + l_randomCountry.getD_countryName(), "effect");
             }
         }
         try{
@@ -75,23 +81,22 @@ public class CheaterPlayer extends PlayerBehaviourStrategy{
      */
     private void doubleArmyOnEnemyNeighbourCountries(Player p_player, CurrentState p_currentState) {
         List<Country> l_countriesOwned = p_player.getD_currentCountries();
+        GameBoard l_board = p_currentState.getBoard();
 
         for(Country l_eachCountry : l_countriesOwned){
-            ArrayList<Integer> l_countryEnemies = getEnemies(p_player, l_eachCountry);
+            ArrayList<Integer> l_countryEnemies = getEnemies(p_player, l_eachCountry, p_currentState);
 
             if(l_countryEnemies.size() == 0) {
                 continue;
             }
-            Integer l_armies = l_eachCountry.getD_armies();
+            int l_armies = l_board.getArmies(l_eachCountry);
 
             if(l_armies == 0) {
                 continue;
             }
-            l_eachCountry.setD_armies(l_armies * 2);
-            String l_logMessage = "Cheater Player: " + p_player.getD_playerName() +
-                    " doubled the armies on " + l_eachCountry.getD_countryName();
-
-            p_currentState.updateLog(l_logMessage,"effect");
+            l_board.setArmies(l_eachCountry, l_armies * 2);
+            p_currentState.updateLog(() -> "Cheater Player: " + p_player.getD_playerName() +
+                    " doubled the armies on " + l_eachCountry.getD_countryName(), "effect");
         }
     }
 
@@ -103,88 +108,42 @@ public class CheaterPlayer extends PlayerBehaviourStrategy{
      */
     private void conquerNeighboringEnemies(Player p_player, CurrentState p_currentState) {
         List<Country> l_countriesOwned = p_player.getD_currentCountries();
+        GameBoard l_board = p_currentState.getBoard();
 
         for(Country l_eachCountry : l_countriesOwned){
-            ArrayList<Integer> l_countryEnemies = getEnemies(p_player, l_eachCountry);
-
-            for(Integer l_enemyId: l_countryEnemies) {
-                Map l_map = p_currentState.getD_map();
-                Player l_enemyCountryOwner = getCountryOwner(p_currentState, l_enemyId);
-                Country l_enemyCountry =l_map.getCountryById(l_enemyId);
-                conquerTargetCountry(p_currentState, l_enemyCountryOwner, p_player, l_enemyCountry);
-                String l_logMessage = "Cheater Player: " + p_player.getD_playerName() +
-                        " conquered " + l_enemyCountry.getD_countryName() +
-                        " from " + l_enemyCountryOwner.getD_playerName();
-                p_currentState.updateLog(l_logMessage, "effect");
-            }
-        }
-    }
+            ArrayList<Integer> l_countryEnemies = getEnemies(p_player, l_eachCountry, p_currentState);
 
-    /**
-     * Transfers a country from the enemy to the cheater player.
-     *
-     * @param p_currentState        The current game state.
-     * @param p_enemyCountryOwner   The current owner of the target country.
-     * @param p_player              The cheater player.
-     * @param p_enemyCountry        The country being conquered.
-     */
-    private void conquerTargetCountry(CurrentState p_currentState, Player p_enemyCountryOwner, Player p_player, Country p_enemyCountry) {
-        p_enemyCountryOwner.getD_currentCountries().remove(p_enemyCountry);
-        p_player.getD_currentCountries().add(p_enemyCountry);
-        updateContinents(p_player, p_enemyCountryOwner, p_currentState);
-    }
-
-    /**
-     * Reassigns continent control after a country transfer.
-     *
-     * @param p_player              The cheater player.
-     * @param p_enemyCountryOwner  The previous owner.
-     * @param p_currentState       The current game state.
-     */
-    private void updateContinents(Player p_player, Player p_enemyCountryOwner, CurrentState p_currentState) {
-        List<Player> l_players = new ArrayList<>();
-        p_player.setD_currentContinents(Collections.emptySet());
-        p_enemyCountryOwner.setD_currentContinents(Collections.emptySet());
-        l_players.add(p_player);
-        l_players.add(p_enemyCountryOwner);
-
-        PlayerController l_playerController = new PlayerController();
-        l_playerController.assignContinentToPlayers(l_players, p_currentState.getD_map().getD_mapContinents());
-    }
-
-    /**
-     * Finds the owner of a given country.
-     *
-     * @param p_currentState The current game state.
-     * @param l_enemyId      The ID of the country.
-     * @return The player who owns the country.
-     */
-    private Player getCountryOwner(CurrentState p_currentState, Integer l_enemyId) {
-        List<Player> l_players = p_currentState.getD_players();
-        Player l_owner = null;
-        for(Player l_eachPlayer : l_players){
-            List<Integer> l_countriesOwned = l_eachPlayer.getCountryIDs();
-            if(l_countriesOwned.contains(l_enemyId)){
-                l_owner = l_eachPlayer;
-                break;
+            for(Integer l_enemy: l_countryEnemies) {
+                Country l_enemyCountry = l_board.countryAt(l_enemy);
+                Player l_enemyCountryOwner = l_board.getOwner(l_enemy);
+                l_board.setOwner(l_enemy, p_player);
+                p_currentState.updateLog(() -> "Cheater Player: " + p_player.getD_playerName() +
+                        " conquered " + l_enemyCountry.getD_countryName() +
+                        " from " + l_enemyCountryOwner.getD_playerName(), "effect");
             }
         }
-        return l_owner;
     }
 
     /**
-     * Retrieves IDs of enemy countries adjacent to the given country.
+     * Retrieves the board positions of enemy countries adjacent to the given country.
      *
      * @param p_player       The cheater player.
      * @param p_eachCountry  The country to check neighbors for.
-     * @return A list of neighboring enemy country IDs.
+     * @param p_currentState The current game state.
+     * @return A list of positions of neighboring enemy countries.
      */
-    private ArrayList<Integer> getEnemies(Player p_player, Country p_eachCountry) {
+    private ArrayList<Integer> getEnemies(Player p_player, Country p_eachCountry, CurrentState p_currentState) {
         ArrayList<Integer> l_enemyCountries = new ArrayList<>();
-
-        for(Integer l_countryId : p_eachCountry.getD_neighbouringCountriesId()){
-            if(!p_player.getCountryIDs().contains(l_countryId)){
-                l_enemyCountries.add(l_countryId);
+        GameBoard l_board = p_currentState.getBoard();
+        MapGraph l_graph = l_board.getGraph();
+        int l_index = l_board.indexOf(p_eachCountry);
+        if (l_index < 0) {
+            return l_enemyCountries;
+        }
+        for(int l_k = 0; l_k < l_graph.degree(l_index); l_k++){
+            int l_neighbour = l_graph.neighbourAt(l_index, l_k);
+            if(l_board.getOwner(l_neighbour) != p_player){
+                l_enemyCountries.add(l_neighbour);
             }
         }
         return l_enemyCountries;
@@ -194,11 +153,11 @@ public class CheaterPlayer extends PlayerBehaviourStrategy{
      * Selects a random country from the player's owned countries.
      *
      * @param p_currentCountries The list of countries owned.
+     * @param p_random The random number stream of the player.
      * @return A randomly selected country.
      */
-    private Country getRandomCountry(List<Country> p_currentCountries) {
-        Random l_random = new Random();
-        int l_randomIndex = l_random.nextInt(p_currentCountries.size());
+    private Country getRandomCountry(List<Country> p_currentCountries, SplittableRandom p_random) {
+        int l_randomIndex = p_random.nextInt(p_currentCountries.size());
         return p_currentCountries.get(l_randomIndex);
     }
 
@@ -206,7 +165,7 @@ public class CheaterPlayer extends PlayerBehaviourStrategy{
      * Not implemented for cheater strategy. Returns null.
      */
     @Override
-    public String createCardOrder(Player p_player, CurrentState p_currentState, String p_cardName) {
+    public Card createCardOrder(Player p_player, CurrentState p_currentState, String p_cardName) {
         return null;
     }
 
@@ -214,7 +173,7 @@ public class CheaterPlayer extends PlayerBehaviourStrategy{
      * Not implemented for cheater strategy. Returns null.
      */
     @Override
-    public String createAdvanceOrder(Player p_player, CurrentState p_currentState) {
+    public Advance createAdvanceOrder(Player p_player, CurrentState p_currentState) {
         return null;
     }
 
@@ -222,7 +181,7 @@ public class CheaterPlayer extends PlayerBehaviourStrategy{
      * Not implemented for cheater strategy. Returns null.
      */
     @Override
-    public String createDeployOrder(Player p_player, CurrentState p_currentState) {
+    public Deploy createDeployOrder(Player p_player, CurrentState p_currentState) {
         return null;
     }
 }
@@ -13,7 +13,7 @@ public class Continent implements Serializable {
     /**
      * The D continent id.
      */
-    Integer d_continentID;
+    int d_continentID;
     /**
      * The D continent name.
      */
@@ -21,7 +21,7 @@ public class Continent implements Serializable {
     /**
      * The D continent value.
      */
-    Integer d_continentValue;
+    int d_continentValue;
     /**
      * The D countries.
      */
@@ -33,7 +33,7 @@ public class Continent implements Serializable {
      * @param p_continentName  the p continent name
      * @param p_continentValue the p continent value
      */
-    public Continent(Integer p_continentID, String p_continentName, Integer p_continentValue) {
+    public Continent(int p_continentID, String p_continentName, int p_continentValue) {
         this.d_continentID = p_continentID;
         this.d_continentName = p_continentName;
         this.d_continentValue = p_continentValue;
@@ -44,7 +44,7 @@ public class Continent implements Serializable {
      * @param p_continentID    the p continent id
      * @param p_continentValue the p continent value
      */
-    public Continent(Integer p_continentID, Integer p_continentValue) {
+    public Continent(int p_continentID, int p_continentValue) {
         this.d_continentID = p_continentID;
         this.d_continentValue = p_continentValue;
     }
@@ -53,7 +53,7 @@ public class Continent implements Serializable {
      *
      * @return the d continent id
      */
-    public Integer getD_continentID() {
+    public int getD_continentID() {
         return d_continentID;
     }
     /**
@@ -69,7 +69,7 @@ public class Continent implements Serializable {
      *
      * @return the d continent value
      */
-    public Integer getD_continentValue() {
+    public int getD_continentValue() {
         return d_continentValue;
     }
     /**
@@ -85,7 +85,7 @@ public class Continent implements Serializable {
      *
      * @param p_continentID the p continent id
      */
-    public void setD_continentID(Integer p_continentID) {
+    public void setD_continentID(int p_continentID) {
         this.d_continentID = p_continentID;
     }
     /**
@@ -101,7 +101,7 @@ public class Continent implements Serializable {
      *
      * @param p_continentValue the p continent value
      */
-    public void setD_continentValue(Integer p_continentValue) {
+    public void setD_continentValue(int p_continentValue) {
         this.d_continentValue = p_continentValue;
     }
     /**
@@ -112,6 +112,18 @@ public class Continent implements Serializable {
     public void setD_countries(List<Country> p_countries) {
         this.d_countries = p_countries;
     }
+    /**
+     * Creates a copy of the continent holding other countries, the copies of its own.
+     *
+     * @param p_countries the countries of the copy, or null
+     * @return the copy
+     */
+    public Continent copy(List<Country> p_countries) {
+        Continent l_copy = new Continent(d_continentID, d_continentName, d_continentValue);
+        l_copy.d_countries = p_countries;
+        return l_copy;
+    }
+
     /**
      * To string string.
      *
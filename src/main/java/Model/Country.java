@@ -2,8 +2,11 @@ package Model;
 
 import Constants.ProjectConstants;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -12,15 +15,19 @@ import java.util.List;
  */
 public class Country implements Serializable {
     /** The unique identifier for the country. */
-    Integer d_countryID;
+    int d_countryID;
     /** The name of the country. */
     String d_countryName;
     /** The ID of the continent to which the country belongs. */
-    Integer d_continentId;
+    int d_continentId;
     /** The list of neighboring country IDs. */
     List<Integer> d_neighbouringCountriesId;
     /** The number of armies stationed in the country. */
-    Integer d_armies = 0;
+    int d_armies;
+    /** The board keeping the armies of the country instead of {@link #d_armies}, or null. */
+    transient ArrayBoard d_armyBoard;
+    /** The position of the country on {@link #d_armyBoard}. */
+    transient int d_armyIndex;
 
     /**
      * Constructs a Country object with a specified ID, name, and continent ID.
@@ -29,7 +36,7 @@ public class Country implements Serializable {
      * @param p_countryName The name of the country.
      * @param p_continentId The ID of the continent to which the country belongs.
      */
-    public Country(Integer p_countryID, String p_countryName, Integer p_continentId) {
+    public Country(int p_countryID, String p_countryName, int p_continentId) {
         this.d_countryID = p_countryID;
         this.d_countryName = p_countryName;
         this.d_continentId = p_continentId;
@@ -40,7 +47,7 @@ public class Country implements Serializable {
      *
      * @return The continent ID.
      */
-    public Integer getD_continentID() {
+    public int getD_continentID() {
         return d_continentId;
     }
 
@@ -49,7 +56,7 @@ public class Country implements Serializable {
      *
      * @param d_continentId The new continent ID.
      */
-    public void setD_continentId(Integer d_continentId) {
+    public void setD_continentId(int d_continentId) {
         this.d_continentId = d_continentId;
     }
 
@@ -58,7 +65,7 @@ public class Country implements Serializable {
      *
      * @return The country ID.
      */
-    public Integer getD_countryID() {
+    public int getD_countryID() {
         return d_countryID;
     }
 
@@ -83,12 +90,12 @@ public class Country implements Serializable {
     }
 
     /**
-     * Gets the number of armies stationed in the country.
+     * Gets the number of armies stationed in the country, from the board of the game if it keeps them.
      *
      * @return The number of armies.
      */
-    public Integer getD_armies() {
-        return d_armies;
+    public int getD_armies() {
+        return d_armyBoard == null ? d_armies : d_armyBoard.getArmies(d_armyIndex);
     }
 
     /**
@@ -96,7 +103,7 @@ public class Country implements Serializable {
      *
      * @param d_countryID The new country ID.
      */
-    public void setD_countryID(Integer d_countryID) {
+    public void setD_countryID(int d_countryID) {
         this.d_countryID = d_countryID;
     }
 
@@ -123,8 +130,36 @@ public class Country implements Serializable {
      *
      * @param d_armies The new number of armies.
      */
-    public void setD_armies(Integer d_armies) {
-        this.d_armies = d_armies;
+    public void setD_armies(int d_armies) {
+        if (d_armyBoard != null) {
+            d_armyBoard.setArmies(d_armyIndex, d_armies);
+        } else {
+            this.d_armies = d_armies;
+        }
+    }
+
+    /**
+     * Creates a copy of the country with its armies. The neighbour list is shared, read-only, since borders do
+     * not change during a game.
+     *
+     * @return The copy.
+     */
+    public Country copy() {
+        Country l_copy = new Country(d_countryID, d_countryName, d_continentId);
+        l_copy.d_neighbouringCountriesId = d_neighbouringCountriesId == null ? null : Collections.unmodifiableList(d_neighbouringCountriesId);
+        l_copy.d_armies = getD_armies();
+        return l_copy;
+    }
+
+    /**
+     * Writes the country, with the armies of its board if a board keeps them.
+     *
+     * @param p_out The stream to write to.
+     * @throws IOException If the country cannot be written.
+     */
+    private void writeObject(ObjectOutputStream p_out) throws IOException {
+        d_armies = getD_armies();
+        p_out.defaultWriteObject();
     }
 
     @Override
@@ -139,7 +174,7 @@ public class Country implements Serializable {
                 ", d_countryName='" + d_countryName + '\'' +
                 ", d_continentId=" + d_continentId +
                 ", d_neighbouringCountriesId=" + d_neighbouringCountriesId +
-                ", d_armies=" + d_armies +
+                ", d_armies=" + getD_armies() +
                 '}';
     }
 
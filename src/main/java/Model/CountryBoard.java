@@ -0,0 +1,133 @@
+package Model;
+
+import java.util.List;
+
+/**
+ * Board that keeps the armies in the {@link Country} objects of the map. Owners and continents come from the
+ * owner index of the game.
+ */
+class CountryBoard implements GameBoard {
+
+    /**
+     * The game of the board.
+     */
+    final CurrentState d_state;
+
+    /**
+     * The map of the board, or null for a game without a map.
+     */
+    final Map d_map;
+
+    /**
+     * Adjacency graph of the map when the board was created.
+     */
+    final MapGraph d_graph;
+
+    /**
+     * Countries of the map when the board was created, in map order.
+     */
+    final List<Country> d_countries;
+
+    /**
+     * Creates the board of a game.
+     *
+     * @param p_state the game
+     * @param p_map   the map of the game, or null
+     */
+    CountryBoard(CurrentState p_state, Map p_map) {
+        d_state = p_state;
+        d_map = p_map;
+        d_countries = p_map == null || p_map.getD_mapCountries() == null ? List.of() : p_map.getD_mapCountries();
+        d_graph = p_map == null ? new MapGraph(d_countries) : p_map.getMapGraph();
+    }
+
+    /**
+     * Tells whether the board still describes a map: the same map, with the countries it was created for.
+     *
+     * @param p_map the map of the game
+     * @return true if the board can still be used for the map
+     */
+    boolean describes(Map p_map) {
+        return d_map == p_map && (p_map == null || d_graph == p_map.getMapGraph());
+    }
+
+    /**
+     * Gives the countries back the state the board keeps for them, when the board is replaced.
+     */
+    void release() {
+    }
+
+    @Override
+    public MapGraph getGraph() {
+        return d_graph;
+    }
+
+    @Override
+    public int size() {
+        return d_graph.size();
+    }
+
+    @Override
+    public int indexOf(Country p_country) {
+        if (p_country == null) {
+            return -1;
+        }
+        int l_index = d_graph.indexOf(p_country.getD_countryID());
+        if (l_index >= 0 && d_countries.get(l_index) == p_country) {
+            return l_index;
+        }
+        return d_map == null ? -1 : d_map.indexOfCountry(p_country);
+    }
+
+    @Override
+    public Country countryAt(int p_index) {
+        return d_countries.get(p_index);
+    }
+
+    @Override
+    public int getArmies(int p_index) {
+        return d_countries.get(p_index).getD_armies();
+    }
+
+    @Override
+    public void setArmies(int p_index, int p_armies) {
+        d_countries.get(p_index).setD_armies(p_armies);
+    }
+
+    /**
+     * Gets the armies of a country, which this board keeps in the country itself.
+     *
+     * @param p_country the country
+     * @return the number of armies
+     */
+    @Override
+    public int getArmies(Country p_country) {
+        return p_country.getD_armies();
+    }
+
+    /**
+     * Sets the armies of a country, which this board keeps in the country itself.
+     *
+     * @param p_country the country
+     * @param p_armies  the number of armies
+     */
+    @Override
+    public void setArmies(Country p_country, int p_armies) {
+        p_country.setD_armies(p_armies);
+    }
+
+    @Override
+    public Player getOwner(int p_index) {
+        return d_state.ownerAt(p_index);
+    }
+
+    @Override
+    public void setOwner(int p_index, Player p_owner) {
+        d_state.setCountryOwner(d_countries.get(p_index), p_owner);
+    }
+
+    @Override
+    public int getContinent(int p_index) {
+        return d_state.continentAt(p_index);
+    }
+}
@@ -7,7 +7,13 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
 
 /**
  * The {@code CurrentState} class represents the current state of the game, including the list of players,
@@ -52,6 +58,76 @@ public class CurrentState  implements Serializable {
      */
     Boolean d_loadCommand = false;
 
+    /**
+     * Seed of the random number stream of the game.
+     */
+    long d_seed = new SplittableRandom().nextLong();
+
+    /**
+     * Random number stream of the game. Battles draw from it and each player gets a stream split from it,
+     * so a game played again from the same seed makes the same choices. It is not saved with the game;
+     * a loaded game starts again from its seed.
+     */
+    transient SplittableRandom d_random;
+
+    /**
+     * Owner of every country of the map, at the index the country has in the map's {@link MapGraph}. It is built
+     * from the players' countries when first needed, kept up to date by {@link #setCountryOwner(Country, Player)},
+     * and built again when the players or the map are replaced. It is not saved with the game.
+     */
+    transient Player[] d_countryOwners;
+
+    /**
+     * Position of every country in the country list of its owner, by country index, so that a conquered country
+     * leaves that list in constant time. Built and copied with {@link #d_countryOwners}.
+     */
+    transient int[] d_ownerPositions;
+
+    /**
+     * Graph of the map {@link #d_countryOwners} was built for.
+     */
+    transient MapGraph d_ownerGraph;
+
+    /**
+     * Continents of the map {@link #d_countryOwners} was built for.
+     */
+    transient List<Continent> d_ownerContinents;
+
+    /**
+     * Position in the map's continent list of the continent of every country, by country index, or -1 if the
+     * continent is not on the map.
+     */
+    transient int[] d_countryContinents;
+
+    /**
+     * Number of countries in every continent, by position in the map's continent list.
+     */
+    transient int[] d_continentSizes;
+
+    /**
+     * Number of countries each player owns in every continent, by position in the map's continent list. A player
+     * controls a continent when the count reaches its size. Kept up to date with {@link #d_countryOwners}.
+     */
+    transient IdentityHashMap<Player, int[]> d_continentCounts;
+
+    /**
+     * Whether the board of the game keeps the armies in one array ({@link ArrayBoard}) rather than in the
+     * countries ({@link CountryBoard}).
+     */
+    boolean d_arrayState = !"false".equalsIgnoreCase(System.getProperty(ProjectConstants.ARRAY_STATE_PROPERTY));
+
+    /**
+     * The board of the game, created when first needed and again when the map changes. It is not saved with
+     * the game.
+     */
+    transient CountryBoard d_board;
+
+    /**
+     * Where the game prints what it tells the players, handed on to every player. Null stands for
+     * {@link GameConsole#STANDARD}. It is not saved with the game.
+     */
+    transient GameConsole d_console;
+
     /**
      * Gets the list of players in the game.
      *
@@ -68,6 +144,35 @@ public class CurrentState  implements Serializable {
      */
     public void setD_players(List<Player> p_players) {
         this.d_players = p_players;
+        this.d_countryOwners = null;
+        if (p_players != null) {
+            for (Player l_player : p_players) {
+                l_player.setD_console(d_console);
+            }
+        }
+    }
+
+    /**
+     * Gets where the game prints what it tells the players.
+     *
+     * @return the console of the game
+     */
+    public GameConsole getD_console() {
+        return d_console != null ? d_console : GameConsole.STANDARD;
+    }
+
+    /**
+     * Sets where the game prints what it tells the players, for the game and every player in it.
+     *
+     * @param p_console the console of the game
+     */
+    public void setD_console(GameConsole p_console) {
+        this.d_console = p_console;
+        if (d_players != null) {
+            for (Player l_player : d_players) {
+                l_player.setD_console(p_console);
+            }
+        }
     }
 
     /**
@@ -86,6 +191,7 @@ public class CurrentState  implements Serializable {
      */
     public void setD_map(Map p_map) {
         this.d_map = p_map;
+        this.d_countryOwners = null;
     }
 
     /**
@@ -105,6 +211,458 @@ public class CurrentState  implements Serializable {
     public CurrentState() {
     }
 
+    /**
+     * Gets the seed of the random number stream of the game.
+     *
+     * @return the seed
+     */
+    public long getD_seed() {
+        return d_seed;
+    }
+
+    /**
+     * Sets the seed of the game and restarts its random number stream from it.
+     *
+     * @param p_seed the seed
+     */
+    public void setD_seed(long p_seed) {
+        this.d_seed = p_seed;
+        this.d_random = new SplittableRandom(p_seed);
+    }
+
+    /**
+     * Creates a copy of the game that can be played on without changing this one, for example to look ahead or
+     * to save it in the background. Armies, owners, continents, cards, negotiations and orders are copied; the
+     * names, borders and adjacency graph of the map, which do not change during a game, are shared, and so is
+     * the logger. The owner index is copied as well when it is up to date.
+     * <p>
+     * The random number streams of this game cannot be copied without drawing from them, so the copy starts its
+     * stream again from the seed and splits the streams of its players from it.
+     *
+     * @return the copy
+     */
+    public CurrentState copy() {
+        CurrentState l_copy = new CurrentState();
+        l_copy.d_modelLogger = d_modelLogger;
+        l_copy.d_map = d_map == null ? null : d_map.copy();
+        l_copy.d_maxNoOfTurns = d_maxNoOfTurns;
+        l_copy.d_noOfTurnsLeft = d_noOfTurnsLeft;
+        l_copy.d_loadCommand = d_loadCommand;
+        l_copy.d_seed = d_seed;
+        l_copy.d_arrayState = d_arrayState;
+        IdentityHashMap<Player, Player> l_players = new IdentityHashMap<>();
+        if (d_players != null) {
+            l_copy.d_players = new ArrayList<>(d_players.size());
+            for (Player l_player : d_players) {
+                Player l_playerCopy = l_player.copy();
+                l_players.put(l_player, l_playerCopy);
+                l_copy.d_players.add(l_playerCopy);
+            }
+            for (Player l_player : d_players) {
+                Player l_playerCopy = l_players.get(l_player);
+                l_playerCopy.copyHoldings(l_player, d_map, l_copy, l_players);
+                l_playerCopy.setD_random(l_copy.getD_random().split());
+            }
+        }
+        l_copy.d_winner = d_winner == null ? null : l_players.getOrDefault(d_winner, d_winner);
+        for (Player l_player : d_playersFailed) {
+            l_copy.d_playersFailed.add(l_players.getOrDefault(l_player, l_player));
+        }
+        l_copy.setD_console(d_console);
+        copyOwnerIndex(l_copy, l_players);
+        return l_copy;
+    }
+
+    /**
+     * Gives a copy of this game the owner index of this one, with every player replaced by its copy, if the
+     * index is up to date and every owner is a player of the game. Otherwise the copy builds its own index when
+     * it is first needed. The arrays that depend only on the map are shared.
+     *
+     * @param p_copy    the copy of this game
+     * @param p_players the copy of every player
+     */
+    private void copyOwnerIndex(CurrentState p_copy, IdentityHashMap<Player, Player> p_players) {
+        if (d_countryOwners == null || d_map == null || d_ownerGraph != d_map.getMapGraph()
+                || d_ownerContinents != d_map.getD_mapContinents()) {
+            return;
+        }
+        Player[] l_owners = new Player[d_countryOwners.length];
+        for (int l_index = 0; l_index < l_owners.length; l_index++) {
+            if (d_countryOwners[l_index] != null) {
+                l_owners[l_index] = p_players.get(d_countryOwners[l_index]);
+                if (l_owners[l_index] == null) {
+                    return;
+                }
+            }
+        }
+        IdentityHashMap<Player, int[]> l_counts = new IdentityHashMap<>(d_continentCounts.size());
+        for (java.util.Map.Entry<Player, int[]> l_entry : d_continentCounts.entrySet()) {
+            Player l_player = p_players.get(l_entry.getKey());
+            if (l_player != null) {
+                l_counts.put(l_player, l_entry.getValue().clone());
+            }
+        }
+        p_copy.d_countryOwners = l_owners;
+        p_copy.d_ownerPositions = d_ownerPositions.clone();
+        p_copy.d_ownerGraph = p_copy.d_map.getMapGraph();
+        p_copy.d_ownerContinents = p_copy.d_map.getD_mapContinents();
+        p_copy.d_countryContinents = d_countryContinents;
+        p_copy.d_continentSizes = d_continentSizes;
+        p_copy.d_continentCounts = l_counts;
+    }
+
+    /**
+     * Gets the random number stream of the game.
+     *
+     * @return the random number stream
+     */
+    public SplittableRandom getD_random() {
+        if (d_random == null) {
+            d_random = new SplittableRandom(d_seed);
+        }
+        return d_random;
+    }
+
+    /**
+     * Gets the board of the game, through which orders and strategies read and write the armies and owners of
+     * the countries. A new board is created when the map has been replaced or changed since the last one, and
+     * the countries get their armies back from the old one.
+     *
+     * @return the board
+     */
+    public GameBoard getBoard() {
+        if (d_board == null || !d_board.describes(d_map) || (d_board instanceof ArrayBoard) != d_arrayState) {
+            if (d_board != null) {
+                d_board.release();
+            }
+            d_board = d_arrayState ? new ArrayBoard(this, d_map) : new CountryBoard(this, d_map);
+        }
+        return d_board;
+    }
+
+    /**
+     * Tells whether the board of the game keeps the armies in one array.
+     *
+     * @return true for an {@link ArrayBoard}, false for a {@link CountryBoard}
+     */
+    public boolean isD_arrayState() {
+        return d_arrayState;
+    }
+
+    /**
+     * Chooses whether the board of the game keeps the armies in one array. The armies move to the new board
+     * the next time the board is needed.
+     *
+     * @param p_arrayState true for an {@link ArrayBoard}, false for a {@link CountryBoard}
+     */
+    public void setD_arrayState(boolean p_arrayState) {
+        this.d_arrayState = p_arrayState;
+    }
+
+    /**
+     * Gets the owner of the country at a position of the map's graph.
+     *
+     * @param p_index the position
+     * @return the owner, or null
+     */
+    Player ownerAt(int p_index) {
+        return countryOwners()[p_index];
+    }
+
+    /**
+     * Gets the continent of the country at a position of the map's graph.
+     *
+     * @param p_index the position
+     * @return the position of the continent in the continent list of the map, or -1
+     */
+    int continentAt(int p_index) {
+        countryOwners();
+        return d_countryContinents[p_index];
+    }
+
+    /**
+     * Gets the player who owns a country. Without a map, the countries of the players are searched instead.
+     *
+     * @param p_country the country
+     * @return the owner, or null if no player owns the country or it is not on the map
+     */
+    public Player getCountryOwner(Country p_country) {
+        if (p_country == null) {
+            return null;
+        }
+        if (d_map == null) {
+            return searchCountryOwner(p_country.getD_countryName());
+        }
+        Player[] l_owners = countryOwners();
+        int l_index = d_ownerGraph.indexOf(p_country.getD_countryID());
+        return l_index < 0 ? null : l_owners[l_index];
+    }
+
+    /**
+     * Gets the player who owns a country, looking the country up by name. Without a map, the countries of the
+     * players are searched instead.
+     *
+     * @param p_countryName the name of the country, in any case
+     * @return the owner, or null if no player owns the country or it is not on the map
+     */
+    public Player getCountryOwner(String p_countryName) {
+        if (p_countryName == null) {
+            return null;
+        }
+        if (d_map == null) {
+            return searchCountryOwner(p_countryName);
+        }
+        return getCountryOwner(d_map.getCountryByName(p_countryName));
+    }
+
+    /**
+     * Searches the countries of every player for a country, preferring any other player to the Neutral player.
+     *
+     * @param p_countryName the name of the country, in any case
+     * @return the owner, or null if no player owns the country
+     */
+    private Player searchCountryOwner(String p_countryName) {
+        Player l_neutralOwner = null;
+        if (d_players == null) {
+            return null;
+        }
+        for (Player l_eachPlayer : d_players) {
+            if (l_eachPlayer.getD_currentCountries() == null) {
+                continue;
+            }
+            for (Country l_eachCountry : l_eachPlayer.getD_currentCountries()) {
+                if (l_eachCountry.getD_countryName().equalsIgnoreCase(p_countryName)) {
+                    if (!l_eachPlayer.getD_playerName().equalsIgnoreCase("Neutral")) {
+                        return l_eachPlayer;
+                    }
+                    l_neutralOwner = l_eachPlayer;
+                }
+            }
+        }
+        return l_neutralOwner;
+    }
+
+    /**
+     * Hands a country to a player. The country is taken off the countries of its previous owner, the last of them
+     * taking its place, and added to the countries of the new one, and the continent counts of both are updated: the previous owner loses its
+     * continent if it controlled it, and the new owner gains it if this was the last country it lacked. Every
+     * conquest and blockade goes through here so owner queries and continent control stay correct.
+     *
+     * @param p_country  the country
+     * @param p_newOwner the new owner, or null to leave the country without an owner
+     */
+    public void setCountryOwner(Country p_country, Player p_newOwner) {
+        Player[] l_owners = countryOwners();
+        int l_index = d_ownerGraph == null ? -1 : d_ownerGraph.indexOf(p_country.getD_countryID());
+        Player l_previousOwner = d_ownerGraph == null ? searchCountryOwner(p_country.getD_countryName())
+                : l_index < 0 ? null : l_owners[l_index];
+        if (l_previousOwner != null && l_previousOwner.getD_currentCountries() != null) {
+            if (l_index >= 0) {
+                removeOwnedCountry(l_previousOwner, l_index, p_country);
+            } else {
+                l_previousOwner.getD_currentCountries().remove(p_country);
+            }
+        }
+        if (p_newOwner != null) {
+            if (p_newOwner.getD_currentCountries() == null) {
+                p_newOwner.setD_currentCountries(new ArrayList<>());
+            }
+            if (l_index >= 0) {
+                d_ownerPositions[l_index] = p_newOwner.getD_currentCountries().size();
+            }
+            p_newOwner.getD_currentCountries().add(p_country);
+        }
+        if (l_index >= 0) {
+            l_owners[l_index] = p_newOwner;
+            int l_continent = d_countryContinents[l_index];
+            if (l_continent >= 0) {
+                if (l_previousOwner != null && continentCounts(l_previousOwner)[l_continent]-- == d_continentSizes[l_continent]
+                        && l_previousOwner.getD_currentContinents() != null) {
+                    l_previousOwner.getD_currentContinents().remove(d_ownerContinents.get(l_continent));
+                }
+                if (p_newOwner != null && ++continentCounts(p_newOwner)[l_continent] == d_continentSizes[l_continent]) {
+                    p_newOwner.setContinent(d_ownerContinents.get(l_continent));
+                }
+            }
+        }
+    }
+
+    /**
+     * Takes a country off the countries of its owner by moving the last of them into its place. If the list was
+     * changed other than through {@link #setCountryOwner(Country, Player)}, the positions of the owner's countries
+     * are found again first.
+     *
+     * @param p_owner   the owner of the country
+     * @param p_index   the position of the country in the map's graph
+     * @param p_country the country
+     */
+    private void removeOwnedCountry(Player p_owner, int p_index, Country p_country) {
+        List<Country> l_countries = p_owner.getD_currentCountries();
+        if (!isOwnedAt(l_countries, d_ownerPositions[p_index], p_country)) {
+            for (int l_position = 0; l_position < l_countries.size(); l_position++) {
+                int l_index = d_ownerGraph.indexOf(l_countries.get(l_position).getD_countryID());
+                if (l_index >= 0 && d_countryOwners[l_index] == p_owner) {
+                    d_ownerPositions[l_index] = l_position;
+                }
+            }
+            if (!isOwnedAt(l_countries, d_ownerPositions[p_index], p_country)) {
+                l_countries.remove(p_country);
+                return;
+            }
+        }
+        int l_position = d_ownerPositions[p_index];
+        Country l_last = l_countries.remove(l_countries.size() - 1);
+        if (l_position < l_countries.size()) {
+            l_countries.set(l_position, l_last);
+            int l_lastIndex = d_ownerGraph.indexOf(l_last.getD_countryID());
+            if (l_lastIndex >= 0) {
+                d_ownerPositions[l_lastIndex] = l_position;
+            }
+        }
+    }
+
+    /**
+     * Tells whether a country is at a position of a country list.
+     *
+     * @param p_countries the country list
+     * @param p_position  the position
+     * @param p_country   the country
+     * @return true if the list holds the country at the position
+     */
+    private static boolean isOwnedAt(List<Country> p_countries, int p_position, Country p_country) {
+        return p_position < p_countries.size() && p_countries.get(p_position) == p_country;
+    }
+
+    /**
+     * Gets the bonus armies a player earns for the continents it controls.
+     *
+     * @param p_player the player
+     * @return the sum of the values of the continents the player owns every country of
+     */
+    public int getContinentBonus(Player p_player) {
+        countryOwners();
+        int l_bonus = 0;
+        if (d_ownerGraph == null) {
+            if (p_player.getD_currentContinents() != null) {
+                for (Continent l_continent : p_player.getD_currentContinents()) {
+                    l_bonus += l_continent.getD_continentValue();
+                }
+            }
+            return l_bonus;
+        }
+        int[] l_counts = d_continentCounts.get(p_player);
+        if (l_counts == null) {
+            return 0;
+        }
+        for (int l_continent = 0; l_continent < l_counts.length; l_continent++) {
+            if (d_continentSizes[l_continent] > 0 && l_counts[l_continent] == d_continentSizes[l_continent]) {
+                l_bonus += d_ownerContinents.get(l_continent).getD_continentValue();
+            }
+        }
+        return l_bonus;
+    }
+
+    /**
+     * Gets the continent counts of a player, starting them at zero for a player that owns nothing yet.
+     *
+     * @param p_player the player
+     * @return the number of countries the player owns in every continent
+     */
+    private int[] continentCounts(Player p_player) {
+        return d_continentCounts.computeIfAbsent(p_player, l_player -> new int[d_continentSizes.length]);
+    }
+
+    /**
+     * Builds the owner of every country and the continent counts of every player again from the countries of the
+     * players, and sets the continents each player controls from them. Called once countries have been assigned,
+     * and whenever the countries of players were changed other than through {@link #setCountryOwner(Country, Player)}.
+     */
+    public void indexCountryOwners() {
+        d_countryOwners = null;
+        countryOwners();
+    }
+
+    /**
+     * Gets the owner of every country, building it and the continent counts from the players' countries if it is
+     * missing or the map has changed since. A country in the list of the Neutral player and of another player
+     * belongs to the other one.
+     *
+     * @return the owners by country index
+     */
+    private Player[] countryOwners() {
+        MapGraph l_graph = d_map == null ? null : d_map.getMapGraph();
+        List<Continent> l_continents = d_map == null ? null : d_map.getD_mapContinents();
+        if (d_countryOwners != null && d_ownerGraph == l_graph && d_ownerContinents == l_continents) {
+            return d_countryOwners;
+        }
+        Player[] l_owners = new Player[l_graph == null ? 0 : l_graph.size()];
+        int[] l_positions = new int[l_owners.length];
+        if (l_graph != null && d_players != null) {
+            for (Player l_eachPlayer : d_players) {
+                List<Country> l_countries = l_eachPlayer.getD_currentCountries();
+                if (l_countries == null) {
+                    continue;
+                }
+                boolean l_isNeutral = l_eachPlayer.getD_playerName().equalsIgnoreCase("Neutral");
+                for (int l_position = 0; l_position < l_countries.size(); l_position++) {
+                    int l_index = l_graph.indexOf(l_countries.get(l_position).getD_countryID());
+                    if (l_index >= 0 && (l_owners[l_index] == null || !l_isNeutral)) {
+                        l_owners[l_index] = l_eachPlayer;
+                        l_positions[l_index] = l_position;
+                    }
+                }
+            }
+        }
+        d_countryOwners = l_owners;
+        d_ownerPositions = l_positions;
+        d_ownerGraph = l_graph;
+        d_ownerContinents = l_continents;
+        if (l_graph != null) {
+            countContinents(l_owners);
+        }
+        return l_owners;
+    }
+
+    /**
+     * Counts the countries of every continent and the countries each player owns in it, and sets the continents
+     * each player controls. A continent without countries is never controlled.
+     *
+     * @param p_owners the owner of every country, by country index
+     */
+    private void countContinents(Player[] p_owners) {
+        List<Continent> l_continents = d_ownerContinents == null ? List.of() : d_ownerContinents;
+        HashMap<Integer, Integer> l_positions = new HashMap<>(Math.max(16, l_continents.size() * 2));
+        for (int l_position = 0; l_position < l_continents.size(); l_position++) {
+            l_positions.putIfAbsent(l_continents.get(l_position).getD_continentID(), l_position);
+        }
+        d_countryContinents = new int[p_owners.length];
+        d_continentSizes = new int[l_continents.size()];
+        d_continentCounts = new IdentityHashMap<>();
+        for (int l_index = 0; l_index < p_owners.length; l_index++) {
+            Integer l_position = l_positions.get(d_map.getD_mapCountries().get(l_index).getD_continentID());
+            d_countryContinents[l_index] = l_position == null ? -1 : l_position;
+            if (l_position != null) {
+                d_continentSizes[l_position]++;
+                if (p_owners[l_index] != null) {
+                    continentCounts(p_owners[l_index])[l_position]++;
+                }
+            }
+        }
+        if (d_players == null) {
+            return;
+        }
+        for (Player l_eachPlayer : d_players) {
+            Set<Continent> l_controlled = new HashSet<>();
+            int[] l_counts = d_continentCounts.get(l_eachPlayer);
+            for (int l_position = 0; l_counts != null && l_position < l_counts.length; l_position++) {
+                if (d_continentSizes[l_position] > 0 && l_counts[l_position] == d_continentSizes[l_position]) {
+                    l_controlled.add(l_continents.get(l_position));
+                }
+            }
+            l_eachPlayer.setD_currentContinents(l_controlled);
+        }
+    }
+
     /**
      * Sets the {@link ModelLogger} instance used for logging model-related events.
      *
@@ -249,6 +807,7 @@ public class CurrentState  implements Serializable {
             Player l_player_found = getPlayerFromName(l_player);
             if(l_player_found != null) {
                 d_players.remove(l_player_found);
+                d_countryOwners = null;
                 System.out.println("Player " + l_player + " removed.");
             } else {
                 System.out.println("Player " + l_player + " not found.");
@@ -326,6 +885,7 @@ public class CurrentState  implements Serializable {
                 return;
         }
 
+        l_gamePlayer.setD_console(d_console);
         d_players.add(l_gamePlayer);
         System.out.println("Player: " + l_playerName + " added to the game with Strategy: " + l_playerStrategy);
     }
@@ -342,6 +902,55 @@ public class CurrentState  implements Serializable {
         d_modelLogger.setD_message(p_logMessage,p_logType);
     }
 
+    /**
+     * Updates the model log with a message built only if messages of the log type are logged.
+     *
+     * @param p_logMessage builds the message to be logged.
+     * @param p_logType    the type of the log (e.g., "start", "effect", "error", "end").
+     */
+    public void updateLog(Supplier<String> p_logMessage, String p_logType) {
+        d_modelLogger.setD_message(p_logMessage, p_logType);
+    }
+
+    /**
+     * Tells whether messages of a log type are logged, for messages that are only printed.
+     *
+     * @param p_logType the type of the log
+     * @return whether messages of the type are logged
+     */
+    public boolean isLogEnabled(String p_logType) {
+        return d_modelLogger.isEnabled(p_logType);
+    }
+
+    /**
+     * Records and prints the execution log of an order and adds it to the model log as an "effect", if effects
+     * are logged.
+     *
+     * @param p_order       the order whose effect is logged
+     * @param p_message     the effect
+     * @param p_consoleType "error" to print the effect as an error, or "default"
+     */
+    public void logOrderEffect(Orders p_order, String p_message, String p_consoleType) {
+        if (d_modelLogger.isEnabled("effect")) {
+            p_order.setD_orderExecutionLog(p_message, p_consoleType);
+            d_modelLogger.setD_message(p_message, "effect");
+        }
+    }
+
+    /**
+     * Records and prints the execution log of an order and adds it to the model log as an "effect". The message
+     * is built only if effects are logged.
+     *
+     * @param p_order       the order whose effect is logged
+     * @param p_message     builds the effect
+     * @param p_consoleType "error" to print the effect as an error, or "default"
+     */
+    public void logOrderEffect(Orders p_order, Supplier<String> p_message, String p_consoleType) {
+        if (d_modelLogger.isEnabled("effect")) {
+            logOrderEffect(p_order, p_message.get(), p_consoleType);
+        }
+    }
+
     /**
      * Gets player strategy.
      *
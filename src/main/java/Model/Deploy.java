@@ -19,7 +19,7 @@ public class Deploy implements Orders, Serializable {
     /**
      * The number of armies to be moved as part of the order.
      */
-    Integer d_noOfArmiesToMove;
+    int d_noOfArmiesToMove;
 
     /**
      * The player who initiated the order.
@@ -31,6 +31,11 @@ public class Deploy implements Orders, Serializable {
      */
     String d_logOfOrderExecution;
 
+    /**
+     * The target country, resolved when the order was issued; null if the order only has the name.
+     */
+    Country d_targetCountry;
+
     /**
      * Instantiates a new Deploy order.
      *
@@ -38,12 +43,25 @@ public class Deploy implements Orders, Serializable {
      * @param p_targetCountryName the target country name
      * @param p_noOfArmiesToMove the number of armies to move
      */
-    public Deploy(Player p_initiatingPlayer, String p_targetCountryName, Integer p_noOfArmiesToMove) {
+    public Deploy(Player p_initiatingPlayer, String p_targetCountryName, int p_noOfArmiesToMove) {
         this.d_initiatingPlayer = p_initiatingPlayer;
         this.d_targetCountryName = p_targetCountryName;
         this.d_noOfArmiesToMove = p_noOfArmiesToMove;
     }
 
+    /**
+     * Instantiates a new Deploy order to a country already found among the player's countries.
+     * Execution uses the country as it is instead of looking it up by name again.
+     *
+     * @param p_initiatingPlayer the initiating player
+     * @param p_targetCountry the target country
+     * @param p_noOfArmiesToMove the number of armies to move
+     */
+    public Deploy(Player p_initiatingPlayer, Country p_targetCountry, int p_noOfArmiesToMove) {
+        this(p_initiatingPlayer, p_targetCountry.getD_countryName(), p_noOfArmiesToMove);
+        this.d_targetCountry = p_targetCountry;
+    }
+
     /**
      * Gets the name of the target country.
      *
@@ -63,7 +81,7 @@ public class Deploy implements Orders, Serializable {
      *
      * @return the number of armies to move
      */
-    public Integer getNoOfArmiesToMove() {
+    public int getNoOfArmiesToMove() {
         return d_noOfArmiesToMove;
     }
 
@@ -96,8 +114,34 @@ public class Deploy implements Orders, Serializable {
     @Override
     public void printOrder(){
         this.d_logOfOrderExecution = "Deploy Order : "+d_initiatingPlayer.d_playerName+" is deploying "+d_noOfArmiesToMove+" armies to "+d_targetCountryName;
-        System.out.println(d_logOfOrderExecution);
+        d_initiatingPlayer.getD_console().println(d_logOfOrderExecution);
+    }
+
+    /**
+     * Gets the command that issues this order, as a player would type it.
+     *
+     * @return the command
+     */
+    @Override
+    public String toCommand() {
+        return "deploy " + d_targetCountryName + " " + d_noOfArmiesToMove;
     }
+
+    /**
+     * Creates a copy of this order for a copy of its game.
+     *
+     * @param p_player the copy of the player who issued the order
+     * @param p_currentState the copy of the game
+     * @return the copy of the order
+     */
+    @Override
+    public Deploy copy(Player p_player, CurrentState p_currentState) {
+        Country l_target = d_targetCountry == null || p_currentState.getD_map() == null ? null
+                : p_currentState.getD_map().getCountryMatching(d_targetCountry);
+        return l_target != null ? new Deploy(p_player, l_target, d_noOfArmiesToMove)
+                : new Deploy(p_player, d_targetCountryName, d_noOfArmiesToMove);
+    }
+
     /**
      * Prints the order execution log message based on its type.
      *
@@ -106,11 +150,7 @@ public class Deploy implements Orders, Serializable {
      */
     public void setD_orderExecutionLog(String p_orderExecutionLog, String p_messageType) {
         this.d_logOfOrderExecution=p_orderExecutionLog;
-        if (p_messageType.equals("error")) {
-            System.err.println(p_orderExecutionLog);
-        } else {
-            System.out.println(p_orderExecutionLog);
-        }
+        d_initiatingPlayer.getD_console().println(p_orderExecutionLog, p_messageType);
     }
 
     /**
@@ -122,16 +162,16 @@ public class Deploy implements Orders, Serializable {
     @Override
     public void execute(CurrentState p_currentState) {
         if (valid(p_currentState)) {
-            for (Country l_eachCountry : p_currentState.getD_map().getD_mapCountries()) {
-                if (l_eachCountry.getD_countryName().equalsIgnoreCase(this.d_targetCountryName)) {
-                    Integer l_updatedArmies = l_eachCountry.getD_armies() + this.d_noOfArmiesToMove;
-                    l_eachCountry.setD_armies(l_updatedArmies);
+            Country l_targetCountry = d_targetCountry != null ? d_targetCountry : p_currentState.getD_map().getCountryByName(this.d_targetCountryName);
+            if (l_targetCountry != null) {
+                GameBoard l_board = p_currentState.getBoard();
+                l_board.setArmies(l_targetCountry, l_board.getArmies(l_targetCountry) + this.d_noOfArmiesToMove);
+                if (p_currentState.isLogEnabled("effect")) {
                     this.setD_orderExecutionLog(d_initiatingPlayer.d_playerName + " Armies have been deployed successfully", "default");
                 }
             }
         } else {
-            this.setD_orderExecutionLog("Given Deploy Order cannot be executed since the target country does not belong to player.", "error");
-            p_currentState.updateLog("Given Deploy Order cannot be executed since the target country does not belong to player.", "effect");
+            p_currentState.logOrderEffect(this, "Given Deploy Order cannot be executed since the target country does not belong to player.", "error");
         }
     }
 
@@ -143,6 +183,9 @@ public class Deploy implements Orders, Serializable {
      * @return true if the player owns the target country, false otherwise
      */
     public boolean valid(CurrentState p_currentState) {
+        if (d_targetCountry != null) {
+            return p_currentState.getCountryOwner(d_targetCountry) == d_initiatingPlayer;
+        }
         for (Country l_eachCountry : d_initiatingPlayer.getD_currentCountries()) {
             if (l_eachCountry.getD_countryName().equals(d_targetCountryName)) {
                 return true;
@@ -0,0 +1,113 @@
+package Model;
+
+/**
+ * The state of every country of a game: its armies, its owner and its continent, read and written by the
+ * position of the country in the adjacency graph of the map, which is also its position in the country list of
+ * the map. Orders and strategies go through the board of the game, {@link CurrentState#getBoard()}, so they work
+ * the same whichever way the armies are kept:
+ * <ul>
+ *     <li>{@link CountryBoard} keeps them in the {@link Country} objects, as the game always has;</li>
+ *     <li>{@link ArrayBoard} keeps them in one {@code int} array, and the {@link Country} objects read and write
+ *     that array instead of a field of their own, so the command line and saved games see the same armies.</li>
+ * </ul>
+ * Owners are kept by the owner index of {@link CurrentState} with either board, so the countries and continents
+ * of the players follow every change of owner.
+ */
+public interface GameBoard {
+
+    /**
+     * Gets the adjacency graph of the map, whose country positions the board uses.
+     *
+     * @return the graph
+     */
+    MapGraph getGraph();
+
+    /**
+     * Gets the number of countries on the board.
+     *
+     * @return the number of countries
+     */
+    int size();
+
+    /**
+     * Gets the position of a country of the map.
+     *
+     * @param p_country the country
+     * @return the position, or -1 if the country is not one of the map
+     */
+    int indexOf(Country p_country);
+
+    /**
+     * Gets the country at a position.
+     *
+     * @param p_index the position
+     * @return the country
+     */
+    Country countryAt(int p_index);
+
+    /**
+     * Gets the armies of the country at a position.
+     *
+     * @param p_index the position
+     * @return the number of armies
+     */
+    int getArmies(int p_index);
+
+    /**
+     * Sets the armies of the country at a position.
+     *
+     * @param p_index  the position
+     * @param p_armies the number of armies
+     */
+    void setArmies(int p_index, int p_armies);
+
+    /**
+     * Gets the owner of the country at a position.
+     *
+     * @param p_index the position
+     * @return the owner, or null if no player owns the country
+     */
+    Player getOwner(int p_index);
+
+    /**
+     * Hands the country at a position to a player, as {@link CurrentState#setCountryOwner(Country, Player)} does.
+     *
+     * @param p_index the position
+     * @param p_owner the new owner, or null
+     */
+    void setOwner(int p_index, Player p_owner);
+
+    /**
+     * Gets the continent of the country at a position.
+     *
+     * @param p_index the position
+     * @return the position of the continent in the continent list of the map, or -1 if it is not on the map
+     */
+    int getContinent(int p_index);
+
+    /**
+     * Gets the armies of a country, from the country itself if it is not on the map.
+     *
+     * @param p_country the country
+     * @return the number of armies
+     */
+    default int getArmies(Country p_country) {
+        int l_index = indexOf(p_country);
+        return l_index < 0 ? p_country.getD_armies() : getArmies(l_index);
+    }
+
+    /**
+     * Sets the armies of a country, on the country itself if it is not on the map.
+     *
+     * @param p_country the country
+     * @param p_armies  the number of armies
+     */
+    default void setArmies(Country p_country, int p_armies) {
+        int l_index = indexOf(p_country);
+        if (l_index < 0) {
+            p_country.setD_armies(p_armies);
+        } else {
+            setArmies(l_index, p_armies);
+        }
+    }
+}
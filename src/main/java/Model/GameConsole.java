@@ -0,0 +1,106 @@
+package Model;
+
+import java.io.PrintStream;
+
+/**
+ * Where a game prints what it tells the players. The engine of a game hands its console to the state of the game,
+ * which hands it to the players, and phases, players and orders print through it instead of the standard
+ * streams. {@link #STANDARD} prints to the standard streams, a console made from a stream prints messages and
+ * errors to that stream, and {@link #NONE} prints nothing, so callers can skip building messages for it.
+ */
+public final class GameConsole {
+
+    /**
+     * Prints messages to {@code System.out} and errors to {@code System.err}, as they are when printing.
+     */
+    public static final GameConsole STANDARD = new GameConsole(null, true);
+
+    /**
+     * Prints nothing, for games played without a console.
+     */
+    public static final GameConsole NONE = new GameConsole(null, false);
+
+    /**
+     * The stream messages and errors are printed to, or null for the standard streams.
+     */
+    private final PrintStream d_output;
+
+    /**
+     * Whether anything is printed.
+     */
+    private final boolean d_on;
+
+    /**
+     * Creates a console printing messages and errors to one stream.
+     *
+     * @param p_output the stream
+     */
+    public GameConsole(PrintStream p_output) {
+        this(p_output, true);
+    }
+
+    /**
+     * Creates a console.
+     *
+     * @param p_output the stream messages and errors are printed to, or null for the standard streams
+     * @param p_on     whether anything is printed
+     */
+    private GameConsole(PrintStream p_output, boolean p_on) {
+        d_output = p_output;
+        d_on = p_on;
+    }
+
+    /**
+     * Tells whether the console prints anything.
+     *
+     * @return false for {@link #NONE}
+     */
+    public boolean isOn() {
+        return d_on;
+    }
+
+    /**
+     * Gets the stream messages are printed to, for views that print a lot at once. Check {@link #isOn()} first.
+     *
+     * @return the stream of the console, or the standard output
+     */
+    public PrintStream getD_output() {
+        return d_output != null ? d_output : System.out;
+    }
+
+    /**
+     * Prints a message on a line of its own.
+     *
+     * @param p_message the message
+     */
+    public void println(String p_message) {
+        if (d_on) {
+            getD_output().println(p_message);
+        }
+    }
+
+    /**
+     * Prints an error on a line of its own.
+     *
+     * @param p_message the error
+     */
+    public void printError(String p_message) {
+        if (d_on) {
+            (d_output != null ? d_output : System.err).println(p_message);
+        }
+    }
+
+    /**
+     * Prints a message, or an error if the type of the message is "error".
+     *
+     * @param p_message     the message
+     * @param p_messageType the type of the message
+     */
+    public void println(String p_message, String p_messageType) {
+        if ("error".equals(p_messageType)) {
+            printError(p_message);
+        } else {
+            println(p_message);
+        }
+    }
+}
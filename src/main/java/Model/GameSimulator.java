@@ -0,0 +1,204 @@
+package Model;
+
+import Constants.ProjectConstants;
+import Controller.MainGameEngine;
+import Exceptions.CommandValidationException;
+import Utils.CommandHandler;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plays whole games between computer players without a console. A simulator is set up with a map, the strategy
+ * of each player, a turn limit and a seed; every call to {@link #simulate(long)} plays a game on a fresh copy of
+ * the map through the startup, issue order and order execution phases, and returns its result. Nothing is read
+ * from standard input, the games print nothing, as their engine is given {@link GameConsole#NONE}, nothing is
+ * written to the game log, and the process is never exited.
+ * <p>
+ * Simulators can be used from several threads at once; each game has its own engine, state and players.
+ */
+public class GameSimulator {
+
+    /**
+     * The map the games are played on, kept as a copy so later edits of the caller's map do not reach it.
+     */
+    private final Map d_map;
+
+    /**
+     * Strategy of each player, in turn order.
+     */
+    private final List<String> d_strategies;
+
+    /**
+     * Maximum number of turns of a game.
+     */
+    private final int d_turnLimit;
+
+    /**
+     * Seed of the games.
+     */
+    private final long d_seed;
+
+    /**
+     * Whether the games keep their armies in one array, see {@link CurrentState#setD_arrayState(boolean)}.
+     * Set by the {@link ProjectConstants#ARRAY_STATE_PROPERTY} property unless chosen.
+     */
+    private volatile boolean d_arrayState = !"false".equalsIgnoreCase(System.getProperty(ProjectConstants.ARRAY_STATE_PROPERTY));
+
+    /**
+     * Creates a simulator.
+     *
+     * @param p_map        the map to play on
+     * @param p_strategies strategy of each player: Aggressive, Benevolent, Random or Cheater
+     * @param p_turnLimit  maximum number of turns of a game
+     * @param p_seed       seed of the games
+     * @throws IllegalArgumentException if the map has no countries, there are fewer than two players, a strategy
+     *                                  is not a computer strategy, or the turn limit is not positive
+     */
+    public GameSimulator(Map p_map, List<String> p_strategies, int p_turnLimit, long p_seed) {
+        if (p_map == null || p_map.getD_mapCountries() == null || p_map.getD_mapCountries().isEmpty()) {
+            throw new IllegalArgumentException("A map with countries is needed to simulate a game.");
+        }
+        if (p_strategies == null || p_strategies.size() < 2) {
+            throw new IllegalArgumentException("At least two players are needed to simulate a game.");
+        }
+        for (String l_strategy : p_strategies) {
+            createStrategy(l_strategy);
+        }
+        if (p_turnLimit < 1) {
+            throw new IllegalArgumentException("The turn limit must be at least 1.");
+        }
+        d_map = p_map.copyForGame();
+        d_strategies = List.copyOf(p_strategies);
+        d_turnLimit = p_turnLimit;
+        d_seed = p_seed;
+    }
+
+    /**
+     * Chooses whether the games keep their armies in one array. A game plays the same either way.
+     *
+     * @param p_arrayState true for an {@link ArrayBoard}, false for a {@link CountryBoard}
+     */
+    public void setD_arrayState(boolean p_arrayState) {
+        d_arrayState = p_arrayState;
+    }
+
+    /**
+     * Plays one game with the seed of the simulator. Every call plays the same game.
+     *
+     * @return the result of the game
+     * @throws CommandValidationException if the game could not be started
+     */
+    public SimulationResult simulate() throws CommandValidationException {
+        return simulate(d_seed);
+    }
+
+    /**
+     * Plays one game to its end, that is until a player has won or the turn limit is reached. The countries
+     * each player starts with, the players' choices and the battles are all drawn from the seed.
+     *
+     * @param p_gameSeed seed of the game
+     * @return the result of the game
+     * @throws CommandValidationException if the game could not be started
+     */
+    public SimulationResult simulate(long p_gameSeed) throws CommandValidationException {
+        CurrentState l_state = new CurrentState();
+        l_state.setD_seed(p_gameSeed);
+        l_state.setD_arrayState(d_arrayState);
+        l_state.setD_map(d_map.copyForGame());
+        l_state.setD_players(createPlayers());
+        l_state.setD_loadCommand(true);
+        l_state.setD_maxNoOfTurns(d_turnLimit);
+        l_state.setD_noOfTurnsLeft(d_turnLimit);
+        l_state.getD_modelLogger().deleteObservers();
+        l_state.getD_modelLogger().setD_profile(LogProfile.QUIET);
+
+        try {
+            MainGameEngine l_engine = newEngine();
+            StartupPhase l_startupPhase = new StartupPhase(l_engine, l_state);
+            l_engine.setD_console(GameConsole.NONE);
+            l_engine.setD_currentGameState(l_state);
+            l_engine.setD_currentPhase(l_startupPhase);
+            l_startupPhase.assignCountries(new CommandHandler("assigncountries"), null, true, l_state);
+            if (l_engine.getD_currentPhase() != l_startupPhase) {
+                l_engine.runPhases();
+            }
+        } catch (IOException l_e) {
+            throw new CommandValidationException("Simulated game failed: " + l_e.getMessage());
+        }
+        return result(l_state, p_gameSeed);
+    }
+
+    /**
+     * Builds the result of a finished game.
+     *
+     * @param p_state    the state of the game
+     * @param p_gameSeed seed of the game
+     * @return the result
+     */
+    private SimulationResult result(CurrentState p_state, long p_gameSeed) {
+        Player l_winner = p_state.getD_winner();
+        List<String> l_failed = new ArrayList<>(p_state.getD_playersFailed().size());
+        for (Player l_player : p_state.getD_playersFailed()) {
+            l_failed.add(l_player.getD_playerName());
+        }
+        int l_turnsPlayed = p_state.getD_maxNoOfTurns() - p_state.getD_noOfTurnsLeft() + (l_winner != null ? 1 : 0);
+        return new SimulationResult(l_winner == null ? null : l_winner.getD_playerName(),
+                l_winner == null ? null : l_winner.getD_playerBehaviourStrategy().getPlayerBehaviour(),
+                l_failed, l_turnsPlayed, p_gameSeed);
+    }
+
+    /**
+     * Creates the players of a game, named Player1, Player2 and so on in turn order.
+     *
+     * @return the players
+     */
+    private List<Player> createPlayers() {
+        List<Player> l_players = new ArrayList<>(d_strategies.size() + 1);
+        for (int l_index = 0; l_index < d_strategies.size(); l_index++) {
+            Player l_player = new Player("Player" + (l_index + 1));
+            l_player.setD_playerBehaviourStrategy(newStrategy(d_strategies.get(l_index)));
+            l_players.add(l_player);
+        }
+        return l_players;
+    }
+
+    /**
+     * Creates the engine of a new game. Subclasses may set it up further, for example to autosave the games.
+     *
+     * @return the engine
+     */
+    protected MainGameEngine newEngine() {
+        return new MainGameEngine();
+    }
+
+    /**
+     * Creates the behaviour of a player for a new game. Subclasses may wrap or replace the computer strategies,
+     * for example to compare two ways of issuing the same orders.
+     *
+     * @param p_strategy the strategy name, already checked by the constructor
+     * @return the behaviour
+     */
+    protected PlayerBehaviourStrategy newStrategy(String p_strategy) {
+        return createStrategy(p_strategy);
+    }
+
+    /**
+     * Creates the behaviour of a computer player.
+     *
+     * @param p_strategy the strategy name, in any case
+     * @return the behaviour
+     * @throws IllegalArgumentException if the name is not one of {@link ProjectConstants#TOURNAMENT_PLAYER_BEHAVIOUR}
+     */
+    private static PlayerBehaviourStrategy createStrategy(String p_strategy) {
+        String l_strategy = p_strategy == null ? "" : p_strategy.trim().toLowerCase();
+        return switch (l_strategy) {
+            case "aggressive" -> new AggressivePlayer();
+            case "benevolent" -> new BenevolentPlayer();
+            case "random" -> new RandomPlayer();
+            case "cheater" -> new CheaterPlayer();
+            default -> throw new IllegalArgumentException(ProjectConstants.INVALID_STRATEGY);
+        };
+    }
+}
@@ -24,8 +24,18 @@ public class HumanPlayer extends PlayerBehaviourStrategy{
         return "Human";
     }
 
+    /**
+     * Creates a new Human strategy.
+     *
+     * @return the new strategy
+     */
     @Override
-    public String createOrder(Player p_player, CurrentState p_currentState) throws IOException {
+    public PlayerBehaviourStrategy copy() {
+        return new HumanPlayer();
+    }
+
+    @Override
+    public String readCommand(Player p_player, CurrentState p_currentState) throws IOException {
         BufferedReader l_reader = new BufferedReader(new InputStreamReader(System.in));
         System.out.println("Please Enter command for Player : " + p_player.getD_playerName() + "   Armies left : " + p_player.getD_unallocatedArmies());
         System.out.println("1. Deploy Order Command : 'deploy <countryName> <noOfArmies>'");
@@ -37,17 +47,23 @@ public class HumanPlayer extends PlayerBehaviourStrategy{
     }
 
     @Override
-    public String createCardOrder(Player p_player, CurrentState p_currentState, String p_cardName) {
+    public Orders createOrder(Player p_player, CurrentState p_currentState) throws IOException {
+        String l_command = readCommand(p_player, p_currentState);
+        return l_command == null ? null : p_player.parseOrder(l_command, p_currentState);
+    }
+
+    @Override
+    public Card createCardOrder(Player p_player, CurrentState p_currentState, String p_cardName) {
         return null;
     }
 
     @Override
-    public String createAdvanceOrder(Player p_player, CurrentState p_currentState) {
+    public Advance createAdvanceOrder(Player p_player, CurrentState p_currentState) {
         return null;
     }
 
     @Override
-    public String createDeployOrder(Player p_player, CurrentState p_currentState) {
+    public Deploy createDeployOrder(Player p_player, CurrentState p_currentState) {
         return null;
     }
 }
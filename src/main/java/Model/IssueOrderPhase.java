@@ -50,15 +50,19 @@ public class IssueOrderPhase extends Phase{
     /**
      * Initializes the issue order phase and continuously processes player orders
      * while the current phase is IssueOrderPhase.
+     *
+     * @param p_isTournamentMode whether the game is in tournament mode
+     * @return the order execution phase
      */
-    public void initPhase(boolean p_isTournamentMode) {
-        while(d_mainGameEngine.getD_currentPhase() instanceof IssueOrderPhase){
+    public Phase initPhase(boolean p_isTournamentMode) {
+        while(d_mainGameEngine.getD_currentPhase() == this){
             try {
                 issueOrder(p_isTournamentMode);
             } catch (Exception p_e) {
                 d_currentState.updateLog(p_e.getMessage(),"error");
             }
         }
+        return d_mainGameEngine.getD_currentPhase();
 
     }
 
@@ -72,7 +76,10 @@ public class IssueOrderPhase extends Phase{
      */
     protected void cardHandle(String p_inputCommand, Player p_player) {
         if(p_player.getD_cardOwnedByPlayer().contains(p_inputCommand.split(" ")[0])){
-            p_player.handleCardCommand(p_inputCommand, d_currentState);
+            Orders l_order = p_player.parseOrder(p_inputCommand, d_currentState);
+            if (l_order != null) {
+                p_player.addOrder(l_order, d_currentState);
+            }
             d_mainGameEngine.setD_mainEngineLog(p_player.d_playerLog,"effect");
         }
     }
@@ -235,20 +242,25 @@ public class IssueOrderPhase extends Phase{
     }
 
     /**
-     * Prompts a specific player to enter an order via command line.
+     * Asks a specific player for its next order. A player at the console types a command, which is handled like
+     * any other command of the phase; computer players build their orders directly, without a command to parse.
      *
      * @param p_player the player issuing the order
      * @throws Exception if an error occurs while reading input or processing the command
      */
     public void askForOrders(Player p_player) throws Exception {
-        String l_commandEntered = p_player.getPlayerOrder(d_currentState);
+        String l_commandEntered = p_player.getPlayerCommand(d_currentState);
         if (l_commandEntered != null) {
             d_currentState.updateLog("Player : " + p_player.getD_playerName() + " has entered command : " + l_commandEntered ,"order");
             handleCommand(l_commandEntered, p_player);
-        }
-        else {
             return;
         }
+        Orders l_order = p_player.getPlayerOrder(d_currentState);
+        if (l_order != null) {
+            d_currentState.updateLog(() -> "Player : " + p_player.getD_playerName() + " has entered command : " + l_order.toCommand(), "order");
+            p_player.addOrder(l_order, d_currentState);
+            d_currentState.updateLog(p_player::getD_playerLog, "effect");
+        }
     }
 
     /**
@@ -277,13 +289,7 @@ public class IssueOrderPhase extends Phase{
      */
     @Override
     protected void deploy(String p_inputCommand, Player p_player) {
-        CommandHandler l_commandHandler = new CommandHandler(p_inputCommand);
-        if(l_commandHandler.getMainCommand().equals("deploy")){
-            if(p_inputCommand.split(" ").length == 3){
-                p_player.createDeployOrder(p_inputCommand);
-                d_currentState.updateLog(p_player.getD_playerLog(), "effect");
-            }
-        }
+        addParsedOrder(p_inputCommand, p_player);
     }
 
 
@@ -295,17 +301,21 @@ public class IssueOrderPhase extends Phase{
      */
     @Override
     protected void advance(String p_inputCommand, Player p_player) {
-        CommandHandler l_commandHandler = new CommandHandler(p_inputCommand);
-        if(l_commandHandler.getMainCommand().equals("advance")){
-            if(p_inputCommand.split(" ").length == 4){
-                p_player.createAdvanceOrder(p_inputCommand, d_currentState);
-                d_currentState.updateLog(p_player.getD_playerLog(), "effect");
-            }
-            else{
-                System.err.println("Invalid! command for advance order.");
-                d_currentState.updateLog("Invalid! command for advance order.","error");
-            }
+        addParsedOrder(p_inputCommand, p_player);
+    }
+
+    /**
+     * Parses an order command of a player into its order and adds it to the player's orders.
+     *
+     * @param p_inputCommand the full order command string
+     * @param p_player       the player issuing the order
+     */
+    private void addParsedOrder(String p_inputCommand, Player p_player) {
+        Orders l_order = p_player.parseOrder(p_inputCommand, d_currentState);
+        if (l_order != null) {
+            p_player.addOrder(l_order, d_currentState);
         }
+        d_currentState.updateLog(p_player.getD_playerLog(), "effect");
     }
 
     /**
@@ -0,0 +1,30 @@
+package Model;
+
+/**
+ * Profiles of which message types a {@link ModelLogger} logs. The message types are the ones passed with every
+ * message, such as "command", "order", "effect" and "phase"; a message of a type that is not logged is neither
+ * built, printed nor written to the game log.
+ */
+public enum LogProfile {
+
+    /**
+     * Every message is logged. Used for games played at the console.
+     */
+    VERBOSE,
+
+    /**
+     * Only the start and the end of a game are logged. Used for tournaments and headless games, where nobody reads
+     * the play-by-play.
+     */
+    QUIET;
+
+    /**
+     * Tells whether the profile logs messages of a type.
+     *
+     * @param p_messageType the message type
+     * @return whether messages of the type are logged
+     */
+    public boolean logs(String p_messageType) {
+        return this == VERBOSE || "start".equals(p_messageType) || "end".equals(p_messageType);
+    }
+}
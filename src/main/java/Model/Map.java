@@ -4,9 +4,12 @@ import Constants.ProjectConstants;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
  * Represents a map containing countries and continents.
@@ -25,6 +28,55 @@ public class Map implements Serializable {
      * The list of continents defined within the map.
      */
     List<Continent> d_mapContinents;
+    /**
+     * Index of countries keyed by country ID. Built lazily and kept in sync by the map mutators.
+     */
+    private transient HashMap<Integer, Country> d_countryIdIndex;
+    /**
+     * Index of countries keyed by lower-cased country name, matching the case-insensitive name lookup.
+     */
+    private transient HashMap<String, Country> d_countryNameIndex;
+    /**
+     * Index of continents keyed by continent ID.
+     */
+    private transient HashMap<Integer, Continent> d_continentIdIndex;
+    /**
+     * Index of continents keyed by continent name.
+     */
+    private transient HashMap<String, Continent> d_continentNameIndex;
+    /**
+     * The country list and its size at the time the country indexes were built, used to detect
+     * edits made to the list directly rather than through this class.
+     */
+    private transient List<Country> d_indexedCountries;
+    /**
+     * Number of countries covered by the country indexes.
+     */
+    private transient int d_indexedCountryCount;
+    /**
+     * The continent list the continent indexes were built from.
+     */
+    private transient List<Continent> d_indexedContinents;
+    /**
+     * Number of continents covered by the continent indexes.
+     */
+    private transient int d_indexedContinentCount;
+    /**
+     * Adjacency graph of the countries, built on first use and dropped whenever the topology is edited.
+     */
+    private transient MapGraph d_mapGraph;
+    /**
+     * The country list and its size at the time the adjacency graph was built.
+     */
+    private transient List<Country> d_graphCountries;
+    /**
+     * Number of countries covered by the adjacency graph.
+     */
+    private transient int d_graphCountryCount;
+    /**
+     * Incrementally maintained validation result, built by {@link #validateMap()} and updated by the map mutators.
+     */
+    private transient MapConnectivityTracker d_connectivityTracker;
 
     /**
      * Default constructor.
@@ -79,6 +131,8 @@ public class Map implements Serializable {
      */
     public void setD_mapContinents(List<Continent> d_mapContinents) {
         this.d_mapContinents = d_mapContinents;
+        this.d_continentIdIndex = null;
+        this.d_connectivityTracker = null;
     }
 
     /**
@@ -97,157 +151,313 @@ public class Map implements Serializable {
      */
     public void setD_mapCountries(List<Country> d_mapCountries) {
         this.d_mapCountries = d_mapCountries;
+        this.d_countryIdIndex = null;
+        this.d_mapGraph = null;
+        this.d_connectivityTracker = null;
     }
 
     /**
-     * Returns a String representation of map objects.
+     * Gets the adjacency graph of the map's countries, building it if the map was loaded or edited since the last call.
+     * Neighbour edits made through this class invalidate the graph; edits made directly on a {@link Country}
+     * after the graph was built are not seen until one of them does.
      *
-     * @return A string representation of the Map object.
+     * @return the adjacency graph
      */
-    @Override
-    public String toString() {
-        return "Map{" +
-                "d_mapName='" + d_mapName + '\'' +
-                ", d_mapCountries=" + d_mapCountries +
-                ", d_mapContinents=" + d_mapContinents +
-                '}';
+    public MapGraph getMapGraph() {
+        if (d_mapGraph == null || d_graphCountries != d_mapCountries
+                || (d_mapCountries != null && d_graphCountryCount != d_mapCountries.size())) {
+            d_mapGraph = new MapGraph(d_mapCountries);
+            d_graphCountries = d_mapCountries;
+            d_graphCountryCount = d_mapGraph.size();
+        }
+        return d_mapGraph;
     }
 
     /**
-     * Validates the map.
+     * Sets the adjacency graph of the map's current countries, such as one read with them from a binary map file,
+     * so that it is not built again from their neighbour lists.
      *
-     * @return True if the map is valid, otherwise false.
+     * @param p_mapGraph the adjacency graph, which must describe the current countries in order
      */
-    public boolean validateMap() {
-        return validateCountriesAndContinents() && validateContinentSubgraph() && validateCountryConnections();
+    public void setMapGraph(MapGraph p_mapGraph) {
+        d_mapGraph = p_mapGraph;
+        d_graphCountries = d_mapCountries;
+        d_graphCountryCount = p_mapGraph.size();
     }
 
     /**
-     * Validates that all countries are reachable.
+     * Gets the number of neighbours of a country that are on this map.
      *
-     * @return True if all countries are connected, otherwise false.
+     * @param p_country the country
+     * @return the number of neighbours, 0 if the country is not on the map
      */
-    public boolean validateCountryConnections() {
-        if (d_mapCountries == null || d_mapCountries.isEmpty()) {
-            return false;
+    public int getNeighbourCount(Country p_country) {
+        MapGraph l_graph = getMapGraph();
+        int l_index = l_graph.indexOf(p_country.getD_countryID());
+        return l_index < 0 ? 0 : l_graph.degree(l_index);
+    }
+
+    /**
+     * Gets the neighbour of a country at a position of its adjacency row.
+     *
+     * @param p_country the country
+     * @param p_k       position from 0 to {@code getNeighbourCount(p_country) - 1}
+     * @return the neighbouring country
+     */
+    public Country getNeighbourAt(Country p_country, int p_k) {
+        MapGraph l_graph = getMapGraph();
+        return d_mapCountries.get(l_graph.neighbourAt(l_graph.indexOf(p_country.getD_countryID()), p_k));
+    }
+
+    /**
+     * Creates a copy of this map for one game. The copy has its own countries and continents, so armies,
+     * ownership and continent membership are kept per game, while the parts that do not change during a game
+     * are shared with this map: names, neighbour lists and the adjacency graph. The neighbour lists of the copy
+     * are read-only, so its borders cannot be edited.
+     *
+     * @return the copy
+     */
+    public Map copyForGame() {
+        return copy(false);
+    }
+
+    /**
+     * Creates a copy of this map in the middle of a game: like {@link #copyForGame()}, but the countries of the
+     * copy keep their armies. The copy shares the names, neighbour lists and adjacency graph of this map.
+     *
+     * @return the copy
+     */
+    public Map copy() {
+        return copy(true);
+    }
+
+    /**
+     * Creates a copy of this map with its own countries and continents, sharing the parts that do not change
+     * during a game.
+     *
+     * @param p_keepArmies whether the countries of the copy keep their armies
+     * @return the copy
+     */
+    private Map copy(boolean p_keepArmies) {
+        MapGraph l_graph = getMapGraph();
+        List<Country> l_countries = new ArrayList<>(d_mapCountries.size());
+        for (Country l_country : d_mapCountries) {
+            Country l_copy = l_country.copy();
+            if (!p_keepArmies) {
+                l_copy.setD_armies(0);
+            }
+            if (l_copy.d_neighbouringCountriesId == null) {
+                l_copy.setD_neighbouringCountriesId(Collections.emptyList());
+            }
+            l_countries.add(l_copy);
         }
 
-        HashMap<Integer, Boolean> l_visited = new HashMap<>();
-        for (Country l_eachCountry : d_mapCountries) {
-            l_visited.put(l_eachCountry.getD_countryID(), false);
+        List<Continent> l_continents = new ArrayList<>(d_mapContinents.size());
+        for (Continent l_continent : d_mapContinents) {
+            List<Country> l_members = null;
+            if (l_continent.getD_countries() != null) {
+                l_members = new ArrayList<>(l_continent.getD_countries().size());
+                for (Country l_member : l_continent.getD_countries()) {
+                    int l_index = indexOfCountry(l_member);
+                    l_members.add(l_index < 0 ? l_member : l_countries.get(l_index));
+                }
+            }
+            l_continents.add(l_continent.copy(l_members));
         }
 
-        dfsCountry(d_mapCountries.getFirst(), l_visited);
+        Map l_map = new Map(d_mapName, l_countries, l_continents);
+        l_map.d_mapGraph = l_graph;
+        l_map.d_graphCountries = l_countries;
+        l_map.d_graphCountryCount = l_graph.size();
+        return l_map;
+    }
 
-        for (java.util.Map.Entry<Integer, Boolean> l_entry : l_visited.entrySet()) {
-            if (!l_entry.getValue()) {
-                System.out.println("Country : " + Objects.requireNonNull(getCountryById(l_entry.getKey())).getD_countryName() + " is not reachable");
-            }
+    /**
+     * Gets the country of this map with the id of a country of another map, such as the map this one was copied
+     * from. The id is looked up in the adjacency graph, so no name index is built.
+     *
+     * @param p_country the country of the other map
+     * @return the country of this map, or null if it has no country with that id
+     */
+    public Country getCountryMatching(Country p_country) {
+        if (d_mapCountries == null || p_country == null) {
+            return null;
         }
+        int l_index = getMapGraph().indexOf(p_country.getD_countryID());
+        return l_index < 0 ? null : d_mapCountries.get(l_index);
+    }
 
-        return !l_visited.containsValue(false);
+    /**
+     * Gets the position of a country in the country list of this map. The country is found by its id through the
+     * adjacency graph; only a country sharing its id with another one is looked for in the whole list.
+     *
+     * @param p_country the country
+     * @return the position, or -1 if the country is not on this map
+     */
+    public int indexOfCountry(Country p_country) {
+        if (d_mapCountries == null || p_country == null) {
+            return -1;
+        }
+        int l_index = getMapGraph().indexOf(p_country.getD_countryID());
+        if (l_index >= 0 && d_mapCountries.get(l_index) == p_country) {
+            return l_index;
+        }
+        for (l_index = 0; l_index < d_mapCountries.size(); l_index++) {
+            if (d_mapCountries.get(l_index) == p_country) {
+                return l_index;
+            }
+        }
+        return -1;
     }
 
     /**
-     * Performs a depth-first search (DFS) to validate country connectivity.
+     * Gets the connectivity tracker if it still describes the map, and drops it otherwise.
+     * Mutators call this before changing the map and report the change to the returned tracker afterwards.
      *
-     * @param p_country The starting country.
-     * @param p_visited A map to track visited countries.
+     * @return the current tracker, or null
      */
-    private void dfsCountry(Country p_country, HashMap<Integer, Boolean> p_visited) {
-        if (p_country == null) return; // Ensure p_country is not null
+    private MapConnectivityTracker currentTracker() {
+        if (d_connectivityTracker != null && !d_connectivityTracker.isCurrent(this)) {
+            d_connectivityTracker = null;
+        }
+        return d_connectivityTracker;
+    }
 
-        p_visited.put(p_country.getD_countryID(), true);
+    /**
+     * Drops the adjacency graph so that the next call to {@link #getMapGraph()} rebuilds it.
+     */
+    private void invalidateMapGraph() {
+        d_mapGraph = null;
+    }
 
-        // Check if getAdjacentCountries() returns null, and use an empty list if it does
-        List<Country> adjacentCountries = getAdjacentCountries(p_country);
-        if (adjacentCountries == null) {
-            adjacentCountries = new ArrayList<>();
+    /**
+     * Rebuilds the country indexes if they are missing or no longer describe the country list.
+     */
+    private void ensureCountryIndex() {
+        if (d_countryIdIndex != null && d_indexedCountries == d_mapCountries
+                && d_indexedCountryCount == d_mapCountries.size()) {
+            return;
         }
+        d_countryIdIndex = new HashMap<>(Math.max(16, d_mapCountries.size() * 2));
+        d_countryNameIndex = new HashMap<>(Math.max(16, d_mapCountries.size() * 2));
+        for (Country l_eachCountry : d_mapCountries) {
+            d_countryIdIndex.putIfAbsent(l_eachCountry.getD_countryID(), l_eachCountry);
+            d_countryNameIndex.putIfAbsent(nameKey(l_eachCountry.getD_countryName()), l_eachCountry);
+        }
+        d_indexedCountries = d_mapCountries;
+        d_indexedCountryCount = d_mapCountries.size();
+    }
 
-        for (Country l_eachCountry : adjacentCountries) {
-            // Null check for each adjacent country
-            if (l_eachCountry != null && !p_visited.getOrDefault(l_eachCountry.getD_countryID(), false)) {
-                dfsCountry(l_eachCountry, p_visited);
-            }
+    /**
+     * Rebuilds the continent indexes if they are missing or no longer describe the continent list.
+     */
+    private void ensureContinentIndex() {
+        if (d_continentIdIndex != null && d_indexedContinents == d_mapContinents
+                && d_indexedContinentCount == d_mapContinents.size()) {
+            return;
+        }
+        d_continentIdIndex = new HashMap<>(Math.max(16, d_mapContinents.size() * 2));
+        d_continentNameIndex = new HashMap<>(Math.max(16, d_mapContinents.size() * 2));
+        for (Continent l_eachContinent : d_mapContinents) {
+            d_continentIdIndex.putIfAbsent(l_eachContinent.getD_continentID(), l_eachContinent);
+            d_continentNameIndex.putIfAbsent(l_eachContinent.getD_continentName(), l_eachContinent);
         }
+        d_indexedContinents = d_mapContinents;
+        d_indexedContinentCount = d_mapContinents.size();
     }
 
+    /**
+     * Drops the country indexes so that the next lookup rebuilds them.
+     */
+    private void invalidateCountryIndex() {
+        d_countryIdIndex = null;
+    }
 
     /**
-     * Retrieves the neighboring countries of a given country.
+     * Drops the continent indexes so that the next lookup rebuilds them.
+     */
+    private void invalidateContinentIndex() {
+        d_continentIdIndex = null;
+    }
+
+    /**
+     * Converts a country name to the key used by the case-insensitive name index.
      *
-     * @param p_country The country whose neighbors are to be retrieved.
-     * @return List of neighboring countries.
+     * @param p_countryName the country name
+     * @return the index key
      */
-    private List<Country> getAdjacentCountries(Country p_country) {
-        List<Country> l_adjacentCountries = new ArrayList<>();
-        if (!p_country.getD_neighbouringCountriesId().isEmpty()) {
-            for (Integer l_neighbourId : p_country.getD_neighbouringCountriesId()) {
-                l_adjacentCountries.add(getCountryById(l_neighbourId));
-            }
-        }
-        return l_adjacentCountries;
+    private static String nameKey(String p_countryName) {
+        return p_countryName == null ? null : p_countryName.toLowerCase(Locale.ROOT);
     }
 
     /**
-     * Validates that each continent forms a connected subgraph.
+     * Returns a String representation of map objects.
      *
-     * @return True if all continents are connected, otherwise false.
+     * @return A string representation of the Map object.
      */
-    public boolean validateContinentSubgraph() {
-        for (Continent l_eachContinent : d_mapContinents) {
-            if (l_eachContinent.d_countries == null || l_eachContinent.d_countries.isEmpty()) {
-                System.out.println("Continent: " + l_eachContinent.getD_continentName() + " has no countries.");
-                return false;
-            }
-            if (!connectivityOfCountriesInContinent(l_eachContinent)) {
-                return false;
-            }
-        }
-        return true;
+    @Override
+    public String toString() {
+        return "Map{" +
+                "d_mapName='" + d_mapName + '\'' +
+                ", d_mapCountries=" + d_mapCountries +
+                ", d_mapContinents=" + d_mapContinents +
+                '}';
     }
 
     /**
-     * Checks connectivity of countries within a given continent.
+     * Validates the map and reports every problem found.
      *
-     * @param p_EachContinent The continent to check.
-     * @return True if all countries in the continent are reachable, otherwise false.
+     * @return the validation report
      */
-    private boolean connectivityOfCountriesInContinent(Continent p_EachContinent) {
-        HashMap<Integer, Boolean> l_visited = new HashMap<>();
-        for (Country l_eachCountry : p_EachContinent.d_countries) {
-            l_visited.put(l_eachCountry.d_countryID, false);
-        }
+    public MapValidationReport validate() {
+        return new MapValidator().validate(this);
+    }
 
-        dfsSubgraph(p_EachContinent.d_countries.getFirst(), l_visited, p_EachContinent);
+    /**
+     * Validates the map, running the connectivity checks of independent continents on the given executor.
+     *
+     * @param p_executor executor for the connectivity checks, or null to run them on the calling thread
+     * @return the validation report
+     */
+    public MapValidationReport validate(Executor p_executor) {
+        return new MapValidator().validate(this, p_executor);
+    }
 
-        for (java.util.Map.Entry<Integer, Boolean> l_entry : l_visited.entrySet()) {
-            if (!l_entry.getValue()) {
-                Country l_country = getCountryById(l_entry.getKey());
-                assert l_country != null;
-                System.out.println("Country : " + l_country.d_countryName + " is not reachable.");
-            }
+    /**
+     * Validates the map. The first call validates the whole map; after edits made through this class the result
+     * is kept up to date incrementally, so later calls cost about as much as the edits since the last one.
+     *
+     * @return True if the map is valid, otherwise false.
+     */
+    public boolean validateMap() {
+        MapConnectivityTracker l_tracker = currentTracker();
+        if (l_tracker != null) {
+            return l_tracker.isValid();
         }
-
-        return !l_visited.containsValue(false);
+        boolean l_valid = validate().isValid();
+        d_connectivityTracker = MapConnectivityTracker.build(this);
+        return l_valid;
     }
 
     /**
-     * Performs a depth-first search (DFS) to validate connectivity within a continent.
+     * Validates that all countries are reachable.
      *
-     * @param p_country   The starting country.
-     * @param p_visited   A map to track visited countries.
-     * @param p_continent The continent being checked.
+     * @return True if all countries are connected, otherwise false.
      */
-    private void dfsSubgraph(Country p_country, HashMap<Integer, Boolean> p_visited, Continent p_continent) {
-        p_visited.put(p_country.d_countryID, true);
-        for (Country l_eachConnectedCountry : p_continent.getD_countries()) {
-            if (p_country.getD_neighbouringCountriesId().contains(l_eachConnectedCountry.getD_countryID()) &&
-                    !p_visited.get(l_eachConnectedCountry.getD_countryID())) {
-                dfsSubgraph(l_eachConnectedCountry, p_visited, p_continent);
-            }
+    public boolean validateCountryConnections() {
+        if (d_mapCountries == null || d_mapCountries.isEmpty()) {
+            return false;
         }
+        return validate().isValid(MapValidationReport.Check.MAP_CONNECTIVITY);
+    }
+
+    /**
+     * Validates that each continent forms a connected subgraph.
+     *
+     * @return True if all continents are connected, otherwise false.
+     */
+    public boolean validateContinentSubgraph() {
+        return validate().isValid(MapValidationReport.Check.CONTINENT_CONNECTIVITY);
     }
 
     /**
@@ -256,21 +466,9 @@ public class Map implements Serializable {
      * @return True if the map contains valid data, otherwise false.
      */
     public boolean validateCountriesAndContinents() {
-        if (d_mapContinents == null || d_mapContinents.isEmpty()) {
-            System.out.println(ProjectConstants.NO_CONTINENTS);
-            return false;
-        }
-        if (d_mapCountries == null || d_mapCountries.isEmpty()) {
-            System.out.println(ProjectConstants.NO_COUNTRIES);
-            return false;
-        }
-        for (Country l_eachCountry : d_mapCountries) {
-            if (l_eachCountry.getD_neighbouringCountriesId().isEmpty() || l_eachCountry.getD_neighbouringCountriesId() == null) {
-                System.out.println("Country: " + l_eachCountry.getD_countryName() + " does not have any neighbours.");
-                return false;
-            }
-        }
-        return true;
+        MapValidationReport l_report = new MapValidationReport();
+        new MapValidator().checkCountriesAndContinents(this, l_report);
+        return l_report.isValid();
     }
 
     /**
@@ -284,17 +482,24 @@ public class Map implements Serializable {
             d_mapContinents = new ArrayList<>();
         }
 
-        for (Continent l_continent : d_mapContinents) {
-            if (l_continent.getD_continentName().equals(p_mapContinentName)) {
-                System.out.println("Continent: " + p_mapContinentName + " already exists.");
-                return;
-            }
+        if (getContinentByName(p_mapContinentName) != null) {
+            System.out.println("Continent: " + p_mapContinentName + " already exists.");
+            return;
         }
 
+        MapConnectivityTracker l_tracker = currentTracker();
         int l_mapContinentId = (d_mapContinents.isEmpty()) ? 1 : getMaxContinentID() + 1;
 
         Continent l_newContinent = new Continent(l_mapContinentId, p_mapContinentName, p_continentValue);
         d_mapContinents.add(l_newContinent);
+        if (d_continentIdIndex != null) {
+            d_continentIdIndex.putIfAbsent(l_mapContinentId, l_newContinent);
+            d_continentNameIndex.putIfAbsent(p_mapContinentName, l_newContinent);
+            d_indexedContinentCount++;
+        }
+        if (l_tracker != null) {
+            l_tracker.continentAdded(this, l_newContinent);
+        }
         System.out.println(d_mapContinents);
 
         System.out.println("Continent " + p_mapContinentName + " added successfully!");
@@ -325,9 +530,13 @@ public class Map implements Serializable {
                 removeAllCountryNeighbours(l_country);
                 d_mapCountries.remove(l_country);
             }
+            invalidateCountryIndex();
+            invalidateMapGraph();
         }
 
         d_mapContinents.remove(l_targetContinent);
+        invalidateContinentIndex();
+        d_connectivityTracker = null;
         System.out.println("Success: Continent '" + p_mapContinentName + "' has been removed.");
     }
 
@@ -361,13 +570,14 @@ public class Map implements Serializable {
             return null;
         }
 
-        for (Continent l_continent : d_mapContinents) {
-            if (l_continent.getD_continentName().equals(p_mapContinentName)) {
-                return l_continent;
-            }
+        ensureContinentIndex();
+        Continent l_continent = d_continentNameIndex.get(p_mapContinentName);
+        if (l_continent != null && !l_continent.getD_continentName().equals(p_mapContinentName)) {
+            invalidateContinentIndex();
+            ensureContinentIndex();
+            l_continent = d_continentNameIndex.get(p_mapContinentName);
         }
-
-        return null; // Continent not found
+        return l_continent;
     }
 
     /**
@@ -418,17 +628,23 @@ public class Map implements Serializable {
             return;
         }
 
+        MapConnectivityTracker l_tracker = currentTracker();
         int l_countryID = getMaxCountryID() + 1;
         Country l_newCountry = new Country(l_countryID, p_countryName, l_continentID);
         d_mapCountries.add(l_newCountry);
+        if (d_countryIdIndex != null) {
+            d_countryIdIndex.putIfAbsent(l_countryID, l_newCountry);
+            d_countryNameIndex.putIfAbsent(nameKey(p_countryName), l_newCountry);
+            d_indexedCountryCount++;
+        }
+        invalidateMapGraph();
 
-        if (d_mapContinents != null) {
-            for (Continent l_continent : d_mapContinents) {
-                if (l_continent.getD_continentID() == l_continentID) {
-                    l_continent.addCountry(l_newCountry);
-                    break;
-                }
-            }
+        Continent l_continent = getContinentById(l_continentID);
+        if (l_continent != null) {
+            l_continent.addCountry(l_newCountry);
+        }
+        if (l_tracker != null && !l_tracker.countryAdded(this, l_newCountry)) {
+            d_connectivityTracker = null;
         }
 
         System.out.println("Country '" + p_countryName + "' added successfully!");
@@ -445,13 +661,14 @@ public class Map implements Serializable {
             return null;
         }
 
-        for (Country l_country : d_mapCountries) {
-            if (l_country.getD_countryName().equalsIgnoreCase(p_countryName)) {
-                return l_country;
-            }
+        ensureCountryIndex();
+        Country l_country = d_countryNameIndex.get(nameKey(p_countryName));
+        if (l_country != null && !l_country.getD_countryName().equalsIgnoreCase(p_countryName)) {
+            invalidateCountryIndex();
+            ensureCountryIndex();
+            l_country = d_countryNameIndex.get(nameKey(p_countryName));
         }
-
-        return null;
+        return l_country;
     }
 
     /**
@@ -484,13 +701,8 @@ public class Map implements Serializable {
             return -1;
         }
 
-        for (Continent l_eachContinent : d_mapContinents) {
-            if (l_eachContinent.getD_continentName().equals(p_continentName)) {
-                return l_eachContinent.getD_continentID();
-            }
-        }
-
-        return -1;
+        Continent l_continent = getContinentByName(p_continentName);
+        return l_continent == null ? -1 : l_continent.getD_continentID();
     }
 
     /**
@@ -510,17 +722,20 @@ public class Map implements Serializable {
             return;
         }
 
-        if (d_mapContinents != null) {
-            for (Continent l_eachContinent : d_mapContinents) {
-                if (Objects.equals(l_eachContinent.getD_continentID(), l_countryToRemove.getD_continentID())) {
-                    l_eachContinent.removeCountry(l_countryToRemove);
-                    break;
-                }
-            }
+        MapConnectivityTracker l_tracker = currentTracker();
+        List<Integer> l_formerNeighbours = new ArrayList<>(l_countryToRemove.getD_neighbouringCountriesId());
+        Continent l_continent = getContinentById(l_countryToRemove.getD_continentID());
+        if (l_continent != null) {
+            l_continent.removeCountry(l_countryToRemove);
         }
 
         removeCountryFromNeighbours(l_countryToRemove);
         d_mapCountries.remove(l_countryToRemove);
+        invalidateCountryIndex();
+        invalidateMapGraph();
+        if (l_tracker != null) {
+            l_tracker.countryRemoved(this, l_countryToRemove, l_formerNeighbours);
+        }
         System.out.println("Country: " + p_removeCountryName + " removed successfully.");
     }
 
@@ -536,7 +751,7 @@ public class Map implements Serializable {
             Country neighbourCountry = getCountryById(neighbourID);
 
             if (neighbourCountry != null) {
-                neighbourCountry.getD_neighbouringCountriesId().remove(p_country.getD_countryID());
+                neighbourCountry.getD_neighbouringCountriesId().remove(Integer.valueOf(p_country.getD_countryID()));
             }
         }
 
@@ -554,13 +769,14 @@ public class Map implements Serializable {
             return null;
         }
 
-        for (Country country : d_mapCountries) {
-            if (country.getD_countryID() == p_countryID) {
-                return country;
-            }
+        ensureCountryIndex();
+        Country l_country = d_countryIdIndex.get(p_countryID);
+        if (l_country != null && l_country.getD_countryID() != p_countryID) {
+            invalidateCountryIndex();
+            ensureCountryIndex();
+            l_country = d_countryIdIndex.get(p_countryID);
         }
-
-        return null;
+        return l_country;
     }
 
     /**
@@ -588,8 +804,13 @@ public class Map implements Serializable {
             return;
         }
 
+        MapConnectivityTracker l_tracker = currentTracker();
         l_country1.addCountryNeighbour(p_neighbourID);
         l_country2.addCountryNeighbour(p_countryID);
+        invalidateMapGraph();
+        if (l_tracker != null) {
+            l_tracker.neighbourAdded(this, l_country1, l_country2);
+        }
 
         System.out.println("Country " + p_neighbourID + " added as a neighbor to " + p_countryID);
         System.out.println("Country " + p_countryID + " added as a neighbor to " + p_neighbourID);
@@ -620,8 +841,13 @@ public class Map implements Serializable {
             return; // Stop execution if either country doesn't exist
         }
 
+        MapConnectivityTracker l_tracker = currentTracker();
         l_country.removeCountryNeighbour(p_neighbourID);
         l_neighbour.removeCountryNeighbour(p_countryID);
+        invalidateMapGraph();
+        if (l_tracker != null) {
+            l_tracker.neighbourRemoved(this, l_country, l_neighbour);
+        }
 
         System.out.println("Country " + p_neighbourID + " removed as a neighbor from " + p_countryID);
         System.out.println("Country " + p_countryID + " removed as a neighbor from " + p_neighbourID);
@@ -634,12 +860,8 @@ public class Map implements Serializable {
      * @return The name of the country, or "null" if not found.
      */
     public String getCountryNameById(Integer p_neighbourID) {
-        for(Country l_eachCountry : d_mapCountries){
-            if(l_eachCountry.getD_countryID().equals(p_neighbourID)){
-                return l_eachCountry.getD_countryName();
-            }
-        }
-        return "null";
+        Country l_country = p_neighbourID == null ? null : getCountryById(p_neighbourID);
+        return l_country == null ? "null" : l_country.getD_countryName();
     }
 
     /**
@@ -649,11 +871,16 @@ public class Map implements Serializable {
      * @return the continent by id
      */
     public Continent getContinentById(Integer p_continentID) {
-        for(Continent l_eachContinent :d_mapContinents){
-            if(l_eachContinent.d_continentID.equals(p_continentID)){
-                return l_eachContinent;
-            }
+        if (d_mapContinents == null || d_mapContinents.isEmpty()) {
+            return null;
+        }
+        ensureContinentIndex();
+        Continent l_continent = d_continentIdIndex.get(p_continentID);
+        if (l_continent != null && !Objects.equals(l_continent.getD_continentID(), p_continentID)) {
+            invalidateContinentIndex();
+            ensureContinentIndex();
+            l_continent = d_continentIdIndex.get(p_continentID);
         }
-        return null;
+        return l_continent;
     }
 }
@@ -0,0 +1,630 @@
+package Model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the result of {@link Map#validateMap()} up to date while a map is being edited, so that re-validating
+ * after an edit costs about as much as the edit itself instead of a full pass over the map.
+ * <p>
+ * Connectivity of the whole map and of every continent is tracked with two union-find structures. Adding a
+ * border merges components. Removing a border, or a country, runs a bidirectional search from both ends that
+ * stops as soon as they meet or the smaller side is exhausted; in the latter case that side is moved to a fresh
+ * union-find set. The tracker is only built for maps whose borders are symmetric and whose continent lists agree
+ * with the countries' continent ids, which is what the map editor produces; for any other map
+ * {@link #build(Map)} returns null and the map is validated in full.
+ */
+final class MapConnectivityTracker {
+    /**
+     * Connectivity of all countries over all borders.
+     */
+    private final UnionFind d_global = new UnionFind();
+    /**
+     * Connectivity of countries over borders inside their continent.
+     */
+    private final UnionFind d_local = new UnionFind();
+    /**
+     * Number of countries and number of connected components per continent id.
+     */
+    private final HashMap<Integer, int[]> d_continentState = new HashMap<>();
+    /**
+     * Number of continents that are empty or not connected.
+     */
+    private int d_unsettledContinents;
+    /**
+     * Ids of countries whose neighbour list is empty.
+     */
+    private final Set<Integer> d_countriesWithoutNeighbours = new HashSet<>();
+    /**
+     * Ids listed as neighbours that no country of the map has, as loaded from a map file.
+     */
+    private final Set<Integer> d_danglingNeighbourIds = new HashSet<>();
+    /**
+     * The country list of the map and its size after the last tracked edit.
+     */
+    private List<Country> d_countries;
+    /**
+     * Number of countries after the last tracked edit.
+     */
+    private int d_countryCount;
+    /**
+     * The continent list of the map after the last tracked edit.
+     */
+    private List<Continent> d_continents;
+    /**
+     * Number of continents after the last tracked edit.
+     */
+    private int d_continentCount;
+
+    /**
+     * Creates an empty tracker; use {@link #build(Map)}.
+     */
+    private MapConnectivityTracker() {
+    }
+
+    /**
+     * Builds a tracker for the current state of the map.
+     *
+     * @param p_map the map
+     * @return the tracker, or null if the map cannot be tracked incrementally
+     */
+    static MapConnectivityTracker build(Map p_map) {
+        List<Country> l_countries = p_map.getD_mapCountries();
+        List<Continent> l_continents = p_map.getD_mapContinents();
+        if (l_countries == null || l_continents == null || !isTrackable(p_map)) {
+            return null;
+        }
+
+        MapConnectivityTracker l_tracker = new MapConnectivityTracker();
+        for (Continent l_continent : l_continents) {
+            l_tracker.d_continentState.put(l_continent.getD_continentID(), new int[]{0, 0});
+        }
+        for (Country l_country : l_countries) {
+            l_tracker.trackNewCountry(l_country);
+        }
+        for (Country l_country : l_countries) {
+            for (Integer l_neighbourId : l_country.getD_neighbouringCountriesId()) {
+                Country l_neighbour = p_map.getCountryById(l_neighbourId);
+                if (l_neighbour != null) {
+                    l_tracker.join(l_country, l_neighbour);
+                } else if (l_neighbourId != null) {
+                    l_tracker.d_danglingNeighbourIds.add(l_neighbourId);
+                }
+            }
+        }
+        l_tracker.d_unsettledContinents = 0;
+        for (int[] l_state : l_tracker.d_continentState.values()) {
+            if (isUnsettled(l_state)) {
+                l_tracker.d_unsettledContinents++;
+            }
+        }
+        l_tracker.sync(p_map);
+        return l_tracker;
+    }
+
+    /**
+     * Checks that every border has a matching border back, country ids are unique and every country is listed in
+     * exactly the continent its continent id names.
+     *
+     * @param p_map the map
+     * @return true if the map can be tracked incrementally
+     */
+    private static boolean isTrackable(Map p_map) {
+        Set<Integer> l_countryIds = new HashSet<>();
+        for (Country l_country : p_map.getD_mapCountries()) {
+            if (!l_countryIds.add(l_country.getD_countryID())) {
+                return false;
+            }
+            for (Integer l_neighbourId : l_country.getD_neighbouringCountriesId()) {
+                Country l_neighbour = l_neighbourId == null ? null : p_map.getCountryById(l_neighbourId);
+                if (l_neighbour != null && !l_neighbour.getD_neighbouringCountriesId().contains(l_country.getD_countryID())) {
+                    return false;
+                }
+            }
+        }
+        int l_members = 0;
+        Set<Integer> l_continentIds = new HashSet<>();
+        for (Continent l_continent : p_map.getD_mapContinents()) {
+            if (!l_continentIds.add(l_continent.getD_continentID())) {
+                return false;
+            }
+            if (l_continent.getD_countries() == null) {
+                continue;
+            }
+            for (Country l_member : l_continent.getD_countries()) {
+                if (l_member.getD_continentID() != l_continent.getD_continentID()
+                        || p_map.getCountryById(l_member.getD_countryID()) != l_member) {
+                    return false;
+                }
+                l_members++;
+            }
+        }
+        return l_members == l_countryIds.size();
+    }
+
+    /**
+     * Checks whether the tracker still describes the map, that is, no edit bypassed it.
+     *
+     * @param p_map the map
+     * @return true if the tracker is current
+     */
+    boolean isCurrent(Map p_map) {
+        return d_countries == p_map.getD_mapCountries() && d_continents == p_map.getD_mapContinents()
+                && d_countries.size() == d_countryCount && d_continents.size() == d_continentCount;
+    }
+
+    /**
+     * Gets the validation result for the tracked map.
+     *
+     * @return true if the map would pass {@link MapValidator#validate(Map)}
+     */
+    boolean isValid() {
+        return d_countryCount > 0 && d_continentCount > 0 && d_countriesWithoutNeighbours.isEmpty()
+                && d_global.d_components == 1 && d_unsettledContinents == 0;
+    }
+
+    /**
+     * Records a continent added to the map.
+     *
+     * @param p_map       the map
+     * @param p_continent the new continent
+     */
+    void continentAdded(Map p_map, Continent p_continent) {
+        d_continentState.put(p_continent.getD_continentID(), new int[]{0, 0});
+        d_unsettledContinents++;
+        sync(p_map);
+    }
+
+    /**
+     * Records a country added to the map.
+     *
+     * @param p_map     the map
+     * @param p_country the new country
+     * @return false if an existing country already lists the new id as a neighbour, which leaves a one-way
+     * border the tracker cannot follow
+     */
+    boolean countryAdded(Map p_map, Country p_country) {
+        if (d_danglingNeighbourIds.contains(p_country.getD_countryID())) {
+            return false;
+        }
+        int[] l_state = d_continentState.get(p_country.getD_continentID());
+        boolean l_wasUnsettled = isUnsettled(l_state);
+        trackNewCountry(p_country);
+        updateUnsettled(l_wasUnsettled, l_state);
+        sync(p_map);
+        return true;
+    }
+
+    /**
+     * Records a country removed from the map together with its borders.
+     *
+     * @param p_map          the map, with the country already removed
+     * @param p_country      the removed country
+     * @param p_neighbourIds ids of the countries it bordered
+     */
+    void countryRemoved(Map p_map, Country p_country, List<Integer> p_neighbourIds) {
+        int l_id = p_country.getD_countryID();
+        int[] l_state = d_continentState.get(p_country.getD_continentID());
+        boolean l_wasUnsettled = isUnsettled(l_state);
+        d_countriesWithoutNeighbours.remove(l_id);
+
+        List<Country> l_neighbours = new ArrayList<>();
+        List<Country> l_localNeighbours = new ArrayList<>();
+        for (Integer l_neighbourId : p_neighbourIds) {
+            Country l_neighbour = p_map.getCountryById(l_neighbourId);
+            if (l_neighbour != null) {
+                l_neighbours.add(l_neighbour);
+                if (l_neighbour.getD_continentID() == p_country.getD_continentID()) {
+                    l_localNeighbours.add(l_neighbour);
+                }
+                refreshNeighbourless(l_neighbour);
+            }
+        }
+
+        d_global.remove(l_id);
+        if (l_neighbours.isEmpty()) {
+            d_global.d_components--;
+        } else {
+            d_global.d_components += splitAmong(p_map, d_global, l_neighbours, false);
+        }
+        d_local.remove(l_id);
+        l_state[0]--;
+        if (l_localNeighbours.isEmpty()) {
+            l_state[1]--;
+        } else {
+            l_state[1] += splitAmong(p_map, d_local, l_localNeighbours, true);
+        }
+        updateUnsettled(l_wasUnsettled, l_state);
+        sync(p_map);
+    }
+
+    /**
+     * Records a border added between two countries.
+     *
+     * @param p_map      the map
+     * @param p_country  one country
+     * @param p_neighbour the other country
+     */
+    void neighbourAdded(Map p_map, Country p_country, Country p_neighbour) {
+        refreshNeighbourless(p_country);
+        refreshNeighbourless(p_neighbour);
+        join(p_country, p_neighbour);
+        sync(p_map);
+    }
+
+    /**
+     * Records a border removed between two countries.
+     *
+     * @param p_map       the map
+     * @param p_country   one country
+     * @param p_neighbour the other country
+     */
+    void neighbourRemoved(Map p_map, Country p_country, Country p_neighbour) {
+        refreshNeighbourless(p_country);
+        refreshNeighbourless(p_neighbour);
+        List<Country> l_ends = List.of(p_country, p_neighbour);
+        d_global.d_components += splitAmong(p_map, d_global, l_ends, false);
+        if (p_country.getD_continentID() == p_neighbour.getD_continentID()) {
+            int[] l_state = d_continentState.get(p_country.getD_continentID());
+            boolean l_wasUnsettled = isUnsettled(l_state);
+            l_state[1] += splitAmong(p_map, d_local, l_ends, true);
+            updateUnsettled(l_wasUnsettled, l_state);
+        }
+        sync(p_map);
+    }
+
+    /**
+     * Adds a country as its own component in both structures.
+     *
+     * @param p_country the country
+     */
+    private void trackNewCountry(Country p_country) {
+        d_global.add(p_country.getD_countryID());
+        d_global.d_components++;
+        d_local.add(p_country.getD_countryID());
+        int[] l_state = d_continentState.get(p_country.getD_continentID());
+        l_state[0]++;
+        l_state[1]++;
+        refreshNeighbourless(p_country);
+    }
+
+    /**
+     * Merges the components of two bordering countries.
+     *
+     * @param p_country   one country
+     * @param p_neighbour the other country
+     */
+    private void join(Country p_country, Country p_neighbour) {
+        if (d_global.union(p_country.getD_countryID(), p_neighbour.getD_countryID())) {
+            d_global.d_components--;
+        }
+        if (p_country.getD_continentID() == p_neighbour.getD_continentID()
+                && d_local.union(p_country.getD_countryID(), p_neighbour.getD_countryID())) {
+            int[] l_state = d_continentState.get(p_country.getD_continentID());
+            boolean l_wasUnsettled = isUnsettled(l_state);
+            l_state[1]--;
+            updateUnsettled(l_wasUnsettled, l_state);
+        }
+    }
+
+    /**
+     * After borders were removed, finds which of the given countries, all previously in one component, are no
+     * longer connected to each other, and splits the union-find sets accordingly. Every country is compared with
+     * one country of each component found so far, so that countries cut off from each other are told apart even
+     * after the side of an earlier country was split off.
+     *
+     * @param p_map       the map
+     * @param p_structure the union-find structure to update
+     * @param p_countries countries that were connected before the removal
+     * @param p_localOnly true to follow only borders inside a continent
+     * @return the number of components added by the split
+     */
+    private int splitAmong(Map p_map, UnionFind p_structure, List<Country> p_countries, boolean p_localOnly) {
+        int l_added = 0;
+        List<Integer> l_representatives = new ArrayList<>();
+        for (Country l_country : p_countries) {
+            int l_id = l_country.getD_countryID();
+            boolean l_connected = false;
+            for (int l_representative : l_representatives) {
+                if (l_representative == l_id || p_structure.find(l_representative) != p_structure.find(l_id)) {
+                    l_connected |= l_representative == l_id;
+                    continue;
+                }
+                Set<Integer> l_separated = separatedSide(p_map, l_representative, l_id, p_localOnly);
+                if (l_separated == null) {
+                    l_connected = true;
+                    break;
+                }
+                p_structure.rehome(l_separated);
+                l_added++;
+            }
+            if (!l_connected) {
+                l_representatives.add(l_id);
+            }
+        }
+        return l_added;
+    }
+
+    /**
+     * Searches from two countries at once, one step on each side in turn, until the searches meet or one of
+     * them runs out of countries. The work done is proportional to the smaller of the two components, or to
+     * the distance between the countries when they are still connected.
+     *
+     * @param p_map       the map
+     * @param p_from      id of one country
+     * @param p_to        id of the other country
+     * @param p_localOnly true to follow only borders inside a continent
+     * @return the ids of the exhausted side if the countries are no longer connected, null otherwise
+     */
+    private Set<Integer> separatedSide(Map p_map, int p_from, int p_to, boolean p_localOnly) {
+        Search l_fromSide = new Search(p_from);
+        Search l_toSide = new Search(p_to);
+        while (true) {
+            if (l_fromSide.step(p_map, l_toSide, p_localOnly)) {
+                return null;
+            }
+            if (l_fromSide.d_queue.isEmpty()) {
+                return l_fromSide.d_visited;
+            }
+            if (l_toSide.step(p_map, l_fromSide, p_localOnly)) {
+                return null;
+            }
+            if (l_toSide.d_queue.isEmpty()) {
+                return l_toSide.d_visited;
+            }
+        }
+    }
+
+    /**
+     * Updates the set of countries without neighbours for a country whose borders changed.
+     *
+     * @param p_country the country
+     */
+    private void refreshNeighbourless(Country p_country) {
+        if (p_country.getD_neighbouringCountriesId().isEmpty()) {
+            d_countriesWithoutNeighbours.add(p_country.getD_countryID());
+        } else {
+            d_countriesWithoutNeighbours.remove(p_country.getD_countryID());
+        }
+    }
+
+    /**
+     * Adjusts the count of unsettled continents after a continent's state changed.
+     *
+     * @param p_wasUnsettled whether the continent was unsettled before the change
+     * @param p_state        the continent's state after the change
+     */
+    private void updateUnsettled(boolean p_wasUnsettled, int[] p_state) {
+        boolean l_isUnsettled = isUnsettled(p_state);
+        if (p_wasUnsettled != l_isUnsettled) {
+            d_unsettledContinents += l_isUnsettled ? 1 : -1;
+        }
+    }
+
+    /**
+     * Checks whether a continent is empty or not connected.
+     *
+     * @param p_state the continent's country and component counts
+     * @return true if the continent fails validation
+     */
+    private static boolean isUnsettled(int[] p_state) {
+        return p_state[0] == 0 || p_state[1] != 1;
+    }
+
+    /**
+     * Remembers the map's lists and sizes after a tracked edit.
+     *
+     * @param p_map the map
+     */
+    private void sync(Map p_map) {
+        d_countries = p_map.getD_mapCountries();
+        d_countryCount = d_countries.size();
+        d_continents = p_map.getD_mapContinents();
+        d_continentCount = d_continents.size();
+    }
+
+    /**
+     * One side of the bidirectional search in {@link #separatedSide(Map, int, int, boolean)}.
+     */
+    private static final class Search {
+        /**
+         * Countries discovered so far.
+         */
+        private final Set<Integer> d_visited = new HashSet<>();
+        /**
+         * Countries discovered but not expanded yet.
+         */
+        private final ArrayDeque<Integer> d_queue = new ArrayDeque<>();
+
+        /**
+         * Starts a search at a country.
+         *
+         * @param p_start id of the country
+         */
+        private Search(int p_start) {
+            d_visited.add(p_start);
+            d_queue.add(p_start);
+        }
+
+        /**
+         * Expands one country.
+         *
+         * @param p_map       the map
+         * @param p_other     the search from the other end
+         * @param p_localOnly true to follow only borders inside a continent
+         * @return true if this search reached a country discovered by the other one
+         */
+        private boolean step(Map p_map, Search p_other, boolean p_localOnly) {
+            Country l_country = p_map.getCountryById(d_queue.poll());
+            for (Integer l_neighbourId : l_country.getD_neighbouringCountriesId()) {
+                Country l_neighbour = p_map.getCountryById(l_neighbourId);
+                if (l_neighbour == null || (p_localOnly
+                        && l_neighbour.getD_continentID() != l_country.getD_continentID())) {
+                    continue;
+                }
+                if (p_other.d_visited.contains(l_neighbourId)) {
+                    return true;
+                }
+                if (d_visited.add(l_neighbourId)) {
+                    d_queue.add(l_neighbourId);
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Union-find over country ids with union by size and path halving. Countries that split off a component
+     * are moved to fresh slots; slots left behind are reclaimed when they outnumber the live ones.
+     */
+    private static final class UnionFind {
+        /**
+         * Slot of each country id.
+         */
+        private final HashMap<Integer, Integer> d_slotOf = new HashMap<>();
+        /**
+         * Parent slot of each slot.
+         */
+        private int[] d_parent = new int[16];
+        /**
+         * Size of the tree rooted at each slot.
+         */
+        private int[] d_size = new int[16];
+        /**
+         * Number of slots in use, live or left behind.
+         */
+        private int d_slotCount;
+        /**
+         * Number of components, maintained by the tracker.
+         */
+        private int d_components;
+
+        /**
+         * Adds a country as a set of its own.
+         *
+         * @param p_id the country id
+         */
+        private void add(int p_id) {
+            d_slotOf.put(p_id, newSlot(-1));
+        }
+
+        /**
+         * Forgets a country. Its slot stays in the structure as an inner node until the next compaction.
+         *
+         * @param p_id the country id
+         */
+        private void remove(int p_id) {
+            d_slotOf.remove(p_id);
+        }
+
+        /**
+         * Finds the root slot of a country's set.
+         *
+         * @param p_id the country id
+         * @return the root slot
+         */
+        private int find(int p_id) {
+            return root(d_slotOf.get(p_id));
+        }
+
+        /**
+         * Merges the sets of two countries.
+         *
+         * @param p_first  one country id
+         * @param p_second the other country id
+         * @return true if they were in different sets
+         */
+        private boolean union(int p_first, int p_second) {
+            int l_first = find(p_first);
+            int l_second = find(p_second);
+            if (l_first == l_second) {
+                return false;
+            }
+            if (d_size[l_first] < d_size[l_second]) {
+                int l_swap = l_first;
+                l_first = l_second;
+                l_second = l_swap;
+            }
+            d_parent[l_second] = l_first;
+            d_size[l_first] += d_size[l_second];
+            return true;
+        }
+
+        /**
+         * Moves the given countries to a new set of their own.
+         *
+         * @param p_ids the country ids
+         */
+        private void rehome(Set<Integer> p_ids) {
+            int l_root = -1;
+            for (Integer l_id : p_ids) {
+                int l_slot = newSlot(l_root);
+                if (l_root < 0) {
+                    l_root = l_slot;
+                }
+                d_slotOf.put(l_id, l_slot);
+            }
+            d_size[l_root] = p_ids.size();
+            if (d_slotCount > 2 * d_slotOf.size() + 64) {
+                compact();
+            }
+        }
+
+        /**
+         * Allocates a slot.
+         *
+         * @param p_parent parent slot, or -1 to make the slot a root
+         * @return the new slot
+         */
+        private int newSlot(int p_parent) {
+            if (d_slotCount == d_parent.length) {
+                d_parent = Arrays.copyOf(d_parent, d_slotCount * 2);
+                d_size = Arrays.copyOf(d_size, d_slotCount * 2);
+            }
+            int l_slot = d_slotCount++;
+            d_parent[l_slot] = p_parent < 0 ? l_slot : p_parent;
+            d_size[l_slot] = 1;
+            return l_slot;
+        }
+
+        /**
+         * Finds the root of a slot, halving the path on the way.
+         *
+         * @param p_slot the slot
+         * @return the root slot
+         */
+        private int root(int p_slot) {
+            while (d_parent[p_slot] != p_slot) {
+                d_parent[p_slot] = d_parent[d_parent[p_slot]];
+                p_slot = d_parent[p_slot];
+            }
+            return p_slot;
+        }
+
+        /**
+         * Rebuilds the structure with one slot per live country, dropping slots left behind by splits.
+         */
+        private void compact() {
+            HashMap<Integer, Integer> l_newRootOfOldRoot = new HashMap<>();
+            int[] l_parent = new int[Math.max(16, d_slotOf.size() * 2)];
+            int[] l_size = new int[l_parent.length];
+            int l_slotCount = 0;
+            for (java.util.Map.Entry<Integer, Integer> l_entry : d_slotOf.entrySet()) {
+                int l_oldRoot = root(l_entry.getValue());
+                int l_slot = l_slotCount++;
+                Integer l_newRoot = l_newRootOfOldRoot.putIfAbsent(l_oldRoot, l_slot);
+                l_parent[l_slot] = l_newRoot == null ? l_slot : l_newRoot;
+                l_size[l_newRoot == null ? l_slot : l_newRoot]++;
+                l_entry.setValue(l_slot);
+            }
+            d_parent = l_parent;
+            d_size = l_size;
+            d_slotCount = l_slotCount;
+        }
+    }
+}
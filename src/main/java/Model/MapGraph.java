@@ -0,0 +1,247 @@
+package Model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Immutable adjacency structure of a {@link Map} in compressed sparse row (CSR) form.
+ * Countries are numbered with dense indexes {@code 0..size()-1} in map order; the neighbours of the country at
+ * index {@code i} are the dense indexes stored in {@code d_neighbours[d_offsets[i] .. d_offsets[i+1])}, sorted
+ * ascending so that adjacency can be tested with a binary search. Border ids that do not belong to any country
+ * of the map are left out, and borders keep the direction they were declared with.
+ */
+public final class MapGraph {
+    /**
+     * Country id of each dense index.
+     */
+    private final int[] d_countryIds;
+    /**
+     * Start of each country's row in {@link #d_neighbours}; has {@code size() + 1} entries.
+     */
+    private final int[] d_offsets;
+    /**
+     * Dense indexes of neighbours, row by row.
+     */
+    private final int[] d_neighbours;
+    /**
+     * Dense index plus one for each country id when ids are compact, zero when absent; null otherwise.
+     */
+    private final int[] d_indexById;
+    /**
+     * Dense index by country id, used instead of {@link #d_indexById} when ids are sparse.
+     */
+    private final HashMap<Integer, Integer> d_sparseIndexById;
+
+    /**
+     * Builds the adjacency structure of the given countries.
+     *
+     * @param p_countries the countries of the map, in map order
+     */
+    public MapGraph(List<Country> p_countries) {
+        this(countryIds(p_countries), borderOffsets(p_countries), borderIds(p_countries));
+    }
+
+    /**
+     * Builds the adjacency structure from borders in compressed sparse row form, as a binary map file stores them,
+     * without going through the neighbour lists of the countries.
+     *
+     * @param p_countryIds    the country ids, in map order
+     * @param p_borderOffsets start of the neighbour ids of each country in {@code p_borderIds}; has one entry more
+     *                        than there are countries
+     * @param p_borderIds     the neighbour ids of all countries, row by row
+     */
+    public MapGraph(int[] p_countryIds, int[] p_borderOffsets, int[] p_borderIds) {
+        int l_size = p_countryIds.length;
+        d_countryIds = p_countryIds.clone();
+        int l_maxId = 0;
+        for (int l_id : d_countryIds) {
+            l_maxId = Math.max(l_maxId, l_id);
+        }
+
+        boolean l_compactIds = l_maxId <= 4L * l_size + 64 && Arrays.stream(d_countryIds).allMatch(l_id -> l_id >= 0);
+        d_indexById = l_compactIds ? new int[l_maxId + 1] : null;
+        d_sparseIndexById = l_compactIds ? null : new HashMap<>(l_size * 2);
+        for (int l_index = l_size - 1; l_index >= 0; l_index--) {
+            if (l_compactIds) {
+                d_indexById[d_countryIds[l_index]] = l_index + 1;
+            } else {
+                d_sparseIndexById.put(d_countryIds[l_index], l_index);
+            }
+        }
+
+        d_offsets = new int[l_size + 1];
+        int[] l_row = new int[8];
+        int[] l_neighbours = new int[p_borderIds.length];
+        int l_edgeCount = 0;
+        for (int l_index = 0; l_index < l_size; l_index++) {
+            int l_from = p_borderOffsets[l_index];
+            int l_to = p_borderOffsets[l_index + 1];
+            if (l_row.length < l_to - l_from) {
+                l_row = new int[l_to - l_from];
+            }
+            int l_rowSize = 0;
+            for (int l_position = l_from; l_position < l_to; l_position++) {
+                int l_neighbour = indexOf(p_borderIds[l_position]);
+                if (l_neighbour >= 0) {
+                    l_row[l_rowSize++] = l_neighbour;
+                }
+            }
+            Arrays.sort(l_row, 0, l_rowSize);
+            for (int l_k = 0; l_k < l_rowSize; l_k++) {
+                if (l_k == 0 || l_row[l_k] != l_row[l_k - 1]) {
+                    l_neighbours[l_edgeCount++] = l_row[l_k];
+                }
+            }
+            d_offsets[l_index + 1] = l_edgeCount;
+        }
+        d_neighbours = l_edgeCount == l_neighbours.length ? l_neighbours : Arrays.copyOf(l_neighbours, l_edgeCount);
+    }
+
+    /**
+     * Gets the ids of countries.
+     *
+     * @param p_countries the countries, or null
+     * @return the ids, in the same order
+     */
+    private static int[] countryIds(List<Country> p_countries) {
+        int[] l_ids = new int[p_countries == null ? 0 : p_countries.size()];
+        for (int l_index = 0; l_index < l_ids.length; l_index++) {
+            l_ids[l_index] = p_countries.get(l_index).getD_countryID();
+        }
+        return l_ids;
+    }
+
+    /**
+     * Gets the start of the neighbour ids of each country in the array of {@link #borderIds(List)}.
+     *
+     * @param p_countries the countries, or null
+     * @return the offsets, one more than there are countries
+     */
+    private static int[] borderOffsets(List<Country> p_countries) {
+        int[] l_offsets = new int[p_countries == null ? 1 : p_countries.size() + 1];
+        for (int l_index = 0; l_index < l_offsets.length - 1; l_index++) {
+            int l_count = 0;
+            for (Integer l_neighbourId : p_countries.get(l_index).getD_neighbouringCountriesId()) {
+                if (l_neighbourId != null) {
+                    l_count++;
+                }
+            }
+            l_offsets[l_index + 1] = l_offsets[l_index] + l_count;
+        }
+        return l_offsets;
+    }
+
+    /**
+     * Gets the neighbour ids of all countries row by row, leaving out missing ids.
+     *
+     * @param p_countries the countries, or null
+     * @return the neighbour ids
+     */
+    private static int[] borderIds(List<Country> p_countries) {
+        if (p_countries == null) {
+            return new int[0];
+        }
+        int l_count = 0;
+        for (Country l_country : p_countries) {
+            l_count += l_country.getD_neighbouringCountriesId().size();
+        }
+        int[] l_ids = new int[l_count];
+        int l_position = 0;
+        for (Country l_country : p_countries) {
+            for (Integer l_neighbourId : l_country.getD_neighbouringCountriesId()) {
+                if (l_neighbourId != null) {
+                    l_ids[l_position++] = l_neighbourId;
+                }
+            }
+        }
+        return l_position == l_count ? l_ids : Arrays.copyOf(l_ids, l_position);
+    }
+
+    /**
+     * Gets the number of countries in the graph.
+     *
+     * @return the number of countries
+     */
+    public int size() {
+        return d_countryIds.length;
+    }
+
+    /**
+     * Gets the number of directed borders in the graph.
+     *
+     * @return the number of borders
+     */
+    public int edgeCount() {
+        return d_neighbours.length;
+    }
+
+    /**
+     * Gets the dense index of a country.
+     *
+     * @param p_countryId the country id
+     * @return the dense index, or -1 if the country is not part of the graph
+     */
+    public int indexOf(int p_countryId) {
+        if (d_indexById != null) {
+            return p_countryId >= 0 && p_countryId < d_indexById.length ? d_indexById[p_countryId] - 1 : -1;
+        }
+        Integer l_index = d_sparseIndexById.get(p_countryId);
+        return l_index == null ? -1 : l_index;
+    }
+
+    /**
+     * Gets the country id at a dense index.
+     *
+     * @param p_index the dense index
+     * @return the country id
+     */
+    public int countryIdAt(int p_index) {
+        return d_countryIds[p_index];
+    }
+
+    /**
+     * Gets the number of neighbours of the country at a dense index.
+     *
+     * @param p_index the dense index
+     * @return the number of neighbours
+     */
+    public int degree(int p_index) {
+        return d_offsets[p_index + 1] - d_offsets[p_index];
+    }
+
+    /**
+     * Gets the dense index of the {@code p_k}-th neighbour of the country at a dense index.
+     *
+     * @param p_index the dense index
+     * @param p_k     position in the neighbour row, from 0 to {@code degree(p_index) - 1}
+     * @return the dense index of the neighbour
+     */
+    public int neighbourAt(int p_index, int p_k) {
+        return d_neighbours[d_offsets[p_index] + p_k];
+    }
+
+    /**
+     * Checks whether the country at one dense index has a border to the country at another.
+     *
+     * @param p_from dense index of the source country
+     * @param p_to   dense index of the target country
+     * @return true if the border exists
+     */
+    public boolean isAdjacentIndex(int p_from, int p_to) {
+        return Arrays.binarySearch(d_neighbours, d_offsets[p_from], d_offsets[p_from + 1], p_to) >= 0;
+    }
+
+    /**
+     * Checks whether one country has a border to another.
+     *
+     * @param p_fromCountryId id of the source country
+     * @param p_toCountryId   id of the target country
+     * @return true if both countries are on the map and the border exists
+     */
+    public boolean areAdjacent(int p_fromCountryId, int p_toCountryId) {
+        int l_from = indexOf(p_fromCountryId);
+        int l_to = indexOf(p_toCountryId);
+        return l_from >= 0 && l_to >= 0 && isAdjacentIndex(l_from, l_to);
+    }
+}
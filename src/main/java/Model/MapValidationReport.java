@@ -0,0 +1,154 @@
+package Model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of validating a {@link Map}. Holds every failure found, grouped by the check that found it,
+ * so callers can show all problems with a map at once instead of the first one only.
+ */
+public class MapValidationReport {
+
+    /**
+     * The checks performed on a map.
+     */
+    public enum Check {
+        /**
+         * The map has continents and countries, and every country has neighbours.
+         */
+        COUNTRIES_AND_CONTINENTS,
+        /**
+         * Every continent has countries and forms a connected subgraph.
+         */
+        CONTINENT_CONNECTIVITY,
+        /**
+         * Every country can be reached from the first country of the map.
+         */
+        MAP_CONNECTIVITY
+    }
+
+    /**
+     * A single validation failure.
+     */
+    public static final class Failure {
+        /**
+         * The check that failed.
+         */
+        private final Check d_check;
+        /**
+         * Description of the failure.
+         */
+        private final String d_message;
+
+        /**
+         * Creates a failure.
+         *
+         * @param p_check   the check that failed
+         * @param p_message description of the failure
+         */
+        public Failure(Check p_check, String p_message) {
+            this.d_check = p_check;
+            this.d_message = p_message;
+        }
+
+        /**
+         * Gets the check that failed.
+         *
+         * @return the check
+         */
+        public Check getD_check() {
+            return d_check;
+        }
+
+        /**
+         * Gets the description of the failure.
+         *
+         * @return the message
+         */
+        public String getD_message() {
+            return d_message;
+        }
+
+        /**
+         * Returns the failure message.
+         *
+         * @return the message
+         */
+        @Override
+        public String toString() {
+            return d_message;
+        }
+    }
+
+    /**
+     * Failures in the order they were found.
+     */
+    private final List<Failure> d_failures = new ArrayList<>();
+
+    /**
+     * Records a failure.
+     *
+     * @param p_check   the check that failed
+     * @param p_message description of the failure
+     */
+    public void addFailure(Check p_check, String p_message) {
+        d_failures.add(new Failure(p_check, p_message));
+    }
+
+    /**
+     * Appends all failures of another report to this one.
+     *
+     * @param p_report the report to merge
+     */
+    public void merge(MapValidationReport p_report) {
+        d_failures.addAll(p_report.d_failures);
+    }
+
+    /**
+     * Gets all failures.
+     *
+     * @return an unmodifiable view of the failures
+     */
+    public List<Failure> getD_failures() {
+        return Collections.unmodifiableList(d_failures);
+    }
+
+    /**
+     * Checks whether the map passed every check.
+     *
+     * @return true if no failure was recorded
+     */
+    public boolean isValid() {
+        return d_failures.isEmpty();
+    }
+
+    /**
+     * Checks whether the map passed a single check.
+     *
+     * @param p_check the check
+     * @return true if no failure was recorded for the check
+     */
+    public boolean isValid(Check p_check) {
+        for (Failure l_failure : d_failures) {
+            if (l_failure.getD_check() == p_check) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lists the failures, one per line.
+     *
+     * @return the failure messages
+     */
+    @Override
+    public String toString() {
+        StringBuilder l_builder = new StringBuilder();
+        for (Failure l_failure : d_failures) {
+            l_builder.append(l_failure.getD_message()).append(System.lineSeparator());
+        }
+        return l_builder.toString();
+    }
+}
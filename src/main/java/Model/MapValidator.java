@@ -0,0 +1,231 @@
+package Model;
+
+import Constants.ProjectConstants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Validates a {@link Map} over its {@link MapGraph}. Connectivity is checked with an explicit stack over dense
+ * country indexes and {@link BitSet} visited sets, so the whole validation is linear in the number of countries
+ * and borders and does not depend on the call stack depth. Every failure is collected in a
+ * {@link MapValidationReport} rather than stopping at the first one.
+ */
+public class MapValidator {
+
+    /**
+     * Validates the map on the calling thread.
+     *
+     * @param p_map the map to validate
+     * @return the validation report
+     */
+    public MapValidationReport validate(Map p_map) {
+        return validate(p_map, null);
+    }
+
+    /**
+     * Validates the map, fanning the per-continent connectivity checks and the global connectivity check out on
+     * the given executor. Continents are split into contiguous batches and the batch reports are merged in
+     * continent order, so the report is the same as the one produced on a single thread.
+     *
+     * @param p_map      the map to validate
+     * @param p_executor executor to run the connectivity checks on, such as a {@link ForkJoinPool};
+     *                   null to run them on the calling thread
+     * @return the validation report
+     */
+    public MapValidationReport validate(Map p_map, Executor p_executor) {
+        MapValidationReport l_report = new MapValidationReport();
+        checkCountriesAndContinents(p_map, l_report);
+
+        List<Country> l_countries = p_map.getD_mapCountries();
+        List<Continent> l_continents = p_map.getD_mapContinents();
+        if (l_countries == null || l_countries.isEmpty() || l_continents == null || l_continents.isEmpty()) {
+            return l_report;
+        }
+
+        MapGraph l_graph = p_map.getMapGraph();
+        int[] l_continentOf = continentMembership(l_graph, l_continents);
+        if (p_executor == null || l_continents.size() < 2) {
+            checkContinents(l_graph, l_continentOf, l_continents, 0, l_continents.size(), l_report);
+            checkMapConnected(l_graph, l_countries, new int[l_graph.size()], l_report);
+            return l_report;
+        }
+
+        int l_parallelism = p_executor instanceof ForkJoinPool
+                ? ((ForkJoinPool) p_executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        int l_batches = Math.min(l_continents.size(), l_parallelism * 4);
+        List<CompletableFuture<MapValidationReport>> l_batchReports = new ArrayList<>(l_batches);
+        for (int l_batch = 0; l_batch < l_batches; l_batch++) {
+            int l_from = (int) ((long) l_continents.size() * l_batch / l_batches);
+            int l_to = (int) ((long) l_continents.size() * (l_batch + 1) / l_batches);
+            l_batchReports.add(CompletableFuture.supplyAsync(() -> {
+                MapValidationReport l_batchReport = new MapValidationReport();
+                checkContinents(l_graph, l_continentOf, l_continents, l_from, l_to, l_batchReport);
+                return l_batchReport;
+            }, p_executor));
+        }
+        CompletableFuture<MapValidationReport> l_connectivityReport = CompletableFuture.supplyAsync(() -> {
+            MapValidationReport l_mapReport = new MapValidationReport();
+            checkMapConnected(l_graph, l_countries, new int[l_graph.size()], l_mapReport);
+            return l_mapReport;
+        }, p_executor);
+
+        for (CompletableFuture<MapValidationReport> l_batchReport : l_batchReports) {
+            l_report.merge(l_batchReport.join());
+        }
+        l_report.merge(l_connectivityReport.join());
+        return l_report;
+    }
+
+    /**
+     * Checks the connectivity of a range of continents. The continents of the range share one visited set,
+     * which is safe because a country belongs to a single continent.
+     *
+     * @param p_graph       the map graph
+     * @param p_continentOf continent position per dense index
+     * @param p_continents  the continents of the map
+     * @param p_from        first continent position to check, inclusive
+     * @param p_to          last continent position to check, exclusive
+     * @param p_report      the report to add failures to
+     */
+    private void checkContinents(MapGraph p_graph, int[] p_continentOf, List<Continent> p_continents,
+                                 int p_from, int p_to, MapValidationReport p_report) {
+        BitSet l_visited = new BitSet(p_graph.size());
+        int[] l_stack = new int[p_graph.size()];
+        for (int l_continentIndex = p_from; l_continentIndex < p_to; l_continentIndex++) {
+            checkContinent(p_graph, p_continentOf, p_continents.get(l_continentIndex), l_continentIndex,
+                    l_visited, l_stack, p_report);
+        }
+    }
+
+    /**
+     * Checks that the map has continents and countries and that every country has at least one neighbour.
+     *
+     * @param p_map    the map
+     * @param p_report the report to add failures to
+     */
+    void checkCountriesAndContinents(Map p_map, MapValidationReport p_report) {
+        if (p_map.getD_mapContinents() == null || p_map.getD_mapContinents().isEmpty()) {
+            p_report.addFailure(MapValidationReport.Check.COUNTRIES_AND_CONTINENTS, ProjectConstants.NO_CONTINENTS);
+        }
+        if (p_map.getD_mapCountries() == null || p_map.getD_mapCountries().isEmpty()) {
+            p_report.addFailure(MapValidationReport.Check.COUNTRIES_AND_CONTINENTS, ProjectConstants.NO_COUNTRIES);
+            return;
+        }
+        for (Country l_eachCountry : p_map.getD_mapCountries()) {
+            if (l_eachCountry.getD_neighbouringCountriesId().isEmpty()) {
+                p_report.addFailure(MapValidationReport.Check.COUNTRIES_AND_CONTINENTS,
+                        "Country: " + l_eachCountry.getD_countryName() + " does not have any neighbours.");
+            }
+        }
+    }
+
+    /**
+     * Maps each dense country index to the position of its continent in the continent list.
+     *
+     * @param p_graph      the map graph
+     * @param p_continents the continents of the map
+     * @return continent position per dense index, -1 for countries that are in no continent
+     */
+    int[] continentMembership(MapGraph p_graph, List<Continent> p_continents) {
+        int[] l_continentOf = new int[p_graph.size()];
+        Arrays.fill(l_continentOf, -1);
+        for (int l_continentIndex = 0; l_continentIndex < p_continents.size(); l_continentIndex++) {
+            List<Country> l_members = p_continents.get(l_continentIndex).getD_countries();
+            if (l_members == null) {
+                continue;
+            }
+            for (Country l_member : l_members) {
+                int l_index = p_graph.indexOf(l_member.getD_countryID());
+                if (l_index >= 0) {
+                    l_continentOf[l_index] = l_continentIndex;
+                }
+            }
+        }
+        return l_continentOf;
+    }
+
+    /**
+     * Checks that a continent has countries and that all of them are reachable from its first country
+     * using only borders inside the continent.
+     *
+     * @param p_graph          the map graph
+     * @param p_continentOf    continent position per dense index
+     * @param p_continent      the continent to check
+     * @param p_continentIndex position of the continent in the continent list
+     * @param p_visited        visited set; only bits of this continent's countries are touched
+     * @param p_stack          scratch stack with room for every country of the continent
+     * @param p_report         the report to add failures to
+     */
+    void checkContinent(MapGraph p_graph, int[] p_continentOf, Continent p_continent, int p_continentIndex,
+                        BitSet p_visited, int[] p_stack, MapValidationReport p_report) {
+        List<Country> l_members = p_continent.getD_countries();
+        if (l_members == null || l_members.isEmpty()) {
+            p_report.addFailure(MapValidationReport.Check.CONTINENT_CONNECTIVITY,
+                    "Continent: " + p_continent.getD_continentName() + " has no countries.");
+            return;
+        }
+
+        int l_start = p_graph.indexOf(l_members.getFirst().getD_countryID());
+        if (l_start >= 0) {
+            int l_top = 0;
+            p_stack[l_top++] = l_start;
+            p_visited.set(l_start);
+            while (l_top > 0) {
+                int l_current = p_stack[--l_top];
+                for (int l_k = 0; l_k < p_graph.degree(l_current); l_k++) {
+                    int l_neighbour = p_graph.neighbourAt(l_current, l_k);
+                    if (p_continentOf[l_neighbour] == p_continentIndex && !p_visited.get(l_neighbour)) {
+                        p_visited.set(l_neighbour);
+                        p_stack[l_top++] = l_neighbour;
+                    }
+                }
+            }
+        }
+
+        for (Country l_member : l_members) {
+            int l_index = p_graph.indexOf(l_member.getD_countryID());
+            if (l_index < 0 || !p_visited.get(l_index)) {
+                p_report.addFailure(MapValidationReport.Check.CONTINENT_CONNECTIVITY,
+                        "Country : " + l_member.getD_countryName() + " is not reachable within continent "
+                                + p_continent.getD_continentName() + ".");
+            }
+        }
+    }
+
+    /**
+     * Checks that every country is reachable from the first country of the map.
+     *
+     * @param p_graph     the map graph
+     * @param p_countries the countries of the map, in graph order
+     * @param p_stack     scratch stack with room for every country
+     * @param p_report    the report to add failures to
+     */
+    void checkMapConnected(MapGraph p_graph, List<Country> p_countries, int[] p_stack, MapValidationReport p_report) {
+        BitSet l_visited = new BitSet(p_graph.size());
+        int l_top = 0;
+        p_stack[l_top++] = 0;
+        l_visited.set(0);
+        while (l_top > 0) {
+            int l_current = p_stack[--l_top];
+            for (int l_k = 0; l_k < p_graph.degree(l_current); l_k++) {
+                int l_neighbour = p_graph.neighbourAt(l_current, l_k);
+                if (!l_visited.get(l_neighbour)) {
+                    l_visited.set(l_neighbour);
+                    p_stack[l_top++] = l_neighbour;
+                }
+            }
+        }
+
+        for (int l_index = l_visited.nextClearBit(0); l_index < p_graph.size(); l_index = l_visited.nextClearBit(l_index + 1)) {
+            p_report.addFailure(MapValidationReport.Check.MAP_CONNECTIVITY,
+                    "Country : " + p_countries.get(l_index).getD_countryName() + " is not reachable");
+        }
+    }
+}
@@ -2,7 +2,9 @@ package Model;
 import View.GameLogger;
 
 import java.io.Serializable;
+import java.util.HashMap;
 import java.util.Observable;
+import java.util.function.Supplier;
 
 /**
  * The type Model logger.
@@ -14,6 +16,16 @@ public class ModelLogger extends Observable implements Serializable {
      */
     private String d_message;
 
+    /**
+     * Which message types are logged, unless set per type.
+     */
+    private LogProfile d_profile = LogProfile.VERBOSE;
+
+    /**
+     * Message types logged or not regardless of the profile.
+     */
+    private final HashMap<String, Boolean> d_typeLevels = new HashMap<>();
+
 
     /**
      * Instantiates a new Model logger.
@@ -34,12 +46,68 @@ public class ModelLogger extends Observable implements Serializable {
     }
 
     /**
-     * Sets a log message and notifies observers.
+     * Gets the profile deciding which message types are logged.
+     *
+     * @return the profile
+     */
+    public LogProfile getD_profile() {
+        return d_profile;
+    }
+
+    /**
+     * Sets the profile deciding which message types are logged. Types set with {@link #setEnabled} keep their
+     * setting.
+     *
+     * @param p_profile the profile
+     */
+    public void setD_profile(LogProfile p_profile) {
+        d_profile = p_profile;
+    }
+
+    /**
+     * Logs messages of a type, or not, whatever the profile.
+     *
+     * @param p_messageType the message type, such as "effect"
+     * @param p_enabled     whether messages of the type are logged
+     */
+    public void setEnabled(String p_messageType, boolean p_enabled) {
+        d_typeLevels.put(p_messageType, p_enabled);
+    }
+
+    /**
+     * Tells whether messages of a type are logged.
+     *
+     * @param p_messageType the message type
+     * @return whether messages of the type are logged
+     */
+    public boolean isEnabled(String p_messageType) {
+        Boolean l_enabled = d_typeLevels.isEmpty() ? null : d_typeLevels.get(p_messageType);
+        return l_enabled != null ? l_enabled : d_profile.logs(p_messageType);
+    }
+
+    /**
+     * Sets a log message built only if messages of its type are logged.
+     *
+     * @param p_message     builds the log message
+     * @param p_messageType the message type
+     */
+    public void setD_message(Supplier<String> p_message, String p_messageType) {
+        if (isEnabled(p_messageType)) {
+            setD_message(p_message.get(), p_messageType);
+        }
+    }
+
+    /**
+     * Sets a log message and notifies observers, passing them the message type. The game log only queues the
+     * message for its writer thread. Messages of a type that is not logged are ignored.
      *
      * @param p_message     the log message
      * @param p_messageType the message type
      */
     public void setD_message(String p_message, String p_messageType) {
+        if (!isEnabled(p_messageType)) {
+            return;
+        }
         if ("command".equals(p_messageType)) {
             d_message = System.lineSeparator() + "Command Entered: " + p_message + System.lineSeparator();
         } else if ("order".equals(p_messageType)) {
@@ -52,6 +120,6 @@ public class ModelLogger extends Observable implements Serializable {
             d_message = p_message + System.lineSeparator();
         }
         setChanged();
-        notifyObservers();
+        notifyObservers(p_messageType);
     }
 }
\ No newline at end of file
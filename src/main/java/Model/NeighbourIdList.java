@@ -0,0 +1,136 @@
+package Model;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Neighbour ids of a country read as a view of a row of a border array in compressed sparse row form, such as
+ * the one of a binary map file, which all countries of the map share. The ids are boxed only when read. The first
+ * change to the list copies its row into a list of its own, so a map loaded this way can still be edited.
+ */
+public final class NeighbourIdList extends AbstractList<Integer> implements RandomAccess, Serializable {
+
+    /**
+     * The shared border array.
+     */
+    private final int[] d_borders;
+
+    /**
+     * Start of the row in {@link #d_borders}.
+     */
+    private final int d_from;
+
+    /**
+     * End of the row in {@link #d_borders}, exclusive.
+     */
+    private final int d_to;
+
+    /**
+     * The ids once the list has been changed, or null while it is a view of the row.
+     */
+    private List<Integer> d_edited;
+
+    /**
+     * Creates a view of a row of a border array.
+     *
+     * @param p_borders the border array, which must not change afterwards
+     * @param p_from    start of the row
+     * @param p_to      end of the row, exclusive
+     */
+    public NeighbourIdList(int[] p_borders, int p_from, int p_to) {
+        d_borders = p_borders;
+        d_from = p_from;
+        d_to = p_to;
+    }
+
+    /**
+     * Gets the neighbour id at a position.
+     *
+     * @param p_index the position
+     * @return the neighbour id
+     */
+    @Override
+    public Integer get(int p_index) {
+        if (d_edited != null) {
+            return d_edited.get(p_index);
+        }
+        if (p_index < 0 || p_index >= d_to - d_from) {
+            throw new IndexOutOfBoundsException(p_index);
+        }
+        return d_borders[d_from + p_index];
+    }
+
+    /**
+     * Gets the number of neighbour ids.
+     *
+     * @return the number of neighbour ids
+     */
+    @Override
+    public int size() {
+        return d_edited != null ? d_edited.size() : d_to - d_from;
+    }
+
+    /**
+     * Replaces the neighbour id at a position.
+     *
+     * @param p_index the position
+     * @param p_id    the new neighbour id
+     * @return the replaced neighbour id
+     */
+    @Override
+    public Integer set(int p_index, Integer p_id) {
+        return edited().set(p_index, p_id);
+    }
+
+    /**
+     * Inserts a neighbour id at a position.
+     *
+     * @param p_index the position
+     * @param p_id    the neighbour id
+     */
+    @Override
+    public void add(int p_index, Integer p_id) {
+        edited().add(p_index, p_id);
+        modCount++;
+    }
+
+    /**
+     * Removes the neighbour id at a position.
+     *
+     * @param p_index the position
+     * @return the removed neighbour id
+     */
+    @Override
+    public Integer remove(int p_index) {
+        Integer l_removed = edited().remove(p_index);
+        modCount++;
+        return l_removed;
+    }
+
+    /**
+     * Removes every neighbour id.
+     */
+    @Override
+    public void clear() {
+        d_edited = new ArrayList<>();
+        modCount++;
+    }
+
+    /**
+     * Gets the ids as a list of their own, copying the row the first time.
+     *
+     * @return the list of ids
+     */
+    private List<Integer> edited() {
+        if (d_edited == null) {
+            d_edited = new ArrayList<>(d_to - d_from);
+            for (int l_position = d_from; l_position < d_to; l_position++) {
+                d_edited.add(d_borders[l_position]);
+            }
+        }
+        return d_edited;
+    }
+}
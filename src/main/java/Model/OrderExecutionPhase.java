@@ -10,6 +10,7 @@ import View.MapView;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -35,16 +36,29 @@ public class OrderExecutionPhase extends Phase {
      * Initializes and manages the order execution phase loop,
      * executes player orders, displays the map, checks for game end,
      * and transitions to the next phase based on user input.
+     * A won tournament game ends here instead of exiting, so the next game can be played.
+     * Each new turn is autosaved once the armies are assigned, when autosave is on.
+     *
+     * @param p_isTournamentMode whether the game is in tournament mode
+     * @return the next phase, or null when a tournament game is over
      */
     @Override
-    public void initPhase(boolean p_isTournamentMode) {
-        while(d_mainGameEngine.getD_currentPhase() instanceof OrderExecutionPhase){
+    public Phase initPhase(boolean p_isTournamentMode) {
+        while(d_mainGameEngine.getD_currentPhase() == this){
             executeOrders();
 
-            MapView l_mapView = new MapView(d_currentState);
-            l_mapView.showMap();
+            // The map after each turn is only shown when the effects of the orders are logged.
+            if (d_currentState.isLogEnabled("effect")) {
+                MapView l_mapView = new MapView(d_currentState);
+                l_mapView.showMap();
+            }
 
             if(this.checkEndOfGame(d_currentState)){
+                if(p_isTournamentMode){
+                    d_mainGameEngine.setD_currentPhase(new StartupPhase(d_mainGameEngine,d_currentState));
+                    return null;
+                }
+                d_mainGameEngine.setD_autosaver(null);
                 System.exit(0);
             }
             try{
@@ -52,6 +66,7 @@ public class OrderExecutionPhase extends Phase {
                 if(l_continue.equalsIgnoreCase("N") && p_isTournamentMode){
                     d_mainGameEngine.setD_mainEngineLog("Startup Phase", "phase");
                     d_mainGameEngine.setD_currentPhase(new StartupPhase(d_mainGameEngine,d_currentState));
+                    return null;
                 }
                 else if(l_continue.equalsIgnoreCase("N") && !p_isTournamentMode){
                     d_mainGameEngine.setStartupPhase();
@@ -59,6 +74,7 @@ public class OrderExecutionPhase extends Phase {
                 else if(l_continue.equalsIgnoreCase("Y")){
                     d_gameplayController.assignArmies(d_currentState);
                     d_mainGameEngine.setIssueOrderPhase(p_isTournamentMode);
+                    d_mainGameEngine.autosave();
                 }
                 else{
                     System.out.println("Invalid Input");
@@ -68,6 +84,7 @@ public class OrderExecutionPhase extends Phase {
                 System.out.println("Invalid Input");
             }
         }
+        return d_mainGameEngine.getD_currentPhase();
     }
 
     /**
@@ -92,7 +109,8 @@ public class OrderExecutionPhase extends Phase {
 
     /**
      * Checks whether the game has ended by verifying if a player (excluding Neutral)
-     * owns all the countries on the map.
+     * owns all the countries on the map. Players left without countries are recorded as failed,
+     * and the winner, if any, is recorded on the game state.
      *
      * @param p_currentState the current game state.
      * @return true if the game has ended and a player has won; false otherwise.
@@ -102,6 +120,13 @@ public class OrderExecutionPhase extends Phase {
         int l_neutralCountries = 0;
         Player l_winningPlayer = null;
 
+        for (Player l_eachPlayer : p_currentState.getD_players()) {
+            if (!l_eachPlayer.getD_playerName().equalsIgnoreCase("Neutral") && l_eachPlayer.getD_currentCountries().isEmpty()
+                    && !p_currentState.getD_playersFailed().contains(l_eachPlayer)) {
+                p_currentState.getD_playersFailed().add(l_eachPlayer);
+            }
+        }
+
         for (Player l_eachPlayer : p_currentState.getD_players()) {
             if (l_eachPlayer.getD_playerName().equalsIgnoreCase("Neutral")) {
                 l_neutralCountries += l_eachPlayer.getD_currentCountries().size(); // Accumulate instead of overwrite
@@ -111,6 +136,7 @@ public class OrderExecutionPhase extends Phase {
         }
 
         if (l_winningPlayer != null) {
+            p_currentState.setD_winner(l_winningPlayer);
             d_mainGameEngine.setD_mainEngineLog(l_winningPlayer.getD_playerName() + " has won the game. Exiting the game....", "end");
             return true;
         }
@@ -291,19 +317,32 @@ public class OrderExecutionPhase extends Phase {
     /**
      * Executes the next order for each player in the current state,
      * looping until all players have no more orders to execute.
+     * Players whose orders have run out drop out of the loop, so a turn costs one step per order.
      * Also logs the execution of each order.
      */
     private void executeOrders() {
         addNeutralPlayer(d_currentState);
         d_mainGameEngine.setD_mainEngineLog("\nStarting Execution of Orders......", "start");
-        while(d_gameplayController.isUnexecutedOrdersExist(d_currentState.getD_players())){
-            for(Player l_eachPlayer : d_currentState.getD_players()){
+        // Round robin over the players that still have orders; a player leaves the round once its queue is empty
+        List<Player> l_playersWithOrders = new ArrayList<>(d_currentState.getD_players().size());
+        for(Player l_eachPlayer : d_currentState.getD_players()){
+            if(l_eachPlayer.getD_orders() != null && !l_eachPlayer.getD_orders().isEmpty()){
+                l_playersWithOrders.add(l_eachPlayer);
+            }
+        }
+        while(!l_playersWithOrders.isEmpty()){
+            int l_remaining = 0;
+            for(Player l_eachPlayer : l_playersWithOrders){
                 Orders l_orderToExecute = l_eachPlayer.nextOrder();
-                if(l_orderToExecute != null){
+                if (d_currentState.isLogEnabled("effect")) {
                     l_orderToExecute.printOrder();
-                    l_orderToExecute.execute(d_currentState);
+                }
+                l_orderToExecute.execute(d_currentState);
+                if(!l_eachPlayer.getD_orders().isEmpty()){
+                    l_playersWithOrders.set(l_remaining++, l_eachPlayer);
                 }
             }
+            l_playersWithOrders.subList(l_remaining, l_playersWithOrders.size()).clear();
         }
         d_gameplayController.resetPlayerFlag(d_currentState.getD_players());
     }
@@ -325,6 +364,7 @@ public class OrderExecutionPhase extends Phase {
         if(l_player == null){
             Player l_neutralPlayer = new Player("Neutral");
             l_neutralPlayer.setD_moreOrders(false);
+            l_neutralPlayer.setD_console(p_currentState.getD_console());
             p_currentState.getD_players().add(l_neutralPlayer);
         }
         else{
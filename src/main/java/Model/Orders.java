@@ -40,4 +40,21 @@ public interface Orders {
     /** Prints the details of the order issued by a player. */
     void printOrder();
 
+    /**
+     * Gets the command that issues this order, as a player would type it.
+     *
+     * @return the command
+     */
+    String toCommand();
+
+    /**
+     * Creates a copy of this order for a copy of its game, issued by the copy of its player and aimed at the
+     * countries of the copied map.
+     *
+     * @param p_player the copy of the player who issued the order
+     * @param p_currentState the copy of the game
+     * @return the copy of the order
+     */
+    Orders copy(Player p_player, CurrentState p_currentState);
+
 }
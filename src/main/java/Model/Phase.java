@@ -123,10 +123,13 @@ public abstract class Phase implements Serializable {
     /**
      * Initializes the phase when it becomes active.
      * This method is called to set up the phase-specific details and behaviors.
+     * It runs until the phase hands over to another phase and returns that phase instead of running it,
+     * see {@link MainGameEngine#runPhases()}.
      *
      * @param p_isTournamentMode A boolean flag indicating whether the game is in tournament mode.
+     * @return the phase to run next, or null when the game is over
      */
-    public abstract void initPhase(boolean p_isTournamentMode);
+    public abstract Phase initPhase(boolean p_isTournamentMode);
 
     /**
      * Handles a command entered by the user (no player context).
@@ -236,6 +239,7 @@ public abstract class Phase implements Serializable {
             case "exit":
                 d_currentState.getD_modelLogger().setD_message("------------Game Session Terminated. All progress saved.------------","effect");
                 System.out.println("Closing game... Thank you for playing");
+                d_mainGameEngine.setD_autosaver(null);
                 System.exit(0);
                 break;
             default:
@@ -9,6 +9,7 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Serializable;
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * Represents a player in the game.
@@ -20,7 +21,7 @@ public class Player implements Serializable {
     String d_playerName;
 
     /** The number of unallocated armies the player has. */
-    Integer d_unallocatedArmies;
+    int d_unallocatedArmies;
 
     /** The list of countries the player currently controls. */
     List<Country> d_currentCountries;
@@ -28,8 +29,8 @@ public class Player implements Serializable {
     /** The set of continents the player currently controls. */
     Set<Continent> d_currentContinents;
 
-    /** The list of orders the player has issued. */
-    List<Orders> d_orders;
+    /** The orders the player has issued, first issued first. */
+    Deque<Orders> d_orders;
 
     /** Represents a player's log of actions and events. */
     public String d_playerLog;
@@ -52,6 +53,18 @@ public class Player implements Serializable {
      */
     PlayerBehaviourStrategy d_playerBehaviourStrategy;
 
+    /**
+     * The random number stream of the player, split from the stream of its game when countries are assigned,
+     * see {@link CurrentState#getD_random()}.
+     */
+    transient SplittableRandom d_random;
+
+    /**
+     * The console the player and its orders print to, handed over by its game, see
+     * {@link CurrentState#setD_console(GameConsole)}. Null stands for {@link GameConsole#STANDARD}.
+     */
+    transient GameConsole d_console;
+
     /**
      * Constructor to initialize a new player.
      *
@@ -60,7 +73,7 @@ public class Player implements Serializable {
     public Player(String p_playerName) {
         this.d_playerName = p_playerName;
         this.d_unallocatedArmies = 0;
-        this.d_orders = new ArrayList<Orders>();
+        this.d_orders = new ArrayDeque<>();
         this.d_currentCountries = new ArrayList<Country>();
         this.d_currentContinents = new HashSet<>();
         this.d_moreOrders = true;
@@ -89,7 +102,7 @@ public class Player implements Serializable {
      *
      * @return The number of unallocated armies.
      */
-    public Integer getD_unallocatedArmies() {
+    public int getD_unallocatedArmies() {
         return d_unallocatedArmies;
     }
 
@@ -98,10 +111,28 @@ public class Player implements Serializable {
      *
      * @param p_unallocatedArmies The number of unallocated armies.
      */
-    public void setD_unallocatedArmies(Integer p_unallocatedArmies) {
+    public void setD_unallocatedArmies(int p_unallocatedArmies) {
         this.d_unallocatedArmies = p_unallocatedArmies;
     }
 
+    /**
+     * Gets the console the player and its orders print to.
+     *
+     * @return The console of the player's game.
+     */
+    public GameConsole getD_console() {
+        return d_console != null ? d_console : GameConsole.STANDARD;
+    }
+
+    /**
+     * Sets the console the player and its orders print to.
+     *
+     * @param p_console The console of the player's game.
+     */
+    public void setD_console(GameConsole p_console) {
+        this.d_console = p_console;
+    }
+
     /**
      * Gets the list of countries the player currently controls.
      *
@@ -139,21 +170,21 @@ public class Player implements Serializable {
     }
 
     /**
-     * Gets the list of orders the player has issued.
+     * Gets the orders the player has issued and not yet executed, first issued first.
      *
-     * @return The list of orders.
+     * @return The queue of orders.
      */
-    public List<Orders> getD_orders() {
+    public Deque<Orders> getD_orders() {
         return d_orders;
     }
 
     /**
-     * Sets the list of orders the player has issued.
+     * Sets the orders the player has issued. The orders are copied into the player's queue in the given order.
      *
-     * @param p_orders The list of orders.
+     * @param p_orders The orders.
      */
-    public void setD_orders(List<Orders> p_orders) {
-        this.d_orders = p_orders;
+    public void setD_orders(Collection<? extends Orders> p_orders) {
+        this.d_orders = new ArrayDeque<>(p_orders);
     }
 
     /**
@@ -166,7 +197,7 @@ public class Player implements Serializable {
             d_currentContinents = new HashSet<>();
         }
         if(!d_currentContinents.add(p_continent)) {
-            System.out.println("Continent : "+p_continent.getD_continentName()+" already assigned to Player : "+d_playerName);
+            getD_console().println("Continent : "+p_continent.getD_continentName()+" already assigned to Player : "+d_playerName);
         }
     }
 
@@ -180,19 +211,15 @@ public class Player implements Serializable {
     }
 
     /**
-     * Sets the player's log of actions and events and prints the log message.
-     * If the message type is "error," it prints to the error stream.
+     * Sets the player's log of actions and events and prints the log message to the player's console.
+     * If the message type is "error," it is printed as an error.
      *
      * @param p_orderExecutionLog The message to be logged.
      * @param p_messageType The type of message ("error" or other).
      */
     public void setD_playerLog(String p_orderExecutionLog, String p_messageType){
         this.d_playerLog = p_orderExecutionLog;
-        if (p_messageType.equals("error")){
-            System.err.println(p_orderExecutionLog);
-        } else {
-            System.out.println(p_orderExecutionLog);
-        }
+        getD_console().println(p_orderExecutionLog, p_messageType);
     }
 
     /**
@@ -285,6 +312,117 @@ public class Player implements Serializable {
         d_playerBehaviourStrategy = p_playerBehaviourStrategy;
     }
 
+    /**
+     * Gets the random number stream of the player. A player that never joined a game, or whose game was
+     * loaded from a file, gets an unseeded stream.
+     *
+     * @return the random number stream
+     */
+    public SplittableRandom getD_random() {
+        if (d_random == null) {
+            d_random = new SplittableRandom();
+        }
+        return d_random;
+    }
+
+    /**
+     * Sets the random number stream of the player.
+     *
+     * @param p_random the random number stream
+     */
+    public void setD_random(SplittableRandom p_random) {
+        d_random = p_random;
+    }
+
+    /**
+     * Creates a copy of the player with its name, armies, cards, log, flags and a strategy of the same kind.
+     * Countries, continents, negotiations, orders and the countries its strategy deployed to belong to a game, so
+     * the copy starts without them; a copy of the whole game gets them from {@link CurrentState#copy()}.
+     *
+     * @return The copy.
+     */
+    public Player copy() {
+        Player l_copy = new Player(d_playerName);
+        l_copy.d_unallocatedArmies = d_unallocatedArmies;
+        l_copy.d_playerLog = d_playerLog;
+        l_copy.d_moreOrders = d_moreOrders;
+        l_copy.d_oneCardPerTurn = d_oneCardPerTurn;
+        l_copy.d_cardOwnedByPlayer = d_cardOwnedByPlayer == null ? new ArrayList<>() : new ArrayList<>(d_cardOwnedByPlayer);
+        l_copy.d_playerBehaviourStrategy = d_playerBehaviourStrategy == null ? null : d_playerBehaviourStrategy.copy();
+        return l_copy;
+    }
+
+    /**
+     * Gives this copy of a player the countries, continents, negotiations, orders and strategy deploy countries of
+     * the player it was copied from, each replaced by its copy in the copy of the game. Countries and continents
+     * are found by their position in the map.
+     *
+     * @param p_source The player this one was copied from.
+     * @param p_sourceMap The map of the game the player was copied from.
+     * @param p_copy The copy of the game.
+     * @param p_players The copy of every player of the game.
+     */
+    void copyHoldings(Player p_source, Map p_sourceMap, CurrentState p_copy, IdentityHashMap<Player, Player> p_players) {
+        Map l_map = p_copy.getD_map();
+        if (p_source.d_currentCountries != null) {
+            d_currentCountries = copiesOf(p_source.d_currentCountries, p_sourceMap, l_map);
+        }
+        if (p_source.d_playerBehaviourStrategy != null && d_playerBehaviourStrategy != null
+                && !p_source.d_playerBehaviourStrategy.getD_deployCountries().isEmpty()) {
+            d_playerBehaviourStrategy.setD_deployCountries(copiesOf(p_source.d_playerBehaviourStrategy.getD_deployCountries(), p_sourceMap, l_map));
+        }
+        if (p_source.d_currentContinents != null) {
+            d_currentContinents = new HashSet<>();
+            for (Continent l_continent : p_source.d_currentContinents) {
+                int l_index = p_sourceMap == null ? -1 : indexOfContinent(p_sourceMap.getD_mapContinents(), l_continent);
+                d_currentContinents.add(l_index < 0 ? l_continent : l_map.getD_mapContinents().get(l_index));
+            }
+        }
+        if (p_source.d_negotiatePlayer != null) {
+            d_negotiatePlayer = new ArrayList<>(p_source.d_negotiatePlayer.size());
+            for (Player l_player : p_source.d_negotiatePlayer) {
+                d_negotiatePlayer.add(p_players.getOrDefault(l_player, l_player));
+            }
+        }
+        for (Orders l_order : p_source.d_orders) {
+            d_orders.add(l_order.copy(this, p_copy));
+        }
+    }
+
+    /**
+     * Replaces countries by their copies in the copy of a game, found by their position in the map. A country that
+     * is not on the map is copied on its own.
+     *
+     * @param p_countries The countries.
+     * @param p_sourceMap The map of the game the countries are from.
+     * @param p_map The map of the copy of the game.
+     * @return The copies, in the same order.
+     */
+    private static List<Country> copiesOf(List<Country> p_countries, Map p_sourceMap, Map p_map) {
+        List<Country> l_copies = new ArrayList<>(p_countries.size());
+        for (Country l_country : p_countries) {
+            int l_index = p_sourceMap == null ? -1 : p_sourceMap.indexOfCountry(l_country);
+            l_copies.add(l_index < 0 ? l_country.copy() : p_map.getD_mapCountries().get(l_index));
+        }
+        return l_copies;
+    }
+
+    /**
+     * Gets the position of a continent in a list of continents.
+     *
+     * @param p_continents The continents.
+     * @param p_continent The continent.
+     * @return The position, or -1 if the continent is not in the list.
+     */
+    private static int indexOfContinent(List<Continent> p_continents, Continent p_continent) {
+        for (int l_index = 0; p_continents != null && l_index < p_continents.size(); l_index++) {
+            if (p_continents.get(l_index) == p_continent) {
+                return l_index;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Processes and issues an order for the player during the order phase.
      *
@@ -296,17 +434,12 @@ public class Player implements Serializable {
     }
 
     /**
-     * Retrieves the next order the player has issued.
+     * Takes the next order the player has issued off the front of its queue.
      *
      * @return The next order, or null if no orders exist.
      */
     public Orders nextOrder() {
-        if(d_orders == null || d_orders.isEmpty()) {
-            return null;
-        }
-        Orders l_order = d_orders.get(0);
-        d_orders.remove(l_order);
-        return l_order;
+        return d_orders == null ? null : d_orders.pollFirst();
     }
 
     /**
@@ -325,43 +458,121 @@ public class Player implements Serializable {
      * @param p_command The deploy command in the format {@code deploy <CountryName> <NoOfArmies>}.
      */
     public void createDeployOrder(String p_command) {
-        if (d_orders == null) {
-            d_orders = new ArrayList<>();
+        Deploy l_order = parseDeployOrder(p_command.split(" "));
+        if (l_order != null) {
+            addDeployOrder(l_order, null);
         }
+    }
 
+    /**
+     * Parses a command typed by the player into the order it issues. Order commands are split and their
+     * countries looked up by name only here; the order is then checked and queued by {@link #addOrder}, the same
+     * way as the orders computer strategies build directly.
+     *
+     * @param p_command The command, such as {@code deploy <CountryName> <NoOfArmies>} or {@code bomb <CountryName>}.
+     * @param p_currentState The current state of the game, used to find the countries of an advance order.
+     * @return the order, or {@code null} if the command is not a well-formed order; the reason is in the player log.
+     */
+    public Orders parseOrder(String p_command, CurrentState p_currentState) {
         String[] l_commandParts = p_command.split(" ");
+        switch (l_commandParts[0].toLowerCase()) {
+            case "deploy":
+                return parseDeployOrder(l_commandParts);
+            case "advance":
+                return parseAdvanceOrder(l_commandParts, p_currentState);
+            default:
+                return parseCardOrder(l_commandParts);
+        }
+    }
+
+    /**
+     * Checks an order of the player and adds it to the back of its queue. A deploy order takes its armies from
+     * the unallocated armies of the player.
+     *
+     * @param p_order The order, parsed from a command or built by a strategy.
+     * @param p_currentState The current state of the game, used for validation.
+     * @return {@code true} if the order was added; otherwise, {@code false} and the reason is in the player log.
+     */
+    public boolean addOrder(Orders p_order, CurrentState p_currentState) {
+        if (p_order instanceof Deploy) {
+            return addDeployOrder((Deploy) p_order, p_currentState);
+        }
+        if (p_order instanceof Advance) {
+            return addAdvanceOrder((Advance) p_order, p_currentState);
+        }
+        if (p_order instanceof Card) {
+            return addCardOrder((Card) p_order, p_currentState);
+        }
+        d_orders.add(p_order);
+        logOrderAdded(p_order, p_currentState, () -> ProjectConstants.ORDER_ADDED, "effect");
+        return true;
+    }
 
-        if (l_commandParts.length < 3) {
+    /**
+     * Parses a deploy command.
+     *
+     * @param p_commandParts The parts of the command {@code deploy <CountryName> <NoOfArmies>}.
+     * @return the order, or {@code null} if the command is not valid.
+     */
+    private Deploy parseDeployOrder(String[] p_commandParts) {
+        if (p_commandParts.length < 3) {
             this.setD_playerLog("Invalid command format! Correct format: deploy <CountryName> <NoOfArmies>", "error");
-            return;
+            return null;
         }
 
-        String l_countryName = l_commandParts[1];
+        String l_countryName = p_commandParts[1];
         int l_noOfArmiesToDeploy;
 
         try {
-            l_noOfArmiesToDeploy = Integer.parseInt(l_commandParts[2]);
+            l_noOfArmiesToDeploy = Integer.parseInt(p_commandParts[2]);
         } catch (NumberFormatException e) {
             this.setD_playerLog("Invalid number of armies! Please enter a valid integer.", "error");
-            return;
+            return null;
         }
 
-        if (!validateCountryBelongstoPlayer(this, l_countryName)) {
+        Country l_country = findOwnCountry(this, l_countryName);
+        if (l_country == null) {
             this.setD_playerLog("The country " + l_countryName + " does not belong to this player.", "error");
-            return;
+            return null;
         }
+        return new Deploy(this, l_country, l_noOfArmiesToDeploy);
+    }
 
+    /**
+     * Adds a deploy order if the player has the armies to deploy.
+     *
+     * @param p_order The deploy order.
+     * @param p_currentState The current state of the game, or {@code null} to always log the order.
+     * @return {@code true} if the order was added; otherwise, {@code false}.
+     */
+    private boolean addDeployOrder(Deploy p_order, CurrentState p_currentState) {
+        int l_noOfArmiesToDeploy = p_order.getNoOfArmiesToMove();
         if (!isArmyCountValid(this, l_noOfArmiesToDeploy)) {
             this.setD_playerLog(ProjectConstants.INVALID_NO_OF_ARMIES, "error");
-            return;
+            return false;
         }
 
-        Orders l_order = new Deploy(this, l_countryName, l_noOfArmiesToDeploy);
-        d_orders.add(l_order);
+        d_orders.add(p_order);
 
         this.setD_unallocatedArmies(this.getD_unallocatedArmies() - l_noOfArmiesToDeploy);
-        d_orders.get(d_orders.size()-1).printOrder();
-        this.setD_playerLog(ProjectConstants.ORDER_ADDED, "effect");
+        logOrderAdded(p_order, p_currentState, () -> ProjectConstants.ORDER_ADDED, "effect");
+        return true;
+    }
+
+    /**
+     * Prints an order that was added and records the confirmation in the player log, if effects are logged.
+     * Otherwise the player log keeps its previous message, which is not logged either.
+     *
+     * @param p_order The order that was added.
+     * @param p_currentState The current state of the game, or {@code null} to always log the order.
+     * @param p_message Builds the confirmation.
+     * @param p_messageType The type of the confirmation.
+     */
+    private void logOrderAdded(Orders p_order, CurrentState p_currentState, Supplier<String> p_message, String p_messageType) {
+        if (p_currentState == null || p_currentState.isLogEnabled("effect")) {
+            p_order.printOrder();
+            this.setD_playerLog(p_message.get(), p_messageType);
+        }
     }
 
     /**
@@ -376,19 +587,19 @@ public class Player implements Serializable {
     }
 
     /**
-     * Validates whether a given country belongs to the specified player.
+     * Finds a country among the countries of the specified player.
      *
-     * @param p_player The player whose ownership is being checked.
-     * @param p_countryName The name of the country to verify.
-     * @return {@code true} if the country belongs to the player; otherwise, {@code false}.
+     * @param p_player The player whose countries are searched.
+     * @param p_countryName The name of the country to find.
+     * @return the country if it belongs to the player; otherwise, {@code null}.
      */
-    private boolean validateCountryBelongstoPlayer(Player p_player, String p_countryName) {
+    private Country findOwnCountry(Player p_player, String p_countryName) {
         for (Country l_eachCountry : p_player.getD_currentCountries()) {
             if (l_eachCountry.getD_countryName().equals(p_countryName)) {
-                return true;
+                return l_eachCountry;
             }
         }
-        return false;
+        return null;
     }
 
     /**
@@ -399,8 +610,7 @@ public class Player implements Serializable {
      */
     public void checkForMoreOrder(boolean p_isTournamentMode) {
         if (p_isTournamentMode || !this.getD_playerBehaviourStrategy().getPlayerBehaviour().equalsIgnoreCase("Human")) {
-            Random l_random = new Random();
-            boolean l_moreOrders = l_random.nextBoolean();
+            boolean l_moreOrders = getD_random().nextBoolean();
             this.setD_moreOrders(l_moreOrders);
         }else {
             BufferedReader l_reader = new BufferedReader(new InputStreamReader(System.in));
@@ -428,84 +638,84 @@ public class Player implements Serializable {
      * @param p_currentState The current state of the game, used for validation.
      */
     public void createAdvanceOrder(String p_inputCommand, CurrentState p_currentState) {
-        String[] l_commandParts = p_inputCommand.split(" ");
+        Advance l_order = parseAdvanceOrder(p_inputCommand.split(" "), p_currentState);
+        if (l_order != null) {
+            addAdvanceOrder(l_order, p_currentState);
+        }
+    }
 
-        if (l_commandParts.length != 4) {
+    /**
+     * Parses an advance command.
+     *
+     * @param p_commandParts The parts of the command {@code advance <SourceCountry> <TargetCountry> <NoOfArmies>}.
+     * @param p_currentState The current state of the game, used to find the countries.
+     * @return the order, or {@code null} if the command is not valid.
+     */
+    private Advance parseAdvanceOrder(String[] p_commandParts, CurrentState p_currentState) {
+        if (p_commandParts.length != 4) {
             this.setD_playerLog("Invalid command format for Advance order.", "error");
-            return;
+            return null;
         }
 
-        String l_sourceCountry = l_commandParts[1];
-        String l_targetCountry = l_commandParts[2];
-        Integer l_noOfArmies;
+        String l_sourceCountry = p_commandParts[1];
+        String l_targetCountry = p_commandParts[2];
+        int l_noOfArmies;
 
         try {
-            l_noOfArmies = Integer.parseInt(l_commandParts[3]);
+            l_noOfArmies = Integer.parseInt(p_commandParts[3]);
         } catch (NumberFormatException e) {
             this.setD_playerLog("Invalid number of armies specified.", "error");
-            return;
-        }
-
-        if (!checkCountryPresent(l_sourceCountry, p_currentState) ||
-                !checkCountryPresent(l_targetCountry, p_currentState)) {
-            return;
-        }
-
-        if (l_noOfArmies <= 0) {
-            this.setD_playerLog("Number of armies must be greater than 0.", "error");
-            return;
+            return null;
         }
 
-        /*if (!validateCountryBelongstoPlayer(this, l_sourceCountry, p_currentState)) {
-            this.setD_playerLog("Source country does not belong to the player.", "error");
-            return;
-        }*/
-
-        if (!checkAdjacentCountry(l_sourceCountry, l_targetCountry, p_currentState)) {
-            this.setD_playerLog("Target country is not adjacent to the source country.", "error");
-            return;
+        Country l_source = findCountry(l_sourceCountry, p_currentState);
+        Country l_target = l_source == null ? null : findCountry(l_targetCountry, p_currentState);
+        if (l_source == null || l_target == null) {
+            return null;
         }
-
-        this.d_orders.add(new Advance(l_sourceCountry, l_targetCountry, l_noOfArmies, this));
-        d_orders.get(d_orders.size()-1).printOrder();
-        this.setD_playerLog("Advance order added successfully for player " + this.getD_playerName(), "log");
+        return new Advance(l_source, l_target, l_noOfArmies, this);
     }
 
     /**
-     * Checks whether the target country is adjacent to the source country.
+     * Adds an advance order if it moves at least one army to a neighbouring country.
      *
-     * @param p_sourceCountry The name of the source country.
-     * @param p_targetCountry The name of the target country.
-     * @param p_currentState The current state of the game, used to retrieve country details.
-     * @return {@code true} if the target country is adjacent to the source country; otherwise, {@code false}.
+     * @param p_order The advance order.
+     * @param p_currentState The current state of the game, used for validation.
+     * @return {@code true} if the order was added; otherwise, {@code false}.
      */
-    private boolean checkAdjacentCountry(String p_sourceCountry, String p_targetCountry, CurrentState p_currentState) {
-        Country l_sourceCountry = p_currentState.getD_map().getCountryByName(p_sourceCountry);
-        Country l_targetCountry = p_currentState.getD_map().getCountryByName(p_targetCountry);
+    private boolean addAdvanceOrder(Advance p_order, CurrentState p_currentState) {
+        if (p_order.d_noOfArmiesToPlace <= 0) {
+            this.setD_playerLog("Number of armies must be greater than 0.", "error");
+            return false;
+        }
 
-        if (l_sourceCountry == null || l_targetCountry == null) {
+        if (p_order.d_source != null && !p_currentState.getD_map().getMapGraph()
+                .areAdjacent(p_order.d_source.getD_countryID(), p_order.d_target.getD_countryID())) {
+            this.setD_playerLog("Target country is not adjacent to the source country.", "error");
             return false;
         }
 
-        return l_sourceCountry.getD_neighbouringCountriesId().contains(l_targetCountry.getD_countryID());
+        this.d_orders.add(p_order);
+        logOrderAdded(p_order, p_currentState, () -> "Advance order added successfully for player " + this.getD_playerName(), "log");
+        return true;
     }
 
     /**
-     * Checks if a given country exists on the map.
+     * Finds a country on the map.
      * If the country is not found, logs an error message.
      *
-     * @param p_sourceCountry The name of the country to check.
+     * @param p_countryName The name of the country to find.
      * @param p_currentState The current state of the game, used to look up the country.
-     * @return {@code true} if the country exists; otherwise, {@code false}.
+     * @return the country, or {@code null} if it does not exist.
      */
-    private boolean checkCountryPresent(String p_sourceCountry, CurrentState p_currentState) {
-        boolean l_exists = p_currentState.getD_map().getCountryByName(p_sourceCountry) != null;
+    private Country findCountry(String p_countryName, CurrentState p_currentState) {
+        Country l_country = p_currentState.getD_map().getCountryByName(p_countryName);
 
-        if (!l_exists) {
+        if (l_country == null) {
             this.setD_playerLog(ProjectConstants.NO_COUNTRIES, "error");
         }
 
-        return l_exists;
+        return l_country;
     }
 
     /**
@@ -516,64 +726,55 @@ public class Player implements Serializable {
      * @param p_currentState The current state of the game used for order validation.
      */
     public void handleCardCommand(String p_inputCommand, CurrentState p_currentState) {
-        String[] l_commandParts = p_inputCommand.split(" ");
-
-        if (!checkCardArguments(l_commandParts)) {
-            return;
+        Card l_order = parseCardOrder(p_inputCommand.split(" "));
+        if (l_order != null) {
+            addCardOrder(l_order, p_currentState);
         }
+    }
 
-        String l_commandType = l_commandParts[0].toLowerCase();
+    /**
+     * Parses a card command.
+     *
+     * @param p_commandParts The parts of the command, such as {@code airlift <source> <target> <armies>}.
+     * @return the order, or {@code null} if the command is not valid.
+     */
+    private Card parseCardOrder(String[] p_commandParts) {
+        if (!checkCardArguments(p_commandParts)) {
+            return null;
+        }
 
-        switch (l_commandType) {
+        switch (p_commandParts[0].toLowerCase()) {
             case "bomb":
-                Card l_bombOrder = new CardBomb(this, l_commandParts[1]);
-                if (l_bombOrder.validOrderCheck(p_currentState)) {
-                    this.d_orders.add(l_bombOrder);
-                    l_bombOrder.printOrder();
-                    this.setD_playerLog("Bomb order is added for execution for player " + this.getD_playerName(), "effect");
-                    p_currentState.updateLog(getD_playerLog(), "effect");
-                }
-                break;
-
+                return new CardBomb(this, p_commandParts[1]);
             case "blockade":
-                Card l_blockadeOrder = new CardBlockade(this, l_commandParts[1]);
-                if (l_blockadeOrder.validOrderCheck(p_currentState)) {
-                    this.d_orders.add(l_blockadeOrder);
-                    l_blockadeOrder.printOrder();
-                    this.setD_playerLog("Blockade order is added for execution for player " + this.getD_playerName(), "effect");
-                    p_currentState.updateLog(getD_playerLog(), "effect");
-                }
-                break;
-
+                return new CardBlockade(this, p_commandParts[1]);
             case "airlift":
                 try {
-                    int l_noOfArmies = Integer.parseInt(l_commandParts[3]);
-                    Card l_airliftOrder = new CardAirlift(l_noOfArmies, l_commandParts[1], this, l_commandParts[2]);
-                    if (l_airliftOrder.validOrderCheck(p_currentState)) {
-                        this.d_orders.add(l_airliftOrder);
-                        l_airliftOrder.printOrder();
-                        this.setD_playerLog("Airlift order is added for execution for player " + this.getD_playerName(), "effect");
-                        p_currentState.updateLog(getD_playerLog(), "effect");
-                    }
+                    return new CardAirlift(Integer.parseInt(p_commandParts[3]), p_commandParts[1], this, p_commandParts[2]);
                 } catch (NumberFormatException e) {
                     this.setD_playerLog("Invalid number of armies for airlift order.", "error");
+                    return null;
                 }
-                break;
-
-            case "negotiate":
-                Card l_negotiateOrder = new CardNegotiate(this, l_commandParts[1]);
-                if (l_negotiateOrder.validOrderCheck(p_currentState)) {
-                    this.d_orders.add(l_negotiateOrder);
-                    l_negotiateOrder.printOrder();
-                    this.setD_playerLog("Negotiate order is added for execution for player " + this.getD_playerName(), "effect");
-                    p_currentState.updateLog(getD_playerLog(), "effect");
-                }
-                break;
-
             default:
-                this.setD_playerLog("Invalid card order type: " + l_commandType, "error");
-                break;
+                return new CardNegotiate(this, p_commandParts[1]);
+        }
+    }
+
+    /**
+     * Adds a card order if the card can be played.
+     *
+     * @param p_order The card order.
+     * @param p_currentState The current state of the game used for order validation.
+     * @return {@code true} if the order was added; otherwise, {@code false}.
+     */
+    private boolean addCardOrder(Card p_order, CurrentState p_currentState) {
+        if (!p_order.validOrderCheck(p_currentState)) {
+            return false;
         }
+        this.d_orders.add(p_order);
+        logOrderAdded(p_order, p_currentState, () -> "Card order '" + p_order.toCommand() + "' is added for execution for player " + this.getD_playerName(), "effect");
+        p_currentState.updateLog(this::getD_playerLog, "effect");
+        return true;
     }
 
     /**
@@ -638,8 +839,7 @@ public class Player implements Serializable {
             return;
         }
 
-        Random l_random = new Random();
-        int l_cardIndex = l_random.nextInt(ProjectConstants.NO_OF_CARDS);
+        int l_cardIndex = getD_random().nextInt(ProjectConstants.NO_OF_CARDS);
         String l_assignedCard = ProjectConstants.ALL_CARDS.get(l_cardIndex);
 
         this.d_cardOwnedByPlayer.add(l_assignedCard);
@@ -649,19 +849,47 @@ public class Player implements Serializable {
     }
 
     /**
-     * Validates if a player can negotiate with a target country. A player cannot negotiate if they control the target country.
+     * Validates if a player can attack a target country. A player cannot attack a country owned by a player it has negotiated with.
+     *
+     * @param p_currentState The current game state, which knows the owner of every country.
+     * @param p_targetCountryName The name of the target country.
+     * @return {@code true} if the country is not owned by a player under negotiation; {@code false} otherwise.
+     */
+    public boolean negotiationValidation(CurrentState p_currentState, String p_targetCountryName) {
+        if(d_negotiatePlayer.isEmpty()){
+            return true;
+        }
+        Player l_owner = p_currentState.getCountryOwner(p_targetCountryName);
+        return l_owner == null || !d_negotiatePlayer.contains(l_owner);
+    }
+
+    /**
+     * Finds a country of the player by its exact name. With a map, the country is looked up by name and its
+     * owner checked on the owner index of the game. Without a map, or for a country the index knows no owner of,
+     * the countries of the player are searched.
      *
-     * @param p_targetCountryName The name of the target country for negotiation.
-     * @return {@code true} if negotiation is possible (the player does not control the target country); {@code false} otherwise.
+     * @param p_currentState The current game state.
+     * @param p_countryName The name of the country.
+     * @return The country, or null if the player does not own a country of that name.
      */
-    public boolean negotiationValidation(String p_targetCountryName) {
-        boolean l_canAttack = true;
-        for(Player l_eachPlayer : d_negotiatePlayer){
-            if(l_eachPlayer.getCountryNames().contains(p_targetCountryName)){
-                l_canAttack = false;
+    public Country getOwnedCountry(CurrentState p_currentState, String p_countryName) {
+        Map l_map = p_currentState.getD_map();
+        if (l_map != null && l_map.getD_mapCountries() != null && !l_map.getD_mapCountries().isEmpty()) {
+            Country l_country = l_map.getCountryByName(p_countryName);
+            if (l_country == null || !l_country.getD_countryName().equals(p_countryName)) {
+                return null;
+            }
+            Player l_owner = p_currentState.getCountryOwner(l_country);
+            if (l_owner != null) {
+                return l_owner == this ? l_country : null;
+            }
+        }
+        for (Country l_eachCountry : d_currentCountries) {
+            if (l_eachCountry.getD_countryName().equals(p_countryName)) {
+                return l_eachCountry;
             }
         }
-        return l_canAttack;
+        return null;
     }
 
     /**
@@ -707,13 +935,24 @@ public class Player implements Serializable {
     }
 
     /**
-     * Gets player order.
+     * Reads the next command typed by the player.
+     *
+     * @param p_currentState the current state of the game
+     * @return the command, or null if the player does not type commands
+     * @throws IOException if the command cannot be read
+     */
+    public String getPlayerCommand(CurrentState p_currentState) throws IOException {
+        return this.d_playerBehaviourStrategy.readCommand(this, p_currentState);
+    }
+
+    /**
+     * Gets the next order of the player from its strategy.
      *
-     * @param p_currentState the p current state
-     * @return the player order
-     * @throws IOException the io exception
+     * @param p_currentState the current state of the game
+     * @return the order, or null if the player issues no order this time
+     * @throws IOException if the order cannot be read
      */
-    public String getPlayerOrder(CurrentState p_currentState) throws IOException {
+    public Orders getPlayerOrder(CurrentState p_currentState) throws IOException {
         return this.d_playerBehaviourStrategy.createOrder(this, p_currentState);
     }
 }
@@ -2,6 +2,9 @@ package Model;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Abstract class representing a strategy for player behavior in the game.
@@ -29,14 +32,67 @@ public abstract class PlayerBehaviourStrategy implements Serializable {
     public abstract String getPlayerBehaviour();
 
     /**
-     * Creates a general order for the player.
+     * Creates a strategy of the same kind for another player or a copy of the game. What a strategy remembers
+     * between orders belongs to one game, so the copy starts without it; a copy of the whole game gives it the
+     * countries of {@link #getD_deployCountries()} from {@link CurrentState#copy()}.
+     *
+     * @return the new strategy
+     */
+    public abstract PlayerBehaviourStrategy copy();
+
+    /**
+     * Gets the countries the strategy has deployed armies to, which it later advances armies from. Strategies that
+     * do not remember them return an empty list.
+     *
+     * @return the countries, in the order armies were deployed to them
+     */
+    public List<Country> getD_deployCountries() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Sets the countries the strategy has deployed armies to, when a game is copied or loaded. Strategies that do
+     * not remember them ignore the countries.
+     *
+     * @param p_deployCountries the countries, in the order armies were deployed to them
+     */
+    public void setD_deployCountries(List<Country> p_deployCountries) {
+    }
+
+    /**
+     * Prints how the strategy is choosing an order, if orders are logged in the game.
+     *
+     * @param p_currentState the current game state
+     * @param p_message builds the message to print
+     */
+    protected void printChoice(CurrentState p_currentState, Supplier<String> p_message) {
+        if (p_currentState.isLogEnabled("order") && p_currentState.getD_console().isOn()) {
+            p_currentState.getD_console().println(p_message.get());
+        }
+    }
+
+    /**
+     * Reads a command typed by the player, such as an order or savegame. Only players at the console type
+     * commands; the other strategies return null and build their orders with {@link #createOrder}.
+     *
+     * @param p_player the player issuing the command
+     * @param p_currentState the current game state
+     * @return the command, or null if the player does not type commands
+     * @throws IOException if there is an I/O error
+     */
+    public String readCommand(Player p_player, CurrentState p_currentState) throws IOException {
+        return null;
+    }
+
+    /**
+     * Creates the next order of the player.
      *
      * @param p_player the player issuing the order
      * @param p_currentState the current game state
-     * @return the generated order as a string
+     * @return the order, or null if the player issues no order this time
      * @throws IOException if there is an I/O error
      */
-    public abstract String createOrder(Player p_player, CurrentState p_currentState) throws IOException;
+    public abstract Orders createOrder(Player p_player, CurrentState p_currentState) throws IOException;
 
     /**
      * Creates an order to use a specific card.
@@ -44,27 +100,25 @@ public abstract class PlayerBehaviourStrategy implements Serializable {
      * @param p_player the player issuing the order
      * @param p_currentState the current game state
      * @param p_cardName the name of the card
-     * @return the card order as a string
+     * @return the card order, or null if the card is not played
      */
-    public abstract String createCardOrder(Player p_player, CurrentState p_currentState, String p_cardName);
+    public abstract Card createCardOrder(Player p_player, CurrentState p_currentState, String p_cardName);
 
     /**
      * Creates an advance order (e.g., to move or attack).
      *
      * @param p_player the player issuing the order
      * @param p_currentState the current game state
-     * @return the advance order as a string
+     * @return the advance order, or null if there is nothing to advance
      */
-    public abstract String createAdvanceOrder(Player p_player, CurrentState p_currentState);
+    public abstract Advance createAdvanceOrder(Player p_player, CurrentState p_currentState);
 
     /**
      * Creates a deploy order to place armies.
      *
      * @param p_player the player issuing the order
      * @param p_currentState the current game state
-     * @return the deploy order as a string
+     * @return the deploy order, or null if there is nothing to deploy
      */
-    public abstract String createDeployOrder(Player p_player, CurrentState p_currentState);
-
-
+    public abstract Deploy createDeployOrder(Player p_player, CurrentState p_currentState);
 }
@@ -2,7 +2,7 @@ package Model;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * A computer-controlled player that issues commands based on random choices.
@@ -24,48 +24,60 @@ public class RandomPlayer extends PlayerBehaviourStrategy{
     public RandomPlayer() {
     }
 
-    public String createOrder(Player p_player, CurrentState p_gameState) {
-        System.out.println("Creating order for : " + p_player.getD_playerName());
-        String l_command;
+    public Orders createOrder(Player p_player, CurrentState p_gameState) {
+        printChoice(p_gameState, () -> "Creating order for : " + p_player.getD_playerName());
+        Orders l_order;
 
-        if (!checkIfArmiesDeployed(p_player)) {
-            l_command = (p_player.getD_unallocatedArmies() > 0)
-                    ? createDeployOrder(p_player, p_gameState)
+        if (!checkIfArmiesDeployed(p_player, p_gameState.getBoard())) {
+            l_order = (p_player.getD_unallocatedArmies() > 0)
+                    ? createDeployOrAdvanceOrder(p_player, p_gameState)
                     : createAdvanceOrder(p_player, p_gameState);
         } else {
             List<String> l_cards = p_player.getD_cardOwnedByPlayer();
-            Random l_random = new Random();
+            SplittableRandom l_random = p_player.getD_random();
 
             if (!l_cards.isEmpty()) {
                 int l_index = l_random.nextInt(3); // Generates 0, 1, or 2
 
                 switch (l_index) {
                     case 0:
-                        l_command = createDeployOrder(p_player, p_gameState);
+                        l_order = createDeployOrAdvanceOrder(p_player, p_gameState);
                         break;
                     case 1:
-                        l_command = createAdvanceOrder(p_player, p_gameState);
+                        l_order = createAdvanceOrder(p_player, p_gameState);
                         break;
                     case 2:
                         int l_cardIndex = l_random.nextInt(p_player.getD_cardOwnedByPlayer().size());
-                        l_command = createCardOrder(p_player, p_gameState, p_player.getD_cardOwnedByPlayer().get(l_cardIndex));
+                        l_order = createCardOrder(p_player, p_gameState, p_player.getD_cardOwnedByPlayer().get(l_cardIndex));
                         break;
                     default:
-                        l_command = createAdvanceOrder(p_player, p_gameState);
+                        l_order = createAdvanceOrder(p_player, p_gameState);
                         break;
                 }
             } else {
-                boolean l_randomBoolean = new Random().nextBoolean();
-                l_command = l_randomBoolean ? createDeployOrder(p_player, p_gameState) : createAdvanceOrder(p_player, p_gameState);
+                boolean l_randomBoolean = p_player.getD_random().nextBoolean();
+                l_order = l_randomBoolean ? createDeployOrAdvanceOrder(p_player, p_gameState) : createAdvanceOrder(p_player, p_gameState);
             }
         }
 
-        return l_command;
+        return l_order;
     }
 
-    private boolean checkIfArmiesDeployed(Player p_player) {
+    /**
+     * Creates a deploy order, or an advance order once the player has no armies left to deploy.
+     *
+     * @param p_player    The player.
+     * @param p_gameState The game state.
+     * @return The order, or null if there is nothing to advance either.
+     */
+    private Orders createDeployOrAdvanceOrder(Player p_player, CurrentState p_gameState) {
+        Deploy l_deploy = createDeployOrder(p_player, p_gameState);
+        return l_deploy != null ? l_deploy : createAdvanceOrder(p_player, p_gameState);
+    }
+
+    private boolean checkIfArmiesDeployed(Player p_player, GameBoard p_board) {
         for(Country l_eachCountry : p_player.getD_currentCountries()){
-            if(l_eachCountry.getD_armies() > 0) {
+            if(p_board.getArmies(l_eachCountry) > 0) {
                 return true;
             }
         }
@@ -77,28 +89,50 @@ public class RandomPlayer extends PlayerBehaviourStrategy{
         return "Random";
     }
 
+    /**
+     * Creates a new Random strategy.
+     *
+     * @return the new strategy
+     */
+    @Override
+    public PlayerBehaviourStrategy copy() {
+        return new RandomPlayer();
+    }
+
+    @Override
+    public List<Country> getD_deployCountries() {
+        return d_deployCountries;
+    }
+
     @Override
-    public String createCardOrder(Player p_player, CurrentState p_currentState, String p_cardName) {
-        Random l_random = new Random();
+    public void setD_deployCountries(List<Country> p_deployCountries) {
+        d_deployCountries = new ArrayList<>(p_deployCountries);
+    }
+
+    @Override
+    public Card createCardOrder(Player p_player, CurrentState p_currentState, String p_cardName) {
+        SplittableRandom l_random = p_player.getD_random();
         int l_armiesToSend;
-        Country l_randomOwnedCountry = getRandomCountry(p_player.getD_currentCountries());
-        Country l_randomNeighbour = p_currentState.getD_map().getCountryById(l_randomOwnedCountry.getD_neighbouringCountriesId().get(l_random.nextInt(l_randomOwnedCountry.getD_neighbouringCountriesId().size())));
+        Country l_randomOwnedCountry = getRandomCountry(p_player.getD_currentCountries(), l_random);
+        Map l_map = p_currentState.getD_map();
+        Country l_randomNeighbour = l_map.getNeighbourAt(l_randomOwnedCountry, l_random.nextInt(l_map.getNeighbourCount(l_randomOwnedCountry)));
         Player l_randomPlayer = getRandomPlayer(p_currentState, p_player);
-        if(l_randomOwnedCountry.getD_armies() > 1){
-            l_armiesToSend = l_random.nextInt(l_randomOwnedCountry.getD_armies() - 1) + 1;
+        int l_armies = p_currentState.getBoard().getArmies(l_randomOwnedCountry);
+        if(l_armies > 1){
+            l_armiesToSend = l_random.nextInt(l_armies - 1) + 1;
         }
         else {
             l_armiesToSend = 1;
         }
         switch (p_cardName) {
             case "bomb":
-                return "bomb " + l_randomNeighbour.getD_countryName();
+                return new CardBomb(p_player, l_randomNeighbour.getD_countryName());
             case "blockade":
-                return "blockade " + l_randomOwnedCountry.getD_countryName();
+                return new CardBlockade(p_player, l_randomOwnedCountry.getD_countryName());
             case "airlift":
-                return "airlift " + l_randomOwnedCountry.getD_countryName() + " " + getRandomCountry(p_player.getD_currentCountries()) + " " + l_armiesToSend;
+                return new CardAirlift(l_armiesToSend, l_randomOwnedCountry.getD_countryName(), p_player, getRandomCountry(p_player.getD_currentCountries(), l_random).getD_countryName());
             case "negotiate":
-                return "negotiate " + l_randomPlayer.getD_playerName();
+                return new CardNegotiate(p_player, l_randomPlayer.getD_playerName());
             default:
                 return null;
         }
@@ -106,7 +140,7 @@ public class RandomPlayer extends PlayerBehaviourStrategy{
 
     private Player getRandomPlayer(CurrentState p_currentState, Player p_player) {
         ArrayList<Player> l_PlayerList = new ArrayList<Player>();
-        Random l_random = new Random();
+        SplittableRandom l_random = p_player.getD_random();
         for(Player l_eachPlayer : p_currentState.getD_players()){
             if(l_eachPlayer.equals(p_player)){
                 l_PlayerList.add(l_eachPlayer);
@@ -116,47 +150,46 @@ public class RandomPlayer extends PlayerBehaviourStrategy{
     }
 
     @Override
-    public String createAdvanceOrder(Player p_player, CurrentState p_currentState) {
+    public Advance createAdvanceOrder(Player p_player, CurrentState p_currentState) {
         int l_armiesToAdvance = 1;
-        Random l_random = new Random();
-        Country l_randomOwnedCountry = getRandomCountry(d_deployCountries);
-        int l_randomIndex = l_random.nextInt(l_randomOwnedCountry.getD_neighbouringCountriesId().size());
+        SplittableRandom l_random = p_player.getD_random();
+        Country l_randomOwnedCountry = getRandomCountry(d_deployCountries, l_random);
+        Map l_map = p_currentState.getD_map();
+        int l_randomIndex = l_random.nextInt(l_map.getNeighbourCount(l_randomOwnedCountry));
         Country l_randomNeighbour;
-        if(l_randomOwnedCountry.getD_neighbouringCountriesId().size() > 1){
-            l_randomNeighbour = p_currentState.getD_map().getCountryById(l_randomOwnedCountry.getD_neighbouringCountriesId().get(l_randomIndex));
+        if(l_map.getNeighbourCount(l_randomOwnedCountry) > 1){
+            l_randomNeighbour = l_map.getNeighbourAt(l_randomOwnedCountry, l_randomIndex);
         }
         else {
-            l_randomNeighbour = p_currentState.getD_map().getCountryById(l_randomOwnedCountry.getD_neighbouringCountriesId().get(0));
+            l_randomNeighbour = l_map.getNeighbourAt(l_randomOwnedCountry, 0);
         }
-        if(l_randomOwnedCountry.getD_armies() > 1){
-            l_armiesToAdvance = l_random.nextInt(l_randomOwnedCountry.getD_armies() - 1) + 1;
+        int l_armies = p_currentState.getBoard().getArmies(l_randomOwnedCountry);
+        if(l_armies > 1){
+            l_armiesToAdvance = l_random.nextInt(l_armies - 1) + 1;
         }
         else {
             l_armiesToAdvance = 1;
         }
-        return "advance " + l_randomOwnedCountry.getD_countryName() + " " + l_randomNeighbour.getD_countryName() + " " + l_armiesToAdvance;
+        return new Advance(l_randomOwnedCountry, l_randomNeighbour, l_armiesToAdvance, p_player);
     }
 
     @Override
-    public String createDeployOrder(Player p_player, CurrentState p_currentState) {
+    public Deploy createDeployOrder(Player p_player, CurrentState p_currentState) {
         if(p_player.getD_unallocatedArmies() > 0){
-            Random l_random = new Random();
-            Country l_randomCountry = getRandomCountry(p_player.getD_currentCountries());
+            SplittableRandom l_random = p_player.getD_random();
+            Country l_randomCountry = getRandomCountry(p_player.getD_currentCountries(), l_random);
             d_deployCountries.add(l_randomCountry);
             int l_armiesToDeploy = 1;
             if(p_player.getD_unallocatedArmies() > 1){
                 l_armiesToDeploy = l_random.nextInt(p_player.getD_unallocatedArmies() - 1) + 1;
             }
-            return String.format("deploy %s %d", l_randomCountry.getD_countryName(), l_armiesToDeploy);
-        }
-        else{
-            return createAdvanceOrder(p_player, p_currentState);
+            return new Deploy(p_player, l_randomCountry, l_armiesToDeploy);
         }
+        return null;
     }
 
-    private Country getRandomCountry(List<Country> p_currentCountries) {
-        Random l_random = new Random();
-        int l_randomIndex = l_random.nextInt(p_currentCountries.size());
+    private Country getRandomCountry(List<Country> p_currentCountries, SplittableRandom p_random) {
+        int l_randomIndex = p_random.nextInt(p_currentCountries.size());
         return p_currentCountries.get(l_randomIndex);
     }
 
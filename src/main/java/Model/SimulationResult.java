@@ -0,0 +1,111 @@
+package Model;
+
+import java.util.List;
+
+/**
+ * The outcome of a game played by {@link GameSimulator}.
+ */
+public class SimulationResult {
+
+    /**
+     * Name of the winning player, or null if the game ended in a draw.
+     */
+    private final String d_winner;
+
+    /**
+     * Strategy of the winning player, or null if the game ended in a draw.
+     */
+    private final String d_winnerStrategy;
+
+    /**
+     * Names of the players that lost all their countries, in the order they were knocked out.
+     */
+    private final List<String> d_failedPlayers;
+
+    /**
+     * Number of turns played.
+     */
+    private final int d_turnsPlayed;
+
+    /**
+     * Seed the game was played with.
+     */
+    private final long d_seed;
+
+    /**
+     * Creates a result.
+     *
+     * @param p_winner         name of the winning player, or null for a draw
+     * @param p_winnerStrategy strategy of the winning player, or null for a draw
+     * @param p_failedPlayers  names of the players that lost all their countries
+     * @param p_turnsPlayed    number of turns played
+     * @param p_seed           seed the game was played with
+     */
+    public SimulationResult(String p_winner, String p_winnerStrategy, List<String> p_failedPlayers, int p_turnsPlayed, long p_seed) {
+        d_winner = p_winner;
+        d_winnerStrategy = p_winnerStrategy;
+        d_failedPlayers = List.copyOf(p_failedPlayers);
+        d_turnsPlayed = p_turnsPlayed;
+        d_seed = p_seed;
+    }
+
+    /**
+     * Gets the name of the winning player.
+     *
+     * @return the winner, or null if the game ended in a draw
+     */
+    public String getD_winner() {
+        return d_winner;
+    }
+
+    /**
+     * Gets the strategy of the winning player.
+     *
+     * @return the strategy, or null if the game ended in a draw
+     */
+    public String getD_winnerStrategy() {
+        return d_winnerStrategy;
+    }
+
+    /**
+     * Gets the names of the players that lost all their countries.
+     *
+     * @return the failed players
+     */
+    public List<String> getD_failedPlayers() {
+        return d_failedPlayers;
+    }
+
+    /**
+     * Gets the number of turns played.
+     *
+     * @return the number of turns
+     */
+    public int getD_turnsPlayed() {
+        return d_turnsPlayed;
+    }
+
+    /**
+     * Gets the seed the game was played with.
+     *
+     * @return the seed
+     */
+    public long getD_seed() {
+        return d_seed;
+    }
+
+    /**
+     * Checks whether the turn limit was reached without a winner.
+     *
+     * @return true for a draw
+     */
+    public boolean isDraw() {
+        return d_winner == null;
+    }
+
+    @Override
+    public String toString() {
+        return isDraw() ? "Draw after " + d_turnsPlayed + " turns"
+                : d_winner + " (" + d_winnerStrategy + ") won after " + d_turnsPlayed + " turns";
+    }
+}
@@ -5,7 +5,9 @@ import Controller.MainGameEngine;
 import Controller.PlayerController;
 import Exceptions.CommandValidationException;
 import Services.GameService;
+import Services.SavedGame;
 import Utils.CommandHandler;
+import View.GameLogger;
 import View.MapView;
 import View.TournamentView;
 
@@ -63,12 +65,15 @@ public class StartupPhase extends Phase{
 
     /**
      * Starts the game and continuously listens for player commands.
+     *
+     * @param p_isTournamentMode whether the game is in tournament mode
+     * @return the phase a command switched to, such as the issue order phase or a loaded game
      */
-    public void initPhase(boolean p_isTournamentMode){
+    public Phase initPhase(boolean p_isTournamentMode){
         BufferedReader l_bufferedReader = new BufferedReader(new InputStreamReader(System.in));
 //        commandDescription();
 
-        while (d_mainGameEngine.getD_currentPhase() instanceof StartupPhase) {
+        while (d_mainGameEngine.getD_currentPhase() == this) {
             System.out.print("Enter your command: ");
             try {
                 String l_inputCommand = l_bufferedReader.readLine();
@@ -77,10 +82,11 @@ public class StartupPhase extends Phase{
                 System.err.println("An error occurred: " + e.getMessage());
             }
         }
+        return d_mainGameEngine.getD_currentPhase();
     }
 
     /**
-     * Load game.
+     * Load game. The saved state is read and the phase it was saved in is created again for this engine.
      *
      * @param p_commandHandler the p command handler
      * @param p_player         the p player
@@ -98,12 +104,13 @@ public class StartupPhase extends Phase{
                 try {
 //                    System.out.println("Game loaded successfully from Filename : " + l_fileName);
                     d_mainGameEngine.setD_mainEngineLog("Game loaded successfully from Filename : " + l_fileName, "effect");
-                    Phase l_phase = GameService.loadGame(l_fileName);
-                    this.d_mainGameEngine.loadPhase(l_phase);
+                    SavedGame l_savedGame = GameService.readGame(l_fileName);
+                    this.d_mainGameEngine.loadPhase(l_savedGame.toPhase(d_mainGameEngine));
 //                    System.out.println("Game loaded successfully from Filename : " + l_fileName);
 //                    d_mainGameEngine.setD_mainEngineLog("Game loaded successfully from Filename : " + l_fileName, "effect");
-                } catch (ClassNotFoundException | IOException e) {
+                } catch (IOException e) {
                     System.out.println(ProjectConstants.INVALID_LOADGAME_COMMAND);
+                    System.out.println(e.getMessage());
                 }
             }
         }
@@ -135,7 +142,8 @@ public class StartupPhase extends Phase{
     }
 
     /**
-     * Tournament mode.
+     * Tournament mode. The games are played by {@link TournamentRunner#configured()} and their results shown once
+     * all of them have finished.
      *
      * @param p_commandHandler the p command handler
      * @throws CommandValidationException the command validation exception
@@ -161,13 +169,10 @@ public class StartupPhase extends Phase{
                 }
             }
             if(l_parsingSuccess){
-                for(CurrentState l_eachState : d_tournament.getD_currentStateList()){
-                    d_mainGameEngine.setD_mainEngineLog("Starting new game on the map " + l_eachState.getD_map().getD_mapName() +" ...........", "effect");
-                    assignCountries(new CommandHandler("assigncountries"), null, true , l_eachState);
-
-                    d_mainGameEngine.setD_mainEngineLog("Game completed on map : " + l_eachState.getD_map().getD_mapName() + "................\n ", "effect");
-                }
+                d_mainGameEngine.setD_mainEngineLog("Tournament seed : " + d_tournament.getD_seed(), "effect");
+                TournamentRunner.configured().runTournament(d_tournament);
                 d_mainGameEngine.setD_mainEngineLog("******** Tournament Completed ********", "effect");
+                GameLogger.flush();
                 TournamentView l_tournamentView = new TournamentView(d_tournament);
                 l_tournamentView.viewTournament();
                 d_tournament = new Tournament();
@@ -232,6 +237,7 @@ public class StartupPhase extends Phase{
             System.out.println(ProjectConstants.VALID_MAP);
             d_mainGameEngine.setD_mainEngineLog(ProjectConstants.VALID_MAP,"effect");
         } else {
+            System.out.print(l_map.validate());
             System.out.println(ProjectConstants.INVALID_MAP);
         }
     }
@@ -399,11 +405,13 @@ public class StartupPhase extends Phase{
                 Model.Map l_map =d_mapController.loadMap(d_currentState,l_singleOperation.get("Arguments"));
                 System.out.println(l_map);
                 System.out.println("before validate");
-                if(l_map.validateMap()){
+                MapValidationReport l_report = l_map.validate();
+                if(l_report.isValid()){
                     d_currentState.setD_loadCommand(true);
                     System.out.println(ProjectConstants.VALID_MAP);
                 }
                 else{
+                    System.out.print(l_report);
                     System.out.println(ProjectConstants.INVALID_MAP);
                 }
             }
@@ -8,6 +8,7 @@ import Utils.CommandHandler;
 
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * The Tournament class handles the initialization and management of a tournament in the game.
@@ -32,6 +33,19 @@ public class Tournament implements Serializable {
      */
     List<CurrentState> d_currentStateList = new ArrayList<>();
 
+    /**
+     * Each map of the tournament as parsed and validated once, keyed by file name. Games get copies of these
+     * that share their borders, see {@link Map#copyForGame()}.
+     */
+    HashMap<String, Map> d_mapTopologies = new HashMap<>();
+
+    /**
+     * Seed of the tournament. Every game gets its own seed derived from it, in the order of
+     * {@link #getD_currentStateList()}, so a tournament played again with the same seed has the same results
+     * however many games are played at once.
+     */
+    long d_seed = initialSeed();
+
 
     /**
      * Default constructor for the Tournament class.
@@ -77,6 +91,52 @@ public class Tournament implements Serializable {
     }
 
 
+    /**
+     * Gets the seed of the tournament.
+     *
+     * @return the seed
+     */
+    public long getD_seed() {
+        return d_seed;
+    }
+
+    /**
+     * Sets the seed of the tournament.
+     *
+     * @param p_seed the seed
+     */
+    public void setD_seed(long p_seed) {
+        this.d_seed = p_seed;
+    }
+
+    /**
+     * Gives every game a seed derived from the seed of the tournament, in tournament order.
+     */
+    public void seedGames() {
+        SplittableRandom l_seeds = new SplittableRandom(d_seed);
+        for (CurrentState l_currentState : d_currentStateList) {
+            l_currentState.setD_seed(l_seeds.nextLong());
+        }
+    }
+
+    /**
+     * Gets the seed a new tournament starts with: the {@value ProjectConstants#TOURNAMENT_SEED_PROPERTY} system
+     * property if it is set, or else a random seed.
+     *
+     * @return the seed
+     */
+    private static long initialSeed() {
+        String l_seed = System.getProperty(ProjectConstants.TOURNAMENT_SEED_PROPERTY);
+        if (l_seed != null) {
+            try {
+                return Long.parseLong(l_seed.trim());
+            } catch (NumberFormatException l_e) {
+                // fall through to a random seed
+            }
+        }
+        return new SplittableRandom().nextLong();
+    }
+
     /**
      * Parses the tournament command and validates the given operation and argument.
      *
@@ -155,8 +215,11 @@ public class Tournament implements Serializable {
             for(int l_gameNumber =0 ; l_gameNumber < l_noOfGames -1; l_gameNumber++) {
                 for (CurrentState l_eachState : d_currentStateList) {
                     CurrentState l_eachStateToAdd = new CurrentState();
-                    Map l_loadedMap = d_mapController.loadMap(l_eachStateToAdd, l_eachState.getD_map().getD_mapName());
-                    l_loadedMap.setD_mapName(l_eachState.getD_map().getD_mapName());
+                    String l_mapName = l_eachState.getD_map().getD_mapName();
+                    Map l_topology = d_mapTopologies.get(l_mapName);
+                    Map l_loadedMap = l_topology != null ? l_topology.copyForGame() : d_mapController.loadMap(l_eachStateToAdd, l_mapName);
+                    l_loadedMap.setD_mapName(l_mapName);
+                    l_eachStateToAdd.setD_map(l_loadedMap);
                     List<Player> l_playersToCopy = getPlayersToAdd(l_eachState.getD_players());
                     l_eachStateToAdd.setD_players(l_playersToCopy);
                     l_eachStateToAdd.setD_loadCommand(true);
@@ -237,7 +300,7 @@ public class Tournament implements Serializable {
     }
 
     /**
-     * Creates new player objects to add to the game, based on the players' existing behaviour strategies.
+     * Creates new player objects to add to the game, copies of the players with strategies of the same kind.
      *
      * @param p_playersInGame The list of players to be added to the game.
      * @return A list of new player objects with updated behaviour strategies.
@@ -245,24 +308,14 @@ public class Tournament implements Serializable {
     private List<Player> getPlayersToAdd(List<Player> p_playersInGame) {
         List<Player> l_players = new ArrayList<>();
         for(Player l_player : p_playersInGame){
-            Player l_newPlayer = new Player(l_player.getD_playerName());
-
-            if(l_player.getD_playerBehaviourStrategy() instanceof AggressivePlayer){
-                l_newPlayer.setD_playerBehaviourStrategy(new AggressivePlayer());
-            } else if (l_player.getD_playerBehaviourStrategy() instanceof BenevolentPlayer){
-                l_newPlayer.setD_playerBehaviourStrategy(new BenevolentPlayer());
-            } else if (l_player.getD_playerBehaviourStrategy() instanceof CheaterPlayer){
-                l_newPlayer.setD_playerBehaviourStrategy(new CheaterPlayer());
-            } else if (l_player.getD_playerBehaviourStrategy() instanceof RandomPlayer){
-                l_newPlayer.setD_playerBehaviourStrategy(new RandomPlayer());
-            }
-            l_players.add(l_newPlayer);
+            l_players.add(l_player.copy());
         }
         return l_players;
     }
 
     /**
      * Parses the map arguments for the tournament and loads the specified map files.
+     * Each distinct map file is read and validated once; every game gets its own copy of it.
      *
      * @param p_argument The argument containing the map files.
      * @param p_maingameEngine The main game engine for logging and operations.
@@ -286,22 +339,28 @@ public class Tournament implements Serializable {
 
         for (String l_mapFile : l_listOfMapFiles) {
             CurrentState l_currentState = new CurrentState();
-            Map l_map = d_mapController.loadMap(l_currentState, l_mapFile);
+            Map l_topology = d_mapTopologies.get(l_mapFile);
+            if (l_topology == null) {
+                l_topology = d_mapController.loadMap(l_currentState, l_mapFile);
+
+                if (l_topology == null) {
+                    p_maingameEngine.setD_mainEngineLog("Error: Failed to load map: " + l_mapFile, "effect");
+                    l_allMapsLoaded = false;
+                    continue;
+                }
 
-            if (l_map == null) {
-                p_maingameEngine.setD_mainEngineLog("Error: Failed to load map: " + l_mapFile, "effect");
-                l_allMapsLoaded = false;
-                continue;
-            }
+                if (!l_topology.validate(ForkJoinPool.commonPool()).isValid()) {
+                    d_mapController.resetMap(l_currentState, l_mapFile);
+                    p_maingameEngine.setD_mainEngineLog("Error: Invalid map file: " + l_mapFile, "effect");
+                    l_allMapsLoaded = false;
+                    continue;
+                }
 
-            if (!l_map.validateMap()) {
-                d_mapController.resetMap(l_currentState, l_mapFile);
-                p_maingameEngine.setD_mainEngineLog("Error: Invalid map file: " + l_mapFile, "effect");
-                l_allMapsLoaded = false;
-                continue;
+                l_topology.setD_mapName(l_mapFile);
+                d_mapTopologies.put(l_mapFile, l_topology);
             }
 
-            l_map.setD_mapName(l_mapFile);
+            l_currentState.setD_map(l_topology.copyForGame());
             l_currentState.setD_loadCommand(true);
             p_maingameEngine.setD_mainEngineLog("Map: " + l_mapFile + " Loaded Successfully", "effect");
             d_currentStateList.add(l_currentState);
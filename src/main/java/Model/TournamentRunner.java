@@ -0,0 +1,193 @@
+package Model;
+
+import Constants.ProjectConstants;
+import Controller.MainGameEngine;
+import Exceptions.CommandValidationException;
+import Utils.CommandHandler;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Plays the games of a {@link Tournament}. Every game gets its own {@link MainGameEngine} and phases, so games
+ * share nothing but the read-only borders of their map and can run at the same time. Games run either on a
+ * fixed pool of workers or on one virtual thread each; with a single worker they run one after another on the
+ * calling thread.
+ * <p>
+ * The winner and the failed players of each game are kept on its {@link CurrentState}, in the order of
+ * {@link Tournament#getD_currentStateList()}, which is what {@link View.TournamentView} renders. Games print
+ * through the {@link GameConsole} of the runner. When games run in parallel, each game prints to a buffer of its
+ * own, which is printed to the console game by game in tournament order, so the console shows the same text as
+ * a serial run. Every game is seeded from the tournament seed before any
+ * game starts, so the results for a given seed do not depend on the number of workers.
+ */
+public class TournamentRunner {
+
+    /**
+     * Number of workers; 1 plays the games on the calling thread and 0 or less gives every game a virtual thread.
+     */
+    private final int d_workers;
+
+    /**
+     * Where the games print what they tell the players.
+     */
+    private final GameConsole d_console;
+
+    /**
+     * Creates a runner whose games print to the standard streams.
+     *
+     * @param p_workers number of games played at once; 1 plays them one after another on the calling thread,
+     *                  and 0 or less starts one virtual thread per game
+     */
+    public TournamentRunner(int p_workers) {
+        this(p_workers, GameConsole.STANDARD);
+    }
+
+    /**
+     * Creates a runner.
+     *
+     * @param p_workers number of games played at once; 1 plays them one after another on the calling thread,
+     *                  and 0 or less starts one virtual thread per game
+     * @param p_console where the games print, {@link GameConsole#NONE} for games that print nothing
+     */
+    public TournamentRunner(int p_workers, GameConsole p_console) {
+        d_workers = p_workers;
+        d_console = p_console;
+    }
+
+    /**
+     * Creates a runner as configured by the {@value ProjectConstants#TOURNAMENT_WORKERS_PROPERTY} system
+     * property: a number of workers, or {@code virtual} for one virtual thread per game. Without the property
+     * there is one worker per available processor.
+     *
+     * @return the runner
+     */
+    public static TournamentRunner configured() {
+        String l_workers = System.getProperty(ProjectConstants.TOURNAMENT_WORKERS_PROPERTY);
+        if (l_workers == null || l_workers.isBlank()) {
+            return new TournamentRunner(Runtime.getRuntime().availableProcessors());
+        }
+        if (l_workers.trim().equalsIgnoreCase("virtual")) {
+            return new TournamentRunner(0);
+        }
+        try {
+            return new TournamentRunner(Math.max(1, Integer.parseInt(l_workers.trim())));
+        } catch (NumberFormatException l_e) {
+            return new TournamentRunner(Runtime.getRuntime().availableProcessors());
+        }
+    }
+
+    /**
+     * Gets the number of workers.
+     *
+     * @return the number of workers; 0 or less means one virtual thread per game
+     */
+    public int getD_workers() {
+        return d_workers;
+    }
+
+    /**
+     * Plays every game of the tournament and returns once all of them have finished.
+     *
+     * @param p_tournament the tournament whose games are played
+     * @throws CommandValidationException if a game could not be started
+     * @throws IOException                if a game failed to read or write a file
+     */
+    public void runTournament(Tournament p_tournament) throws CommandValidationException, IOException {
+        List<CurrentState> l_games = p_tournament.getD_currentStateList();
+        p_tournament.seedGames();
+        if (d_workers == 1 || l_games.size() < 2) {
+            for (CurrentState l_game : l_games) {
+                runGame(l_game, d_console);
+            }
+            return;
+        }
+
+        ExecutorService l_executor = d_workers > 0 ? Executors.newFixedThreadPool(Math.min(d_workers, l_games.size()))
+                : Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            List<Future<byte[]>> l_results = new ArrayList<>(l_games.size());
+            for (CurrentState l_game : l_games) {
+                l_results.add(l_executor.submit(() -> {
+                    if (!d_console.isOn()) {
+                        runGame(l_game, GameConsole.NONE);
+                        return new byte[0];
+                    }
+                    ByteArrayOutputStream l_output = new ByteArrayOutputStream();
+                    runGame(l_game, new GameConsole(new PrintStream(l_output, true)));
+                    return l_output.toByteArray();
+                }));
+            }
+            for (Future<byte[]> l_result : l_results) {
+                byte[] l_printed = waitFor(l_result);
+                if (l_printed.length > 0) {
+                    d_console.getD_output().write(l_printed);
+                    d_console.getD_output().flush();
+                }
+            }
+        } finally {
+            l_executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Plays one game to its end: countries and armies are assigned and turns are played until a player has won
+     * or no turns are left. Only the start and the end of the game are logged, see {@link LogProfile#QUIET}.
+     *
+     * @param p_game    the state of the game
+     * @param p_console where the game prints
+     * @throws CommandValidationException if the game could not be started
+     * @throws IOException                if the game failed to read or write a file
+     */
+    void runGame(CurrentState p_game, GameConsole p_console) throws CommandValidationException, IOException {
+        MainGameEngine l_engine = new MainGameEngine();
+        StartupPhase l_startupPhase = new StartupPhase(l_engine, p_game);
+        l_engine.setD_console(p_console);
+        l_engine.setD_currentGameState(p_game);
+        l_engine.setD_currentPhase(l_startupPhase);
+        p_game.getD_modelLogger().setD_profile(LogProfile.QUIET);
+
+        l_engine.setD_mainEngineLog("Starting new game on the map " + p_game.getD_map().getD_mapName() + " ...........", "start");
+        l_startupPhase.assignCountries(new CommandHandler("assigncountries"), null, true, p_game);
+        if (l_engine.getD_currentPhase() != l_startupPhase) {
+            l_engine.runPhases();
+        }
+        l_engine.setD_mainEngineLog("Game completed on map : " + p_game.getD_map().getD_mapName() + "................\n ", "end");
+    }
+
+    /**
+     * Waits for a game and rethrows what stopped it.
+     *
+     * @param p_result the pending game
+     * @return what the game printed
+     * @throws CommandValidationException if the game could not be started
+     * @throws IOException                if the game failed to read or write a file
+     */
+    private byte[] waitFor(Future<byte[]> p_result) throws CommandValidationException, IOException {
+        try {
+            return p_result.get();
+        } catch (InterruptedException l_e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Tournament interrupted.", l_e);
+        } catch (ExecutionException l_e) {
+            Throwable l_cause = l_e.getCause();
+            if (l_cause instanceof CommandValidationException l_invalid) {
+                throw l_invalid;
+            }
+            if (l_cause instanceof IOException l_io) {
+                throw l_io;
+            }
+            if (l_cause instanceof RuntimeException l_runtime) {
+                throw l_runtime;
+            }
+            throw new IllegalStateException(l_cause);
+        }
+    }
+}
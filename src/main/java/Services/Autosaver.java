@@ -0,0 +1,307 @@
+package Services;
+
+import Model.Phase;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Saves a game in the background at every turn. The game thread only takes a {@link GameStateWriter.Snapshot} of
+ * the game, a copy of its state in a few byte arrays; a single writer thread compresses the snapshot and writes it
+ * to a new numbered file, {@code <prefix>-<number>}, which is read back with {@code loadgame} like any saved game.
+ * Once a file is in place, all but the newest files of the prefix are deleted.
+ * <p>
+ * The game never waits for the disk. A single snapshot waits for the writer thread, and a newer one replaces it,
+ * so whenever the writer thread is free it takes the newest turn; a snapshot it has started on is always written
+ * to the end. Every file is forced to the disk before it is moved into place, so a crash leaves the files of the
+ * turns already written, and no partly written file. A crash loses the turns played since the snapshot being
+ * written was taken: the last turn as long as a file is written within a turn, and the turns played during one
+ * file write when the game runs faster than the disk.
+ */
+public final class Autosaver implements Closeable {
+
+    /**
+     * The folder the files are written to.
+     */
+    private final Path d_directory;
+
+    /**
+     * Start of the name of every file, followed by a dash and the number of the file.
+     */
+    private final String d_prefix;
+
+    /**
+     * Number of files kept.
+     */
+    private final int d_keep;
+
+    /**
+     * Takes and encodes the snapshots.
+     */
+    private final GameStateWriter d_writer;
+
+    /**
+     * Guards the pending snapshot and the counters below.
+     */
+    private final ReentrantLock d_lock = new ReentrantLock();
+
+    /**
+     * Signalled when a snapshot is waiting or the autosaver is closed.
+     */
+    private final Condition d_work = d_lock.newCondition();
+
+    /**
+     * Signalled when the writer thread is done with a snapshot.
+     */
+    private final Condition d_done = d_lock.newCondition();
+
+    /**
+     * The single writer thread.
+     */
+    private final Thread d_thread;
+
+    /**
+     * The snapshot waiting for the writer thread, or null.
+     */
+    private GameStateWriter.Snapshot d_pending;
+
+    /**
+     * Number of the last file written, counting on from the files already in the folder.
+     */
+    private long d_number;
+
+    /**
+     * Number of snapshots taken.
+     */
+    private long d_taken;
+
+    /**
+     * Number of snapshots written, or given up on because they could not be written.
+     */
+    private long d_finished;
+
+    /**
+     * Number of snapshots replaced by a newer one before they were written.
+     */
+    private long d_skipped;
+
+    /**
+     * Whether the autosaver has been closed.
+     */
+    private boolean d_closed;
+
+    /**
+     * Creates an autosaver and starts its writer thread.
+     *
+     * @param p_directory the folder to write to, created if needed
+     * @param p_prefix    start of the name of every file
+     * @param p_keep      number of files kept
+     * @param p_deflate   whether the files are Deflate compressed
+     * @throws IOException              if the folder cannot be created or read
+     * @throws IllegalArgumentException if fewer than one file is to be kept
+     */
+    public Autosaver(Path p_directory, String p_prefix, int p_keep, boolean p_deflate) throws IOException {
+        if (p_keep < 1) {
+            throw new IllegalArgumentException("At least one autosave must be kept.");
+        }
+        d_directory = p_directory;
+        d_prefix = p_prefix;
+        d_keep = p_keep;
+        d_writer = new GameStateWriter(p_deflate);
+        Files.createDirectories(p_directory);
+        List<Long> l_numbers = fileNumbers();
+        d_number = l_numbers.isEmpty() ? 0 : l_numbers.get(l_numbers.size() - 1);
+        d_thread = new Thread(this::writeSnapshots, "autosave " + p_prefix);
+        d_thread.setDaemon(true);
+        d_thread.start();
+    }
+
+    /**
+     * Takes a snapshot of the game of a phase and hands it to the writer thread. A snapshot still waiting for the
+     * writer thread is dropped. Snapshots taken after the autosaver is closed are ignored.
+     *
+     * @param p_phase the phase the game is in
+     */
+    public void snapshot(Phase p_phase) {
+        GameStateWriter.Snapshot l_snapshot;
+        try {
+            l_snapshot = d_writer.snapshot(p_phase);
+        } catch (IOException l_e) {
+            System.err.println("Game could not be autosaved: " + l_e.getMessage());
+            return;
+        }
+        d_lock.lock();
+        try {
+            if (d_closed) {
+                return;
+            }
+            if (d_pending != null) {
+                d_skipped++;
+            }
+            d_pending = l_snapshot;
+            d_taken++;
+            d_work.signal();
+        } finally {
+            d_lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until every snapshot taken before the call has been written or dropped.
+     */
+    public void flush() {
+        d_lock.lock();
+        try {
+            long l_target = d_taken;
+            while (d_finished + d_skipped < l_target && d_thread.isAlive()) {
+                d_done.awaitUninterruptibly();
+            }
+        } finally {
+            d_lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the snapshot still waiting, if any, and stops the writer thread.
+     */
+    @Override
+    public void close() {
+        d_lock.lock();
+        try {
+            d_closed = true;
+            d_work.signal();
+        } finally {
+            d_lock.unlock();
+        }
+        if (Thread.currentThread() != d_thread) {
+            try {
+                d_thread.join();
+            } catch (InterruptedException l_e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of snapshots replaced by a newer one before they were written.
+     *
+     * @return the number of dropped snapshots
+     */
+    public long getD_skipped() {
+        d_lock.lock();
+        try {
+            return d_skipped;
+        } finally {
+            d_lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the name of the newest file, which {@code loadgame} takes to resume the game.
+     *
+     * @return the file name, or null if no file has been written
+     */
+    public String getD_lastFileName() {
+        d_lock.lock();
+        try {
+            return d_number == 0 ? null : fileName(d_number);
+        } finally {
+            d_lock.unlock();
+        }
+    }
+
+    /**
+     * Body of the writer thread: waits for a snapshot, and encodes and writes it with the lock released, until
+     * the autosaver is closed.
+     */
+    private void writeSnapshots() {
+        while (true) {
+            GameStateWriter.Snapshot l_snapshot;
+            long l_number;
+            d_lock.lock();
+            try {
+                while (d_pending == null && !d_closed) {
+                    d_work.awaitUninterruptibly();
+                }
+                if (d_pending == null) {
+                    return;
+                }
+                l_snapshot = d_pending;
+                d_pending = null;
+                l_number = d_number + 1;
+            } finally {
+                d_lock.unlock();
+            }
+
+            boolean l_written = false;
+            try {
+                d_writer.writeFile(d_writer.encode(l_snapshot), d_directory.resolve(fileName(l_number)));
+                l_written = true;
+                deleteOldFiles();
+            } catch (IOException l_e) {
+                System.err.println("Game could not be autosaved to " + d_directory + ": " + l_e.getMessage());
+            }
+
+            d_lock.lock();
+            try {
+                if (l_written) {
+                    d_number = l_number;
+                }
+                d_finished++;
+                d_done.signalAll();
+            } finally {
+                d_lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Deletes all but the newest {@link #d_keep} files.
+     *
+     * @throws IOException if the folder cannot be read or a file cannot be deleted
+     */
+    private void deleteOldFiles() throws IOException {
+        List<Long> l_numbers = fileNumbers();
+        for (int l_index = 0; l_index < l_numbers.size() - d_keep; l_index++) {
+            Files.deleteIfExists(d_directory.resolve(fileName(l_numbers.get(l_index))));
+        }
+    }
+
+    /**
+     * Lists the numbers of the files of the prefix in the folder, leaving out temporary files.
+     *
+     * @return the numbers, oldest first
+     * @throws IOException if the folder cannot be read
+     */
+    private List<Long> fileNumbers() throws IOException {
+        List<Long> l_numbers = new ArrayList<>();
+        try (DirectoryStream<Path> l_files = Files.newDirectoryStream(d_directory, d_prefix + "-*")) {
+            for (Path l_file : l_files) {
+                String l_number = l_file.getFileName().toString().substring(d_prefix.length() + 1);
+                if (!l_number.isEmpty() && l_number.length() < 19 && l_number.chars().allMatch(Character::isDigit)) {
+                    l_numbers.add(Long.parseLong(l_number));
+                }
+            }
+        }
+        Collections.sort(l_numbers);
+        return l_numbers;
+    }
+
+    /**
+     * Gets the name of a numbered file.
+     *
+     * @param p_number the number of the file
+     * @return the file name
+     */
+    private String fileName(long p_number) {
+        return d_prefix + "-" + p_number;
+    }
+}
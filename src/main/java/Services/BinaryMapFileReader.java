@@ -0,0 +1,155 @@
+package Services;
+
+import Model.Continent;
+import Model.Country;
+import Model.CurrentState;
+import Model.Map;
+import Model.MapGraph;
+import Model.NeighbourIdList;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Reads a map written by {@link BinaryMapFileWriter}. The map is only read if the file has the expected magic
+ * number, version and checksum, and if it was made from the text map file as it is now, that is, the recorded
+ * modification time and size of the text file still match. The resulting map is the same as the one the text
+ * reader built when the binary file was written.
+ */
+public class BinaryMapFileReader implements Serializable {
+
+    /**
+     * Default constructor.
+     */
+    public BinaryMapFileReader() {
+    }
+
+    /**
+     * Reads a binary map file and populates the map and current state objects.
+     *
+     * @param p_currentState the current game state to update
+     * @param p_map          the map object to populate
+     * @param p_sourceFile   the text map file the binary file was made from
+     * @param p_binaryFile   the binary map file
+     * @param p_fileName     the name of the map file
+     * @return true if the map was read; false if the binary file is corrupt, of another version or out of date,
+     * in which case nothing is updated
+     * @throws IOException if a file cannot be read
+     */
+    public boolean readBinaryFile(CurrentState p_currentState, Map p_map, Path p_sourceFile, Path p_binaryFile,
+                                  String p_fileName) throws IOException {
+        ByteBuffer l_file = ByteBuffer.wrap(Files.readAllBytes(p_binaryFile));
+        if (l_file.remaining() < BinaryMapFileWriter.HEADER_SIZE
+                || l_file.getInt() != BinaryMapFileWriter.MAGIC
+                || l_file.getInt() != BinaryMapFileWriter.VERSION
+                || l_file.getLong() != Files.getLastModifiedTime(p_sourceFile).toMillis()
+                || l_file.getLong() != Files.size(p_sourceFile)) {
+            return false;
+        }
+        int l_checksum = l_file.getInt();
+        int l_length = l_file.getInt();
+        if (l_length != l_file.remaining()) {
+            return false;
+        }
+        CRC32C l_crc = new CRC32C();
+        l_crc.update(l_file.duplicate());
+        if ((int) l_crc.getValue() != l_checksum || !decode(l_file, p_map)) {
+            return false;
+        }
+
+        p_map.setD_mapName(p_fileName);
+        p_currentState.setD_map(p_map);
+        return true;
+    }
+
+    /**
+     * Decodes the continents, countries and borders written by {@link BinaryMapFileWriter#encode(Map)} into a map.
+     * The adjacency graph of the map is built straight from the stored borders, and the neighbour lists of the
+     * countries are views of them, so no neighbour id is boxed while loading.
+     *
+     * @param p_payload the encoded map, from its current position
+     * @param p_map     the map to populate
+     * @return true if the map was decoded; false if the payload is corrupt, in which case the map is not changed
+     */
+    boolean decode(ByteBuffer p_payload, Map p_map) {
+        List<Continent> l_continents;
+        List<Country> l_countries;
+        MapGraph l_graph;
+        try {
+            String[] l_strings = new String[p_payload.getInt()];
+            for (int l_index = 0; l_index < l_strings.length; l_index++) {
+                int l_size = p_payload.getInt();
+                l_strings[l_index] = new String(p_payload.array(), p_payload.arrayOffset() + p_payload.position(), l_size, StandardCharsets.UTF_8);
+                p_payload.position(p_payload.position() + l_size);
+            }
+
+            int l_continentCount = p_payload.getInt();
+            int[] l_continentIds = getInts(p_payload, l_continentCount);
+            int[] l_continentNames = getInts(p_payload, l_continentCount);
+            int[] l_continentValues = getInts(p_payload, l_continentCount);
+            l_continents = new ArrayList<>(l_continentCount);
+            HashMap<Integer, Continent> l_continentsById = new HashMap<>();
+            for (int l_index = 0; l_index < l_continentCount; l_index++) {
+                Continent l_continent = new Continent(l_continentIds[l_index], l_strings[l_continentNames[l_index]], l_continentValues[l_index]);
+                l_continents.add(l_continent);
+                l_continentsById.putIfAbsent(l_continentIds[l_index], l_continent);
+            }
+
+            int l_countryCount = p_payload.getInt();
+            int[] l_countryIds = getInts(p_payload, l_countryCount);
+            int[] l_countryNames = getInts(p_payload, l_countryCount);
+            int[] l_countryContinents = getInts(p_payload, l_countryCount);
+            int[] l_borderOffsets = getInts(p_payload, l_countryCount + 1);
+            int[] l_borders = getInts(p_payload, p_payload.getInt());
+            if (l_borderOffsets[0] != 0 || l_borderOffsets[l_countryCount] != l_borders.length) {
+                return false;
+            }
+            l_countries = new ArrayList<>(l_countryCount);
+            for (int l_index = 0; l_index < l_countryCount; l_index++) {
+                if (l_borderOffsets[l_index] > l_borderOffsets[l_index + 1]) {
+                    return false;
+                }
+                Continent l_continent = l_continentsById.get(l_countryContinents[l_index]);
+                Country l_country = new Country(l_countryIds[l_index], l_strings[l_countryNames[l_index]], l_countryContinents[l_index]);
+                l_country.setD_neighbouringCountriesId(new NeighbourIdList(l_borders, l_borderOffsets[l_index], l_borderOffsets[l_index + 1]));
+                l_countries.add(l_country);
+                if (l_continent != null) {
+                    l_continent.addCountry(l_country);
+                }
+            }
+            l_graph = new MapGraph(l_countryIds, l_borderOffsets, l_borders);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException | NegativeArraySizeException l_e) {
+            return false;
+        }
+
+        p_map.setD_mapContinents(l_continents);
+        p_map.setD_mapCountries(l_countries);
+        p_map.setMapGraph(l_graph);
+        return true;
+    }
+
+    /**
+     * Reads an int array from a buffer.
+     *
+     * @param p_buffer the buffer
+     * @param p_count  number of values
+     * @return the values
+     */
+    private int[] getInts(ByteBuffer p_buffer, int p_count) {
+        int[] l_values = new int[p_count];
+        IntBuffer l_ints = p_buffer.asIntBuffer();
+        l_ints.get(l_values);
+        p_buffer.position(p_buffer.position() + 4 * p_count);
+        return l_values;
+    }
+}
@@ -0,0 +1,193 @@
+package Services;
+
+import Model.Continent;
+import Model.Country;
+import Model.Map;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Writes a map in the compact binary format read by {@link BinaryMapFileReader}.
+ * <p>
+ * The file starts with a header holding a magic number, the format version, the modification time and size
+ * of the text map file it was made from, and a CRC32C checksum and length of the payload. The payload holds
+ * an interned string table followed by int arrays: continent ids, name indexes and values; country ids, name
+ * indexes and continent ids; and the borders in compressed sparse row form, that is, an offset per country
+ * into one array of neighbour ids. Neighbour lists are kept exactly as read, in order.
+ */
+public class BinaryMapFileWriter implements Serializable {
+    /**
+     * Magic number at the start of every binary map file, "WZMB".
+     */
+    static final int MAGIC = 0x575A4D42;
+    /**
+     * Version of the binary map format.
+     */
+    static final int VERSION = 1;
+    /**
+     * Size of the header in bytes.
+     */
+    static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 4 + 4;
+
+    /**
+     * Default constructor.
+     */
+    public BinaryMapFileWriter() {
+    }
+
+    /**
+     * Writes the map to a binary file. The file is written under a temporary name and moved into place,
+     * so a reader never sees a partly written file.
+     *
+     * @param p_map        the map to write
+     * @param p_sourceFile the text map file the map was read from, whose modification time and size are recorded
+     * @param p_binaryFile the binary file to write
+     * @throws IOException if the file cannot be written or the map has missing ids, names or values
+     */
+    public void writeBinaryFile(Map p_map, Path p_sourceFile, Path p_binaryFile) throws IOException {
+        byte[] l_payload = encode(p_map);
+        CRC32C l_checksum = new CRC32C();
+        l_checksum.update(l_payload);
+
+        ByteBuffer l_file = ByteBuffer.allocate(HEADER_SIZE + l_payload.length);
+        l_file.putInt(MAGIC).putInt(VERSION)
+                .putLong(Files.getLastModifiedTime(p_sourceFile).toMillis()).putLong(Files.size(p_sourceFile))
+                .putInt((int) l_checksum.getValue()).putInt(l_payload.length)
+                .put(l_payload);
+
+        Files.createDirectories(p_binaryFile.toAbsolutePath().getParent());
+        Path l_temporary = Files.createTempFile(p_binaryFile.toAbsolutePath().getParent(), p_binaryFile.getFileName().toString(), ".tmp");
+        try {
+            Files.write(l_temporary, l_file.array());
+            Files.move(l_temporary, p_binaryFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(l_temporary);
+        }
+    }
+
+    /**
+     * Encodes the continents, countries and borders of a map. Equal maps have equal encodings.
+     *
+     * @param p_map the map
+     * @return the payload
+     * @throws IOException if the map has missing ids, names or values
+     */
+    byte[] encode(Map p_map) throws IOException {
+        List<Continent> l_continents = p_map.getD_mapContinents() == null ? List.of() : p_map.getD_mapContinents();
+        List<Country> l_countries = p_map.getD_mapCountries() == null ? List.of() : p_map.getD_mapCountries();
+        List<byte[]> l_strings = new ArrayList<>();
+        HashMap<String, Integer> l_stringIndex = new HashMap<>();
+
+        int[] l_continentIds = new int[l_continents.size()];
+        int[] l_continentNames = new int[l_continents.size()];
+        int[] l_continentValues = new int[l_continents.size()];
+        for (int l_index = 0; l_index < l_continents.size(); l_index++) {
+            Continent l_continent = l_continents.get(l_index);
+            l_continentIds[l_index] = l_continent.getD_continentID();
+            l_continentNames[l_index] = intern(l_continent.getD_continentName(), l_strings, l_stringIndex);
+            l_continentValues[l_index] = l_continent.getD_continentValue();
+        }
+
+        int[] l_countryIds = new int[l_countries.size()];
+        int[] l_countryNames = new int[l_countries.size()];
+        int[] l_countryContinents = new int[l_countries.size()];
+        int[] l_borderOffsets = new int[l_countries.size() + 1];
+        for (int l_index = 0; l_index < l_countries.size(); l_index++) {
+            Country l_country = l_countries.get(l_index);
+            l_countryIds[l_index] = l_country.getD_countryID();
+            l_countryNames[l_index] = intern(l_country.getD_countryName(), l_strings, l_stringIndex);
+            l_countryContinents[l_index] = l_country.getD_continentID();
+            l_borderOffsets[l_index + 1] = l_borderOffsets[l_index] + l_country.getD_neighbouringCountriesId().size();
+        }
+        int[] l_borders = new int[l_borderOffsets[l_countries.size()]];
+        for (int l_index = 0; l_index < l_countries.size(); l_index++) {
+            int l_position = l_borderOffsets[l_index];
+            for (Integer l_neighbourId : l_countries.get(l_index).getD_neighbouringCountriesId()) {
+                l_borders[l_position++] = required(l_neighbourId);
+            }
+        }
+
+        int l_size = 4;
+        for (byte[] l_string : l_strings) {
+            l_size += 4 + l_string.length;
+        }
+        l_size += 4 + 12 * l_continents.size() + 4 + 12 * l_countries.size() + 4 * l_borderOffsets.length + 4 + 4 * l_borders.length;
+
+        ByteBuffer l_payload = ByteBuffer.allocate(l_size);
+        l_payload.putInt(l_strings.size());
+        for (byte[] l_string : l_strings) {
+            l_payload.putInt(l_string.length).put(l_string);
+        }
+        l_payload.putInt(l_continents.size());
+        putInts(l_payload, l_continentIds);
+        putInts(l_payload, l_continentNames);
+        putInts(l_payload, l_continentValues);
+        l_payload.putInt(l_countries.size());
+        putInts(l_payload, l_countryIds);
+        putInts(l_payload, l_countryNames);
+        putInts(l_payload, l_countryContinents);
+        putInts(l_payload, l_borderOffsets);
+        l_payload.putInt(l_borders.length);
+        putInts(l_payload, l_borders);
+        return l_payload.array();
+    }
+
+    /**
+     * Adds a string to the string table unless it is already there.
+     *
+     * @param p_string      the string
+     * @param p_strings     the string table as UTF-8 bytes
+     * @param p_stringIndex position of each string in the table
+     * @return the position of the string in the table
+     * @throws IOException if the string is null
+     */
+    private int intern(String p_string, List<byte[]> p_strings, HashMap<String, Integer> p_stringIndex) throws IOException {
+        if (p_string == null) {
+            throw new IOException("Map has an unnamed continent or country.");
+        }
+        Integer l_index = p_stringIndex.get(p_string);
+        if (l_index == null) {
+            l_index = p_strings.size();
+            p_strings.add(p_string.getBytes(StandardCharsets.UTF_8));
+            p_stringIndex.put(p_string, l_index);
+        }
+        return l_index;
+    }
+
+    /**
+     * Unboxes a neighbour id, which the binary format requires.
+     *
+     * @param p_value the value
+     * @return the value
+     * @throws IOException if the value is null
+     */
+    private int required(Integer p_value) throws IOException {
+        if (p_value == null) {
+            throw new IOException("Map has a missing neighbour id.");
+        }
+        return p_value;
+    }
+
+    /**
+     * Appends an int array to a buffer.
+     *
+     * @param p_buffer the buffer
+     * @param p_values the values
+     */
+    private void putInts(ByteBuffer p_buffer, int[] p_values) {
+        IntBuffer l_ints = p_buffer.asIntBuffer();
+        l_ints.put(p_values);
+        p_buffer.position(p_buffer.position() + 4 * p_values.length);
+    }
+}
@@ -4,11 +4,14 @@ import Model.*;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 
 /**
  * Reads a map file in Conquest format and parses it into the application's internal data structures.
  * Supports parsing of continent, country, and neighbor data.
+ * Continent and territory names are resolved through hash maps and every territory line is split once,
+ * so reading a map is linear in its size.
  *
  * Author: Akhilesh Kanbarkar
  */
@@ -28,116 +31,86 @@ public class ConquestMapFileReader implements Serializable {
      * @param p_fileName the name of the map file
      */
     public void readConquestFile(CurrentState p_currentState, Map p_map, List<String> p_fileLines, String p_fileName) {
-        List<String> l_continentData = getMetaData(p_fileLines, "continent");
+        List<String> l_continentData = new ArrayList<>();
+        List<String> l_countryData = new ArrayList<>();
+        List<String> l_section = null;
+        for (String l_line : p_fileLines) {
+            if (l_line.startsWith("[")) {
+                l_section = l_line.equals("[Continents]") ? l_continentData
+                        : l_line.equals("[Territories]") ? l_countryData : null;
+            } else if (l_section != null && !l_line.isBlank()) {
+                l_section.add(l_line);
+            }
+        }
+
         List<Continent> l_continentList = parseContinentMetaData(l_continentData);
+        HashMap<String, Continent> l_continentsByName = new HashMap<>();
+        for (Continent l_eachContinent : l_continentList) {
+            l_continentsByName.putIfAbsent(l_eachContinent.getD_continentName(), l_eachContinent);
+        }
 
-        List<String> l_countryData = getMetaData(p_fileLines, "country");
-        List<Country> l_countryList = parseCountryMetaData(l_countryData, l_continentList);
-        List<Country> l_updatedCountryList = parseNeighboursMetaData(l_countryList, l_countryData);
+        List<String[]> l_territories = new ArrayList<>(l_countryData.size());
+        List<Country> l_countryList = parseCountryMetaData(l_countryData, l_continentsByName, l_territories);
+        parseNeighboursMetaData(l_countryList, l_territories);
 
-        l_continentList = linkCountryToContinent(l_continentList, l_updatedCountryList);
         p_map.setD_mapContinents(l_continentList);
-        p_map.setD_mapCountries(l_updatedCountryList);
+        p_map.setD_mapCountries(l_countryList);
         p_map.setD_mapName(p_fileName);
         p_currentState.setD_map(p_map);
     }
     /**
-     * Links countries to their respective continents.
-     *
-     * @param p_continentList list of parsed continents
-     * @param p_updatedCountryList list of countries with neighbors
-     * @return updated list of continents with country references
-     */
-    private List<Continent> linkCountryToContinent(List<Continent> p_continentList, List<Country> p_updatedCountryList) {
-        for (Country l_eachCountry : p_updatedCountryList) {
-            for (Continent l_eachContinent : p_continentList) {
-                if (l_eachContinent.getD_continentID().equals(l_eachCountry.getD_continentID())) {
-                    l_eachContinent.addCountry(l_eachCountry);
-                }
-            }
-        }
-        return p_continentList;
-    }
-    /**
-     * Parses and adds neighboring countries for each country.
+     * Adds the neighbouring countries of each country. Neighbours are given by name and resolved through a
+     * name to country map; names that match no territory are ignored.
      *
      * @param p_countryList the list of countries to update
-     * @param p_countryData the raw country data from the file
-     * @return list of countries with neighboring country IDs set
+     * @param p_territories the split territory line of each country, in the same order
      */
-    private List<Country> parseNeighboursMetaData(List<Country> p_countryList, List<String> p_countryData) {
-        List<Country> l_updatedCountryList = new ArrayList<>(p_countryList);
-        String l_matchedCountry = null;
-
-        for (Country l_eachCountry : l_updatedCountryList) {
-            for (String l_eachCountryData : p_countryData) {
-                if ((l_eachCountryData.split(",")[0]).equalsIgnoreCase(l_eachCountry.getD_countryName())) {
-                    l_matchedCountry = l_eachCountryData;
-                    break;
-                }
-            }
-
-            if (l_matchedCountry.split(",").length > 4) {
-                for (int i = 4; i < l_matchedCountry.split(",").length; i++) {
-                    Country l_country = this.getCountryByName(p_countryList, l_matchedCountry.split(",")[i]);
-                    l_eachCountry.addCountryNeighbour(l_country.getD_countryID());
-                }
-            }
+    private void parseNeighboursMetaData(List<Country> p_countryList, List<String[]> p_territories) {
+        HashMap<String, Country> l_countriesByName = new HashMap<>();
+        for (Country l_eachCountry : p_countryList) {
+            l_countriesByName.putIfAbsent(l_eachCountry.getD_countryName(), l_eachCountry);
         }
 
-        return l_updatedCountryList;
-    }
-    /**
-     * Finds and returns a country object from the list by name.
-     *
-     * @param p_countryList list of all countries
-     * @param p_countryName name to search
-     * @return matched Country object, or null if not found
-     */
-    private Country getCountryByName(List<Country> p_countryList, String p_countryName) {
-        for (Country l_eachCountry : p_countryList) {
-            if (l_eachCountry.getD_countryName().equals(p_countryName)) {
-                return l_eachCountry;
+        for (int l_index = 0; l_index < p_countryList.size(); l_index++) {
+            Country l_eachCountry = p_countryList.get(l_index);
+            String[] l_territory = p_territories.get(l_index);
+            for (int i = 4; i < l_territory.length; i++) {
+                Country l_neighbour = l_countriesByName.get(l_territory[i]);
+                if (l_neighbour != null) {
+                    l_eachCountry.addCountryNeighbour(l_neighbour.getD_countryID());
+                }
             }
         }
-        return null;
     }
     /**
-     * Parses the country section of the file into Country objects.
+     * Parses the country section of the file into Country objects and adds each to its continent.
+     * Territories of an unknown continent are skipped.
      *
      * @param p_countryData raw lines of country data
-     * @param p_continentList parsed list of continents (used for mapping)
+     * @param p_continentsByName parsed continents by name
+     * @param p_territories receives the split line of each parsed country, in country order
      * @return list of parsed Country objects
      */
-    private List<Country> parseCountryMetaData(List<String> p_countryData, List<Continent> p_continentList) {
-        List<Country> l_countryList = new ArrayList<>();
+    private List<Country> parseCountryMetaData(List<String> p_countryData, HashMap<String, Continent> p_continentsByName,
+                                               List<String[]> p_territories) {
+        List<Country> l_countryList = new ArrayList<>(p_countryData.size());
         int l_countryId = 1;
 
         for (String l_eachCountry : p_countryData) {
             String[] l_countryData = l_eachCountry.split(",");
-            Continent l_continent = this.getContinentByName(p_continentList, l_countryData[3]);
+            Continent l_continent = l_countryData.length > 3 ? p_continentsByName.get(l_countryData[3]) : null;
+            if (l_continent == null) {
+                continue;
+            }
             Country l_country = new Country(l_countryId, l_countryData[0], l_continent.getD_continentID());
             l_countryList.add(l_country);
+            l_continent.addCountry(l_country);
+            p_territories.add(l_countryData);
             l_countryId++;
         }
 
         return l_countryList;
     }
-    /**
-     * Finds and returns a continent object from the list by name.
-     *
-     * @param p_continentList list of all parsed continents
-     * @param p_continentName name of the continent to find
-     * @return matching Continent object, or null if not found
-     */
-    private Continent getContinentByName(List<Continent> p_continentList, String p_continentName) {
-        for (Continent l_eachContinent : p_continentList) {
-            if (l_eachContinent.getD_continentName().equals(p_continentName)) {
-                return l_eachContinent;
-            }
-        }
-        return null;
-    }
     /**
      * Parses the continent section of the file into Continent objects.
      *
@@ -156,21 +129,4 @@ public class ConquestMapFileReader implements Serializable {
 
         return l_continentList;
     }
-    /**
-     * Extracts the relevant metadata section (continents or countries) from the full file lines.
-     *
-     * @param p_fileLines all lines read from the file
-     * @param p_parameter "continent" or "country"
-     * @return list of lines relevant to the parameter
-     */
-    private List<String> getMetaData(List<String> p_fileLines, String p_parameter) {
-        switch (p_parameter) {
-            case "continent":
-                return p_fileLines.subList(p_fileLines.indexOf("[Continents]") + 1, p_fileLines.indexOf("[Territories]") - 1);
-            case "country":
-                return p_fileLines.subList(p_fileLines.indexOf("[Territories]") + 1, p_fileLines.size());
-            default:
-                return null;
-        }
-    }
 }
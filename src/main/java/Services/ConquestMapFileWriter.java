@@ -44,7 +44,7 @@ public class ConquestMapFileWriter implements Serializable {
     private void writeContinentMetaData(CurrentState p_currentState, FileWriter p_writer) throws IOException {
         p_writer.write(System.lineSeparator() + "[Continents]" + System.lineSeparator());
         for (Continent l_eachContinent : p_currentState.getD_map().getD_mapContinents()) {
-            p_writer.write(l_eachContinent.getD_continentName() + "=" + l_eachContinent.getD_continentValue().toString() + System.lineSeparator());
+            p_writer.write(l_eachContinent.getD_continentName() + "=" + l_eachContinent.getD_continentValue() + System.lineSeparator());
         }
     }
     /**
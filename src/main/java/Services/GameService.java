@@ -1,11 +1,16 @@
 package Services;
 
+import Constants.ProjectConstants;
+import Controller.MainGameEngine;
 import Model.*;
 
 import java.io.*;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 /**
- * GameService handles saving and loading the game state (Phase object) using serialization.
+ * GameService handles saving and loading games in the save format of {@link GameStateWriter}. Only the state of
+ * the game and the phase it is in are saved; the phase is created again when the game is loaded.
  *
  * Author: Akhilesh Kanbarkar
  */
@@ -17,35 +22,75 @@ public class GameService {
     public GameService() {
     }
     /**
-     * Serializes and saves the current game phase to a file.
+     * Saves the game of the current phase to a file. The file is Deflate compressed unless the
+     * {@value ProjectConstants#SAVE_COMPRESSION_PROPERTY} system property is "false".
      *
-     * @param p_currentPhase The current phase object to save.
+     * @param p_currentPhase The current phase of the game to save.
      * @param p_fileName The name of the file to which the game will be saved.
      */
     public static void saveGame(Phase p_currentPhase, String p_fileName){
         try {
-            FileOutputStream l_gameSaveFile = new FileOutputStream("src/main/SavedGames/" + p_fileName);
-            ObjectOutputStream l_gameSaveFileObjectStream = new ObjectOutputStream(l_gameSaveFile);
-            l_gameSaveFileObjectStream.writeObject(p_currentPhase);
-            l_gameSaveFileObjectStream.flush();
-            l_gameSaveFileObjectStream.close();
-        } catch (Exception l_e) {
-            l_e.printStackTrace();
+            new GameStateWriter(isDeflated()).writeGame(p_currentPhase, getSavePath(p_fileName));
+        } catch (IOException l_e) {
+            System.err.println("Game could not be saved to " + p_fileName + ": " + l_e.getMessage());
         }
     }
     /**
-     * Loads a previously saved game phase from a file.
+     * Reads a saved game from a file.
+     *
+     * @param p_fileName The name of the file to load the game from.
+     * @return The state of the saved game and the phase it was saved in.
+     * @throws IOException If the file cannot be read, is not a saved game or its map has changed.
+     */
+    public static SavedGame readGame(String p_fileName) throws IOException {
+        return new GameStateReader().readGame(getSavePath(p_fileName));
+    }
+    /**
+     * Loads a previously saved game, in a phase created for a new engine.
      *
      * @param p_fileName The name of the file to load the game state from.
-     * @return The deserialized Phase object representing the saved game state.
-     * @throws IOException If an I/O error occurs.
-     * @throws ClassNotFoundException If the class of a serialized object cannot be found.
-     */
-    public static Phase loadGame(String p_fileName) throws IOException, ClassNotFoundException {
-        ObjectInputStream l_gameLoadFileObjectStream = new ObjectInputStream(
-                new FileInputStream("src/main/SavedGames/" + p_fileName));
-        Phase l_phase = (Phase) l_gameLoadFileObjectStream.readObject();
-        l_gameLoadFileObjectStream.close();
-        return l_phase;
-    }
-}
\ No newline at end of file
+     * @return The phase the game was saved in, holding the saved state.
+     * @throws IOException If the file cannot be read, is not a saved game or its map has changed.
+     */
+    public static Phase loadGame(String p_fileName) throws IOException {
+        return readGame(p_fileName).toPhase(new MainGameEngine());
+    }
+    /**
+     * Starts saving the game in the background at every turn, to files named "autosave-" and a number in the
+     * saved games folder. The files are compressed like saved games.
+     *
+     * @param p_keep The number of autosaved turns kept.
+     * @return The autosaver, to be closed when the game ends.
+     * @throws IOException If the saved games folder cannot be created or read.
+     */
+    public static Autosaver startAutosave(int p_keep) throws IOException {
+        return new Autosaver(getSaveDirectory(), "autosave", p_keep, isDeflated());
+    }
+    /**
+     * Tells whether saved games are compressed.
+     *
+     * @return False if the {@value ProjectConstants#SAVE_COMPRESSION_PROPERTY} system property is "false".
+     */
+    private static boolean isDeflated() {
+        return !"false".equalsIgnoreCase(System.getProperty(ProjectConstants.SAVE_COMPRESSION_PROPERTY));
+    }
+    /**
+     * Gets the path of a save file.
+     *
+     * @param p_fileName The name of the save file.
+     * @return The path of the file in the saved games folder.
+     */
+    private static Path getSavePath(String p_fileName) {
+        return getSaveDirectory().resolve(p_fileName);
+    }
+    /**
+     * Gets the saved games folder, which the {@value ProjectConstants#SAVE_DIRECTORY_PROPERTY} system property
+     * may set.
+     *
+     * @return The path of the folder.
+     */
+    private static Path getSaveDirectory() {
+        String l_directory = System.getProperty(ProjectConstants.SAVE_DIRECTORY_PROPERTY);
+        return l_directory == null ? Paths.get("src", "main", "SavedGames") : Paths.get(l_directory);
+    }
+}
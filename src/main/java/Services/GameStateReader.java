@@ -0,0 +1,344 @@
+package Services;
+
+import Controller.MapController;
+import Model.AggressivePlayer;
+import Model.Advance;
+import Model.BenevolentPlayer;
+import Model.CardAirlift;
+import Model.CardBlockade;
+import Model.CardBomb;
+import Model.CardNegotiate;
+import Model.CheaterPlayer;
+import Model.Country;
+import Model.CurrentState;
+import Model.Deploy;
+import Model.HumanPlayer;
+import Model.Map;
+import Model.Orders;
+import Model.Player;
+import Model.PlayerBehaviourStrategy;
+import Model.RandomPlayer;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Reads a game written by {@link GameStateWriter}. A game is only read if the file has the expected magic number,
+ * version and checksum, and if its map is stored in the file or its map file still holds the map the game was
+ * played on. The state is rebuilt as the game left it: players own the same countries in the same order, hold the
+ * same cards, have the same orders queued and their strategies remember the countries they deployed to. The random
+ * number streams of the game start again from the saved seed, see {@link GameStateWriter}.
+ */
+public class GameStateReader {
+
+    /**
+     * Loads the map files of saved games.
+     */
+    private final MapController d_mapController = new MapController();
+
+    /**
+     * Default constructor.
+     */
+    public GameStateReader() {
+    }
+
+    /**
+     * Reads a saved game.
+     *
+     * @param p_file the save file
+     * @return the state of the game and the phase it was saved in
+     * @throws IOException if the file cannot be read, is not a save file of this version, is corrupt, or its map
+     *                     file has changed since the game was saved
+     */
+    public SavedGame readGame(Path p_file) throws IOException {
+        ByteBuffer l_file;
+        try (FileChannel l_channel = FileChannel.open(p_file, StandardOpenOption.READ)) {
+            long l_size = l_channel.size();
+            if (l_size < GameStateWriter.HEADER_SIZE || l_size > Integer.MAX_VALUE) {
+                throw new IOException(p_file.getFileName() + " is not a saved game.");
+            }
+            l_file = ByteBuffer.allocate((int) l_size);
+            while (l_file.hasRemaining() && l_channel.read(l_file) >= 0) {
+                // read until the buffer is full
+            }
+            l_file.flip();
+        }
+        if (l_file.getInt() != GameStateWriter.MAGIC) {
+            throw new IOException(p_file.getFileName() + " is not a saved game.");
+        }
+        int l_version = l_file.getInt();
+        if (l_version != GameStateWriter.VERSION) {
+            throw new IOException(p_file.getFileName() + " was saved in version " + l_version + " of the save format; version "
+                    + GameStateWriter.VERSION + " is supported.");
+        }
+        int l_flags = l_file.getInt();
+        int l_phase = l_file.getInt();
+        int l_mapChecksum = l_file.getInt();
+        int l_checksum = l_file.getInt();
+        int l_rawLength = l_file.getInt();
+        int l_storedLength = l_file.getInt();
+        if (l_phase < 0 || l_phase >= SavedGame.PHASES.length || l_rawLength < 0 || l_storedLength != l_file.remaining()
+                || GameStateWriter.checksum(l_file.array(), l_file.position(), l_storedLength) != l_checksum) {
+            throw new IOException(p_file.getFileName() + " is corrupt.");
+        }
+
+        InputStream l_payload = new ByteArrayInputStream(l_file.array(), l_file.position(), l_storedLength);
+        Inflater l_inflater = (l_flags & GameStateWriter.DEFLATED) != 0 ? new Inflater() : null;
+        try (DataInputStream l_in = new DataInputStream(l_inflater != null ? new InflaterInputStream(l_payload, l_inflater, 8192) : l_payload)) {
+            CurrentState l_state = readState(l_in, (l_flags & GameStateWriter.MAP_INCLUDED) != 0, l_mapChecksum);
+            return new SavedGame(l_state, SavedGame.PHASES[l_phase]);
+        } catch (EOFException | IndexOutOfBoundsException | IllegalArgumentException l_e) {
+            throw new IOException(p_file.getFileName() + " is corrupt.", l_e);
+        } finally {
+            if (l_inflater != null) {
+                l_inflater.end();
+            }
+        }
+    }
+
+    /**
+     * Reads the state of a game.
+     *
+     * @param p_in          the payload
+     * @param p_mapIncluded whether the map is stored in the payload
+     * @param p_mapChecksum the checksum of the encoded map
+     * @return the state
+     * @throws IOException if the payload is corrupt or the map file has changed
+     */
+    private CurrentState readState(DataInputStream p_in, boolean p_mapIncluded, int p_mapChecksum) throws IOException {
+        CurrentState l_state = new CurrentState();
+        boolean l_hasMap = p_in.readBoolean();
+        String l_mapName = p_in.readUTF();
+        if (l_hasMap) {
+            l_state.setD_map(p_mapIncluded ? readIncludedMap(p_in, l_mapName, p_mapChecksum) : loadMapFile(l_mapName, p_mapChecksum));
+        }
+        l_state.setD_maxNoOfTurns(p_in.readInt());
+        l_state.setD_noOfTurnsLeft(p_in.readInt());
+        l_state.setD_seed(p_in.readLong());
+        l_state.setD_loadCommand(p_in.readBoolean());
+
+        List<Country> l_countries = l_hasMap ? l_state.getD_map().getD_mapCountries() : List.of();
+        if (p_in.readInt() != l_countries.size()) {
+            throw new IOException("The saved game does not match its map " + l_mapName + ".");
+        }
+        for (Country l_country : l_countries) {
+            l_country.setD_armies(p_in.readInt());
+        }
+
+        int l_playerCount = p_in.readInt();
+        if (l_playerCount < 0) {
+            return l_state;
+        }
+        List<Player> l_players = new ArrayList<>(l_playerCount);
+        List<int[]> l_negotiations = new ArrayList<>(l_playerCount);
+        List<List<String>> l_orders = new ArrayList<>(l_playerCount);
+        for (int l_index = 0; l_index < l_playerCount; l_index++) {
+            l_players.add(readPlayer(p_in, l_countries, l_negotiations, l_orders));
+        }
+        l_state.setD_players(l_players);
+        int l_winner = p_in.readInt();
+        l_state.setD_winner(l_winner < 0 ? null : l_players.get(l_winner));
+        int l_failedCount = p_in.readInt();
+        for (int l_index = 0; l_index < l_failedCount; l_index++) {
+            int l_failed = p_in.readInt();
+            if (l_failed >= 0) {
+                l_state.getD_playersFailed().add(l_players.get(l_failed));
+            }
+        }
+
+        for (int l_index = 0; l_index < l_playerCount; l_index++) {
+            Player l_player = l_players.get(l_index);
+            for (int l_negotiatePlayer : l_negotiations.get(l_index)) {
+                l_player.getD_negotiatePlayer().add(l_players.get(l_negotiatePlayer));
+            }
+            for (String l_command : l_orders.get(l_index)) {
+                l_player.getD_orders().add(createOrder(l_command, l_player, l_state));
+            }
+        }
+        if (l_hasMap) {
+            l_state.indexCountryOwners();
+        }
+        for (Player l_player : l_players) {
+            l_player.setD_random(l_state.getD_random().split());
+        }
+        return l_state;
+    }
+
+    /**
+     * Reads a player. Its negotiations and orders name other players and are only collected here, to be set once
+     * all players are read.
+     *
+     * @param p_in           the payload
+     * @param p_countries    the countries of the map
+     * @param p_negotiations collects the positions of the players the player negotiated with
+     * @param p_orders       collects the commands of the orders of the player
+     * @return the player
+     * @throws IOException if the payload is corrupt
+     */
+    private Player readPlayer(DataInputStream p_in, List<Country> p_countries, List<int[]> p_negotiations,
+                              List<List<String>> p_orders) throws IOException {
+        Player l_player = new Player(p_in.readUTF());
+        String l_strategy = p_in.readUTF();
+        if (!l_strategy.isEmpty()) {
+            l_player.setD_playerBehaviourStrategy(createStrategy(l_strategy));
+        }
+        l_player.setD_unallocatedArmies(p_in.readInt());
+        l_player.setD_moreOrders(p_in.readBoolean());
+        l_player.setD_oneCardPerTurn(p_in.readBoolean());
+
+        int l_countryCount = p_in.readInt();
+        List<Country> l_countries = new ArrayList<>(Math.min(l_countryCount, p_countries.size()));
+        for (int l_index = 0; l_index < l_countryCount; l_index++) {
+            l_countries.add(p_countries.get(p_in.readInt()));
+        }
+        l_player.setD_currentCountries(l_countries);
+        l_player.setD_currentContinents(new HashSet<>());
+
+        int l_cardCount = p_in.readInt();
+        List<String> l_cards = new ArrayList<>(Math.min(l_cardCount, 64));
+        for (int l_index = 0; l_index < l_cardCount; l_index++) {
+            l_cards.add(p_in.readUTF());
+        }
+        l_player.setD_cardOwnedByPlayer(l_cards);
+        l_player.setD_negotiatePlayer(new ArrayList<>());
+
+        int[] l_negotiations = new int[p_in.readInt()];
+        for (int l_index = 0; l_index < l_negotiations.length; l_index++) {
+            l_negotiations[l_index] = p_in.readInt();
+        }
+        p_negotiations.add(l_negotiations);
+
+        int l_orderCount = p_in.readInt();
+        List<String> l_orders = new ArrayList<>(Math.min(l_orderCount, 64));
+        for (int l_index = 0; l_index < l_orderCount; l_index++) {
+            l_orders.add(p_in.readUTF());
+        }
+        p_orders.add(l_orders);
+
+        int l_deployCount = p_in.readInt();
+        List<Country> l_deployCountries = new ArrayList<>(Math.min(l_deployCount, p_countries.size()));
+        for (int l_index = 0; l_index < l_deployCount; l_index++) {
+            l_deployCountries.add(p_countries.get(p_in.readInt()));
+        }
+        if (l_player.getD_playerBehaviourStrategy() != null) {
+            l_player.getD_playerBehaviourStrategy().setD_deployCountries(l_deployCountries);
+        }
+        return l_player;
+    }
+
+    /**
+     * Creates a queued order again from its command. The order is queued as it was, without the checks made when
+     * it was issued, which it passed then.
+     *
+     * @param p_command the command of the order
+     * @param p_player  the player who issued it
+     * @param p_state   the state of the game
+     * @return the order
+     * @throws IOException if the command is not an order
+     */
+    private Orders createOrder(String p_command, Player p_player, CurrentState p_state) throws IOException {
+        String[] l_parts = p_command.split(" ");
+        try {
+            switch (l_parts[0]) {
+                case "deploy":
+                    Country l_country = p_state.getD_map().getCountryByName(l_parts[1]);
+                    return l_country != null ? new Deploy(p_player, l_country, Integer.parseInt(l_parts[2]))
+                            : new Deploy(p_player, l_parts[1], Integer.parseInt(l_parts[2]));
+                case "advance":
+                    Country l_source = p_state.getD_map().getCountryByName(l_parts[1]);
+                    Country l_target = p_state.getD_map().getCountryByName(l_parts[2]);
+                    return l_source != null && l_target != null ? new Advance(l_source, l_target, Integer.parseInt(l_parts[3]), p_player)
+                            : new Advance(l_parts[1], l_parts[2], Integer.parseInt(l_parts[3]), p_player);
+                case "bomb":
+                    return new CardBomb(p_player, l_parts[1]);
+                case "blockade":
+                    return new CardBlockade(p_player, l_parts[1]);
+                case "airlift":
+                    return new CardAirlift(Integer.parseInt(l_parts[3]), l_parts[1], p_player, l_parts[2]);
+                case "negotiate":
+                    return new CardNegotiate(p_player, l_parts[1]);
+                default:
+                    throw new IOException("The saved order '" + p_command + "' is not an order.");
+            }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException l_e) {
+            throw new IOException("The saved order '" + p_command + "' is not an order.", l_e);
+        }
+    }
+
+    /**
+     * Creates the strategy of a player from its name.
+     *
+     * @param p_strategy the name, as given by {@link PlayerBehaviourStrategy#getPlayerBehaviour()}
+     * @return the strategy
+     * @throws IOException if the name is not a strategy
+     */
+    private PlayerBehaviourStrategy createStrategy(String p_strategy) throws IOException {
+        switch (p_strategy) {
+            case "Aggressive":
+                return new AggressivePlayer();
+            case "Benevolent":
+                return new BenevolentPlayer();
+            case "Random":
+                return new RandomPlayer();
+            case "Cheater":
+                return new CheaterPlayer();
+            case "Human":
+                return new HumanPlayer();
+            default:
+                throw new IOException("The saved strategy " + p_strategy + " is not a strategy.");
+        }
+    }
+
+    /**
+     * Reads the map stored in the payload.
+     *
+     * @param p_in          the payload
+     * @param p_mapName     the name of the map
+     * @param p_mapChecksum the checksum of the encoded map
+     * @return the map
+     * @throws IOException if the map is corrupt
+     */
+    private Map readIncludedMap(DataInputStream p_in, String p_mapName, int p_mapChecksum) throws IOException {
+        byte[] l_mapBytes = new byte[p_in.readInt()];
+        p_in.readFully(l_mapBytes);
+        Map l_map = new Map();
+        if (GameStateWriter.checksum(l_mapBytes, 0, l_mapBytes.length) != p_mapChecksum
+                || !new BinaryMapFileReader().decode(ByteBuffer.wrap(l_mapBytes), l_map)) {
+            throw new IOException("The map of the saved game is corrupt.");
+        }
+        l_map.setD_mapName(p_mapName);
+        return l_map;
+    }
+
+    /**
+     * Loads the map of a game from its map file, provided the file still holds the map the game was played on.
+     *
+     * @param p_mapName     the name of the map file
+     * @param p_mapChecksum the checksum of the encoded map when the game was saved
+     * @return the map
+     * @throws IOException if the map file is missing or has changed
+     */
+    private Map loadMapFile(String p_mapName, int p_mapChecksum) throws IOException {
+        if (!d_mapController.mapFileExists(p_mapName)) {
+            throw new IOException("The map " + p_mapName + " of the saved game was not found.");
+        }
+        Map l_map = d_mapController.loadMap(new CurrentState(), p_mapName);
+        byte[] l_mapBytes = new BinaryMapFileWriter().encode(l_map);
+        if (GameStateWriter.checksum(l_mapBytes, 0, l_mapBytes.length) != p_mapChecksum) {
+            throw new IOException("The map " + p_mapName + " has changed since the game was saved.");
+        }
+        return l_map;
+    }
+}
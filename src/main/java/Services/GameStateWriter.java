@@ -0,0 +1,483 @@
+package Services;
+
+import Controller.MapController;
+import Model.Country;
+import Model.CurrentState;
+import Model.Map;
+import Model.MapGraph;
+import Model.Orders;
+import Model.Phase;
+import Model.Player;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.zip.CRC32C;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes a game in the compact save format read by {@link GameStateReader}.
+ * <p>
+ * Only what changes during a game is saved: the turns, the seed, the armies on every country, and for every
+ * player its strategy, armies, countries, cards, negotiations, queued orders and the countries its strategy has
+ * deployed to, the orders as the commands that issue them. The map is saved by name together with a checksum of its encoding by {@link BinaryMapFileWriter},
+ * and is loaded from its map file again; only a map that differs from its map file, such as one edited but not
+ * saved, is stored in the save file itself.
+ * <p>
+ * The position in the random number streams of the game is not saved, as {@link java.util.SplittableRandom} does
+ * not expose it. A loaded game starts its streams again from the saved seed, so its draws replay those of the
+ * start of the saved game rather than continue where the saved game stopped.
+ * <p>
+ * The file starts with a header holding a magic number, the format version, flags telling whether the payload is
+ * Deflate compressed and whether it holds the map, the phase the game was saved in, the map checksum, and a CRC32C
+ * checksum and the uncompressed and stored lengths of the payload.
+ * <p>
+ * A save can be split in two: {@link #snapshot(Phase)} copies what the file needs out of the game, and
+ * {@link #encode(Snapshot)} and {@link #writeFile(ByteBuffer[], Path)} turn the copy into a file, on another thread
+ * if need be. A writer remembers the last map it encoded and its last map file lookup, so it takes snapshots on
+ * one thread at a time and encodes them on one thread at a time.
+ */
+public class GameStateWriter {
+    /**
+     * Magic number at the start of every save file, "WZSG".
+     */
+    static final int MAGIC = 0x575A5347;
+    /**
+     * Version of the save format.
+     */
+    static final int VERSION = 2;
+    /**
+     * Size of the header in bytes.
+     */
+    static final int HEADER_SIZE = 8 * 4;
+    /**
+     * Flag set when the payload is Deflate compressed.
+     */
+    static final int DEFLATED = 1;
+    /**
+     * Flag set when the payload holds the map instead of only its name.
+     */
+    static final int MAP_INCLUDED = 2;
+
+    /**
+     * Whether the payload is Deflate compressed.
+     */
+    private final boolean d_deflate;
+
+    /**
+     * Loads map files to check whether the map of a game can be saved by name.
+     */
+    private final MapController d_mapController = new MapController();
+
+    /**
+     * Name of the map last looked up in its map file, so a writer saving one game again and again reads the map
+     * file only once.
+     */
+    private String d_checkedMapName;
+
+    /**
+     * Checksum of the map last looked up in its map file.
+     */
+    private int d_checkedMapChecksum;
+
+    /**
+     * Whether the map file held the map last looked up.
+     */
+    private boolean d_checkedMapMatches;
+
+    /**
+     * The map last encoded by {@link #snapshot(Phase)}, so a map that does not change during a game is encoded
+     * once and not at every snapshot.
+     */
+    private Map d_encodedMap;
+
+    /**
+     * Adjacency graph of the map last encoded.
+     */
+    private MapGraph d_encodedGraph;
+
+    /**
+     * Continent list of the map last encoded.
+     */
+    private List<?> d_encodedContinents;
+
+    /**
+     * Number of continents of the map last encoded.
+     */
+    private int d_encodedContinentCount;
+
+    /**
+     * Encoding of the map last encoded.
+     */
+    private byte[] d_encodedMapBytes;
+
+    /**
+     * Checksum of the encoding of the map last encoded.
+     */
+    private int d_encodedMapChecksum;
+
+    /**
+     * Creates a writer.
+     *
+     * @param p_deflate whether the payload is Deflate compressed
+     */
+    public GameStateWriter(boolean p_deflate) {
+        d_deflate = p_deflate;
+    }
+
+    /**
+     * Writes the game of a phase to a file. The file is written under a temporary name and moved into place, so
+     * a reader never sees a partly written file and a failed save leaves the previous one.
+     *
+     * @param p_phase the phase the game is in
+     * @param p_file  the save file
+     * @throws IOException if the file cannot be written or the game holds a country or player it cannot name
+     */
+    public void writeGame(Phase p_phase, Path p_file) throws IOException {
+        writeFile(encode(snapshot(p_phase)), p_file);
+    }
+
+    /**
+     * Copies what a save file needs from the game of a phase. The snapshot shares nothing with the game, so the
+     * game can go on while the snapshot is encoded and written, on another thread if need be. Looking up the map
+     * file and compressing are left to {@link #encode(Snapshot)}.
+     *
+     * @param p_phase the phase the game is in
+     * @return the snapshot
+     * @throws IOException if the game holds a country or player it cannot name
+     */
+    Snapshot snapshot(Phase p_phase) throws IOException {
+        CurrentState l_state = p_phase.getD_currentState();
+        Map l_map = l_state.getD_map();
+        byte[] l_mapBytes = l_map == null ? null : encodeMap(l_map);
+        PayloadStream l_stateBytes = new PayloadStream();
+        try (DataOutputStream l_out = new DataOutputStream(l_stateBytes)) {
+            writeState(l_out, l_state);
+        }
+        return new Snapshot(SavedGame.phaseNumber(p_phase), l_map == null ? null : l_map.getD_mapName(), l_mapBytes,
+                l_mapBytes == null ? 0 : d_encodedMapChecksum, l_stateBytes.toByteArray());
+    }
+
+    /**
+     * Encodes a map, or gives back the encoding of the last snapshot if the map has not changed since. A change is
+     * told by the adjacency graph and the continent list of the map, which its editing methods replace or resize.
+     *
+     * @param p_map the map
+     * @return the encoded map, shared between snapshots and not to be changed
+     * @throws IOException if the map has missing ids, names or values
+     */
+    private byte[] encodeMap(Map p_map) throws IOException {
+        MapGraph l_graph = p_map.getD_mapCountries() == null ? null : p_map.getMapGraph();
+        List<?> l_continents = p_map.getD_mapContinents();
+        int l_continentCount = l_continents == null ? 0 : l_continents.size();
+        if (d_encodedMapBytes == null || p_map != d_encodedMap || l_graph != d_encodedGraph
+                || l_continents != d_encodedContinents || l_continentCount != d_encodedContinentCount) {
+            d_encodedMapBytes = new BinaryMapFileWriter().encode(p_map);
+            d_encodedMapChecksum = checksum(d_encodedMapBytes, 0, d_encodedMapBytes.length);
+            d_encodedMap = p_map;
+            d_encodedGraph = l_graph;
+            d_encodedContinents = l_continents;
+            d_encodedContinentCount = l_continentCount;
+        }
+        return d_encodedMapBytes;
+    }
+
+    /**
+     * Encodes a snapshot into the header and the payload of a save file.
+     *
+     * @param p_snapshot the snapshot
+     * @return the header and the payload
+     * @throws IOException if the payload cannot be compressed
+     */
+    ByteBuffer[] encode(Snapshot p_snapshot) throws IOException {
+        byte[] l_mapBytes = p_snapshot.d_mapBytes;
+        int l_mapChecksum = p_snapshot.d_mapChecksum;
+        boolean l_includeMap = l_mapBytes != null && !matchesMapFile(p_snapshot.d_mapName, l_mapChecksum);
+
+        PayloadStream l_payload = new PayloadStream();
+        Deflater l_deflater = d_deflate ? new Deflater(Deflater.BEST_SPEED) : null;
+        int l_rawLength;
+        try (DataOutputStream l_out = new DataOutputStream(d_deflate ? new DeflaterOutputStream(l_payload, l_deflater, 8192) : l_payload)) {
+            l_out.writeBoolean(l_mapBytes != null);
+            l_out.writeUTF(p_snapshot.d_mapName == null ? "" : p_snapshot.d_mapName);
+            if (l_includeMap) {
+                l_out.writeInt(l_mapBytes.length);
+                l_out.write(l_mapBytes);
+            }
+            l_out.write(p_snapshot.d_state);
+            l_rawLength = l_out.size();
+        } finally {
+            if (l_deflater != null) {
+                l_deflater.end();
+            }
+        }
+
+        ByteBuffer l_header = ByteBuffer.allocate(HEADER_SIZE);
+        l_header.putInt(MAGIC).putInt(VERSION)
+                .putInt((d_deflate ? DEFLATED : 0) | (l_includeMap ? MAP_INCLUDED : 0))
+                .putInt(p_snapshot.d_phase)
+                .putInt(l_mapChecksum)
+                .putInt(checksum(l_payload.buffer(), 0, l_payload.size()))
+                .putInt(l_rawLength).putInt(l_payload.size())
+                .flip();
+        return new ByteBuffer[]{l_header, ByteBuffer.wrap(l_payload.buffer(), 0, l_payload.size())};
+    }
+
+    /**
+     * Writes an encoded save file under a temporary name, forces it to the disk and moves it into place.
+     *
+     * @param p_file the header and the payload
+     * @param p_path the save file
+     * @throws IOException if the file cannot be written
+     */
+    void writeFile(ByteBuffer[] p_file, Path p_path) throws IOException {
+        Path l_directory = p_path.toAbsolutePath().getParent();
+        Files.createDirectories(l_directory);
+        Path l_temporary = Files.createTempFile(l_directory, p_path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel l_channel = FileChannel.open(l_temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (p_file[0].hasRemaining() || p_file[1].hasRemaining()) {
+                    l_channel.write(p_file);
+                }
+                l_channel.force(false);
+            }
+            Files.move(l_temporary, p_path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(l_temporary);
+        }
+    }
+
+    /**
+     * Writes the state of a game that follows the map name in the payload.
+     *
+     * @param p_out   the payload
+     * @param p_state the state of the game
+     * @throws IOException if the game holds a country or player it cannot name
+     */
+    private void writeState(DataOutputStream p_out, CurrentState p_state) throws IOException {
+        Map l_map = p_state.getD_map();
+        p_out.writeInt(p_state.getD_maxNoOfTurns());
+        p_out.writeInt(p_state.getD_noOfTurnsLeft());
+        p_out.writeLong(p_state.getD_seed());
+        p_out.writeBoolean(Boolean.TRUE.equals(p_state.getD_loadCommand()));
+
+        List<Country> l_countries = l_map == null || l_map.getD_mapCountries() == null ? List.of() : l_map.getD_mapCountries();
+        p_out.writeInt(l_countries.size());
+        for (Country l_country : l_countries) {
+            p_out.writeInt(l_country.getD_armies());
+        }
+
+        List<Player> l_players = p_state.getD_players();
+        p_out.writeInt(l_players == null ? -1 : l_players.size());
+        if (l_players == null) {
+            return;
+        }
+        IdentityHashMap<Player, Integer> l_playerIndex = new IdentityHashMap<>(l_players.size());
+        for (Player l_player : l_players) {
+            l_playerIndex.put(l_player, l_playerIndex.size());
+        }
+        for (Player l_player : l_players) {
+            writePlayer(p_out, l_player, l_map, l_playerIndex);
+        }
+        Integer l_winner = p_state.getD_winner() == null ? null : l_playerIndex.get(p_state.getD_winner());
+        p_out.writeInt(l_winner == null ? -1 : l_winner);
+        p_out.writeInt(p_state.getD_playersFailed().size());
+        for (Player l_failed : p_state.getD_playersFailed()) {
+            Integer l_index = l_playerIndex.get(l_failed);
+            p_out.writeInt(l_index == null ? -1 : l_index);
+        }
+    }
+
+    /**
+     * Writes a player. Countries and players are written as their position in the map and in the players.
+     *
+     * @param p_out          the payload
+     * @param p_player       the player
+     * @param p_map          the map
+     * @param p_playerIndex  position of every player
+     * @throws IOException if the player or its strategy holds a country that is not on the map or the player
+     *                     negotiated with an unknown player
+     */
+    private void writePlayer(DataOutputStream p_out, Player p_player, Map p_map, IdentityHashMap<Player, Integer> p_playerIndex) throws IOException {
+        p_out.writeUTF(p_player.getD_playerName());
+        p_out.writeUTF(p_player.getD_playerBehaviourStrategy() == null ? "" : p_player.getD_playerBehaviourStrategy().getPlayerBehaviour());
+        p_out.writeInt(p_player.getD_unallocatedArmies());
+        p_out.writeBoolean(p_player.isD_moreOrders());
+        p_out.writeBoolean(p_player.isD_oneCardPerTurn());
+
+        p_out.writeInt(p_player.getD_currentCountries().size());
+        for (Country l_country : p_player.getD_currentCountries()) {
+            p_out.writeInt(countryIndex(p_map, l_country));
+        }
+        p_out.writeInt(p_player.getD_cardOwnedByPlayer().size());
+        for (String l_card : p_player.getD_cardOwnedByPlayer()) {
+            p_out.writeUTF(l_card);
+        }
+        p_out.writeInt(p_player.getD_negotiatePlayer().size());
+        for (Player l_negotiatePlayer : p_player.getD_negotiatePlayer()) {
+            p_out.writeInt(playerIndex(p_playerIndex, l_negotiatePlayer));
+        }
+        p_out.writeInt(p_player.getD_orders().size());
+        for (Orders l_order : p_player.getD_orders()) {
+            p_out.writeUTF(l_order.toCommand());
+        }
+        List<Country> l_deployCountries = p_player.getD_playerBehaviourStrategy() == null ? List.of()
+                : p_player.getD_playerBehaviourStrategy().getD_deployCountries();
+        p_out.writeInt(l_deployCountries.size());
+        for (Country l_country : l_deployCountries) {
+            p_out.writeInt(countryIndex(p_map, l_country));
+        }
+    }
+
+    /**
+     * Checks whether the map file of a map is still the same map, so the map can be saved by name. The answer for
+     * the last map looked up is kept.
+     *
+     * @param p_mapName     the name of the map
+     * @param p_mapChecksum the checksum of the encoded map
+     * @return true if the map file holds the same map
+     */
+    private boolean matchesMapFile(String p_mapName, int p_mapChecksum) {
+        if (p_mapName != null && p_mapName.equals(d_checkedMapName) && p_mapChecksum == d_checkedMapChecksum) {
+            return d_checkedMapMatches;
+        }
+        boolean l_matches = false;
+        if (d_mapController.mapFileExists(p_mapName)) {
+            try {
+                byte[] l_fileMap = new BinaryMapFileWriter().encode(d_mapController.loadMap(new CurrentState(), p_mapName));
+                l_matches = checksum(l_fileMap, 0, l_fileMap.length) == p_mapChecksum;
+            } catch (IOException l_e) {
+                l_matches = false;
+            }
+        }
+        d_checkedMapName = p_mapName;
+        d_checkedMapChecksum = p_mapChecksum;
+        d_checkedMapMatches = l_matches;
+        return l_matches;
+    }
+
+    /**
+     * Gets the position of a country in the map.
+     *
+     * @param p_map     the map
+     * @param p_country the country
+     * @return the position
+     * @throws IOException if the country is not on the map
+     */
+    private static int countryIndex(Map p_map, Country p_country) throws IOException {
+        int l_index = p_map == null ? -1 : p_map.indexOfCountry(p_country);
+        if (l_index < 0) {
+            throw new IOException("Country " + p_country.getD_countryName() + " is not on the map.");
+        }
+        return l_index;
+    }
+
+    /**
+     * Gets the position of a player.
+     *
+     * @param p_index  the positions
+     * @param p_player the player
+     * @return the position
+     * @throws IOException if the player is not in the game
+     */
+    private static int playerIndex(IdentityHashMap<Player, Integer> p_index, Player p_player) throws IOException {
+        Integer l_index = p_index.get(p_player);
+        if (l_index == null) {
+            throw new IOException("Player " + p_player.getD_playerName() + " is not in the game.");
+        }
+        return l_index;
+    }
+
+    /**
+     * Computes the CRC32C checksum of bytes.
+     *
+     * @param p_bytes  the bytes
+     * @param p_offset position of the first byte
+     * @param p_length number of bytes
+     * @return the checksum
+     */
+    static int checksum(byte[] p_bytes, int p_offset, int p_length) {
+        CRC32C l_crc = new CRC32C();
+        l_crc.update(p_bytes, p_offset, p_length);
+        return (int) l_crc.getValue();
+    }
+
+    /**
+     * What a save file needs from a game, copied out of it by {@link #snapshot(Phase)}.
+     */
+    static final class Snapshot {
+
+        /**
+         * Number of the phase the game is in.
+         */
+        final int d_phase;
+
+        /**
+         * Name of the map, or null if the game has no map.
+         */
+        final String d_mapName;
+
+        /**
+         * The encoded map, or null if the game has no map.
+         */
+        final byte[] d_mapBytes;
+
+        /**
+         * Checksum of the encoded map.
+         */
+        final int d_mapChecksum;
+
+        /**
+         * The state of the game that follows the map in the payload.
+         */
+        final byte[] d_state;
+
+        /**
+         * Creates a snapshot.
+         *
+         * @param p_phase       number of the phase the game is in
+         * @param p_mapName     name of the map
+         * @param p_mapBytes    the encoded map
+         * @param p_mapChecksum checksum of the encoded map
+         * @param p_state       the state of the game
+         */
+        Snapshot(int p_phase, String p_mapName, byte[] p_mapBytes, int p_mapChecksum, byte[] p_state) {
+            d_phase = p_phase;
+            d_mapName = p_mapName;
+            d_mapBytes = p_mapBytes;
+            d_mapChecksum = p_mapChecksum;
+            d_state = p_state;
+        }
+    }
+
+    /**
+     * Byte array stream whose buffer is written to the file as it is, without copying it.
+     */
+    private static class PayloadStream extends ByteArrayOutputStream {
+
+        /**
+         * Creates the stream.
+         */
+        PayloadStream() {
+            super(8192);
+        }
+
+        /**
+         * Gets the buffer; only the first {@link #size()} bytes are written.
+         *
+         * @return the buffer
+         */
+        byte[] buffer() {
+            return buf;
+        }
+    }
+}
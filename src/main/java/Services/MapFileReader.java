@@ -2,8 +2,12 @@ package Services;
 
 import Model.*;
 
+import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 
@@ -51,6 +55,134 @@ public class MapFileReader implements Serializable {
         p_currentState.setD_map(p_map);
     }
 
+    /**
+     * Reads a map file in a single pass, section by section, and updates the current game state and map object.
+     * Lines are tokenized in place and turned into continents, countries and borders as they are read, so no copy
+     * of the file is kept. Produces the same map as {@link #parseMapFile(CurrentState, Map, List, String)}; in
+     * addition, tokens may be separated by any run of whitespace.
+     * <p>
+     * Nothing is updated when the file has no {@code [Continents]} section or turns out to be a Conquest map,
+     * that is, has a {@code [Territories]} section.
+     *
+     * @param p_currentState the current state of the game that will be updated with the parsed map
+     * @param p_map          the map object to populate with parsed continents and countries
+     * @param p_reader       reader positioned at the start of the map file
+     * @param p_fileName     the name of the map file, used to set the map's name
+     * @return true if the file was read as a map file, false if it is not one
+     * @throws IOException if the file cannot be read
+     */
+    public boolean readMapFile(CurrentState p_currentState, Map p_map, BufferedReader p_reader, String p_fileName) throws IOException {
+        List<Continent> l_continents = new ArrayList<>();
+        List<Country> l_countries = new ArrayList<>();
+        HashMap<Integer, List<Integer>> l_borders = new HashMap<>();
+        LineTokens l_tokens = new LineTokens();
+        boolean l_hasContinents = false;
+        String l_section = "";
+
+        String l_line;
+        while ((l_line = p_reader.readLine()) != null) {
+            String l_header = l_line.trim();
+            if (l_header.startsWith("[")) {
+                if (l_header.equals("[Territories]")) {
+                    return false;
+                }
+                l_hasContinents |= l_header.equals("[Continents]");
+                l_section = l_header;
+                continue;
+            }
+            switch (l_section) {
+                case "[Continents]" -> readContinent(l_tokens.split(l_line), l_continents);
+                case "[Countries]" -> readCountry(l_tokens.split(l_line), l_countries);
+                case "[Borders]" -> readBorders(l_tokens.split(l_line), l_borders);
+                default -> {
+                }
+            }
+        }
+        if (!l_hasContinents) {
+            return false;
+        }
+
+        for (Country l_country : l_countries) {
+            l_country.setD_neighbouringCountriesId(l_borders.getOrDefault(l_country.getD_countryID(), new ArrayList<>()));
+            int l_continentId = l_country.getD_continentID();
+            if (l_continentId >= 1 && l_continentId <= l_continents.size()) {
+                l_continents.get(l_continentId - 1).setCountry(l_country);
+            }
+        }
+
+        p_map.setD_mapContinents(l_continents);
+        p_map.setD_mapCountries(l_countries);
+        p_map.setD_mapName(p_fileName);
+
+        p_currentState.setD_map(p_map);
+        return true;
+    }
+
+    /**
+     * Adds the continent described by a line of the continents section. Continents are numbered from 1 in the
+     * order they are read; lines without a name and a numeric value are skipped.
+     *
+     * @param p_tokens     the tokens of the line
+     * @param p_continents the continents read so far
+     */
+    private void readContinent(LineTokens p_tokens, List<Continent> p_continents) {
+        if (p_tokens.count() < 2) {
+            return;
+        }
+        int l_continentValue;
+        try {
+            l_continentValue = p_tokens.intAt(1);
+        } catch (NumberFormatException l_e) {
+            return;
+        }
+        p_continents.add(new Continent(p_continents.size() + 1, p_tokens.textAt(0), l_continentValue));
+    }
+
+    /**
+     * Adds the country described by a line of the countries section. Lines without an id, a name and a
+     * continent id are skipped.
+     *
+     * @param p_tokens    the tokens of the line
+     * @param p_countries the countries read so far
+     */
+    private void readCountry(LineTokens p_tokens, List<Country> p_countries) {
+        if (p_tokens.count() < 3) {
+            return;
+        }
+        int l_countryId, l_continentId;
+        try {
+            l_countryId = p_tokens.intAt(0);
+            l_continentId = p_tokens.intAt(2);
+        } catch (NumberFormatException l_e) {
+            return;
+        }
+        p_countries.add(new Country(l_countryId, p_tokens.textAt(1), l_continentId));
+    }
+
+    /**
+     * Records the neighbours listed on a line of the borders section. A later line for the same country
+     * replaces an earlier one; lines that are not all numbers are skipped.
+     *
+     * @param p_tokens  the tokens of the line
+     * @param p_borders neighbour ids per country id read so far
+     */
+    private void readBorders(LineTokens p_tokens, HashMap<Integer, List<Integer>> p_borders) {
+        if (p_tokens.count() < 2) {
+            return;
+        }
+        int l_countryId;
+        List<Integer> l_neighbourCountries = new ArrayList<>(p_tokens.count() - 1);
+        try {
+            l_countryId = p_tokens.intAt(0);
+            for (int l_index = 1; l_index < p_tokens.count(); l_index++) {
+                l_neighbourCountries.add(p_tokens.intAt(l_index));
+            }
+        } catch (NumberFormatException l_e) {
+            return;
+        }
+        p_borders.put(l_countryId, l_neighbourCountries);
+    }
+
     /**
      * Extracts the country data section from the file lines.
      *
@@ -158,7 +290,7 @@ public class MapFileReader implements Serializable {
     private List<Continent> updateContinentCountries(List<Continent> p_continents, List<Country> p_countries) {
         for(Country l_country : p_countries){
             for(Continent l_continent:p_continents){
-                if(l_country.getD_continentID().equals(l_continent.getD_continentID())){
+                if(l_country.getD_continentID() == l_continent.getD_continentID()){
                     l_continent.setCountry(l_country);
                 }
             }
@@ -205,4 +337,85 @@ public class MapFileReader implements Serializable {
 
         return p_countries;
     }
+
+    /**
+     * Whitespace separated tokens of one line, kept as offsets into the line so that numbers are parsed
+     * without creating substrings. One instance is reused for every line of a file.
+     */
+    private static final class LineTokens {
+        /**
+         * The line being tokenized.
+         */
+        private String d_line;
+        /**
+         * Start and end offset of each token.
+         */
+        private int[] d_bounds = new int[16];
+        /**
+         * Number of tokens in the line.
+         */
+        private int d_count;
+
+        /**
+         * Splits a line into tokens.
+         *
+         * @param p_line the line
+         * @return this instance
+         */
+        LineTokens split(String p_line) {
+            d_line = p_line;
+            d_count = 0;
+            int l_position = 0;
+            int l_length = p_line.length();
+            while (l_position < l_length) {
+                while (l_position < l_length && Character.isWhitespace(p_line.charAt(l_position))) {
+                    l_position++;
+                }
+                if (l_position == l_length) {
+                    break;
+                }
+                int l_start = l_position;
+                while (l_position < l_length && !Character.isWhitespace(p_line.charAt(l_position))) {
+                    l_position++;
+                }
+                if (2 * d_count + 2 > d_bounds.length) {
+                    d_bounds = Arrays.copyOf(d_bounds, d_bounds.length * 2);
+                }
+                d_bounds[2 * d_count] = l_start;
+                d_bounds[2 * d_count + 1] = l_position;
+                d_count++;
+            }
+            return this;
+        }
+
+        /**
+         * Gets the number of tokens.
+         *
+         * @return the number of tokens
+         */
+        int count() {
+            return d_count;
+        }
+
+        /**
+         * Gets a token as text.
+         *
+         * @param p_index the token index
+         * @return the token
+         */
+        String textAt(int p_index) {
+            return d_line.substring(d_bounds[2 * p_index], d_bounds[2 * p_index + 1]);
+        }
+
+        /**
+         * Parses a token as a decimal integer.
+         *
+         * @param p_index the token index
+         * @return the value
+         * @throws NumberFormatException if the token is not an integer
+         */
+        int intAt(int p_index) {
+            return Integer.parseInt(d_line, d_bounds[2 * p_index], d_bounds[2 * p_index + 1], 10);
+        }
+    }
 }
@@ -91,12 +91,12 @@ public class MapFileWriter implements Serializable {
         p_writer.write(System.lineSeparator() + "[Countries]" + System.lineSeparator());
         for (Country l_eachCountry : p_currentState.getD_map().getD_mapCountries()) {
             l_countryMetadata = "";
-            l_countryMetadata = l_eachCountry.getD_countryID().toString() + " " + l_eachCountry.getD_countryName() + " " + l_eachCountry.getD_continentID().toString();
+            l_countryMetadata = l_eachCountry.getD_countryID() + " " + l_eachCountry.getD_countryName() + " " + l_eachCountry.getD_continentID();
             p_writer.write(l_countryMetadata + System.lineSeparator());
 
             if (l_eachCountry.getD_neighbouringCountriesId() != null && !l_eachCountry.getD_neighbouringCountriesId().isEmpty()) {
                 l_borderMetadata = "";
-                l_borderMetadata = l_eachCountry.getD_countryID().toString();
+                l_borderMetadata = String.valueOf(l_eachCountry.getD_countryID());
                 for (Integer l_eachBorder : l_eachCountry.getD_neighbouringCountriesId()) {
                     l_borderMetadata = l_borderMetadata + " " + l_eachBorder.toString();
                 }
@@ -134,7 +134,7 @@ public class MapFileWriter implements Serializable {
     private void writeContinentMetaData(CurrentState p_currentState, FileWriter p_writer) throws IOException {
         p_writer.write(System.lineSeparator() + "[Continents]" + System.lineSeparator());
         for (Continent l_eachContinent : p_currentState.getD_map().getD_mapContinents()) {
-            p_writer.write(l_eachContinent.getD_continentName() + " " + l_eachContinent.getD_continentValue().toString() + System.lineSeparator());
+            p_writer.write(l_eachContinent.getD_continentName() + " " + l_eachContinent.getD_continentValue() + System.lineSeparator());
         }
     }
 }
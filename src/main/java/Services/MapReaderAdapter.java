@@ -1,12 +1,15 @@
 package Services;
 
 import Model.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 
 /**
  * The {@code MapReaderAdapter} class acts as an adapter for reading map files
- * using the {@link ConquestMapFileReader}. It facilitates reading maps
- * in the Conquest format and updating the current game state accordingly.
+ * using the {@link ConquestMapFileReader} or the {@link BinaryMapFileReader}. It facilitates reading maps
+ * in the Conquest or binary format and updating the current game state accordingly.
  * This follows the Adapter Design Pattern for format compatibility.
  *
  * @author Yash Koladiya
@@ -18,6 +21,11 @@ public class MapReaderAdapter {
      */
     private ConquestMapFileReader d_conquestMapFileReader;
 
+    /**
+     * An instance of {@link BinaryMapFileReader} used to read binary map files.
+     */
+    private BinaryMapFileReader d_binaryMapFileReader;
+
     /**
      * Constructs a new {@code MapReaderAdapter} with the specified conquest map file reader.
      *
@@ -27,6 +35,15 @@ public class MapReaderAdapter {
         this.d_conquestMapFileReader = p_conquestMapFileReader;
     }
 
+    /**
+     * Constructs a new {@code MapReaderAdapter} with the specified binary map file reader.
+     *
+     * @param p_binaryMapFileReader the binary map file reader to be adapted
+     */
+    public MapReaderAdapter(BinaryMapFileReader p_binaryMapFileReader) {
+        this.d_binaryMapFileReader = p_binaryMapFileReader;
+    }
+
     /**
      * Parses the map file content and updates the given map and game state.
      *
@@ -38,4 +55,20 @@ public class MapReaderAdapter {
     public void parseMapFile(CurrentState p_currentState, Map p_map, List<String> p_fileLines, String p_fileName) {
         d_conquestMapFileReader.readConquestFile(p_currentState, p_map, p_fileLines, p_fileName);
     }
-}
\ No newline at end of file
+
+    /**
+     * Reads a binary map file made from a text map file and updates the given map and game state.
+     *
+     * @param p_currentState the current game state to be updated
+     * @param p_map          the map object to populate with parsed data
+     * @param p_sourceFile   the text map file the binary file was made from
+     * @param p_binaryFile   the binary map file
+     * @param p_fileName     the name of the map file being read
+     * @return true if the map was read, false if the binary file is corrupt or out of date
+     * @throws IOException if a file cannot be read
+     */
+    public boolean readBinaryMapFile(CurrentState p_currentState, Map p_map, Path p_sourceFile, Path p_binaryFile,
+                                     String p_fileName) throws IOException {
+        return d_binaryMapFileReader.readBinaryFile(p_currentState, p_map, p_sourceFile, p_binaryFile, p_fileName);
+    }
+}
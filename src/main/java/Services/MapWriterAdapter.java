@@ -4,10 +4,11 @@ import Model.*;
 
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Path;
 
 /**
  * The {@code MapWriterAdapter} class acts as an adapter to allow the use of
- * {@link ConquestMapFileWriter} for writing map files in a given format.
+ * {@link ConquestMapFileWriter} or {@link BinaryMapFileWriter} for writing map files in a given format.
  * This follows the Adapter Design Pattern to ensure compatibility between
  * different map writer implementations.
  *
@@ -20,6 +21,11 @@ public class MapWriterAdapter {
      */
     private ConquestMapFileWriter d_conquestMapFileWriter;
 
+    /**
+     * An instance of {@link BinaryMapFileWriter} used to write binary map files.
+     */
+    private BinaryMapFileWriter d_binaryMapFileWriter;
+
     /**
      * Constructs a new {@code MapWriterAdapter} with the specified conquest map file writer.
      *
@@ -29,6 +35,15 @@ public class MapWriterAdapter {
         d_conquestMapFileWriter = p_conquestMapFileWriter;
     }
 
+    /**
+     * Constructs a new {@code MapWriterAdapter} with the specified binary map file writer.
+     *
+     * @param p_binaryMapFileWriter the binary map file writer to be adapted
+     */
+    public MapWriterAdapter(BinaryMapFileWriter p_binaryMapFileWriter) {
+        d_binaryMapFileWriter = p_binaryMapFileWriter;
+    }
+
     /**
      * Parses the current map state and writes it to a file using the specified format.
      *
@@ -40,4 +55,16 @@ public class MapWriterAdapter {
     public void parseMapToFile(CurrentState p_currentState, FileWriter p_writer, String p_mapFormat) throws IOException {
         d_conquestMapFileWriter.parseMapToFile(p_currentState, p_writer, p_mapFormat);
     }
-}
\ No newline at end of file
+
+    /**
+     * Writes a map read from a text map file to a binary map file.
+     *
+     * @param p_map        the map to write
+     * @param p_sourceFile the text map file the map was read from
+     * @param p_binaryFile the binary map file to write
+     * @throws IOException if an I/O error occurs while writing to the file
+     */
+    public void writeBinaryMapFile(Map p_map, Path p_sourceFile, Path p_binaryFile) throws IOException {
+        d_binaryMapFileWriter.writeBinaryFile(p_map, p_sourceFile, p_binaryFile);
+    }
+}
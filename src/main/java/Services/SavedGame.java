@@ -0,0 +1,93 @@
+package Services;
+
+import Controller.MainGameEngine;
+import Model.CurrentState;
+import Model.IssueOrderPhase;
+import Model.OrderExecutionPhase;
+import Model.Phase;
+import Model.StartupPhase;
+
+/**
+ * A game read by {@link GameStateReader}: the state of the game and the phase it was saved in. The phase itself
+ * is not saved; it is created again for the state when the game is loaded.
+ */
+public class SavedGame {
+
+    /**
+     * The phases a game can be saved in, by their number in the save file.
+     */
+    static final String[] PHASES = {"Startup", "IssueOrder", "OrderExecution"};
+
+    /**
+     * The state of the game.
+     */
+    private final CurrentState d_currentState;
+
+    /**
+     * The phase the game was saved in, one of {@link #PHASES}.
+     */
+    private final String d_phaseName;
+
+    /**
+     * Creates a saved game.
+     *
+     * @param p_currentState the state of the game
+     * @param p_phaseName    the phase the game was saved in
+     */
+    SavedGame(CurrentState p_currentState, String p_phaseName) {
+        d_currentState = p_currentState;
+        d_phaseName = p_phaseName;
+    }
+
+    /**
+     * Gets the state of the game.
+     *
+     * @return the state of the game
+     */
+    public CurrentState getD_currentState() {
+        return d_currentState;
+    }
+
+    /**
+     * Gets the phase the game was saved in.
+     *
+     * @return "Startup", "IssueOrder" or "OrderExecution"
+     */
+    public String getD_phaseName() {
+        return d_phaseName;
+    }
+
+    /**
+     * Creates the phase the game was saved in, for the state of the game. The random number streams of the state
+     * start from the saved seed, so the game draws again what it drew from the start, see {@link GameStateWriter}.
+     *
+     * @param p_mainGameEngine the engine running the loaded game
+     * @return the phase
+     */
+    public Phase toPhase(MainGameEngine p_mainGameEngine) {
+        switch (d_phaseName) {
+            case "IssueOrder":
+                return new IssueOrderPhase(d_currentState, p_mainGameEngine);
+            case "OrderExecution":
+                return new OrderExecutionPhase(d_currentState, p_mainGameEngine);
+            default:
+                return new StartupPhase(p_mainGameEngine, d_currentState);
+        }
+    }
+
+    /**
+     * Gets the number a phase is saved as.
+     *
+     * @param p_phase the phase
+     * @return the position of the phase in {@link #PHASES}
+     */
+    static int phaseNumber(Phase p_phase) {
+        if (p_phase instanceof IssueOrderPhase) {
+            return 1;
+        }
+        if (p_phase instanceof OrderExecutionPhase) {
+            return 2;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,375 @@
+package View;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Appends log messages to a file from a background thread. Callers only put messages into a bounded ring buffer;
+ * a single writer thread takes them out in batches and writes each batch to the file, which it keeps open.
+ * Buffered messages reach the file when a batch is full, when the oldest of them has waited for the flush
+ * interval, when a caller asks for a flush, and when the writer is closed.
+ * <p>
+ * When the buffer is full, the {@link OverflowPolicy} decides whether the caller waits for the writer or the
+ * message is dropped. Dropped messages are counted, and the count is written to the file with the next batch.
+ */
+public final class AsyncLogWriter implements Closeable {
+
+    /**
+     * What happens to a message that finds the buffer full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The caller waits until the writer has made room, so no message is lost.
+         */
+        BLOCK,
+        /**
+         * The message is dropped and counted, so the caller never waits.
+         */
+        DROP
+    }
+
+    /**
+     * The file the messages are appended to.
+     */
+    private final Path d_path;
+
+    /**
+     * Ring buffer of the messages not yet taken by the writer thread.
+     */
+    private final String[] d_buffer;
+
+    /**
+     * Number of messages the writer waits for before writing a batch without being asked to.
+     */
+    private final int d_batchSize;
+
+    /**
+     * Longest time in nanoseconds a message waits in the buffer before it is written.
+     */
+    private final long d_flushIntervalNanos;
+
+    /**
+     * What happens to messages that find the buffer full.
+     */
+    private final OverflowPolicy d_policy;
+
+    /**
+     * Guards the buffer and the counters below.
+     */
+    private final ReentrantLock d_lock = new ReentrantLock();
+
+    /**
+     * Signalled when the writer thread has something to do.
+     */
+    private final Condition d_work = d_lock.newCondition();
+
+    /**
+     * Signalled when the writer thread has made room in the buffer.
+     */
+    private final Condition d_notFull = d_lock.newCondition();
+
+    /**
+     * Signalled when the writer thread has written and flushed a batch.
+     */
+    private final Condition d_flushed = d_lock.newCondition();
+
+    /**
+     * The single writer thread.
+     */
+    private final Thread d_thread;
+
+    /**
+     * Position of the oldest message in the buffer.
+     */
+    private int d_head;
+
+    /**
+     * Number of messages in the buffer.
+     */
+    private int d_size;
+
+    /**
+     * When the oldest message in the buffer was added, from {@link System#nanoTime()}.
+     */
+    private long d_oldestNanos;
+
+    /**
+     * Number of messages added since the writer was opened.
+     */
+    private long d_added;
+
+    /**
+     * Number of added messages that have been written and flushed to the file, or given up on.
+     */
+    private long d_written;
+
+    /**
+     * Number of messages dropped since the last batch.
+     */
+    private long d_dropped;
+
+    /**
+     * Whether a caller asked for the buffered messages to be written now.
+     */
+    private boolean d_flushRequested;
+
+    /**
+     * Whether the writer has been closed.
+     */
+    private boolean d_closed;
+
+    /**
+     * Opens a writer appending to the file and starts its writer thread.
+     *
+     * @param p_path            the file to append to, created if needed
+     * @param p_capacity        number of messages the buffer holds
+     * @param p_batchSize       number of messages the writer waits for before writing a batch
+     * @param p_flushIntervalMs longest time in milliseconds a message waits before it is written
+     * @param p_policy          what happens to messages that find the buffer full
+     * @throws IllegalArgumentException if the capacity, batch size or interval is not positive
+     */
+    public AsyncLogWriter(Path p_path, int p_capacity, int p_batchSize, long p_flushIntervalMs, OverflowPolicy p_policy) {
+        if (p_capacity < 1 || p_batchSize < 1 || p_flushIntervalMs < 1) {
+            throw new IllegalArgumentException("The capacity, batch size and flush interval must be positive.");
+        }
+        d_path = p_path;
+        d_buffer = new String[p_capacity];
+        d_batchSize = Math.min(p_batchSize, p_capacity);
+        d_flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(p_flushIntervalMs);
+        d_policy = p_policy;
+        d_thread = new Thread(this::writeBatches, "log-writer " + p_path.getFileName());
+        d_thread.setDaemon(true);
+        d_thread.start();
+    }
+
+    /**
+     * Adds a message to the buffer. Messages of one thread are written in the order they are added. Messages
+     * added after the writer is closed are ignored.
+     *
+     * @param p_message the text to append, including any line separator
+     * @param p_flush   whether the message and those before it should be written without waiting for a batch
+     */
+    public void append(String p_message, boolean p_flush) {
+        d_lock.lock();
+        try {
+            while (d_size == d_buffer.length && !d_closed) {
+                if (d_policy == OverflowPolicy.DROP) {
+                    d_dropped++;
+                    return;
+                }
+                d_notFull.awaitUninterruptibly();
+            }
+            if (d_closed) {
+                return;
+            }
+            int l_tail = d_head + d_size;
+            d_buffer[l_tail < d_buffer.length ? l_tail : l_tail - d_buffer.length] = p_message;
+            d_size++;
+            d_added++;
+            if (d_size == 1) {
+                d_oldestNanos = System.nanoTime();
+            }
+            d_flushRequested |= p_flush;
+            if (d_size == 1 || d_size == d_batchSize || p_flush) {
+                d_work.signal();
+            }
+        } finally {
+            d_lock.unlock();
+        }
+    }
+
+    /**
+     * Asks the writer thread to write the buffered messages now, without waiting for it.
+     */
+    public void requestFlush() {
+        d_lock.lock();
+        try {
+            if (d_size > 0) {
+                d_flushRequested = true;
+                d_work.signal();
+            }
+        } finally {
+            d_lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until every message added before the call has been written and flushed to the file.
+     */
+    public void flush() {
+        d_lock.lock();
+        try {
+            long l_target = d_added;
+            if (d_written >= l_target) {
+                return;
+            }
+            d_flushRequested = true;
+            d_work.signal();
+            while (d_written < l_target && d_thread.isAlive()) {
+                d_flushed.awaitNanos(d_flushIntervalNanos);
+            }
+        } catch (InterruptedException l_e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            d_lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the buffered messages, stops the writer thread and closes the file. Callers waiting for room in
+     * the buffer return without adding their message.
+     */
+    @Override
+    public void close() {
+        d_lock.lock();
+        try {
+            d_closed = true;
+            d_work.signal();
+            d_notFull.signalAll();
+        } finally {
+            d_lock.unlock();
+        }
+        if (Thread.currentThread() != d_thread) {
+            try {
+                d_thread.join();
+            } catch (InterruptedException l_e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of messages dropped because the buffer was full and not yet reported in the file.
+     *
+     * @return the number of dropped messages
+     */
+    public long getD_dropped() {
+        d_lock.lock();
+        try {
+            return d_dropped;
+        } finally {
+            d_lock.unlock();
+        }
+    }
+
+    /**
+     * Body of the writer thread: waits for a batch, takes it out of the buffer, and writes it with the lock
+     * released, until the writer is closed.
+     */
+    private void writeBatches() {
+        String[] l_batch = new String[d_buffer.length];
+        StringBuilder l_text = new StringBuilder();
+        Writer l_file = null;
+        boolean l_failed = false;
+        while (true) {
+            int l_count;
+            long l_dropped;
+            long l_taken;
+            boolean l_closing;
+            d_lock.lock();
+            try {
+                awaitBatch();
+                l_count = d_size;
+                int l_first = Math.min(l_count, d_buffer.length - d_head);
+                System.arraycopy(d_buffer, d_head, l_batch, 0, l_first);
+                System.arraycopy(d_buffer, 0, l_batch, l_first, l_count - l_first);
+                clear(d_head, l_first);
+                clear(0, l_count - l_first);
+                d_head = (d_head + l_count) % d_buffer.length;
+                d_size = 0;
+                l_dropped = d_dropped;
+                d_dropped = 0;
+                l_taken = d_added;
+                l_closing = d_closed;
+                d_flushRequested = false;
+                d_notFull.signalAll();
+            } finally {
+                d_lock.unlock();
+            }
+
+            for (int l_index = 0; l_index < l_count; l_index++) {
+                l_text.append(l_batch[l_index]);
+                l_batch[l_index] = null;
+            }
+            if (l_dropped > 0) {
+                l_text.append("Log: ").append(l_dropped).append(" log messages dropped, the log buffer was full")
+                        .append(System.lineSeparator());
+            }
+            if (!l_text.isEmpty() && !l_failed) {
+                try {
+                    if (l_file == null) {
+                        l_file = Files.newBufferedWriter(d_path, Charset.defaultCharset(),
+                                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                    }
+                    l_file.append(l_text);
+                    l_file.flush();
+                } catch (IOException l_e) {
+                    // Keep taking messages so callers never wait on a log that cannot be written.
+                    l_failed = true;
+                    System.err.println("Game log could not be written to " + d_path + ": " + l_e.getMessage());
+                }
+            }
+            l_text.setLength(0);
+
+            d_lock.lock();
+            try {
+                d_written = l_taken;
+                d_flushed.signalAll();
+            } finally {
+                d_lock.unlock();
+            }
+            if (l_closing) {
+                break;
+            }
+        }
+        if (l_file != null) {
+            try {
+                l_file.close();
+            } catch (IOException l_e) {
+                System.err.println("Game log could not be closed: " + l_e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Waits, holding the lock, until a batch is full, a flush is asked for, the oldest message has waited for
+     * the flush interval, or the writer is closed.
+     */
+    private void awaitBatch() {
+        while (!d_closed && !d_flushRequested && d_size < d_batchSize) {
+            if (d_size == 0) {
+                d_work.awaitUninterruptibly();
+                continue;
+            }
+            long l_remaining = d_oldestNanos + d_flushIntervalNanos - System.nanoTime();
+            if (l_remaining <= 0) {
+                return;
+            }
+            try {
+                d_work.awaitNanos(l_remaining);
+            } catch (InterruptedException l_e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Clears a range of the buffer so written messages can be collected.
+     *
+     * @param p_from  first position
+     * @param p_count number of positions
+     */
+    private void clear(int p_from, int p_count) {
+        for (int l_index = p_from; l_index < p_from + p_count; l_index++) {
+            d_buffer[l_index] = null;
+        }
+    }
+}
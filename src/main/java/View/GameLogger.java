@@ -1,16 +1,16 @@
 package View;
 
 import Model.ModelLogger;
-import java.io.BufferedWriter;
-import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
+
+import java.nio.file.Path;
 import java.util.Observable;
 import java.util.Observer;
 
 /**
  * The GameLogger class listens for changes to the message in ModelLogger
  * and writes the updated message to a log file.
+ * Messages are handed to one {@link AsyncLogWriter} shared by every game of the process, so logging a message
+ * never waits for the file; the writer is flushed at every phase change and closed when the process exits.
  * @author Akhilesh Kanbarkar
  */
 public class GameLogger implements Observer {
@@ -21,6 +21,26 @@ public class GameLogger implements Observer {
      */
     private static final String LOG_FILE_PATH = "src/main/resources/GameLogs.txt";
 
+    /**
+     * Number of messages the log buffer holds before callers wait for the writer.
+     */
+    private static final int LOG_BUFFER_CAPACITY = 8192;
+
+    /**
+     * Number of messages written to the log file at once.
+     */
+    private static final int LOG_BATCH_SIZE = 256;
+
+    /**
+     * Longest time in milliseconds a message waits before it is written to the log file.
+     */
+    private static final long LOG_FLUSH_INTERVAL_MS = 200;
+
+    /**
+     * The writer of the game log file, shared by every game logger.
+     */
+    private static final AsyncLogWriter LOG_WRITER = openLogWriter();
+
     /**
      * The D model logger.
      */
@@ -33,27 +53,36 @@ public class GameLogger implements Observer {
     }
 
     /**
-     * Update.
+     * Update. The message is only added to the log buffer; a phase change also asks for the buffer to be written.
      *
      * @param p_observable the p observable
-     * @param p_arg        the p arg
+     * @param p_arg        the type of the message
      */
     @Override
     public void update(Observable p_observable, Object p_arg) {
         d_modelLogger = (ModelLogger) p_observable;
-        File l_loggerFile = new File(LOG_FILE_PATH);
         String l_logMessage = d_modelLogger.getD_message();
+        String l_line = l_logMessage != null ? l_logMessage + System.lineSeparator() : System.lineSeparator();
+        LOG_WRITER.append(l_line, "phase".equals(p_arg) || "end".equals(p_arg));
+    }
+
+    /**
+     * Waits until every message logged so far is in the log file.
+     */
+    public static void flush() {
+        LOG_WRITER.flush();
+    }
 
-        try{
-            BufferedWriter writer = new BufferedWriter(new FileWriter(l_loggerFile, true));
-            if(l_logMessage!=null) {
-                writer.write(l_logMessage);
-            }
-            writer.newLine();
-            writer.close();
-        }
-        catch (IOException p_e) {
-            p_e.printStackTrace();
-        }
+    /**
+     * Opens the writer of the game log file, and closes it when the process exits so the last messages are
+     * written even when the game ends with {@link System#exit(int)}.
+     *
+     * @return the writer
+     */
+    private static AsyncLogWriter openLogWriter() {
+        AsyncLogWriter l_writer = new AsyncLogWriter(Path.of(LOG_FILE_PATH), LOG_BUFFER_CAPACITY, LOG_BATCH_SIZE,
+                LOG_FLUSH_INTERVAL_MS, AsyncLogWriter.OverflowPolicy.BLOCK);
+        Runtime.getRuntime().addShutdownHook(new Thread(l_writer::close, "log-writer shutdown"));
+        return l_writer;
     }
-}
\ No newline at end of file
+}
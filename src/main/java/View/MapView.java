@@ -1,5 +1,6 @@
 package View;
 import Model.*;
+import java.io.PrintStream;
 import java.util.HashMap;
 import java.util.List;
 
@@ -30,18 +31,24 @@ public class MapView {
     }
 
     /**
-     * Displays the map, including continents, countries, armies, and neighboring countries.
+     * Displays the map, including continents, countries, armies, and neighboring countries, on the console of
+     * the game.
      */
     public void showMap() {
+        GameConsole l_console = d_currentState.getD_console();
+        if (!l_console.isOn()) {
+            return;
+        }
+        PrintStream l_output = l_console.getD_output();
         if (d_continents != null && !d_continents.isEmpty()) {
-            System.out.println("************************************************************************************************************************");
-            System.out.println("                                                   MAP VIEW - CONTINENT DETAILS                                                    ");
-            System.out.println("************************************************************************************************************************");
+            l_output.println("************************************************************************************************************************");
+            l_output.println("                                                   MAP VIEW - CONTINENT DETAILS                                                    ");
+            l_output.println("************************************************************************************************************************");
 
             for (Continent l_continent : d_continents) {
-                System.out.println("\n---------------------------------");
-                System.out.println("Continent: " + l_continent.getD_continentName() + " (ID: " + l_continent.getD_continentID() + ")");
-                System.out.println("---------------------------------");
+                l_output.println("\n---------------------------------");
+                l_output.println("Continent: " + l_continent.getD_continentName() + " (ID: " + l_continent.getD_continentID() + ")");
+                l_output.println("---------------------------------");
 
                 List<Country> l_countries = l_continent.getD_countries();
                 if (l_countries != null && !l_countries.isEmpty()) {
@@ -51,9 +58,9 @@ public class MapView {
                         l_countryToPosition.put(l_country.getD_countryID(), l_country.getD_countryName());
                     }
 
-                    System.out.println("  +--------------------------+-------+------------+--------------------------+");
-                    System.out.println("  | Country Name             | ID    | Armies     | Neighboring Countries    |");
-                    System.out.println("  +--------------------------+-------+------------+--------------------------+");
+                    l_output.println("  +--------------------------+-------+------------+--------------------------+");
+                    l_output.println("  | Country Name             | ID    | Armies     | Neighboring Countries    |");
+                    l_output.println("  +--------------------------+-------+------------+--------------------------+");
 
                     for (int i = 0; i < l_countries.size(); i++) {
                         Country l_country = l_countries.get(i);
@@ -70,25 +77,25 @@ public class MapView {
                             l_connectedCountries = l_connectedCountries.substring(0, l_connectedCountries.length() - 2);
                         }
 
-                        System.out.printf("  | %-24s | %-5d | %-10d | %-24s |\n", l_countryName, l_countryId, l_armies, l_connectedCountries);
+                        l_output.printf("  | %-24s | %-5d | %-10d | %-24s |\n", l_countryName, l_countryId, l_armies, l_connectedCountries);
 
                         if (i == l_countries.size() - 1) {
-                            System.out.println("  +--------------------------+-------+------------+--------------------------+");
+                            l_output.println("  +--------------------------+-------+------------+--------------------------+");
                         }
                     }
 
                     for (Country l_country : l_countries) {
                         String l_countryName = l_country.getD_countryName();
-                        System.out.println("\nConnections from " + l_countryName + " (ID: " + l_country.getD_countryID() + "):");
+                        l_output.println("\nConnections from " + l_countryName + " (ID: " + l_country.getD_countryID() + "):");
                         for (Integer l_neighborID : l_country.getD_neighbouringCountriesId()) {
                             String l_neighborName = d_map.getCountryNameById(l_neighborID);
-                            System.out.println("    -> " + l_neighborName + " (ID: " + l_neighborID + ")");
+                            l_output.println("    -> " + l_neighborName + " (ID: " + l_neighborID + ")");
                         }
-                        System.out.println("-------------------------------------------------------------");
+                        l_output.println("-------------------------------------------------------------");
                     }
                 }
             }
-            System.out.println("************************************************************************************************************************");
+            l_output.println("************************************************************************************************************************");
         }
     }
 }
\ No newline at end of file
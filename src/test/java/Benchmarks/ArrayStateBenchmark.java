@@ -0,0 +1,94 @@
+package Benchmarks;
+
+import Exceptions.CommandValidationException;
+import Model.GameSimulator;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Compares the two boards a game can keep its armies on: in the {@link Model.Country} objects, and in one
+ * {@code int} array. The same games of computer players are played with either board and timed per turn, and the
+ * bytes allocated per turn are read from the thread allocation counter of the JVM where it has one. The games
+ * include setting up the game and sharing out the countries, which costs the same with either board.
+ */
+public class ArrayStateBenchmark {
+
+    /**
+     * Strategies of the players of every game.
+     */
+    private static final List<String> STRATEGIES = List.of("Random", "Aggressive", "Benevolent", "Cheater");
+
+    /**
+     * Maximum number of turns of a game.
+     */
+    private static final int TURN_LIMIT = 30;
+
+    /**
+     * Number of games per measured run.
+     */
+    private static final int GAMES_PER_RUN = 3;
+
+    /**
+     * Entry point.
+     *
+     * @param p_args ignored
+     */
+    public static void main(String[] p_args) {
+        System.out.printf("%10s %16s %16s %16s %16s%n", "countries", "objects us/turn", "arrays us/turn",
+                "objects KiB/turn", "arrays KiB/turn");
+        for (int l_countries : new int[]{2500, 10_000, 100_000}) {
+            GameSimulator l_simulator = new GameSimulator(BenchmarkSupport.gridMap(l_countries, 100), STRATEGIES, TURN_LIMIT, 1L);
+            l_simulator.setD_arrayState(false);
+            long l_turns = playGames(l_simulator);
+            l_simulator.setD_arrayState(true);
+            if (playGames(l_simulator) != l_turns) {
+                throw new IllegalStateException("The boards played different games.");
+            }
+
+            l_simulator.setD_arrayState(false);
+            double l_objects = BenchmarkSupport.averageNanos(() -> playGames(l_simulator), 1, 3) / l_turns;
+            double l_objectBytes = allocatedBytes(l_simulator) / l_turns;
+            l_simulator.setD_arrayState(true);
+            double l_arrays = BenchmarkSupport.averageNanos(() -> playGames(l_simulator), 1, 3) / l_turns;
+            double l_arrayBytes = allocatedBytes(l_simulator) / l_turns;
+            System.out.printf("%10d %16.1f %16.1f %16.1f %16.1f%n", l_countries, l_objects / 1e3, l_arrays / 1e3,
+                    l_objectBytes / 1024, l_arrayBytes / 1024);
+        }
+    }
+
+    /**
+     * Measures the bytes the games of one run allocate on the current thread.
+     *
+     * @param p_simulator the simulator
+     * @return bytes allocated, or -1 if the JVM does not count them
+     */
+    private static double allocatedBytes(GameSimulator p_simulator) {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean l_bean)
+                || !l_bean.isThreadAllocatedMemorySupported()) {
+            return -1;
+        }
+        long l_before = l_bean.getCurrentThreadAllocatedBytes();
+        playGames(p_simulator);
+        return l_bean.getCurrentThreadAllocatedBytes() - l_before;
+    }
+
+    /**
+     * Plays the games of one run, one per seed. Every run plays the same games, so the same number of turns.
+     *
+     * @param p_simulator the simulator
+     * @return the number of turns played
+     */
+    private static long playGames(GameSimulator p_simulator) {
+        long l_turns = 0;
+        for (long l_seed = 0; l_seed < GAMES_PER_RUN; l_seed++) {
+            try {
+                l_turns += p_simulator.simulate(l_seed).getD_turnsPlayed();
+            } catch (CommandValidationException l_e) {
+                throw new IllegalStateException(l_e);
+            }
+        }
+        BenchmarkSupport.d_sink += l_turns;
+        return l_turns;
+    }
+}
@@ -0,0 +1,215 @@
+package Benchmarks;
+
+import Controller.MainGameEngine;
+import Controller.PlayerController;
+import Model.AggressivePlayer;
+import Model.BenevolentPlayer;
+import Exceptions.CommandValidationException;
+import Model.CurrentState;
+import Model.GameSimulator;
+import Model.IssueOrderPhase;
+import Model.Map;
+import Model.Player;
+import Model.RandomPlayer;
+import Services.Autosaver;
+import Services.GameStateWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures how much autosave adds to the time of a turn. The same games of computer players are played without and
+ * with autosave and timed per turn; the last column counts the snapshots the writer thread had no time to write
+ * because a newer one replaced them. The writer thread needs a processor of its own to stay off the turn time; on
+ * a single processor its work shows in the second column. The second table times what a single turn boundary
+ * costs the game thread: taking an autosave snapshot, against writing the whole save file on the game thread the
+ * way {@code savegame} does.
+ * <p>
+ * The maps are generated, so they have no map file and every autosave holds the map as well, the most a save
+ * file can hold. The files go to a temporary folder.
+ */
+public class AutosaveBenchmark {
+
+    /**
+     * Strategies of the players of every game.
+     */
+    private static final List<String> STRATEGIES = List.of("Random", "Aggressive", "Benevolent");
+
+    /**
+     * Maximum number of turns of a game.
+     */
+    private static final int TURN_LIMIT = 30;
+
+    /**
+     * Number of games per measured run.
+     */
+    private static final int GAMES_PER_RUN = 5;
+
+    /**
+     * Number of turn boundaries per measured run of the second table.
+     */
+    private static final int SAVES_PER_RUN = 20;
+
+    /**
+     * Number of autosaved turns kept.
+     */
+    private static final int KEEP = 3;
+
+    /**
+     * Entry point.
+     *
+     * @param p_args ignored
+     * @throws IOException if the temporary folder cannot be used
+     */
+    public static void main(String[] p_args) throws IOException {
+        Path l_folder = Files.createTempDirectory("autosave-benchmark");
+        PrintStream l_console = System.out;
+        PrintStream l_errorConsole = System.err;
+        PrintStream l_discard = new PrintStream(OutputStream.nullOutputStream());
+
+        l_console.printf("%10s %14s %16s %10s%n", "countries", "off us/turn", "autosave us/turn", "skipped");
+        for (int l_countries : new int[]{100, 400, 2500}) {
+            Map l_map = BenchmarkSupport.gridMap(l_countries, 9);
+            System.setOut(l_discard);
+            System.setErr(l_discard);
+            long l_turns;
+            double l_off;
+            double l_on;
+            long l_skipped;
+            try (Autosaver l_autosaver = new Autosaver(l_folder, "autosave", KEEP, true)) {
+                GameSimulator l_withoutAutosave = simulator(l_map, null);
+                GameSimulator l_withAutosave = simulator(l_map, l_autosaver);
+                l_turns = playGames(l_withoutAutosave);
+                l_off = BenchmarkSupport.averageNanos(() -> playGames(l_withoutAutosave), 2, 5) / l_turns;
+                l_on = BenchmarkSupport.averageNanos(() -> playGames(l_withAutosave), 2, 5) / l_turns;
+                l_autosaver.flush();
+                l_skipped = l_autosaver.getD_skipped();
+            } finally {
+                System.setOut(l_console);
+                System.setErr(l_errorConsole);
+            }
+            l_console.printf("%10d %14.1f %16.1f %10d%n", l_countries, l_off / 1e3, l_on / 1e3, l_skipped);
+        }
+
+        l_console.printf("%n%10s %18s %18s %12s%n", "countries", "snapshot us/turn", "savegame us/turn", "file bytes");
+        for (int l_countries : new int[]{100, 400, 2500, 10_000}) {
+            IssueOrderPhase l_phase = midGame(BenchmarkSupport.gridMap(l_countries, 9));
+            GameStateWriter l_writer = new GameStateWriter(true);
+            Path l_file = l_folder.resolve("savegame");
+            double l_snapshot;
+            try (Autosaver l_autosaver = new Autosaver(l_folder, "snapshot", KEEP, true)) {
+                l_snapshot = nanosPerSnapshot(l_autosaver, l_phase);
+            }
+            double l_save = BenchmarkSupport.averageNanos(() -> {
+                for (int l_index = 0; l_index < SAVES_PER_RUN; l_index++) {
+                    try {
+                        l_writer.writeGame(l_phase, l_file);
+                    } catch (IOException l_e) {
+                        throw new IllegalStateException(l_e);
+                    }
+                }
+            }, 2, 5) / SAVES_PER_RUN;
+            l_console.printf("%10d %18.1f %18.1f %12d%n", l_countries, l_snapshot / 1e3, l_save / 1e3, Files.size(l_file));
+        }
+
+        try (var l_files = Files.list(l_folder)) {
+            for (Path l_file : (Iterable<Path>) l_files::iterator) {
+                Files.delete(l_file);
+            }
+        }
+        Files.delete(l_folder);
+    }
+
+    /**
+     * Times the snapshots alone: the writer thread is left to finish each snapshot before the next is taken, so
+     * it does not share the processor with the timed part.
+     *
+     * @param p_autosaver the autosaver
+     * @param p_phase     the phase of the game
+     * @return average nanoseconds per snapshot
+     */
+    private static double nanosPerSnapshot(Autosaver p_autosaver, IssueOrderPhase p_phase) {
+        long l_nanos = 0;
+        for (int l_run = 0; l_run < 3 * SAVES_PER_RUN; l_run++) {
+            long l_start = System.nanoTime();
+            p_autosaver.snapshot(p_phase);
+            if (l_run >= SAVES_PER_RUN) {
+                l_nanos += System.nanoTime() - l_start;
+            }
+            p_autosaver.flush();
+        }
+        return (double) l_nanos / (2 * SAVES_PER_RUN);
+    }
+
+    /**
+     * Plays the games of one run, one per seed. Every run plays the same games, so the same number of turns.
+     *
+     * @param p_simulator the simulator
+     * @return the number of turns played
+     */
+    private static long playGames(GameSimulator p_simulator) {
+        long l_turns = 0;
+        for (long l_seed = 0; l_seed < GAMES_PER_RUN; l_seed++) {
+            try {
+                l_turns += p_simulator.simulate(l_seed).getD_turnsPlayed();
+            } catch (CommandValidationException l_e) {
+                throw new IllegalStateException(l_e);
+            }
+        }
+        BenchmarkSupport.d_sink += l_turns;
+        return l_turns;
+    }
+
+    /**
+     * Creates a simulator of games of three computer players, whose engines autosave if an autosaver is given.
+     *
+     * @param p_map       the map
+     * @param p_autosaver the autosaver of the games, or null
+     * @return the simulator
+     */
+    private static GameSimulator simulator(Map p_map, Autosaver p_autosaver) {
+        return new GameSimulator(p_map, STRATEGIES, TURN_LIMIT, 1L) {
+            @Override
+            protected MainGameEngine newEngine() {
+                MainGameEngine l_engine = super.newEngine();
+                l_engine.setD_autosaver(p_autosaver);
+                return l_engine;
+            }
+        };
+    }
+
+    /**
+     * Sets up a game with the countries shared out and armies on every country, as at a turn boundary.
+     *
+     * @param p_map the map
+     * @return the issue order phase of the game
+     */
+    private static IssueOrderPhase midGame(Map p_map) {
+        CurrentState l_state = new CurrentState();
+        l_state.setD_seed(1L);
+        l_state.setD_map(p_map.copyForGame());
+        List<Player> l_players = new ArrayList<>();
+        for (int l_index = 0; l_index < STRATEGIES.size(); l_index++) {
+            l_players.add(new Player("Player" + (l_index + 1)));
+        }
+        l_players.get(0).setD_playerBehaviourStrategy(new RandomPlayer());
+        l_players.get(1).setD_playerBehaviourStrategy(new AggressivePlayer());
+        l_players.get(2).setD_playerBehaviourStrategy(new BenevolentPlayer());
+        l_state.setD_players(l_players);
+        l_state.getD_modelLogger().deleteObservers();
+        PrintStream l_console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            new PlayerController().assignCountry(l_state);
+        } finally {
+            System.setOut(l_console);
+        }
+        l_state.getD_map().getD_mapCountries().forEach(l_country -> l_country.setD_armies(7));
+        return new IssueOrderPhase(l_state, new MainGameEngine());
+    }
+}
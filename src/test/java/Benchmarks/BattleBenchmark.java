@@ -0,0 +1,91 @@
+package Benchmarks;
+
+import Model.BattleKernel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Measures the cost of resolving the dice of one battle for growing army sizes. The first column is
+ * {@link BattleKernel}, which rolls each pair without allocating for small battles and draws the binomial count
+ * directly for large ones; the second column repeats the battle with the boxed roll lists Advance used before,
+ * for comparison. The last column is the mean number of attacker wins per pair of both, which should agree.
+ */
+public class BattleBenchmark {
+
+    /**
+     * Number of battles per measured run.
+     */
+    private static final int BATTLES_PER_RUN = 1_000;
+
+    /**
+     * Entry point.
+     *
+     * @param p_args ignored
+     */
+    public static void main(String[] p_args) {
+        System.out.printf("%10s %15s %15s %17s%n", "armies", "ns/battle", "lists ns/battle", "wins/pair k|lists");
+        for (int l_armies : new int[]{1, 10, 100, 1_000, 10_000, 100_000}) {
+            SplittableRandom l_random = new SplittableRandom(42);
+            long[] l_wins = new long[2];
+            double l_nanos = BenchmarkSupport.averageNanos(() -> {
+                long l_total = 0;
+                for (int l_battle = 0; l_battle < BATTLES_PER_RUN; l_battle++) {
+                    l_total += BattleKernel.attackerWins(l_armies, l_random);
+                }
+                l_wins[0] += l_total;
+                BenchmarkSupport.d_sink += l_total;
+            }, 10, 20);
+            int l_listBattles = Math.max(1, BATTLES_PER_RUN / Math.max(1, l_armies / 100));
+            SplittableRandom l_listRandom = new SplittableRandom(42);
+            double l_listNanos = BenchmarkSupport.averageNanos(() -> {
+                long l_total = 0;
+                for (int l_battle = 0; l_battle < l_listBattles; l_battle++) {
+                    l_total += listAttackerWins(l_armies, l_listRandom);
+                }
+                l_wins[1] += l_total;
+                BenchmarkSupport.d_sink += l_total;
+            }, 10, 20);
+            System.out.printf("%10d %15.1f %15.1f %8.4f|%8.4f%n", l_armies, l_nanos / BATTLES_PER_RUN,
+                    l_listNanos / l_listBattles,
+                    l_wins[0] / (30.0 * BATTLES_PER_RUN * l_armies), l_wins[1] / (30.0 * l_listBattles * l_armies));
+        }
+    }
+
+    /**
+     * Counts the pairs the attacker wins the way Advance did before the battle kernel: one boxed list of scaled
+     * rolls per side, compared pair by pair.
+     *
+     * @param p_armies number of pairs
+     * @param p_random the random number stream
+     * @return the number of pairs won by the attacker
+     */
+    private static int listAttackerWins(int p_armies, SplittableRandom p_random) {
+        List<Integer> l_defender = rolls(p_armies, 0.7, p_random);
+        List<Integer> l_attacker = rolls(p_armies, 0.6, p_random);
+        int l_wins = 0;
+        for (int l_pair = 0; l_pair < l_attacker.size(); l_pair++) {
+            if (l_attacker.get(l_pair) > l_defender.get(l_pair)) {
+                l_wins++;
+            }
+        }
+        return l_wins;
+    }
+
+    /**
+     * Rolls a die from 1 to 9 for every army and scales the roll.
+     *
+     * @param p_armies number of armies
+     * @param p_scale  0.6 for the attacker, 0.7 for the defender
+     * @param p_random the random number stream
+     * @return the scaled rolls
+     */
+    private static List<Integer> rolls(int p_armies, double p_scale, SplittableRandom p_random) {
+        List<Integer> l_rolls = new ArrayList<>();
+        for (int l_army = 0; l_army < p_armies; l_army++) {
+            l_rolls.add((int) Math.round((p_random.nextInt(9) + 1) * p_scale));
+        }
+        return l_rolls;
+    }
+}
@@ -0,0 +1,96 @@
+package Benchmarks;
+
+import Model.Continent;
+import Model.Country;
+import Model.Map;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared helpers for the stand-alone benchmarks in this package.
+ * The benchmarks are plain {@code main} programs so that they run without extra build dependencies
+ * and are not picked up by the surefire test run.
+ */
+public final class BenchmarkSupport {
+
+    /**
+     * Sink written by the benchmarks so that the JIT cannot discard the measured work.
+     */
+    public static volatile long d_sink;
+
+    /**
+     * Utility class, not instantiated.
+     */
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Builds a square-ish grid map with the given number of countries. Every country borders the countries
+     * to its left, right, above and below, and the grid is cut into rectangular tiles, one continent per tile,
+     * so the map and each continent are connected. The number of continents is the requested count rounded up
+     * to a square number, minus tiles left empty by a short last row.
+     *
+     * @param p_countryCount   number of countries to generate
+     * @param p_continentCount approximate number of continents to generate
+     * @return the generated map
+     */
+    public static Map gridMap(int p_countryCount, int p_continentCount) {
+        int l_width = Math.max(1, (int) Math.ceil(Math.sqrt(p_countryCount)));
+        int l_rows = (p_countryCount + l_width - 1) / l_width;
+        int l_tilesPerSide = Math.max(1, (int) Math.ceil(Math.sqrt(p_continentCount)));
+        int l_tileWidth = (l_width + l_tilesPerSide - 1) / l_tilesPerSide;
+        int l_tileHeight = (l_rows + l_tilesPerSide - 1) / l_tilesPerSide;
+
+        List<Continent> l_continents = new ArrayList<>();
+        Continent[] l_continentOfTile = new Continent[l_tilesPerSide * l_tilesPerSide];
+        List<Country> l_countries = new ArrayList<>(p_countryCount);
+        for (int l_index = 0; l_index < p_countryCount; l_index++) {
+            int l_row = l_index / l_width;
+            int l_column = l_index % l_width;
+            int l_tile = (l_row / l_tileHeight) * l_tilesPerSide + l_column / l_tileWidth;
+            if (l_continentOfTile[l_tile] == null) {
+                l_continentOfTile[l_tile] = new Continent(l_continents.size() + 1, "Continent" + (l_continents.size() + 1), 3);
+                l_continents.add(l_continentOfTile[l_tile]);
+            }
+            Continent l_continent = l_continentOfTile[l_tile];
+            Country l_country = new Country(l_index + 1, "Country" + (l_index + 1), l_continent.getD_continentID());
+            List<Integer> l_neighbours = new ArrayList<>(4);
+            if (l_column > 0) {
+                l_neighbours.add(l_index);
+            }
+            if (l_column < l_width - 1 && l_index + 1 < p_countryCount) {
+                l_neighbours.add(l_index + 2);
+            }
+            if (l_row > 0) {
+                l_neighbours.add(l_index - l_width + 1);
+            }
+            if (l_index + l_width < p_countryCount) {
+                l_neighbours.add(l_index + l_width + 1);
+            }
+            l_country.setD_neighbouringCountriesId(l_neighbours);
+            l_countries.add(l_country);
+            l_continent.setCountry(l_country);
+        }
+        return new Map("grid" + p_countryCount, l_countries, l_continents);
+    }
+
+    /**
+     * Runs the task a number of times for warm-up, then measures the average time of the given number of runs.
+     *
+     * @param p_task       the work to measure
+     * @param p_warmupRuns number of unmeasured runs
+     * @param p_runs       number of measured runs
+     * @return average nanoseconds per run
+     */
+    public static double averageNanos(Runnable p_task, int p_warmupRuns, int p_runs) {
+        for (int l_run = 0; l_run < p_warmupRuns; l_run++) {
+            p_task.run();
+        }
+        long l_start = System.nanoTime();
+        for (int l_run = 0; l_run < p_runs; l_run++) {
+            p_task.run();
+        }
+        return (System.nanoTime() - l_start) / (double) p_runs;
+    }
+}
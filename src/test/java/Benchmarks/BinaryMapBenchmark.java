@@ -0,0 +1,125 @@
+package Benchmarks;
+
+import Model.Country;
+import Model.CurrentState;
+import Model.Map;
+import Services.BinaryMapFileReader;
+import Services.BinaryMapFileWriter;
+import Services.MapFileReader;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Compares loading a generated 50k-country Domination map from its text file, both by reading all lines first
+ * and with the streaming reader, with loading it from the binary map file the loader caches it in.
+ */
+public class BinaryMapBenchmark {
+
+    /**
+     * Entry point.
+     *
+     * @param p_args optional number of countries; defaults to 50000
+     * @throws IOException if the temporary files cannot be written
+     */
+    public static void main(String[] p_args) throws IOException {
+        int l_countryCount = p_args.length > 0 ? Integer.parseInt(p_args[0]) : 50_000;
+        Path l_directory = Files.createTempDirectory("binary-map-benchmark");
+        Path l_textFile = l_directory.resolve("generated.map");
+        Path l_binaryFile = l_directory.resolve("generated.map.bin");
+        writeDominationFile(BenchmarkSupport.gridMap(l_countryCount, 400), l_textFile);
+
+        Map l_textMap = readText(l_textFile);
+        new BinaryMapFileWriter().writeBinaryFile(l_textMap, l_textFile, l_binaryFile);
+        System.out.printf("%d countries: text %d KB, binary %d KB%n", l_countryCount,
+                Files.size(l_textFile) / 1024, Files.size(l_binaryFile) / 1024);
+
+        double l_text = BenchmarkSupport.averageNanos(() -> BenchmarkSupport.d_sink += readText(l_textFile).getD_mapCountries().size(), 5, 20);
+        double l_binary = BenchmarkSupport.averageNanos(() -> {
+            try {
+                Map l_map = new Map();
+                if (!new BinaryMapFileReader().readBinaryFile(new CurrentState(), l_map, l_textFile, l_binaryFile, "generated.map")) {
+                    throw new IllegalStateException("binary map rejected");
+                }
+                BenchmarkSupport.d_sink += l_map.getD_mapCountries().size();
+            } catch (IOException l_e) {
+                throw new UncheckedIOException(l_e);
+            }
+        }, 5, 20);
+        double l_lines = BenchmarkSupport.averageNanos(() -> {
+            try {
+                Map l_map = new Map();
+                new MapFileReader().parseMapFile(new CurrentState(), l_map, Files.readAllLines(l_textFile), "generated.map");
+                BenchmarkSupport.d_sink += l_map.getD_mapCountries().size();
+            } catch (IOException l_e) {
+                throw new UncheckedIOException(l_e);
+            }
+        }, 5, 20);
+        System.out.printf("  text, all lines read first %8.2f ms  binary speed-up %.1fx%n", l_lines / 1e6, l_lines / l_binary);
+        System.out.printf("  text, streaming            %8.2f ms  binary speed-up %.1fx%n", l_text / 1e6, l_text / l_binary);
+        System.out.printf("  binary                     %8.2f ms%n", l_binary / 1e6);
+
+        Files.delete(l_binaryFile);
+        Files.delete(l_textFile);
+        Files.delete(l_directory);
+    }
+
+    /**
+     * Reads a Domination map file with the streaming text reader.
+     *
+     * @param p_file the map file
+     * @return the map
+     */
+    private static Map readText(Path p_file) {
+        try (BufferedReader l_reader = Files.newBufferedReader(p_file)) {
+            Map l_map = new Map();
+            new MapFileReader().readMapFile(new CurrentState(), l_map, l_reader, "generated.map");
+            return l_map;
+        } catch (IOException l_e) {
+            throw new UncheckedIOException(l_e);
+        }
+    }
+
+    /**
+     * Writes a map as a Domination map file.
+     *
+     * @param p_map  the map
+     * @param p_file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    private static void writeDominationFile(Map p_map, Path p_file) throws IOException {
+        try (BufferedWriter l_writer = Files.newBufferedWriter(p_file)) {
+            l_writer.write("[Continents]\n");
+            p_map.getD_mapContinents().forEach(l_continent -> write(l_writer,
+                    l_continent.getD_continentName() + " " + l_continent.getD_continentValue() + "\n"));
+            l_writer.write("\n[Countries]\n");
+            for (Country l_country : p_map.getD_mapCountries()) {
+                l_writer.write(l_country.getD_countryID() + " " + l_country.getD_countryName() + " " + l_country.getD_continentID() + "\n");
+            }
+            l_writer.write("\n[Borders]\n");
+            for (Country l_country : p_map.getD_mapCountries()) {
+                StringBuilder l_line = new StringBuilder().append(l_country.getD_countryID());
+                l_country.getD_neighbouringCountriesId().forEach(l_id -> l_line.append(' ').append(l_id));
+                l_writer.write(l_line.append('\n').toString());
+            }
+        }
+    }
+
+    /**
+     * Writes text, rethrowing failures unchecked so it can be used in a lambda.
+     *
+     * @param p_writer the writer
+     * @param p_text   the text
+     */
+    private static void write(BufferedWriter p_writer, String p_text) {
+        try {
+            p_writer.write(p_text);
+        } catch (IOException l_e) {
+            throw new UncheckedIOException(l_e);
+        }
+    }
+}
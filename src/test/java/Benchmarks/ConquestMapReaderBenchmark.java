@@ -0,0 +1,109 @@
+package Benchmarks;
+
+import Model.Country;
+import Model.CurrentState;
+import Model.Map;
+import Services.ConquestMapFileReader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares {@link ConquestMapFileReader} with the previous reader, {@link LegacyConquestMapFileReader}, on
+ * generated Conquest map files. The previous reader is cubic in the number of territories, so it is only run
+ * on the 20k-territory file when {@code --full} is given.
+ */
+public class ConquestMapReaderBenchmark {
+
+    /**
+     * Entry point.
+     *
+     * @param p_args {@code --full} to also time the previous reader on 20000 territories
+     */
+    public static void main(String[] p_args) {
+        boolean l_full = p_args.length > 0 && p_args[0].equals("--full");
+        for (int l_territories : new int[]{1_000, 2_000, 5_000, 20_000}) {
+            List<String> l_lines = conquestFile(l_territories, 40);
+            double l_hashed = BenchmarkSupport.averageNanos(() -> {
+                Map l_map = new Map();
+                new ConquestMapFileReader().readConquestFile(new CurrentState(), l_map, l_lines, "generated.map");
+                BenchmarkSupport.d_sink += l_map.getD_mapCountries().size();
+            }, 3, 10);
+            System.out.printf("%6d territories  hashed %10.2f ms", l_territories, l_hashed / 1e6);
+
+            if (l_territories <= 5_000 || l_full) {
+                Map l_expected = new Map();
+                long l_start = System.nanoTime();
+                new LegacyConquestMapFileReader().readConquestFile(new CurrentState(), l_expected, l_lines, "generated.map");
+                double l_legacy = System.nanoTime() - l_start;
+                Map l_actual = new Map();
+                new ConquestMapFileReader().readConquestFile(new CurrentState(), l_actual, l_lines, "generated.map");
+                checkSame(l_expected, l_actual);
+                System.out.printf("  previous %10.2f ms  speed-up %.0fx", l_legacy / 1e6, l_legacy / l_hashed);
+            }
+            System.out.println();
+        }
+    }
+
+    /**
+     * Generates the lines of a Conquest map file for a grid of territories, each bordering its four
+     * grid neighbours, with territories spread evenly over the continents.
+     *
+     * @param p_territories number of territories
+     * @param p_continents  number of continents
+     * @return the lines of the file
+     */
+    static List<String> conquestFile(int p_territories, int p_continents) {
+        int l_width = (int) Math.ceil(Math.sqrt(p_territories));
+        List<String> l_lines = new ArrayList<>(p_territories + p_continents + 8);
+        l_lines.add("[Map]");
+        l_lines.add("author=generated");
+        l_lines.add("");
+        l_lines.add("[Continents]");
+        for (int l_continent = 1; l_continent <= p_continents; l_continent++) {
+            l_lines.add("Continent" + l_continent + "=" + (l_continent % 7 + 1));
+        }
+        l_lines.add("");
+        l_lines.add("[Territories]");
+        for (int l_index = 0; l_index < p_territories; l_index++) {
+            StringBuilder l_line = new StringBuilder("Territory").append(l_index).append(",0,0,Continent")
+                    .append(1 + (long) l_index * p_continents / p_territories);
+            for (int l_neighbour : new int[]{l_index - 1, l_index + 1, l_index - l_width, l_index + l_width}) {
+                boolean l_sameRow = l_neighbour / l_width == l_index / l_width;
+                if (l_neighbour >= 0 && l_neighbour < p_territories && (l_sameRow || Math.abs(l_neighbour - l_index) == l_width)) {
+                    l_line.append(",Territory").append(l_neighbour);
+                }
+            }
+            l_lines.add(l_line.toString());
+        }
+        return l_lines;
+    }
+
+    /**
+     * Fails loudly if the two readers built different maps.
+     *
+     * @param p_expected the map read by the previous reader
+     * @param p_actual   the map read by the current reader
+     */
+    private static void checkSame(Map p_expected, Map p_actual) {
+        List<Country> l_expected = p_expected.getD_mapCountries();
+        List<Country> l_actual = p_actual.getD_mapCountries();
+        boolean l_same = l_expected.size() == l_actual.size()
+                && p_expected.getD_mapContinents().size() == p_actual.getD_mapContinents().size();
+        for (int l_index = 0; l_same && l_index < l_expected.size(); l_index++) {
+            Country l_left = l_expected.get(l_index);
+            Country l_right = l_actual.get(l_index);
+            l_same = l_left.getD_countryID() == l_right.getD_countryID()
+                    && l_left.getD_countryName().equals(l_right.getD_countryName())
+                    && l_left.getD_continentID() == l_right.getD_continentID()
+                    && l_left.getD_neighbouringCountriesId().equals(l_right.getD_neighbouringCountriesId());
+        }
+        for (int l_index = 0; l_same && l_index < p_expected.getD_mapContinents().size(); l_index++) {
+            l_same = p_expected.getD_mapContinents().get(l_index).getD_countries().size()
+                    == p_actual.getD_mapContinents().get(l_index).getD_countries().size();
+        }
+        if (!l_same) {
+            throw new IllegalStateException("readers disagree");
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package Benchmarks;
+
+import Controller.PlayerController;
+import Model.AggressivePlayer;
+import Model.Advance;
+import Model.BenevolentPlayer;
+import Model.Country;
+import Model.CurrentState;
+import Model.Deploy;
+import Model.Map;
+import Model.Player;
+import Model.RandomPlayer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Compares {@link CurrentState#copy()} with the deep copy the game state gets from Java serialization, writing
+ * the state to a byte array and reading it back. The game is set up as in the middle of a turn: the countries
+ * shared out among three players, armies on every country, a few orders and cards for every player and a
+ * negotiation between two of them. The orders are deploy and advance orders only, as card orders cannot be
+ * serialized at all. Every copy is checked to hold the same armies and owners as the original.
+ * <p>
+ * The bytes allocated per copy are read from the thread allocation counter of the JVM where it has one.
+ */
+public class CopyBenchmark {
+
+    /**
+     * Number of copies per measured run.
+     */
+    private static final int COPIES_PER_RUN = 10;
+
+    /**
+     * Entry point.
+     *
+     * @param p_args ignored
+     */
+    public static void main(String[] p_args) {
+        System.out.printf("%10s %12s %14s %14s %16s%n", "countries", "copy us", "serialize us", "copy KiB", "serialize KiB");
+        for (int l_countries : new int[]{400, 5000}) {
+            CurrentState l_state = midGame(BenchmarkSupport.gridMap(l_countries, 25));
+            check(l_state, l_state.copy());
+            check(l_state, serializedCopy(l_state));
+
+            double l_copy = BenchmarkSupport.averageNanos(() -> copies(l_state::copy), 50, 50) / COPIES_PER_RUN;
+            double l_serialize = BenchmarkSupport.averageNanos(() -> copies(() -> serializedCopy(l_state)), 5, 10) / COPIES_PER_RUN;
+            System.out.printf("%10d %12.1f %14.1f %14.1f %16.1f%n", l_countries, l_copy / 1e3, l_serialize / 1e3,
+                    allocatedBytes(l_state::copy) / 1024.0, allocatedBytes(() -> serializedCopy(l_state)) / 1024.0);
+        }
+    }
+
+    /**
+     * Makes the copies of one run.
+     *
+     * @param p_copier makes one copy
+     */
+    private static void copies(Supplier<CurrentState> p_copier) {
+        for (int l_index = 0; l_index < COPIES_PER_RUN; l_index++) {
+            BenchmarkSupport.d_sink += p_copier.get().getD_players().size();
+        }
+    }
+
+    /**
+     * Copies a game by serializing it to a byte array and reading it back.
+     *
+     * @param p_state the game
+     * @return the copy
+     */
+    private static CurrentState serializedCopy(CurrentState p_state) {
+        try {
+            ByteArrayOutputStream l_bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream l_out = new ObjectOutputStream(l_bytes)) {
+                l_out.writeObject(p_state);
+            }
+            try (ObjectInputStream l_in = new ObjectInputStream(new ByteArrayInputStream(l_bytes.toByteArray()))) {
+                return (CurrentState) l_in.readObject();
+            }
+        } catch (IOException | ClassNotFoundException l_e) {
+            throw new IllegalStateException(l_e);
+        }
+    }
+
+    /**
+     * Measures the bytes one copy allocates on the current thread.
+     *
+     * @param p_copier makes one copy
+     * @return bytes allocated per copy, or -1 if the JVM does not count them
+     */
+    private static double allocatedBytes(Supplier<CurrentState> p_copier) {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean l_bean)
+                || !l_bean.isThreadAllocatedMemorySupported()) {
+            return -1;
+        }
+        long l_before = l_bean.getCurrentThreadAllocatedBytes();
+        copies(p_copier);
+        return (double) (l_bean.getCurrentThreadAllocatedBytes() - l_before) / COPIES_PER_RUN;
+    }
+
+    /**
+     * Checks that a copy holds the same armies, owners, cards and orders as the original and none of its
+     * countries.
+     *
+     * @param p_state the original
+     * @param p_copy  the copy
+     */
+    private static void check(CurrentState p_state, CurrentState p_copy) {
+        List<Country> l_countries = p_state.getD_map().getD_mapCountries();
+        List<Country> l_copies = p_copy.getD_map().getD_mapCountries();
+        for (int l_index = 0; l_index < l_countries.size(); l_index++) {
+            Country l_country = l_countries.get(l_index);
+            Country l_copy = l_copies.get(l_index);
+            if (l_copy == l_country || l_copy.getD_armies() != l_country.getD_armies()
+                    || !p_state.getCountryOwner(l_country).getD_playerName().equals(p_copy.getCountryOwner(l_copy).getD_playerName())) {
+                throw new IllegalStateException("Copy differs at " + l_country.getD_countryName());
+            }
+        }
+        for (int l_index = 0; l_index < p_state.getD_players().size(); l_index++) {
+            Player l_player = p_state.getD_players().get(l_index);
+            Player l_copy = p_copy.getD_players().get(l_index);
+            if (l_copy.getD_orders().size() != l_player.getD_orders().size()
+                    || !l_copy.getD_cardOwnedByPlayer().equals(l_player.getD_cardOwnedByPlayer())
+                    || l_copy.getD_negotiatePlayer().size() != l_player.getD_negotiatePlayer().size()) {
+                throw new IllegalStateException("Copy differs for " + l_player.getD_playerName());
+            }
+        }
+    }
+
+    /**
+     * Sets up a game in the middle of a turn.
+     *
+     * @param p_map the map
+     * @return the game
+     */
+    private static CurrentState midGame(Map p_map) {
+        CurrentState l_state = new CurrentState();
+        l_state.setD_seed(1L);
+        l_state.setD_map(p_map.copyForGame());
+        List<Player> l_players = new ArrayList<>();
+        for (int l_index = 0; l_index < 3; l_index++) {
+            l_players.add(new Player("Player" + (l_index + 1)));
+        }
+        l_players.get(0).setD_playerBehaviourStrategy(new RandomPlayer());
+        l_players.get(1).setD_playerBehaviourStrategy(new AggressivePlayer());
+        l_players.get(2).setD_playerBehaviourStrategy(new BenevolentPlayer());
+        l_state.setD_players(l_players);
+        l_state.getD_modelLogger().deleteObservers();
+        PrintStream l_console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            new PlayerController().assignCountry(l_state);
+        } finally {
+            System.setOut(l_console);
+        }
+        l_state.getD_map().getD_mapCountries().forEach(l_country -> l_country.setD_armies(7));
+        for (Player l_player : l_players) {
+            List<Country> l_owned = l_player.getD_currentCountries();
+            List<Country> l_orders = l_owned.subList(0, Math.min(10, l_owned.size()));
+            for (Country l_country : l_orders) {
+                l_player.getD_orders().add(new Deploy(l_player, l_country, 2));
+                l_player.getD_orders().add(new Advance(l_country, l_country, 1, l_player));
+            }
+            l_player.getD_cardOwnedByPlayer().addAll(List.of("bomb", "airlift"));
+        }
+        l_players.get(0).addNegotiatePlayer(l_players.get(1));
+        l_players.get(1).addNegotiatePlayer(l_players.get(0));
+        return l_state;
+    }
+}
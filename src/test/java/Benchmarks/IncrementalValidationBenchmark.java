@@ -0,0 +1,56 @@
+package Benchmarks;
+
+import Model.Map;
+
+/**
+ * Measures re-validating a large generated map after a single border edit, once through the incremental
+ * {@link Map#validateMap()} and once with a full {@link Map#validate()} pass.
+ */
+public class IncrementalValidationBenchmark {
+
+    /**
+     * Entry point.
+     *
+     * @param p_args optional number of countries; defaults to 100000
+     */
+    public static void main(String[] p_args) {
+        int l_countryCount = p_args.length > 0 ? Integer.parseInt(p_args[0]) : 100_000;
+        Map l_map = BenchmarkSupport.gridMap(l_countryCount, 400);
+        int l_width = (int) Math.ceil(Math.sqrt(l_countryCount));
+        System.out.printf("%d countries, %d continents%n", l_map.getD_mapCountries().size(), l_map.getD_mapContinents().size());
+
+        long l_start = System.nanoTime();
+        check(l_map.validateMap());
+        System.out.printf("  %-26s %12.3f ms%n", "first validateMap", (System.nanoTime() - l_start) / 1e6);
+
+        int[] l_step = {0};
+        double l_incremental = BenchmarkSupport.averageNanos(() -> {
+            int l_from = 1 + (l_step[0]++ * 7919) % (l_countryCount - l_width);
+            l_map.removeNeighbour(l_from, l_from + l_width);
+            BenchmarkSupport.d_sink += l_map.validateMap() ? 1 : 0;
+            l_map.addNeighbour(l_from, l_from + l_width);
+            check(l_map.validateMap());
+        }, 200, 2_000);
+        System.out.printf("  %-26s %12.3f ms%n", "edit + incremental (x2)", l_incremental / 1e6);
+
+        double l_full = BenchmarkSupport.averageNanos(() -> {
+            int l_from = 1 + (l_step[0]++ * 7919) % (l_countryCount - l_width);
+            l_map.removeNeighbour(l_from, l_from + l_width);
+            BenchmarkSupport.d_sink += l_map.validate().isValid() ? 1 : 0;
+            l_map.addNeighbour(l_from, l_from + l_width);
+            check(l_map.validate().isValid());
+        }, 3, 20);
+        System.out.printf("  %-26s %12.3f ms  ratio %.0fx%n", "edit + full (x2)", l_full / 1e6, l_full / l_incremental);
+    }
+
+    /**
+     * Fails loudly if the map stopped validating, since timings of a broken run are meaningless.
+     *
+     * @param p_valid the validation result
+     */
+    private static void check(boolean p_valid) {
+        if (!p_valid) {
+            throw new IllegalStateException("map is not valid");
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package Benchmarks;
+
+import Controller.MainGameEngine;
+import Controller.PlayerController;
+import Exceptions.CommandValidationException;
+import Model.Advance;
+import Model.AggressivePlayer;
+import Model.BenevolentPlayer;
+import Model.Card;
+import Model.Country;
+import Model.CurrentState;
+import Model.Deploy;
+import Model.GameSimulator;
+import Model.IssueOrderPhase;
+import Model.Map;
+import Model.Orders;
+import Model.Player;
+import Model.PlayerBehaviourStrategy;
+import Model.RandomPlayer;
+import Model.SimulationResult;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures how many games of computer players are played per second. The first column is the normal game, where
+ * the strategies hand their orders to the player as objects; the second column plays the same games with every
+ * order turned into its command and handled like a command typed at the console, the way computer players issued
+ * orders before. That replay still parses each command once, where the old orders were split several times, so
+ * it slightly flatters the old path. The last column tells whether both columns played the same games.
+ * <p>
+ * Whole games also spend much of their time printing, so a second table times only the issue order step: each
+ * player of a game on the map is asked for orders again and again, with every country holding armies so the
+ * strategies mix deploy and advance orders, and the orders are dropped instead of executed.
+ */
+public class IssueOrderBenchmark {
+
+    /**
+     * Strategies of the players of every game.
+     */
+    private static final List<String> STRATEGIES = List.of("Random", "Aggressive", "Benevolent");
+
+    /**
+     * Maximum number of turns of a game.
+     */
+    private static final int TURN_LIMIT = 30;
+
+    /**
+     * Number of games per measured run.
+     */
+    private static final int GAMES_PER_RUN = 20;
+
+    /**
+     * Number of orders asked from each player per measured run of the issue order step.
+     */
+    private static final int ORDERS_PER_RUN = 2_000;
+
+    /**
+     * Entry point.
+     *
+     * @param p_args ignored
+     */
+    public static void main(String[] p_args) {
+        System.out.printf("%10s %15s %18s %10s%n", "countries", "games/s", "commands games/s", "same games");
+        for (int l_countries : new int[]{25, 100, 400}) {
+            Map l_map = BenchmarkSupport.gridMap(l_countries, 9);
+            GameSimulator l_orders = new GameSimulator(l_map, STRATEGIES, TURN_LIMIT, 1L);
+            GameSimulator l_commands = new GameSimulator(l_map, STRATEGIES, TURN_LIMIT, 1L) {
+                @Override
+                protected PlayerBehaviourStrategy newStrategy(String p_strategy) {
+                    return new CommandStrategy(super.newStrategy(p_strategy));
+                }
+            };
+            double l_nanos = BenchmarkSupport.averageNanos(() -> playGames(l_orders), 3, 5);
+            double l_commandNanos = BenchmarkSupport.averageNanos(() -> playGames(l_commands), 3, 5);
+            boolean l_same = true;
+            for (long l_seed = 0; l_seed < GAMES_PER_RUN; l_seed++) {
+                l_same &= play(l_orders, l_seed).toString().equals(play(l_commands, l_seed).toString());
+            }
+            System.out.printf("%10d %15.1f %18.1f %10s%n", l_countries, GAMES_PER_RUN * 1e9 / l_nanos,
+                    GAMES_PER_RUN * 1e9 / l_commandNanos, l_same);
+        }
+
+        System.out.printf("%n%10s %15s %18s%n", "countries", "ns/order", "commands ns/order");
+        for (int l_countries : new int[]{25, 100, 400}) {
+            Map l_map = BenchmarkSupport.gridMap(l_countries, 9);
+            double l_nanos = nanosPerOrder(l_map, false);
+            double l_commandNanos = nanosPerOrder(l_map, true);
+            System.out.printf("%10d %15.1f %18.1f%n", l_countries, l_nanos, l_commandNanos);
+        }
+    }
+
+    /**
+     * Times the issue order step of a game set up on the map, with what the game prints discarded.
+     *
+     * @param p_map      the map
+     * @param p_commands whether the orders are typed as commands
+     * @return average nanoseconds per order
+     */
+    private static double nanosPerOrder(Map p_map, boolean p_commands) {
+        CurrentState l_state = new CurrentState();
+        l_state.setD_seed(7L);
+        l_state.setD_map(p_map.copyForGame());
+        List<Player> l_players = new ArrayList<>();
+        for (String l_strategy : STRATEGIES) {
+            Player l_player = new Player(l_strategy);
+            PlayerBehaviourStrategy l_behaviour = createStrategy(l_strategy);
+            l_player.setD_playerBehaviourStrategy(p_commands ? new CommandStrategy(l_behaviour) : l_behaviour);
+            l_players.add(l_player);
+        }
+        l_state.setD_players(l_players);
+        l_state.getD_modelLogger().deleteObservers();
+        IssueOrderPhase l_phase = new IssueOrderPhase(l_state, new MainGameEngine());
+
+        PrintStream l_console = System.out;
+        PrintStream l_errorConsole = System.err;
+        PrintStream l_discard = new PrintStream(OutputStream.nullOutputStream());
+        System.setOut(l_discard);
+        System.setErr(l_discard);
+        try {
+            new PlayerController().assignCountry(l_state);
+            // A first deploy order gives every strategy a country to advance from.
+            for (Player l_player : l_players) {
+                l_player.setD_unallocatedArmies(1_000_000);
+                askForOrders(l_phase, l_player);
+            }
+            for (Country l_country : l_state.getD_map().getD_mapCountries()) {
+                l_country.setD_armies(5);
+            }
+            return BenchmarkSupport.averageNanos(() -> {
+                for (Player l_player : l_players) {
+                    l_player.setD_unallocatedArmies(1_000_000);
+                    for (int l_order = 0; l_order < ORDERS_PER_RUN; l_order++) {
+                        askForOrders(l_phase, l_player);
+                    }
+                    BenchmarkSupport.d_sink += l_player.getD_orders().size();
+                    l_player.getD_orders().clear();
+                }
+            }, 10, 20) / (ORDERS_PER_RUN * l_players.size());
+        } finally {
+            System.setOut(l_console);
+            System.setErr(l_errorConsole);
+        }
+    }
+
+    /**
+     * Asks a player for an order.
+     *
+     * @param p_phase  the issue order phase
+     * @param p_player the player
+     */
+    private static void askForOrders(IssueOrderPhase p_phase, Player p_player) {
+        try {
+            p_phase.askForOrders(p_player);
+        } catch (Exception l_e) {
+            throw new IllegalStateException(l_e);
+        }
+    }
+
+    /**
+     * Creates a computer strategy by name.
+     *
+     * @param p_strategy Random, Aggressive or Benevolent
+     * @return the strategy
+     */
+    private static PlayerBehaviourStrategy createStrategy(String p_strategy) {
+        return switch (p_strategy) {
+            case "Random" -> new RandomPlayer();
+            case "Aggressive" -> new AggressivePlayer();
+            default -> new BenevolentPlayer();
+        };
+    }
+
+    /**
+     * Plays the games of one run, one per seed.
+     *
+     * @param p_simulator the simulator
+     */
+    private static void playGames(GameSimulator p_simulator) {
+        for (long l_seed = 0; l_seed < GAMES_PER_RUN; l_seed++) {
+            BenchmarkSupport.d_sink += play(p_simulator, l_seed).getD_turnsPlayed();
+        }
+    }
+
+    /**
+     * Plays one game.
+     *
+     * @param p_simulator the simulator
+     * @param p_seed      seed of the game
+     * @return the result of the game
+     */
+    private static SimulationResult play(GameSimulator p_simulator, long p_seed) {
+        try {
+            return p_simulator.simulate(p_seed);
+        } catch (CommandValidationException l_e) {
+            throw new IllegalStateException(l_e);
+        }
+    }
+
+    /**
+     * Computer strategy that types the command of every order of another strategy instead of handing over the
+     * order itself, so the order goes through the command handling of the issue order phase.
+     */
+    private static class CommandStrategy extends PlayerBehaviourStrategy {
+
+        /**
+         * The strategy choosing the orders.
+         */
+        private final PlayerBehaviourStrategy d_strategy;
+
+        /**
+         * Creates the strategy.
+         *
+         * @param p_strategy the strategy choosing the orders
+         */
+        CommandStrategy(PlayerBehaviourStrategy p_strategy) {
+            d_strategy = p_strategy;
+        }
+
+        @Override
+        public String getPlayerBehaviour() {
+            return d_strategy.getPlayerBehaviour();
+        }
+
+        @Override
+        public PlayerBehaviourStrategy copy() {
+            return new CommandStrategy(d_strategy.copy());
+        }
+
+        @Override
+        public String readCommand(Player p_player, CurrentState p_currentState) throws IOException {
+            Orders l_order = d_strategy.createOrder(p_player, p_currentState);
+            return l_order == null ? null : l_order.toCommand();
+        }
+
+        @Override
+        public Orders createOrder(Player p_player, CurrentState p_currentState) {
+            return null;
+        }
+
+        @Override
+        public Card createCardOrder(Player p_player, CurrentState p_currentState, String p_cardName) {
+            return null;
+        }
+
+        @Override
+        public Advance createAdvanceOrder(Player p_player, CurrentState p_currentState) {
+            return null;
+        }
+
+        @Override
+        public Deploy createDeployOrder(Player p_player, CurrentState p_currentState) {
+            return null;
+        }
+    }
+}
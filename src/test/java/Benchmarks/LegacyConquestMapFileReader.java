@@ -0,0 +1,176 @@
+package Benchmarks;
+
+import Model.Continent;
+import Model.Country;
+import Model.CurrentState;
+import Model.Map;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The Conquest map reader as it was before neighbour names were resolved through hash maps, kept unchanged
+ * as the baseline for {@link ConquestMapReaderBenchmark}.
+ */
+class LegacyConquestMapFileReader {
+
+    /**
+     * Default constructor.
+     */
+    LegacyConquestMapFileReader() {
+    }
+    /**
+     * Parses a conquest-format map file and populates the map and current state objects.
+     *
+     * @param p_currentState the current game state to update
+     * @param p_map the map object to populate
+     * @param p_fileLines the lines read from the map file
+     * @param p_fileName the name of the map file
+     */
+    public void readConquestFile(CurrentState p_currentState, Map p_map, List<String> p_fileLines, String p_fileName) {
+        List<String> l_continentData = getMetaData(p_fileLines, "continent");
+        List<Continent> l_continentList = parseContinentMetaData(l_continentData);
+
+        List<String> l_countryData = getMetaData(p_fileLines, "country");
+        List<Country> l_countryList = parseCountryMetaData(l_countryData, l_continentList);
+        List<Country> l_updatedCountryList = parseNeighboursMetaData(l_countryList, l_countryData);
+
+        l_continentList = linkCountryToContinent(l_continentList, l_updatedCountryList);
+        p_map.setD_mapContinents(l_continentList);
+        p_map.setD_mapCountries(l_updatedCountryList);
+        p_map.setD_mapName(p_fileName);
+        p_currentState.setD_map(p_map);
+    }
+    /**
+     * Links countries to their respective continents.
+     *
+     * @param p_continentList list of parsed continents
+     * @param p_updatedCountryList list of countries with neighbors
+     * @return updated list of continents with country references
+     */
+    private List<Continent> linkCountryToContinent(List<Continent> p_continentList, List<Country> p_updatedCountryList) {
+        for (Country l_eachCountry : p_updatedCountryList) {
+            for (Continent l_eachContinent : p_continentList) {
+                if (l_eachContinent.getD_continentID() == l_eachCountry.getD_continentID()) {
+                    l_eachContinent.addCountry(l_eachCountry);
+                }
+            }
+        }
+        return p_continentList;
+    }
+    /**
+     * Parses and adds neighboring countries for each country.
+     *
+     * @param p_countryList the list of countries to update
+     * @param p_countryData the raw country data from the file
+     * @return list of countries with neighboring country IDs set
+     */
+    private List<Country> parseNeighboursMetaData(List<Country> p_countryList, List<String> p_countryData) {
+        List<Country> l_updatedCountryList = new ArrayList<>(p_countryList);
+        String l_matchedCountry = null;
+
+        for (Country l_eachCountry : l_updatedCountryList) {
+            for (String l_eachCountryData : p_countryData) {
+                if ((l_eachCountryData.split(",")[0]).equalsIgnoreCase(l_eachCountry.getD_countryName())) {
+                    l_matchedCountry = l_eachCountryData;
+                    break;
+                }
+            }
+
+            if (l_matchedCountry.split(",").length > 4) {
+                for (int i = 4; i < l_matchedCountry.split(",").length; i++) {
+                    Country l_country = this.getCountryByName(p_countryList, l_matchedCountry.split(",")[i]);
+                    l_eachCountry.addCountryNeighbour(l_country.getD_countryID());
+                }
+            }
+        }
+
+        return l_updatedCountryList;
+    }
+    /**
+     * Finds and returns a country object from the list by name.
+     *
+     * @param p_countryList list of all countries
+     * @param p_countryName name to search
+     * @return matched Country object, or null if not found
+     */
+    private Country getCountryByName(List<Country> p_countryList, String p_countryName) {
+        for (Country l_eachCountry : p_countryList) {
+            if (l_eachCountry.getD_countryName().equals(p_countryName)) {
+                return l_eachCountry;
+            }
+        }
+        return null;
+    }
+    /**
+     * Parses the country section of the file into Country objects.
+     *
+     * @param p_countryData raw lines of country data
+     * @param p_continentList parsed list of continents (used for mapping)
+     * @return list of parsed Country objects
+     */
+    private List<Country> parseCountryMetaData(List<String> p_countryData, List<Continent> p_continentList) {
+        List<Country> l_countryList = new ArrayList<>();
+        int l_countryId = 1;
+
+        for (String l_eachCountry : p_countryData) {
+            String[] l_countryData = l_eachCountry.split(",");
+            Continent l_continent = this.getContinentByName(p_continentList, l_countryData[3]);
+            Country l_country = new Country(l_countryId, l_countryData[0], l_continent.getD_continentID());
+            l_countryList.add(l_country);
+            l_countryId++;
+        }
+
+        return l_countryList;
+    }
+    /**
+     * Finds and returns a continent object from the list by name.
+     *
+     * @param p_continentList list of all parsed continents
+     * @param p_continentName name of the continent to find
+     * @return matching Continent object, or null if not found
+     */
+    private Continent getContinentByName(List<Continent> p_continentList, String p_continentName) {
+        for (Continent l_eachContinent : p_continentList) {
+            if (l_eachContinent.getD_continentName().equals(p_continentName)) {
+                return l_eachContinent;
+            }
+        }
+        return null;
+    }
+    /**
+     * Parses the continent section of the file into Continent objects.
+     *
+     * @param p_continentData raw lines of continent data
+     * @return list of parsed Continent objects
+     */
+    private List<Continent> parseContinentMetaData(List<String> p_continentData) {
+        int l_contientId = 1;
+        List<Continent> l_continentList = new ArrayList<>();
+
+        for (String l_eachContinent : p_continentData) {
+            String[] l_continentData = l_eachContinent.split("=");
+            l_continentList.add(new Continent(l_contientId, l_continentData[0], Integer.parseInt(l_continentData[1])));
+            l_contientId++;
+        }
+
+        return l_continentList;
+    }
+    /**
+     * Extracts the relevant metadata section (continents or countries) from the full file lines.
+     *
+     * @param p_fileLines all lines read from the file
+     * @param p_parameter "continent" or "country"
+     * @return list of lines relevant to the parameter
+     */
+    private List<String> getMetaData(List<String> p_fileLines, String p_parameter) {
+        switch (p_parameter) {
+            case "continent":
+                return p_fileLines.subList(p_fileLines.indexOf("[Continents]") + 1, p_fileLines.indexOf("[Territories]") - 1);
+            case "country":
+                return p_fileLines.subList(p_fileLines.indexOf("[Territories]") + 1, p_fileLines.size());
+            default:
+                return null;
+        }
+    }
+}
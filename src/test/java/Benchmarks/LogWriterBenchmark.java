@@ -0,0 +1,65 @@
+package Benchmarks;
+
+import View.AsyncLogWriter;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Measures the cost of logging one message to a file as seen by the game thread. The first column opens the file,
+ * appends the message and closes the file again, as the game logger did for every message; the second column
+ * hands the message to an {@link AsyncLogWriter} and includes a flush at the end of every run, the way a phase
+ * change flushes the game log. The messages are the size of a typical order log line.
+ */
+public class LogWriterBenchmark {
+
+    /**
+     * Number of messages per measured run.
+     */
+    private static final int MESSAGES_PER_RUN = 5_000;
+
+    /**
+     * Entry point.
+     *
+     * @param p_args ignored
+     * @throws IOException if the temporary files cannot be created
+     */
+    public static void main(String[] p_args) throws IOException {
+        String l_message = "Log: Advance Order : Player1 is advancing 12 armies from Country17 to Country18"
+                + System.lineSeparator();
+        Path l_folder = Files.createTempDirectory("logbenchmark");
+        Path l_openClosePath = l_folder.resolve("open-close.txt");
+        Path l_asyncPath = l_folder.resolve("async.txt");
+
+        double l_openCloseNanos = BenchmarkSupport.averageNanos(() -> {
+            for (int l_index = 0; l_index < MESSAGES_PER_RUN; l_index++) {
+                try (BufferedWriter l_writer = new BufferedWriter(new FileWriter(l_openClosePath.toFile(), true))) {
+                    l_writer.write(l_message);
+                    l_writer.newLine();
+                } catch (IOException l_e) {
+                    throw new UncheckedIOException(l_e);
+                }
+            }
+        }, 2, 5);
+
+        AsyncLogWriter l_asyncWriter = new AsyncLogWriter(l_asyncPath, 8192, 256, 200, AsyncLogWriter.OverflowPolicy.BLOCK);
+        double l_asyncNanos = BenchmarkSupport.averageNanos(() -> {
+            for (int l_index = 0; l_index < MESSAGES_PER_RUN; l_index++) {
+                l_asyncWriter.append(l_message + System.lineSeparator(), false);
+            }
+            l_asyncWriter.flush();
+        }, 2, 5);
+        l_asyncWriter.close();
+
+        System.out.printf("%18s %18s %12s%n", "open/close ns/msg", "async ns/msg", "same size");
+        System.out.printf("%18.1f %18.1f %12s%n", l_openCloseNanos / MESSAGES_PER_RUN, l_asyncNanos / MESSAGES_PER_RUN,
+                Files.size(l_openClosePath) == Files.size(l_asyncPath));
+        Files.delete(l_openClosePath);
+        Files.delete(l_asyncPath);
+        Files.delete(l_folder);
+    }
+}
@@ -0,0 +1,90 @@
+package Benchmarks;
+
+import Model.Country;
+import Model.Map;
+
+import java.util.SplittableRandom;
+
+/**
+ * Measures the cost of the map lookups an order performs before it does any real work
+ * (source and target by name, neighbour by id, neighbour name and continent by id) on growing maps.
+ * With the indexed {@link Map} the cost per order stays flat as the map grows; the second column repeats the
+ * same lookups with the linear list scans the map used before, for comparison.
+ */
+public class MapLookupBenchmark {
+
+    /**
+     * Number of simulated orders per measured run.
+     */
+    private static final int ORDERS_PER_RUN = 10_000;
+
+    /**
+     * Entry point.
+     *
+     * @param p_args ignored
+     */
+    public static void main(String[] p_args) {
+        System.out.printf("%10s %15s %15s%n", "countries", "ns/order", "scan ns/order");
+        for (int l_size : new int[]{100, 1_000, 5_000, 20_000, 50_000}) {
+            Map l_map = BenchmarkSupport.gridMap(l_size, Math.max(1, l_size / 50));
+            String[] l_names = new String[l_size];
+            for (int l_index = 0; l_index < l_size; l_index++) {
+                l_names[l_index] = l_map.getD_mapCountries().get(l_index).getD_countryName().toUpperCase();
+            }
+            SplittableRandom l_random = new SplittableRandom(42);
+            double l_nanos = BenchmarkSupport.averageNanos(() -> {
+                long l_checksum = 0;
+                for (int l_order = 0; l_order < ORDERS_PER_RUN; l_order++) {
+                    Country l_source = l_map.getCountryByName(l_names[l_random.nextInt(l_size)]);
+                    Country l_target = l_map.getCountryById(l_source.getD_neighbouringCountriesId().getFirst());
+                    l_checksum += l_map.getCountryNameById(l_target.getD_countryID()).length();
+                    l_checksum += l_map.getContinentById(l_target.getD_continentID()).getD_continentValue();
+                }
+                BenchmarkSupport.d_sink += l_checksum;
+            }, 20, 50);
+            SplittableRandom l_scanRandom = new SplittableRandom(42);
+            double l_scanNanos = BenchmarkSupport.averageNanos(() -> {
+                long l_checksum = 0;
+                for (int l_order = 0; l_order < ORDERS_PER_RUN / 100; l_order++) {
+                    Country l_source = scanByName(l_map, l_names[l_scanRandom.nextInt(l_size)]);
+                    Country l_target = scanById(l_map, l_source.getD_neighbouringCountriesId().getFirst());
+                    l_checksum += scanById(l_map, l_target.getD_countryID()).getD_countryName().length();
+                }
+                BenchmarkSupport.d_sink += l_checksum;
+            }, 5, 10);
+            System.out.printf("%10d %15.1f %15.1f%n", l_size, l_nanos / ORDERS_PER_RUN, l_scanNanos / (ORDERS_PER_RUN / 100));
+        }
+    }
+
+    /**
+     * Linear country lookup by name, as done before the map was indexed.
+     *
+     * @param p_map  the map
+     * @param p_name the country name
+     * @return the country, or null
+     */
+    private static Country scanByName(Map p_map, String p_name) {
+        for (Country l_country : p_map.getD_mapCountries()) {
+            if (l_country.getD_countryName().equalsIgnoreCase(p_name)) {
+                return l_country;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Linear country lookup by id, as done before the map was indexed.
+     *
+     * @param p_map the map
+     * @param p_id  the country id
+     * @return the country, or null
+     */
+    private static Country scanById(Map p_map, int p_id) {
+        for (Country l_country : p_map.getD_mapCountries()) {
+            if (l_country.getD_countryID() == p_id) {
+                return l_country;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,47 @@
+package Benchmarks;
+
+import Model.Map;
+import Model.MapValidationReport;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Measures full map validation on large generated maps with hundreds of continents, first on the calling thread
+ * and then with the connectivity checks fanned out on {@link ForkJoinPool}s of 1 to N threads.
+ */
+public class MapValidationScalingBenchmark {
+
+    /**
+     * Entry point.
+     *
+     * @param p_args optional maximum number of threads; defaults to the number of available processors
+     */
+    public static void main(String[] p_args) {
+        int l_maxThreads = p_args.length > 0 ? Integer.parseInt(p_args[0]) : Runtime.getRuntime().availableProcessors();
+        for (int[] l_shape : new int[][]{{100_000, 400}, {500_000, 900}}) {
+            Map l_map = BenchmarkSupport.gridMap(l_shape[0], l_shape[1]);
+            l_map.getMapGraph();
+            System.out.printf("%d countries, %d continents%n", l_map.getD_mapCountries().size(), l_map.getD_mapContinents().size());
+
+            double l_serial = BenchmarkSupport.averageNanos(() -> check(l_map.validate()), 5, 20);
+            System.out.printf("  %-12s %10.2f ms%n", "sequential", l_serial / 1e6);
+            for (int l_threads = 1; l_threads <= l_maxThreads; l_threads *= 2) {
+                ForkJoinPool l_pool = new ForkJoinPool(l_threads);
+                double l_parallel = BenchmarkSupport.averageNanos(() -> check(l_map.validate(l_pool)), 5, 20);
+                System.out.printf("  %-12s %10.2f ms  speed-up %.2fx%n", l_threads + " threads", l_parallel / 1e6, l_serial / l_parallel);
+                l_pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Fails loudly if the generated map does not validate, since timings of a failing run are meaningless.
+     *
+     * @param p_report the validation report
+     */
+    private static void check(MapValidationReport p_report) {
+        if (!p_report.isValid()) {
+            throw new IllegalStateException(p_report.toString());
+        }
+    }
+}
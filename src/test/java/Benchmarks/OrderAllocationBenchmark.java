@@ -0,0 +1,124 @@
+package Benchmarks;
+
+import Controller.PlayerController;
+import Model.Advance;
+import Model.Country;
+import Model.CurrentState;
+import Model.Deploy;
+import Model.LogProfile;
+import Model.Player;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Profiles the allocations of executing deploy and advance orders, the orders every turn executes most. Each
+ * order is executed many times on a game of two players with the quiet log profile, and the bytes allocated per
+ * execution are read from the thread allocation counter of the JVM. The armies are kept above the range of the
+ * {@link Integer} cache, so that an army count boxed anywhere on the way shows up as allocated bytes.
+ * <p>
+ * The advance orders run either between two countries of the same player, moving one army there and back, or
+ * into a battle against a country defended by so many armies that it is never conquered; the armies of both
+ * countries are reset after every battle.
+ */
+public class OrderAllocationBenchmark {
+
+    /**
+     * Number of executions per measured run.
+     */
+    private static final int EXECUTIONS_PER_RUN = 100_000;
+
+    /**
+     * Armies on every country before the orders run.
+     */
+    private static final int ARMIES = 1_000;
+
+    /**
+     * Entry point.
+     *
+     * @param p_args ignored
+     */
+    public static void main(String[] p_args) {
+        CurrentState l_state = game();
+        Player l_player = l_state.getD_players().get(0);
+        Player l_enemy = l_state.getD_players().get(1);
+        Country l_first = l_player.getD_currentCountries().get(0);
+        Country l_second = l_player.getD_currentCountries().get(1);
+        Country l_enemyCountry = l_enemy.getD_currentCountries().get(0);
+
+        Deploy l_deploy = new Deploy(l_player, l_first, 3);
+        Advance l_there = new Advance(l_first, l_second, 1, l_player);
+        Advance l_back = new Advance(l_second, l_first, 1, l_player);
+        Advance l_attack = new Advance(l_first, l_enemyCountry, 10, l_player);
+
+        System.out.printf("%-20s %12s %14s%n", "order", "ns/execution", "bytes/execution");
+        report("deploy", () -> l_deploy.execute(l_state));
+        report("advance (move)", () -> {
+            l_there.execute(l_state);
+            l_back.execute(l_state);
+        });
+        report("advance (battle)", () -> {
+            l_attack.execute(l_state);
+            l_first.setD_armies(ARMIES);
+            l_enemyCountry.setD_armies(100 * ARMIES);
+        });
+        BenchmarkSupport.d_sink += l_first.getD_armies() + l_second.getD_armies() + l_enemyCountry.getD_armies();
+    }
+
+    /**
+     * Times an execution and measures the bytes it allocates.
+     *
+     * @param p_name      the name of the row
+     * @param p_execution executes the orders once
+     */
+    private static void report(String p_name, Runnable p_execution) {
+        Runnable l_run = () -> {
+            for (int l_execution = 0; l_execution < EXECUTIONS_PER_RUN; l_execution++) {
+                p_execution.run();
+            }
+        };
+        double l_nanos = BenchmarkSupport.averageNanos(l_run, 10, 10) / EXECUTIONS_PER_RUN;
+        System.out.printf("%-20s %12.1f %14.2f%n", p_name, l_nanos, allocatedBytes(l_run) / EXECUTIONS_PER_RUN);
+    }
+
+    /**
+     * Measures the bytes a run allocates on the current thread.
+     *
+     * @param p_run the run
+     * @return bytes allocated, or -1 if the JVM does not count them
+     */
+    private static double allocatedBytes(Runnable p_run) {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean l_bean)
+                || !l_bean.isThreadAllocatedMemorySupported()) {
+            return -1;
+        }
+        long l_before = l_bean.getCurrentThreadAllocatedBytes();
+        p_run.run();
+        return l_bean.getCurrentThreadAllocatedBytes() - l_before;
+    }
+
+    /**
+     * Sets up a game of two players sharing a map, with the same armies on every country.
+     *
+     * @return the game
+     */
+    private static CurrentState game() {
+        CurrentState l_state = new CurrentState();
+        l_state.setD_seed(1L);
+        l_state.setD_map(BenchmarkSupport.gridMap(400, 20).copyForGame());
+        l_state.setD_players(List.of(new Player("Player1"), new Player("Player2")));
+        l_state.getD_modelLogger().deleteObservers();
+        l_state.getD_modelLogger().setD_profile(LogProfile.QUIET);
+        PrintStream l_console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            new PlayerController().assignCountry(l_state);
+        } finally {
+            System.setOut(l_console);
+        }
+        l_state.getD_map().getD_mapCountries().forEach(l_country -> l_country.setD_armies(ARMIES));
+        return l_state;
+    }
+}
@@ -1,12 +1,26 @@
 package Controller;
 
+import Model.Continent;
+import Model.Country;
 import Model.CurrentState;
 import Model.Map;
+import Model.MapGraph;
+import Services.BinaryMapFileReader;
+import Services.ConquestMapFileReader;
+import Services.MapFileReader;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
 
 import static org.junit.Assert.*;
 
@@ -127,4 +141,130 @@ public class MapControllerTest {
         d_mapController.saveMap(d_currentState, d_mapName);
         System.setIn(originalSystemIn);
     }
+
+    /**
+     * Checks that the streaming reader builds the same map as the line based reader for every Domination map
+     * shipped with the game.
+     *
+     * @throws IOException if a map file cannot be read
+     */
+    @Test
+    public void streamingReaderMatchesLineReader() throws IOException {
+        File[] l_mapFiles = new File("src/main/Maps").listFiles((l_dir, l_name) -> l_name.endsWith(".map"));
+        assertNotNull(l_mapFiles);
+        for (File l_mapFile : l_mapFiles) {
+            List<String> l_lines = Files.readAllLines(l_mapFile.toPath());
+            if (l_lines.contains("[Territories]")) {
+                continue;
+            }
+            Map l_expected = new Map();
+            new MapFileReader().parseMapFile(new CurrentState(), l_expected, l_lines, l_mapFile.getName());
+            Map l_actual = new Map();
+            try (BufferedReader l_reader = Files.newBufferedReader(l_mapFile.toPath())) {
+                assertTrue(new MapFileReader().readMapFile(new CurrentState(), l_actual, l_reader, l_mapFile.getName()));
+            }
+            assertFalse(describe(l_expected).isEmpty());
+            assertEquals(l_mapFile.getName(), describe(l_expected), describe(l_actual));
+        }
+    }
+
+    /**
+     * Checks that the Conquest reader resolves neighbours by name and links countries to their continents.
+     */
+    @Test
+    public void conquestReaderResolvesNeighbours() {
+        List<String> l_lines = List.of("[Map]", "author=test", "", "[Continents]", "North=3", "South=2", "",
+                "[Territories]", "Alpha,1,1,North,Beta,Gamma", "Beta,1,2,North,Alpha", "",
+                "Gamma,2,1,South,Alpha,Delta", "Delta,2,2,South,Gamma");
+        Map l_map = new Map();
+        new ConquestMapFileReader().readConquestFile(d_currentState, l_map, l_lines, "conquest.map");
+
+        assertEquals("conquest.map\n"
+                + "1 North 3 [1, 2]\n2 South 2 [3, 4]\n"
+                + "1 Alpha 1 [2, 3]\n2 Beta 1 [1]\n3 Gamma 2 [1, 4]\n4 Delta 2 [3]\n", describe(l_map));
+        assertTrue(l_map.validateMap());
+    }
+
+    /**
+     * Checks that a loaded map is cached in binary form, that the cache gives the same map and adjacency graph,
+     * that the borders of a map from the cache can be edited, and that a cache which is corrupt or older than the
+     * map file is not used.
+     *
+     * @throws IOException if a file cannot be read or written
+     */
+    @Test
+    public void loadMapUsesBinaryCache() throws IOException {
+        Path l_sourceFile = Paths.get("src", "main", "Maps", "editTest.map");
+        Path l_cacheFile = Paths.get("src", "main", "Maps", ".cache", "editTest.map.bin");
+        Files.deleteIfExists(l_cacheFile);
+        String l_fromText = describe(d_mapController.loadMap(d_currentState, "editTest.map"));
+        assertTrue(Files.isRegularFile(l_cacheFile));
+        assertTrue(new BinaryMapFileReader().readBinaryFile(new CurrentState(), new Map(), l_sourceFile, l_cacheFile, "editTest.map"));
+        Map l_cached = d_mapController.loadMap(d_currentState, "editTest.map");
+        assertEquals(l_fromText, describe(l_cached));
+        assertEquals(describe(new MapGraph(l_cached.getD_mapCountries())), describe(l_cached.getMapGraph()));
+
+        Country l_country = l_cached.getD_mapCountries().get(0);
+        int l_neighbourId = l_country.getD_neighbouringCountriesId().get(0);
+        l_cached.removeNeighbour(l_country.getD_countryID(), l_neighbourId);
+        assertFalse(l_country.getD_neighbouringCountriesId().contains(l_neighbourId));
+        assertFalse(l_cached.getMapGraph().areAdjacent(l_country.getD_countryID(), l_neighbourId));
+        l_cached.addNeighbour(l_country.getD_countryID(), l_neighbourId);
+        assertTrue(l_cached.getMapGraph().areAdjacent(l_country.getD_countryID(), l_neighbourId));
+        assertEquals(l_fromText, describe(d_mapController.loadMap(d_currentState, "editTest.map")));
+
+        FileTime l_modified = Files.getLastModifiedTime(l_sourceFile);
+        try {
+            Files.setLastModifiedTime(l_sourceFile, FileTime.fromMillis(l_modified.toMillis() + 1000));
+            assertFalse(new BinaryMapFileReader().readBinaryFile(new CurrentState(), new Map(), l_sourceFile, l_cacheFile, "editTest.map"));
+        } finally {
+            Files.setLastModifiedTime(l_sourceFile, l_modified);
+        }
+
+        byte[] l_cache = Files.readAllBytes(l_cacheFile);
+        l_cache[l_cache.length - 1] ^= 1;
+        Files.write(l_cacheFile, l_cache);
+        assertFalse(new BinaryMapFileReader().readBinaryFile(new CurrentState(), new Map(), l_sourceFile, l_cacheFile, "editTest.map"));
+        assertEquals(l_fromText, describe(d_mapController.loadMap(d_currentState, "editTest.map")));
+    }
+
+    /**
+     * Lists the neighbours of every country of an adjacency graph.
+     *
+     * @param p_graph the graph
+     * @return one line per country
+     */
+    private String describe(MapGraph p_graph) {
+        StringBuilder l_description = new StringBuilder();
+        for (int l_index = 0; l_index < p_graph.size(); l_index++) {
+            l_description.append(p_graph.countryIdAt(l_index)).append(':');
+            for (int l_k = 0; l_k < p_graph.degree(l_index); l_k++) {
+                l_description.append(' ').append(p_graph.neighbourAt(l_index, l_k));
+            }
+            l_description.append('\n');
+        }
+        return l_description.toString();
+    }
+
+    /**
+     * Lists the continents, countries and borders of a map.
+     *
+     * @param p_map the map
+     * @return one line per continent and per country
+     */
+    private String describe(Map p_map) {
+        StringBuilder l_description = new StringBuilder(p_map.getD_mapName()).append('\n');
+        for (Continent l_continent : p_map.getD_mapContinents()) {
+            l_description.append(l_continent.getD_continentID()).append(' ').append(l_continent.getD_continentName())
+                    .append(' ').append(l_continent.getD_continentValue()).append(' ')
+                    .append(l_continent.getD_countries() == null ? "[]" : l_continent.getD_countries().stream().map(Country::getD_countryID).toList())
+                    .append('\n');
+        }
+        for (Country l_country : p_map.getD_mapCountries()) {
+            l_description.append(l_country.getD_countryID()).append(' ').append(l_country.getD_countryName())
+                    .append(' ').append(l_country.getD_continentID()).append(' ')
+                    .append(l_country.getD_neighbouringCountriesId()).append('\n');
+        }
+        return l_description.toString();
+    }
 }
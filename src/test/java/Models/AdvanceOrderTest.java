@@ -89,6 +89,27 @@ public class AdvanceOrderTest {
     public void execute(){
         Orders l_advanceOrder = new Advance("USA","Canada",9,d_player1);
         l_advanceOrder.execute(d_currentState);
-        Assert.assertEquals("9",d_map.getCountryByName("Canada").getD_armies().toString());
+        Assert.assertEquals("9",String.valueOf(d_map.getCountryByName("Canada").getD_armies()));
+    }
+
+    /**
+     * Tests an Advance issued through the player, which is checked against the map when it is issued and then
+     * only checked for ownership and armies when it runs: it moves armies while Player1 owns USA, and is
+     * refused once USA has changed hands.
+     */
+    @Test
+    public void executeIssuedAdvance() {
+        d_player1.createAdvanceOrder("advance USA Canada 4", d_currentState);
+        d_player1.createAdvanceOrder("advance USA Canada 4", d_currentState);
+        Assert.assertEquals(2, d_player1.getD_orders().size());
+
+        d_player1.nextOrder().execute(d_currentState);
+        Assert.assertEquals(4, d_map.getCountryByName("Canada").getD_armies());
+        Assert.assertSame(d_player1, d_currentState.getCountryOwner("Canada"));
+
+        d_currentState.setCountryOwner(d_map.getCountryByName("USA"), d_player2);
+        d_player1.nextOrder().execute(d_currentState);
+        Assert.assertEquals(6, d_map.getCountryByName("USA").getD_armies());
+        Assert.assertNull(d_player1.nextOrder());
     }
 }
@@ -0,0 +1,153 @@
+package Models;
+
+import Model.BattleKernel;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link BattleKernel}.
+ */
+public class BattleKernelTest {
+
+    /**
+     * Number of battles drawn by the statistical tests.
+     */
+    private static final int SAMPLES = 20_000;
+
+    /**
+     * Tests that the chance of winning a pair is the one given by the scaled and rounded dice.
+     */
+    @Test
+    public void testWinProbabilityMatchesDice() {
+        int l_wins = 0;
+        for (int l_attacker = 1; l_attacker <= 9; l_attacker++) {
+            for (int l_defender = 1; l_defender <= 9; l_defender++) {
+                if ((int) Math.round(l_attacker * 0.6) > (int) Math.round(l_defender * 0.7)) {
+                    l_wins++;
+                }
+            }
+        }
+        assertEquals(l_wins / 81.0, BattleKernel.ATTACKER_WIN_PROBABILITY, 0);
+    }
+
+    /**
+     * Tests that battles with no pairs have no wins, and that the wins never exceed the pairs.
+     */
+    @Test
+    public void testWinsStayWithinPairs() {
+        SplittableRandom l_random = new SplittableRandom(7);
+        assertEquals(0, BattleKernel.attackerWins(0, l_random));
+        for (int l_pairs : new int[]{1, 5, 29, 30, 31, 100, 1_000_000}) {
+            for (int l_battle = 0; l_battle < 1_000; l_battle++) {
+                int l_wins = BattleKernel.attackerWins(l_pairs, l_random);
+                assertTrue(l_wins >= 0 && l_wins <= l_pairs);
+            }
+        }
+    }
+
+    /**
+     * Tests that the same seed gives the same battles.
+     */
+    @Test
+    public void testSameSeedSameBattles() {
+        SplittableRandom l_first = new SplittableRandom(2024);
+        SplittableRandom l_second = new SplittableRandom(2024);
+        for (int l_pairs = 1; l_pairs < 500; l_pairs++) {
+            assertEquals(BattleKernel.attackerWins(l_pairs, l_first), BattleKernel.attackerWins(l_pairs, l_second));
+        }
+    }
+
+    /**
+     * Tests the distribution of small battles, which roll every pair, against the exact binomial distribution.
+     */
+    @Test
+    public void testSmallBattlesFollowBinomial() {
+        assertFollowsBinomial(6);
+    }
+
+    /**
+     * Tests the distribution of large battles, which are drawn directly, against the exact binomial distribution.
+     */
+    @Test
+    public void testLargeBattlesFollowBinomial() {
+        assertFollowsBinomial(60);
+        assertFollowsBinomial(1_000);
+    }
+
+    /**
+     * Draws battles of a size and checks their mean, variance and histogram against the binomial distribution.
+     *
+     * @param p_pairs size of the battles
+     */
+    private void assertFollowsBinomial(int p_pairs) {
+        double l_p = BattleKernel.ATTACKER_WIN_PROBABILITY;
+        SplittableRandom l_random = new SplittableRandom(p_pairs);
+        long[] l_observed = new long[p_pairs + 1];
+        double l_sum = 0;
+        double l_sumOfSquares = 0;
+        for (int l_battle = 0; l_battle < SAMPLES; l_battle++) {
+            int l_wins = BattleKernel.attackerWins(p_pairs, l_random);
+            l_observed[l_wins]++;
+            l_sum += l_wins;
+            l_sumOfSquares += (double) l_wins * l_wins;
+        }
+        double l_mean = l_sum / SAMPLES;
+        double l_variance = l_sumOfSquares / SAMPLES - l_mean * l_mean;
+        double l_expectedVariance = p_pairs * l_p * (1 - l_p);
+        assertEquals(p_pairs * l_p, l_mean, 5 * Math.sqrt(l_expectedVariance / SAMPLES));
+        assertEquals(l_expectedVariance, l_variance, 5 * l_expectedVariance * Math.sqrt(2.0 / SAMPLES));
+
+        // Chi-square over the outcomes expected at least 5 times, the rest pooled into one bin.
+        double l_chiSquare = 0;
+        int l_bins = 0;
+        double l_pooledExpected = 0;
+        long l_pooledObserved = 0;
+        for (int l_wins = 0; l_wins <= p_pairs; l_wins++) {
+            double l_expected = SAMPLES * binomialProbability(p_pairs, l_wins, l_p);
+            if (l_expected < 5) {
+                l_pooledExpected += l_expected;
+                l_pooledObserved += l_observed[l_wins];
+                continue;
+            }
+            l_chiSquare += (l_observed[l_wins] - l_expected) * (l_observed[l_wins] - l_expected) / l_expected;
+            l_bins++;
+        }
+        if (l_pooledExpected > 0) {
+            l_chiSquare += (l_pooledObserved - l_pooledExpected) * (l_pooledObserved - l_pooledExpected) / l_pooledExpected;
+            l_bins++;
+        }
+        // Far beyond the 99.9th percentile of the chi-square distribution with l_bins - 1 degrees of freedom.
+        assertTrue("chi-square " + l_chiSquare + " over " + l_bins + " bins", l_chiSquare < 2.0 * l_bins + 20);
+    }
+
+    /**
+     * Gets the probability of exactly {@code p_k} successes in {@code p_n} trials.
+     *
+     * @param p_n number of trials
+     * @param p_k number of successes
+     * @param p_p chance of success
+     * @return the probability
+     */
+    private static double binomialProbability(int p_n, int p_k, double p_p) {
+        double l_log = logFactorial(p_n) - logFactorial(p_k) - logFactorial(p_n - p_k)
+                + p_k * Math.log(p_p) + (p_n - p_k) * Math.log(1 - p_p);
+        return Math.exp(l_log);
+    }
+
+    /**
+     * Gets the natural logarithm of a factorial.
+     *
+     * @param p_n the number
+     * @return log(n!)
+     */
+    private static double logFactorial(int p_n) {
+        double l_log = 0;
+        for (int l_factor = 2; l_factor <= p_n; l_factor++) {
+            l_log += Math.log(l_factor);
+        }
+        return l_log;
+    }
+}
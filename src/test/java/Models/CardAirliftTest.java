@@ -78,7 +78,7 @@ public class CardAirliftTest {
     public void testCardAirliftExecution() {
         d_cardAirliftOrder.execute(d_currentState);
         Country l_updatedCountry = d_currentState.getD_map().getCountryByName("Mexico");
-        assertEquals("7", l_updatedCountry.getD_armies().toString());
+        assertEquals("7", String.valueOf(l_updatedCountry.getD_armies()));
     }
 
     /**
@@ -106,6 +106,6 @@ public class CardBlockadeTest {
         d_cardBlockadeOrder1.execute(d_currentState);
         Country l_blockedCountry = d_currentState.getD_map().getCountryByName("Canada");
 
-        assertEquals("15", l_blockedCountry.getD_armies().toString());
+        assertEquals("15", String.valueOf(l_blockedCountry.getD_armies()));
     }
 }
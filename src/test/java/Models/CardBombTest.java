@@ -115,7 +115,7 @@ public class CardBombTest {
         d_cardBombOrder.execute(d_currentState);
         Country l_bombedCountry = d_currentState.getD_map().getCountryByName("India");
 
-        assertEquals("7", l_bombedCountry.getD_armies().toString());
+        assertEquals("7", String.valueOf(l_bombedCountry.getD_armies()));
     }
 
     /**
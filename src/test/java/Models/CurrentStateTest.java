@@ -3,7 +3,13 @@ package Models;
 import Controller.MapController;
 import Model.Country;
 import Model.CurrentState;
+import Model.Deploy;
+import Model.GameBoard;
+import Model.LogProfile;
 import Model.Map;
+import Model.Orders;
+import Model.Player;
+import Model.RandomPlayer;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -12,6 +18,8 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.*;
 
@@ -94,4 +102,169 @@ public class CurrentStateTest {
         assertNotNull(Canada);
         assertEquals("[1, 3, 5]", Canada.getD_neighbouringCountriesId().toString());  // Verify borders for Canada
     }
+
+    /**
+     * Tests that country owners are found by name, follow conquests, and that a country blockaded and still
+     * listed by a player belongs to that player rather than to Neutral. A conquered country leaves its owner's
+     * list with the last country taking its place, also after the list was changed directly.
+     */
+    @Test
+    public void testCountryOwnerIndex() {
+        Player l_player1 = new Player("Player1");
+        Player l_player2 = new Player("Player2");
+        Player l_neutral = new Player("Neutral");
+        l_player1.setD_currentCountries(new ArrayList<>(List.of(d_map.getCountryByName("USA"))));
+        l_player2.setD_currentCountries(new ArrayList<>(List.of(d_map.getCountryByName("Canada"))));
+        l_neutral.setD_currentCountries(new ArrayList<>(List.of(d_map.getCountryByName("Canada"))));
+        d_currentState.setD_map(d_map);
+        d_currentState.setD_players(new ArrayList<>(List.of(l_neutral, l_player1, l_player2)));
+
+        assertSame(l_player1, d_currentState.getCountryOwner("usa"));
+        assertSame(l_player2, d_currentState.getCountryOwner("Canada"));
+        assertNull(d_currentState.getCountryOwner("Morocco"));
+        assertNull(d_currentState.getCountryOwner("Atlantis"));
+
+        d_currentState.setCountryOwner(d_map.getCountryByName("Canada"), l_player1);
+        assertSame(l_player1, d_currentState.getCountryOwner("Canada"));
+        assertEquals(2, l_player1.getD_currentCountries().size());
+        assertTrue(l_player2.getD_currentCountries().isEmpty());
+
+        d_currentState.setCountryOwner(d_map.getCountryByName("USA"), null);
+        assertNull(d_currentState.getCountryOwner("USA"));
+        assertEquals(List.of(d_map.getCountryByName("Canada")), l_player1.getD_currentCountries());
+
+        List<Country> l_countries = d_map.getD_mapCountries();
+        l_player2.setD_currentCountries(new ArrayList<>(l_countries.subList(2, 5)));
+        d_currentState.indexCountryOwners();
+        d_currentState.setCountryOwner(l_countries.get(2), l_player1);
+        assertEquals(List.of(l_countries.get(4), l_countries.get(3)), l_player2.getD_currentCountries());
+        l_player2.getD_currentCountries().add(0, l_countries.get(5));
+        d_currentState.setCountryOwner(l_countries.get(3), l_player1);
+        assertEquals(List.of(l_countries.get(5), l_countries.get(4)), l_player2.getD_currentCountries());
+        assertEquals(List.of(d_map.getCountryByName("Canada"), l_countries.get(2), l_countries.get(3)),
+                l_player1.getD_currentCountries());
+    }
+
+    /**
+     * Tests that the quiet profile only logs the start and end of a game, that messages of types not logged are
+     * never built, and that a type can be logged regardless of the profile.
+     */
+    @Test
+    public void testLogProfiles() {
+        List<Object> l_types = new ArrayList<>();
+        d_currentState.getD_modelLogger().addObserver((p_logger, p_type) -> l_types.add(p_type));
+        d_currentState.getD_modelLogger().setD_profile(LogProfile.QUIET);
+        AtomicInteger l_built = new AtomicInteger();
+
+        d_currentState.updateLog(() -> "effect " + l_built.incrementAndGet(), "effect");
+        d_currentState.logOrderEffect(new Deploy(new Player("Player1"), "USA", 1), () -> "deployed " + l_built.incrementAndGet(), "default");
+        d_currentState.updateLog("Player1 has won the game.", "end");
+        assertEquals(0, l_built.get());
+        assertEquals(List.of("end"), l_types);
+        assertFalse(d_currentState.isLogEnabled("order"));
+
+        d_currentState.getD_modelLogger().setEnabled("effect", true);
+        d_currentState.updateLog(() -> "effect " + l_built.incrementAndGet(), "effect");
+        assertEquals(1, l_built.get());
+        assertEquals("Log: effect 1" + System.lineSeparator(), d_currentState.getD_modelLogger().getD_message());
+        assertEquals(List.of("end", "effect"), l_types);
+    }
+
+    /**
+     * Tests that a copy of a game can be played on without changing the original: the copy has its own countries,
+     * owners, cards and orders, its orders and negotiations point at its own countries and players, its owner
+     * index is up to date, and its computer players go on advancing from the copies of the countries they
+     * deployed to.
+     */
+    @Test
+    public void testCopy() {
+        Player l_player1 = new Player("Player1");
+        Player l_player2 = new Player("Player2");
+        l_player1.setD_playerBehaviourStrategy(new RandomPlayer());
+        l_player1.setD_currentCountries(new ArrayList<>(List.of(d_map.getCountryByName("USA"), d_map.getCountryByName("Canada"))));
+        l_player2.setD_currentCountries(new ArrayList<>(List.of(d_map.getCountryByName("Morocco"))));
+        l_player1.setD_cardOwnedByPlayer(new ArrayList<>(List.of("bomb")));
+        l_player1.addNegotiatePlayer(l_player2);
+        l_player1.setD_orders(List.of(new Deploy(l_player1, d_map.getCountryByName("USA"), 3)));
+        l_player1.getD_playerBehaviourStrategy().setD_deployCountries(List.of(d_map.getCountryByName("USA")));
+        d_map.getCountryByName("USA").setD_armies(5);
+        d_currentState.setD_map(d_map);
+        d_currentState.setD_players(new ArrayList<>(List.of(l_player1, l_player2)));
+        assertSame(l_player1, d_currentState.getCountryOwner("USA"));
+
+        CurrentState l_copy = d_currentState.copy();
+        Player l_copy1 = l_copy.getD_players().get(0);
+        Player l_copy2 = l_copy.getD_players().get(1);
+        assertNotSame(l_player1, l_copy1);
+        assertEquals("Player1", l_copy1.getD_playerName());
+        assertTrue(l_copy1.getD_playerBehaviourStrategy() instanceof RandomPlayer);
+        assertNotSame(l_player1.getD_playerBehaviourStrategy(), l_copy1.getD_playerBehaviourStrategy());
+        assertSame(l_copy.getD_map().getCountryByName("USA"), l_copy1.getD_currentCountries().get(0));
+        assertEquals(List.of(l_copy2), l_copy1.getD_negotiatePlayer());
+        assertSame(l_copy1, l_copy.getCountryOwner("Canada"));
+        assertSame(l_copy2, l_copy.getCountryOwner("Morocco"));
+        List<Country> l_deployCountries = l_copy1.getD_playerBehaviourStrategy().getD_deployCountries();
+        assertEquals(1, l_deployCountries.size());
+        assertSame(l_copy.getD_map().getCountryByName("USA"), l_deployCountries.get(0));
+        for (int l_index = 0; l_index < 10; l_index++) {
+            assertTrue(l_copy1.getD_playerBehaviourStrategy().createAdvanceOrder(l_copy1, l_copy).toCommand().startsWith("advance USA "));
+        }
+
+        Orders l_order = l_copy1.getD_orders().peek();
+        assertSame(l_copy1, ((Deploy) l_order).getInitiatingPlayer());
+        l_order.execute(l_copy);
+        assertEquals(8, l_copy.getD_map().getCountryByName("USA").getD_armies());
+        assertEquals(5, d_map.getCountryByName("USA").getD_armies());
+
+        l_copy.setCountryOwner(l_copy.getD_map().getCountryByName("Morocco"), l_copy1);
+        l_copy1.removeCard("bomb");
+        l_copy1.getD_orders().clear();
+        assertSame(l_copy1, l_copy.getCountryOwner("Morocco"));
+        assertSame(l_player2, d_currentState.getCountryOwner("Morocco"));
+        assertEquals(List.of(d_map.getCountryByName("Morocco")), l_player2.getD_currentCountries());
+        assertEquals(List.of("bomb"), l_player1.getD_cardOwnedByPlayer());
+        assertEquals(1, l_player1.getD_orders().size());
+    }
+
+    /**
+     * Tests that the array board takes over the armies of the countries, which read and write the array while
+     * it is in use, that owners go through the owner index, and that the countries get their armies back when
+     * the game goes back to keeping them in the countries.
+     */
+    @Test
+    public void testArrayBoard() {
+        Player l_player1 = new Player("Player1");
+        l_player1.setD_currentCountries(new ArrayList<>(List.of(d_map.getCountryByName("USA"))));
+        Country l_usa = d_map.getCountryByName("USA");
+        Country l_canada = d_map.getCountryByName("Canada");
+        l_usa.setD_armies(4);
+        d_currentState.setD_map(d_map);
+        d_currentState.setD_players(new ArrayList<>(List.of(l_player1)));
+        d_currentState.setD_arrayState(true);
+
+        GameBoard l_board = d_currentState.getBoard();
+        int l_usaIndex = l_board.indexOf(l_usa);
+        int l_canadaIndex = l_board.indexOf(l_canada);
+        assertEquals(d_map.getD_mapCountries().size(), l_board.size());
+        assertSame(l_usa, l_board.countryAt(l_usaIndex));
+        assertEquals(4, l_board.getArmies(l_usaIndex));
+        l_board.setArmies(l_usaIndex, 9);
+        assertEquals(9, l_usa.getD_armies());
+        l_canada.setD_armies(2);
+        assertEquals(2, l_board.getArmies(l_canadaIndex));
+        assertSame(l_player1, l_board.getOwner(l_usaIndex));
+        assertSame(l_board.getContinent(l_usaIndex), l_board.getContinent(l_canadaIndex));
+        l_board.setOwner(l_canadaIndex, l_player1);
+        assertEquals(2, l_player1.getD_currentCountries().size());
+        assertSame(l_board, d_currentState.getBoard());
+
+        assertEquals(9, d_currentState.copy().getD_map().getCountryByName("USA").getD_armies());
+
+        d_currentState.setD_arrayState(false);
+        GameBoard l_countryBoard = d_currentState.getBoard();
+        assertNotSame(l_board, l_countryBoard);
+        assertEquals(9, l_countryBoard.getArmies(l_usaIndex));
+        l_usa.setD_armies(1);
+        assertEquals(1, l_countryBoard.getArmies(l_usaIndex));
+    }
 }
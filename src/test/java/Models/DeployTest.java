@@ -67,6 +67,6 @@ public class DeployTest {
     public void execute() {
         Deploy l_deploy = new Deploy(d_player, "USA", 5);
         l_deploy.execute(d_currentState);
-        assertEquals("5", d_currentState.getD_map().getD_mapCountries().get(0).getD_armies().toString());
+        assertEquals("5", String.valueOf(d_currentState.getD_map().getD_mapCountries().get(0).getD_armies()));
     }
 }
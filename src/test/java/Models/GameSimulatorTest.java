@@ -0,0 +1,137 @@
+package Models;
+
+import Controller.MapController;
+import Model.CurrentState;
+import Model.GameSimulator;
+import Model.Map;
+import Model.SimulationResult;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link GameSimulator}.
+ */
+public class GameSimulatorTest {
+
+    /**
+     * The map games are played on.
+     */
+    Map d_map;
+
+    /**
+     * Loads the map.
+     */
+    @Before
+    public void setup() {
+        d_map = new MapController().loadMap(new CurrentState(), "canada.map");
+    }
+
+    /**
+     * Tests that a cheater beats a benevolent player, and that the game prints nothing and does not exit.
+     *
+     * @throws Exception if the game fails
+     */
+    @Test
+    public void testSimulatedGameReturnsResult() throws Exception {
+        PrintStream l_console = System.out;
+        ByteArrayOutputStream l_printed = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(l_printed, true));
+        SimulationResult l_result;
+        try {
+            l_result = new GameSimulator(d_map, List.of("Benevolent", "Cheater"), 50, 42L).simulate();
+        } finally {
+            System.setOut(l_console);
+        }
+
+        assertEquals("Player2", l_result.getD_winner());
+        assertEquals("Cheater", l_result.getD_winnerStrategy());
+        assertEquals(List.of("Player1"), l_result.getD_failedPlayers());
+        assertTrue(l_result.getD_turnsPlayed() >= 1 && l_result.getD_turnsPlayed() <= 50);
+        assertEquals(42L, l_result.getD_seed());
+        assertEquals(0, l_printed.size());
+    }
+
+    /**
+     * Tests that games played from the same seed have the same result, also when played at the same time.
+     *
+     * @throws Exception if a game fails
+     */
+    @Test
+    public void testSameSeedSameGame() throws Exception {
+        GameSimulator l_simulator = new GameSimulator(d_map, List.of("Random", "Aggressive", "Benevolent"), 30, 0L);
+        for (long l_seed = 1; l_seed <= 4; l_seed++) {
+            SimulationResult l_first = l_simulator.simulate(l_seed);
+            Thread l_other = Thread.ofVirtual().start(() -> {
+                try {
+                    l_simulator.simulate(99L);
+                } catch (Exception l_e) {
+                    throw new IllegalStateException(l_e);
+                }
+            });
+            SimulationResult l_second = l_simulator.simulate(l_seed);
+            l_other.join();
+            assertEquals(l_first.toString(), l_second.toString());
+            assertEquals(l_first.getD_failedPlayers(), l_second.getD_failedPlayers());
+        }
+    }
+
+    /**
+     * Tests that a game plays the same whether its armies are kept in the countries or in one array.
+     *
+     * @throws Exception if a game fails
+     */
+    @Test
+    public void testArrayStatePlaysSameGame() throws Exception {
+        GameSimulator l_simulator = new GameSimulator(d_map, List.of("Random", "Aggressive", "Benevolent", "Cheater"), 30, 0L);
+        for (long l_seed = 1; l_seed <= 4; l_seed++) {
+            l_simulator.setD_arrayState(false);
+            SimulationResult l_objects = l_simulator.simulate(l_seed);
+            l_simulator.setD_arrayState(true);
+            SimulationResult l_arrays = l_simulator.simulate(l_seed);
+            assertEquals(l_objects.toString(), l_arrays.toString());
+            assertEquals(l_objects.getD_failedPlayers(), l_arrays.getD_failedPlayers());
+        }
+    }
+
+    /**
+     * Tests that a game stops at the turn limit without a winner when nobody attacks.
+     *
+     * @throws Exception if the game fails
+     */
+    @Test
+    public void testTurnLimitEndsInDraw() throws Exception {
+        SimulationResult l_result = new GameSimulator(d_map, List.of("Benevolent", "Benevolent"), 5, 1L).simulate();
+        assertTrue(l_result.isDraw());
+        assertEquals(5, l_result.getD_turnsPlayed());
+    }
+
+    /**
+     * Tests that a game of 100000 turns runs in constant stack depth, which the phases calling each other
+     * for every turn could not.
+     *
+     * @throws Exception if the game fails
+     */
+    @Test
+    public void testHundredThousandTurns() throws Exception {
+        Map l_map = new MapController().loadMap(new CurrentState(), "test.map");
+        SimulationResult l_result = new GameSimulator(l_map, List.of("Benevolent", "Benevolent"), 100_000, 7L).simulate();
+        assertTrue(l_result.isDraw());
+        assertEquals(100_000, l_result.getD_turnsPlayed());
+    }
+
+    /**
+     * Tests that human players and single-player games are rejected.
+     */
+    @Test
+    public void testRejectsInvalidSetup() {
+        assertThrows(IllegalArgumentException.class, () -> new GameSimulator(d_map, List.of("Human", "Cheater"), 10, 0L));
+        assertThrows(IllegalArgumentException.class, () -> new GameSimulator(d_map, List.of("Cheater"), 10, 0L));
+        assertThrows(IllegalArgumentException.class, () -> new GameSimulator(d_map, List.of("Random", "Cheater"), 0, 0L));
+    }
+}
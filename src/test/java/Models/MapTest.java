@@ -2,6 +2,7 @@ package Models;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -9,8 +10,10 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 import Model.Continent;
+import Model.Country;
 import Model.CurrentState;
 import Model.Map;
+import Model.MapValidationReport;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -53,8 +56,8 @@ public class MapTest {
      */
     @Test
     public void getCountryByName() {
-        assertEquals(1, (int) d_map.getCountryByName("USA").getD_countryID());
-        assertNotEquals(2, (int) d_map.getCountryByName("UK").getD_countryID());
+        assertEquals(1, d_map.getCountryByName("USA").getD_countryID());
+        assertNotEquals(2, d_map.getCountryByName("UK").getD_countryID());
     }
 
     /**
@@ -62,8 +65,8 @@ public class MapTest {
      */
     @Test
     public void getContinentByName() {
-        assertEquals(15, (int) d_map.getContinentByName("Europe").getD_continentValue());
-        assertNotEquals(15, (int) d_map.getContinentByName("SouthAmerica").getD_continentValue());
+        assertEquals(15, d_map.getContinentByName("Europe").getD_continentValue());
+        assertNotEquals(15, d_map.getContinentByName("SouthAmerica").getD_continentValue());
     }
 
     /**
@@ -179,4 +182,166 @@ public class MapTest {
         d_map.removeNeighbour(3, 4);
         assertFalse(d_map.validateCountryConnections());
     }
+
+    /**
+     * The adjacency graph reflects the loaded borders and is rebuilt after neighbour edits.
+     */
+    @Test
+    public void mapGraphFollowsNeighbourEdits() {
+        assertTrue(d_map.getMapGraph().areAdjacent(1, 2));
+        assertFalse(d_map.getMapGraph().areAdjacent(1, 3));
+        assertFalse(d_map.getMapGraph().areAdjacent(8, 9));
+        assertEquals(2, d_map.getNeighbourCount(d_map.getCountryByName("Chile")));
+
+        d_map.addNeighbour(1, 3);
+        assertTrue(d_map.getMapGraph().areAdjacent(1, 3));
+        assertTrue(d_map.getMapGraph().areAdjacent(3, 1));
+
+        d_map.removeNeighbour(1, 2);
+        assertFalse(d_map.getMapGraph().areAdjacent(1, 2));
+        assertFalse(d_map.getMapGraph().areAdjacent(2, 1));
+    }
+
+    /**
+     * The validation report lists every failure instead of stopping at the first one.
+     */
+    @Test
+    public void validationReportListsAllFailures() {
+        d_map.removeNeighbour(1, 2);
+        d_map.removeNeighbour(8, 6);
+        d_map.removeNeighbour(8, 7);
+        MapValidationReport l_report = d_map.validate();
+
+        assertFalse(l_report.isValid());
+        assertFalse(l_report.isValid(MapValidationReport.Check.CONTINENT_CONNECTIVITY));
+        assertFalse(l_report.isValid(MapValidationReport.Check.MAP_CONNECTIVITY));
+        assertTrue(l_report.isValid(MapValidationReport.Check.COUNTRIES_AND_CONTINENTS));
+        assertEquals(3, l_report.getD_failures().size());
+    }
+
+    /**
+     * A long chain of countries validates without exhausting the call stack.
+     */
+    @Test
+    public void validateLongChainMap() {
+        int l_size = 200_000;
+        List<Country> l_countries = new ArrayList<>(l_size);
+        Continent l_continent = new Continent(1, "Chain", 1);
+        for (int l_id = 1; l_id <= l_size; l_id++) {
+            Country l_country = new Country(l_id, "C" + l_id, 1);
+            List<Integer> l_neighbours = new ArrayList<>();
+            if (l_id > 1) {
+                l_neighbours.add(l_id - 1);
+            }
+            if (l_id < l_size) {
+                l_neighbours.add(l_id + 1);
+            }
+            l_country.setD_neighbouringCountriesId(l_neighbours);
+            l_countries.add(l_country);
+            l_continent.setCountry(l_country);
+        }
+        List<Continent> l_continents = new ArrayList<>();
+        l_continents.add(l_continent);
+        Map l_map = new Map("chain", l_countries, l_continents);
+
+        assertTrue(l_map.validateMap());
+        l_countries.get(l_size / 2).getD_neighbouringCountriesId().remove(Integer.valueOf(l_size / 2 + 2));
+        l_map.setD_mapCountries(l_countries);
+        assertFalse(l_map.validateMap());
+    }
+
+    /**
+     * Validating on an executor reports the same failures, in the same order, as validating on one thread.
+     */
+    @Test
+    public void parallelValidationMatchesSequential() {
+        d_map.removeNeighbour(1, 2);
+        d_map.removeNeighbour(8, 6);
+        d_map.removeNeighbour(8, 7);
+        ForkJoinPool l_pool = new ForkJoinPool(4);
+        try {
+            assertEquals(d_map.validate().toString(), d_map.validate(l_pool).toString());
+            assertTrue(d_mapController.loadMap(d_currentState, "canada.map").validate(l_pool).isValid());
+        } finally {
+            l_pool.shutdown();
+        }
+    }
+
+    /**
+     * Checks that re-validating after each edit agrees with a full validation of the edited map.
+     */
+    @Test
+    public void incrementalValidationFollowsEdits() {
+        assertTrue(d_map.validateMap());
+        d_map.removeNeighbour(8, 6);
+        assertIncrementalMatchesFull(true);
+        d_map.removeNeighbour(8, 7);
+        assertIncrementalMatchesFull(false);
+        d_map.addNeighbour(8, 6);
+        assertIncrementalMatchesFull(true);
+        d_map.removeNeighbour(1, 2);
+        d_map.removeNeighbour(2, 3);
+        assertIncrementalMatchesFull(false);
+        d_map.addNeighbour(2, 1);
+        assertIncrementalMatchesFull(true);
+        d_map.removeCountry("Argentina");
+        assertIncrementalMatchesFull(true);
+        d_map.removeCountry("Brazil");
+        assertIncrementalMatchesFull(false);
+        d_map.addNeighbour(8, 5);
+        assertIncrementalMatchesFull(true);
+        d_map.addContinent("Oceania", 5);
+        assertIncrementalMatchesFull(false);
+        d_map.addCountry("Australia", "Oceania");
+        d_map.addCountry("NewZealand", "Oceania");
+        assertIncrementalMatchesFull(false);
+        d_map.addNeighbour(d_map.getCountryByName("Australia").getD_countryID(), 3);
+        d_map.addNeighbour(d_map.getCountryByName("NewZealand").getD_countryID(), 3);
+        assertIncrementalMatchesFull(false);
+        d_map.addNeighbour(d_map.getCountryByName("Australia").getD_countryID(), d_map.getCountryByName("NewZealand").getD_countryID());
+        assertIncrementalMatchesFull(true);
+    }
+
+    /**
+     * Removing a hub country splits its neighbours into several components, which re-validating keeps apart
+     * when two of them are joined again.
+     */
+    @Test
+    public void incrementalValidationSplitsHubNeighbours() {
+        int[][] l_borders = {{1, 2}, {1, 3}, {1, 4}, {4, 5}, {3, 6}};
+        String[] l_names = {"X", "A", "B", "C", "D", "E"};
+        List<Country> l_countries = new ArrayList<>();
+        Continent l_continent = new Continent(1, "Hub", 1);
+        for (int l_id = 1; l_id <= l_names.length; l_id++) {
+            Country l_country = new Country(l_id, l_names[l_id - 1], 1);
+            l_country.setD_neighbouringCountriesId(new ArrayList<>());
+            l_countries.add(l_country);
+            l_continent.setCountry(l_country);
+        }
+        for (int[] l_border : l_borders) {
+            l_countries.get(l_border[0] - 1).getD_neighbouringCountriesId().add(l_border[1]);
+            l_countries.get(l_border[1] - 1).getD_neighbouringCountriesId().add(l_border[0]);
+        }
+        List<Continent> l_continents = new ArrayList<>();
+        l_continents.add(l_continent);
+        d_map = new Map("hub", l_countries, l_continents);
+
+        assertIncrementalMatchesFull(true);
+        d_map.removeCountry("X");
+        assertIncrementalMatchesFull(false);
+        d_map.addNeighbour(2, 3);
+        assertIncrementalMatchesFull(false);
+        d_map.addNeighbour(3, 4);
+        assertIncrementalMatchesFull(true);
+    }
+
+    /**
+     * Asserts the result of {@link Map#validateMap()} against the expected value and a full validation.
+     *
+     * @param p_expected the expected result
+     */
+    private void assertIncrementalMatchesFull(boolean p_expected) {
+        assertEquals(p_expected, d_map.validateMap());
+        assertEquals(p_expected, d_map.validate().isValid());
+    }
 }
@@ -9,6 +9,7 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
         AdvanceOrderTest.class,
+        BattleKernelTest.class,
         CardAirliftTest.class,
         CardBlockadeTest.class,
         CardBombTest.class,
@@ -17,6 +18,7 @@ import org.junit.runners.Suite;
         CountryTest.class,
         CurrentStateTest.class,
         DeployTest.class,
+        GameSimulatorTest.class,
         MapTest.class,
         OrderExecutionPhaseTest.class,
         OrdersTest.class,
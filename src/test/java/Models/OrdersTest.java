@@ -55,9 +55,9 @@ public class OrdersTest {
         Orders l_order1 = new Deploy(d_player,"USA",3);
         Orders l_order2 = new Deploy(d_player,"UK",4);
         l_order1.execute(d_currentState);
-        assertEquals("3", d_map.getCountryByName("USA").getD_armies().toString());
+        assertEquals("3", String.valueOf(d_map.getCountryByName("USA").getD_armies()));
         l_order2.execute(d_currentState);
-        assertEquals("4", d_map.getCountryByName("UK").getD_armies().toString());
-        assertNotEquals("3", d_map.getCountryByName("Chile").getD_armies().toString());
+        assertEquals("4", String.valueOf(d_map.getCountryByName("UK").getD_armies()));
+        assertNotEquals("3", String.valueOf(d_map.getCountryByName("Chile").getD_armies()));
     }
 }
\ No newline at end of file
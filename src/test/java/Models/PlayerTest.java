@@ -4,7 +4,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import Model.*;
 import org.junit.Before;
@@ -81,4 +84,30 @@ public class PlayerTest {
         assertEquals(l_order1, d_player.nextOrder());
         assertEquals(l_order2, d_player.nextOrder());
     }
+
+    /**
+     * Tests that typed commands are parsed into the orders they issue, and that orders are checked when added.
+     */
+    @Test
+    public void parseAndAddOrders() {
+        d_player.setD_currentCountries(new ArrayList<>(List.of(d_map.getCountryByName("USA"))));
+        d_player.setD_unallocatedArmies(5);
+
+        Orders l_deploy = d_player.parseOrder("deploy USA 3", d_currentState);
+        assertTrue(l_deploy instanceof Deploy);
+        assertEquals("deploy USA 3", l_deploy.toCommand());
+        assertTrue(d_player.addOrder(l_deploy, d_currentState));
+        assertEquals(2, d_player.getD_unallocatedArmies());
+        assertFalse(d_player.addOrder(d_player.parseOrder("deploy USA 3", d_currentState), d_currentState));
+        assertNull(d_player.parseOrder("deploy UK 1", d_currentState));
+
+        Orders l_advance = d_player.parseOrder("advance USA Canada 2", d_currentState);
+        assertTrue(l_advance instanceof Advance);
+        assertEquals("advance USA Canada 2", l_advance.toCommand());
+        assertTrue(d_player.addOrder(l_advance, d_currentState));
+        assertFalse(d_player.addOrder(d_player.parseOrder("advance USA France 2", d_currentState), d_currentState));
+
+        assertTrue(d_player.parseOrder("airlift USA Canada 2", d_currentState) instanceof CardAirlift);
+        assertEquals(List.of(l_deploy, l_advance), new ArrayList<>(d_player.getD_orders()));
+    }
 }
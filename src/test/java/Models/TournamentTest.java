@@ -6,9 +6,16 @@ import Model.*;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -110,5 +117,131 @@ public class TournamentTest {
         assertFalse(d_tournament.parseTournamentCommand(d_currentState, "D", "100", d_mainGameEngine)); // Invalid, greater than 50
         assertTrue(d_tournament.parseTournamentCommand(d_currentState, "D", "40", d_mainGameEngine));   // Valid
     }
-}
 
+    /**
+     * Tests that each map is parsed once and that every game gets its own countries while sharing the borders.
+     *
+     * @throws CommandValidationException if validation fails internally
+     */
+    @Test
+    public void testGamesShareParsedMaps() throws CommandValidationException {
+        assertTrue(d_tournament.parseTournamentCommand(d_currentState, "M", "test.map canada.map", d_mainGameEngine));
+        assertTrue(d_tournament.parseTournamentCommand(d_currentState, "P", "Random Cheater", d_mainGameEngine));
+        assertTrue(d_tournament.parseTournamentCommand(d_currentState, "G", "3", d_mainGameEngine));
+
+        List<CurrentState> l_games = d_tournament.getD_currentStateList();
+        assertEquals(6, l_games.size());
+        for (int l_game = 2; l_game < l_games.size(); l_game++) {
+            Map l_first = l_games.get(l_game % 2).getD_map();
+            Map l_copy = l_games.get(l_game).getD_map();
+            assertEquals(l_first.getD_mapName(), l_copy.getD_mapName());
+            assertSame(l_first.getMapGraph(), l_copy.getMapGraph());
+            assertNotSame(l_first.getD_mapCountries().getFirst(), l_copy.getD_mapCountries().getFirst());
+            assertSame(l_copy.getD_mapCountries().getFirst(), l_copy.getD_mapContinents().getFirst().getD_countries().getFirst());
+            assertTrue(l_copy.validateMap());
+        }
+
+        l_games.get(2).getD_map().getD_mapCountries().getFirst().setD_armies(7);
+        assertEquals(0, l_games.get(0).getD_map().getD_mapCountries().getFirst().getD_armies());
+    }
+
+    /**
+     * Tests that games played on virtual threads each record their winner and failed players, in tournament order.
+     *
+     * @throws Exception if a game fails
+     */
+    @Test
+    public void testParallelGamesRecordResults() throws Exception {
+        d_player1.setD_playerBehaviourStrategy(new BenevolentPlayer());
+        assertTrue(d_tournament.parseTournamentCommand(d_currentState, "M", "test.map canada.map", d_mainGameEngine));
+        assertTrue(d_tournament.parseTournamentCommand(d_currentState, "P", "Benevolent Cheater", d_mainGameEngine));
+        assertTrue(d_tournament.parseTournamentCommand(d_currentState, "G", "2", d_mainGameEngine));
+        assertTrue(d_tournament.parseTournamentCommand(d_currentState, "D", "50", d_mainGameEngine));
+
+        new TournamentRunner(0).runTournament(d_tournament);
+
+        List<CurrentState> l_games = d_tournament.getD_currentStateList();
+        assertEquals(4, l_games.size());
+        for (int l_game = 0; l_game < l_games.size(); l_game++) {
+            CurrentState l_state = l_games.get(l_game);
+            assertEquals(l_game % 2 == 0 ? "test.map" : "canada.map", l_state.getD_map().getD_mapName());
+            assertEquals("Player2", l_state.getD_winner().getD_playerName());
+            assertEquals(1, l_state.getD_playersFailed().size());
+            assertEquals("Player1", l_state.getD_playersFailed().getFirst().getD_playerName());
+        }
+    }
+
+    /**
+     * Tests that games played on virtual threads print to the console of the runner, game by game, and not to the
+     * standard output.
+     *
+     * @throws Exception if a game fails
+     */
+    @Test
+    public void testParallelGamesPrintToRunnerConsole() throws Exception {
+        d_player1.setD_playerBehaviourStrategy(new BenevolentPlayer());
+        assertTrue(d_tournament.parseTournamentCommand(d_currentState, "M", "test.map canada.map", d_mainGameEngine));
+        assertTrue(d_tournament.parseTournamentCommand(d_currentState, "P", "Benevolent Cheater", d_mainGameEngine));
+        assertTrue(d_tournament.parseTournamentCommand(d_currentState, "G", "1", d_mainGameEngine));
+        assertTrue(d_tournament.parseTournamentCommand(d_currentState, "D", "50", d_mainGameEngine));
+        ByteArrayOutputStream l_printed = new ByteArrayOutputStream();
+        ByteArrayOutputStream l_standard = new ByteArrayOutputStream();
+        PrintStream l_console = System.out;
+        System.setOut(new PrintStream(l_standard, true));
+        try {
+            new TournamentRunner(0, new GameConsole(new PrintStream(l_printed, true))).runTournament(d_tournament);
+        } finally {
+            System.setOut(l_console);
+        }
+
+        String l_text = l_printed.toString();
+        int l_first = l_text.indexOf("Game completed on map : test.map");
+        assertTrue(l_first >= 0);
+        assertTrue(l_text.indexOf("Game completed on map : canada.map") > l_first);
+        assertEquals(0, l_standard.size());
+    }
+
+    /**
+     * Tests that a tournament played on parallel workers has the same results as one played serially
+     * with the same seed.
+     *
+     * @throws Exception if a game fails
+     */
+    @Test
+    public void testParallelMatchesSerialForSeed() throws Exception {
+        List<String> l_serial = playTournament(1);
+        List<String> l_parallel = playTournament(0);
+        assertEquals(l_serial, l_parallel);
+    }
+
+    /**
+     * Plays a seeded tournament between a random and an aggressive player.
+     *
+     * @param p_workers number of games played at once, 0 for a virtual thread per game
+     * @return the winner and failed players of each game, in tournament order
+     * @throws Exception if a game fails
+     */
+    private List<String> playTournament(int p_workers) throws Exception {
+        d_player1.setD_playerBehaviourStrategy(new AggressivePlayer());
+        d_player2.setD_playerBehaviourStrategy(new RandomPlayer());
+        Tournament l_tournament = new Tournament();
+        l_tournament.setD_seed(2024L);
+        assertTrue(l_tournament.parseTournamentCommand(d_currentState, "M", "test.map canada.map", d_mainGameEngine));
+        assertTrue(l_tournament.parseTournamentCommand(d_currentState, "P", "Aggressive Random", d_mainGameEngine));
+        assertTrue(l_tournament.parseTournamentCommand(d_currentState, "G", "3", d_mainGameEngine));
+        assertTrue(l_tournament.parseTournamentCommand(d_currentState, "D", "20", d_mainGameEngine));
+
+        new TournamentRunner(p_workers).runTournament(l_tournament);
+
+        List<String> l_results = new ArrayList<>();
+        for (CurrentState l_game : l_tournament.getD_currentStateList()) {
+            StringBuilder l_result = new StringBuilder(l_game.getD_winner() == null ? "draw" : l_game.getD_winner().getD_playerName());
+            for (Player l_failed : l_game.getD_playersFailed()) {
+                l_result.append(' ').append(l_failed.getD_playerName());
+            }
+            l_result.append(' ').append(l_game.getD_noOfTurnsLeft());
+            l_results.add(l_result.toString());
+        }
+        return l_results;
+    }
+}
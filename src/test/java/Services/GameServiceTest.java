@@ -5,14 +5,21 @@ import Controller.MapController;
 import Exceptions.CommandValidationException;
 import Model.*;
 import Utils.CommandHandler;
+import Constants.ProjectConstants;
+import Controller.PlayerController;
+import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 
 /**
  * Unit test class for the {@link GameService} responsible for saving and loading game states.
@@ -48,6 +55,10 @@ public class GameServiceTest {
     /** Name of the map file used for testing. */
     String d_mapName;
 
+    /** Folder for the save files written by the tests. */
+    @Rule
+    public TemporaryFolder d_folder = new TemporaryFolder();
+
     /**
      * Setup method executed before each test case.
      * Initializes map, players, and game state for testing save/load functionality.
@@ -62,6 +73,15 @@ public class GameServiceTest {
         d_player1 = new Player("Player1");
         d_player2 = new Player("Player2");
         d_player3 = new Player("Player3");
+        System.setProperty(ProjectConstants.SAVE_DIRECTORY_PROPERTY, d_folder.getRoot().getPath());
+    }
+
+    /**
+     * Saves games to the saved games folder again after each test.
+     */
+    @After
+    public void tearDown() {
+        System.clearProperty(ProjectConstants.SAVE_DIRECTORY_PROPERTY);
     }
 
     /**
@@ -121,5 +141,191 @@ public class GameServiceTest {
         assertEquals(d_currentPhase.getD_currentState().getD_players().size(),
                 d_phase.getD_currentState().getD_players().size());
     }
-}
 
+    /**
+     * Tests that a game in the issue order phase is loaded as it was saved, with and without compression: the
+     * armies, the owners of the countries in order, the cards, negotiations and queued orders of the players, and
+     * the phase. The map is saved by name, so the file is far smaller than the serialized phase was.
+     *
+     * @throws IOException if the game cannot be saved or loaded
+     */
+    @Test
+    public void saveAndLoadGameState() throws IOException {
+        d_currentState.setD_map(d_map);
+        d_player1.setD_playerBehaviourStrategy(new HumanPlayer());
+        d_player2.setD_playerBehaviourStrategy(new AggressivePlayer());
+        d_currentState.setD_players(new ArrayList<>(List.of(d_player1, d_player2)));
+        d_currentState.setD_maxNoOfTurns(20);
+        d_currentState.setD_noOfTurnsLeft(12);
+        new PlayerController().assignCountry(d_currentState);
+        d_map.getD_mapCountries().get(0).setD_armies(7);
+        d_player1.setD_cardOwnedByPlayer(new ArrayList<>(List.of("bomb", "airlift")));
+        d_player1.addNegotiatePlayer(d_player2);
+        Country l_source = d_player1.getD_currentCountries().get(0);
+        d_player1.setD_unallocatedArmies(5);
+        d_player1.addOrder(new Deploy(d_player1, l_source, 3), d_currentState);
+        d_player1.getD_orders().add(new CardBomb(d_player1, d_player2.getD_currentCountries().get(0).getD_countryName()));
+        IssueOrderPhase l_phase = new IssueOrderPhase(d_currentState, d_mainGameEngine);
+
+        for (boolean l_deflate : new boolean[]{true, false}) {
+            Path l_file = d_folder.getRoot().toPath().resolve("game" + l_deflate);
+            new GameStateWriter(l_deflate).writeGame(l_phase, l_file);
+            SavedGame l_savedGame = new GameStateReader().readGame(l_file);
+            CurrentState l_state = l_savedGame.getD_currentState();
+
+            assertEquals("IssueOrder", l_savedGame.getD_phaseName());
+            assertTrue(l_savedGame.toPhase(new MainGameEngine()) instanceof IssueOrderPhase);
+            assertEquals(12, l_state.getD_noOfTurnsLeft());
+            assertEquals(d_currentState.getD_seed(), l_state.getD_seed());
+            assertEquals(7, l_state.getD_map().getD_mapCountries().get(0).getD_armies());
+            Player l_player1 = l_state.getD_players().get(0);
+            Player l_player2 = l_state.getD_players().get(1);
+            assertEquals("Human", l_player1.getD_playerBehaviourStrategy().getPlayerBehaviour());
+            assertEquals("Aggressive", l_player2.getD_playerBehaviourStrategy().getPlayerBehaviour());
+            assertEquals(d_player1.getCountryNames(), l_player1.getCountryNames());
+            assertEquals(d_player2.getCountryNames(), l_player2.getCountryNames());
+            assertSame(l_player2, l_state.getCountryOwner(d_player2.getCountryNames().get(0)));
+            assertEquals(2, l_player1.getD_unallocatedArmies());
+            assertEquals(List.of("bomb", "airlift"), l_player1.getD_cardOwnedByPlayer());
+            assertEquals(List.of(l_player2), l_player1.getD_negotiatePlayer());
+            List<String> l_orders = new ArrayList<>();
+            l_player1.getD_orders().forEach(l_order -> l_orders.add(l_order.toCommand()));
+            assertEquals(List.of("deploy " + l_source.getD_countryName() + " 3",
+                    "bomb " + d_player2.getD_currentCountries().get(0).getD_countryName()), l_orders);
+            assertTrue(Files.size(l_file) < 1024);
+        }
+    }
+
+    /**
+     * Tests that computer players of a loaded game remember the countries they deployed to and keep issuing
+     * orders, advancing armies from those countries, as they would have in the saved game.
+     *
+     * @throws Exception if the game cannot be saved or loaded, or a player fails to issue an order
+     */
+    @Test
+    public void loadedComputerPlayersKeepIssuingOrders() throws Exception {
+        d_currentState.setD_seed(1L);
+        d_currentState.setD_map(d_map);
+        d_currentState.getD_modelLogger().setD_profile(LogProfile.QUIET);
+        d_player1.setD_playerBehaviourStrategy(new AggressivePlayer());
+        d_player2.setD_playerBehaviourStrategy(new BenevolentPlayer());
+        d_player3.setD_playerBehaviourStrategy(new RandomPlayer());
+        d_currentState.setD_players(new ArrayList<>(List.of(d_player1, d_player2, d_player3)));
+        new PlayerController().assignCountry(d_currentState);
+        issueOrders(d_currentState, 10);
+
+        Path l_file = d_folder.getRoot().toPath().resolve("computer");
+        new GameStateWriter(true).writeGame(new IssueOrderPhase(d_currentState, d_mainGameEngine), l_file);
+        CurrentState l_state = new GameStateReader().readGame(l_file).getD_currentState();
+        l_state.getD_modelLogger().setD_profile(LogProfile.QUIET);
+        for (int l_index = 0; l_index < 3; l_index++) {
+            List<Country> l_saved = d_currentState.getD_players().get(l_index).getD_playerBehaviourStrategy().getD_deployCountries();
+            List<Country> l_loaded = l_state.getD_players().get(l_index).getD_playerBehaviourStrategy().getD_deployCountries();
+            assertFalse(l_loaded.isEmpty());
+            assertEquals(IssueOrderPhase.getCountryNames(l_saved), IssueOrderPhase.getCountryNames(l_loaded));
+            assertSame(l_state.getD_map().getCountryByName(l_loaded.get(0).getD_countryName()), l_loaded.get(0));
+        }
+        issueOrders(l_state, 10);
+    }
+
+    /**
+     * Has every player of a game still owning countries issue and execute orders, with armies to deploy at the
+     * start of every round.
+     *
+     * @param p_state  the game
+     * @param p_rounds number of orders every player issues
+     * @throws Exception if a player fails to issue an order
+     */
+    private static void issueOrders(CurrentState p_state, int p_rounds) throws Exception {
+        for (int l_round = 0; l_round < p_rounds; l_round++) {
+            for (Player l_player : p_state.getD_players()) {
+                if (l_player.getD_currentCountries().isEmpty()) {
+                    continue;
+                }
+                l_player.setD_unallocatedArmies(l_player.getD_unallocatedArmies() + 3);
+                Orders l_order = l_player.getPlayerOrder(p_state);
+                if (l_order != null) {
+                    l_player.addOrder(l_order, p_state);
+                }
+                for (Orders l_queued = l_player.nextOrder(); l_queued != null; l_queued = l_player.nextOrder()) {
+                    l_queued.execute(p_state);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that a map edited since it was loaded is stored in the save file, and that a file that is not a saved
+     * game is rejected.
+     *
+     * @throws IOException if the game cannot be saved or loaded
+     */
+    @Test
+    public void saveEditedMapAndRejectOtherFiles() throws IOException {
+        d_map.addCountry("Mexico", "NorthAmerica");
+        d_currentState.setD_map(d_map);
+        Path l_file = d_folder.getRoot().toPath().resolve("edited");
+        new GameStateWriter(true).writeGame(new StartupPhase(d_mainGameEngine, d_currentState), l_file);
+
+        SavedGame l_savedGame = new GameStateReader().readGame(l_file);
+        assertEquals("Startup", l_savedGame.getD_phaseName());
+        assertNotNull(l_savedGame.getD_currentState().getD_map().getCountryByName("Mexico"));
+        assertEquals(d_map.getD_mapCountries().size(), l_savedGame.getD_currentState().getD_map().getD_mapCountries().size());
+
+        Path l_other = d_folder.getRoot().toPath().resolve("other");
+        Files.write(l_other, new byte[64]);
+        assertThrows(IOException.class, () -> new GameStateReader().readGame(l_other));
+        byte[] l_corrupt = Files.readAllBytes(l_file);
+        l_corrupt[l_corrupt.length - 1] ^= 1;
+        Files.write(l_other, l_corrupt);
+        assertThrows(IOException.class, () -> new GameStateReader().readGame(l_other));
+    }
+
+    /**
+     * Tests that autosave writes what the game held when each snapshot was taken, including a map edited between
+     * two snapshots, keeps only the newest files, and numbers on from the files already in the folder.
+     *
+     * @throws IOException if the game cannot be autosaved or loaded
+     */
+    @Test
+    public void autosaveKeepsNewestSnapshots() throws IOException {
+        d_currentState.setD_map(d_map);
+        d_currentState.setD_players(new ArrayList<>(List.of(d_player1, d_player2)));
+        new PlayerController().assignCountry(d_currentState);
+        IssueOrderPhase l_phase = new IssueOrderPhase(d_currentState, d_mainGameEngine);
+        Country l_country = d_map.getD_mapCountries().get(0);
+        Path l_folder = d_folder.getRoot().toPath();
+
+        try (Autosaver l_autosaver = new Autosaver(l_folder, "autosave", 2, true)) {
+            for (int l_turn = 1; l_turn <= 5; l_turn++) {
+                l_country.setD_armies(l_turn);
+                if (l_turn == 5) {
+                    d_map.addCountry("Mexico", "NorthAmerica");
+                }
+                l_autosaver.snapshot(l_phase);
+                l_autosaver.flush();
+            }
+            l_country.setD_armies(100);
+            assertEquals("autosave-5", l_autosaver.getD_lastFileName());
+        }
+        List<String> l_files = new ArrayList<>();
+        try (var l_stream = Files.list(l_folder)) {
+            l_stream.forEach(l_file -> l_files.add(l_file.getFileName().toString()));
+        }
+        l_files.sort(null);
+        assertEquals(List.of("autosave-4", "autosave-5"), l_files);
+        SavedGame l_savedGame = new GameStateReader().readGame(l_folder.resolve("autosave-5"));
+        assertEquals("IssueOrder", l_savedGame.getD_phaseName());
+        assertEquals(5, l_savedGame.getD_currentState().getD_map().getD_mapCountries().get(0).getD_armies());
+        assertEquals(d_player2.getCountryNames(), l_savedGame.getD_currentState().getD_players().get(1).getCountryNames());
+        assertNotNull(l_savedGame.getD_currentState().getD_map().getCountryByName("Mexico"));
+        assertNull(new GameStateReader().readGame(l_folder.resolve("autosave-4")).getD_currentState().getD_map().getCountryByName("Mexico"));
+
+        try (Autosaver l_autosaver = new Autosaver(l_folder, "autosave", 2, false)) {
+            l_autosaver.snapshot(l_phase);
+            l_autosaver.flush();
+            assertEquals("autosave-6", l_autosaver.getD_lastFileName());
+        }
+        assertFalse(Files.exists(l_folder.resolve("autosave-4")));
+    }
+}
@@ -0,0 +1,92 @@
+package Views;
+
+import View.AsyncLogWriter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link AsyncLogWriter}.
+ */
+public class AsyncLogWriterTest {
+
+    /**
+     * Folder for the log files.
+     */
+    @Rule
+    public TemporaryFolder d_folder = new TemporaryFolder();
+
+    /**
+     * Tests that the messages of several threads all reach the file, each thread's in order, once flushed.
+     *
+     * @throws Exception if the file cannot be read
+     */
+    @Test
+    public void testFlushWritesAllMessagesInOrder() throws Exception {
+        Path l_path = d_folder.getRoot().toPath().resolve("log.txt");
+        AsyncLogWriter l_writer = new AsyncLogWriter(l_path, 16, 4, 10_000, AsyncLogWriter.OverflowPolicy.BLOCK);
+        List<Thread> l_threads = new ArrayList<>();
+        for (int l_thread = 0; l_thread < 4; l_thread++) {
+            String l_name = "t" + l_thread;
+            l_threads.add(Thread.ofPlatform().start(() -> {
+                for (int l_message = 0; l_message < 1_000; l_message++) {
+                    l_writer.append(l_name + " " + l_message + System.lineSeparator(), false);
+                }
+            }));
+        }
+        for (Thread l_thread : l_threads) {
+            l_thread.join();
+        }
+        l_writer.flush();
+
+        List<String> l_lines = Files.readAllLines(l_path);
+        assertEquals(4_000, l_lines.size());
+        int[] l_next = new int[4];
+        for (String l_line : l_lines) {
+            String[] l_parts = l_line.split(" ");
+            int l_thread = Integer.parseInt(l_parts[0].substring(1));
+            assertEquals(l_next[l_thread]++, Integer.parseInt(l_parts[1]));
+        }
+        l_writer.close();
+    }
+
+    /**
+     * Tests that a full buffer drops messages under the drop policy, that the drops are reported in the file,
+     * and that closing writes what is left.
+     *
+     * @throws Exception if the file cannot be read
+     */
+    @Test
+    public void testDropPolicyReportsDroppedMessages() throws Exception {
+        Path l_path = d_folder.getRoot().toPath().resolve("log.txt");
+        AsyncLogWriter l_writer = new AsyncLogWriter(l_path, 2, 2, 10_000, AsyncLogWriter.OverflowPolicy.DROP);
+        for (int l_message = 0; l_message < 10_000; l_message++) {
+            l_writer.append("m" + System.lineSeparator(), false);
+        }
+        long l_dropped = l_writer.getD_dropped();
+        l_writer.close();
+
+        List<String> l_lines = Files.readAllLines(l_path);
+        int l_written = 0;
+        long l_reported = 0;
+        for (String l_line : l_lines) {
+            if (l_line.equals("m")) {
+                l_written++;
+            } else {
+                assertTrue(l_line, l_line.matches("Log: \\d+ log messages dropped, the log buffer was full"));
+                l_reported += Long.parseLong(l_line.split(" ")[1]);
+            }
+        }
+        assertEquals(10_000, l_written + l_reported);
+        assertTrue(l_reported >= l_dropped);
+        l_writer.append("after close" + System.lineSeparator(), true);
+        assertEquals(l_lines, Files.readAllLines(l_path));
+    }
+}